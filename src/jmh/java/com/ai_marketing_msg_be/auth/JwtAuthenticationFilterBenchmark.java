@@ -0,0 +1,107 @@
+package com.ai_marketing_msg_be.auth;
+
+import com.ai_marketing_msg_be.auth.filter.JwtAuthenticationFilter;
+import com.ai_marketing_msg_be.auth.provider.JwtTokenProvider;
+import com.ai_marketing_msg_be.auth.provider.VerifiedTokenCache;
+import com.ai_marketing_msg_be.common.logging.LogSampler;
+import com.ai_marketing_msg_be.common.logging.LoggingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 요청당 JWT 인증 필터 오버헤드 측정
+ * <p>
+ * legacyThreeParses: 기존 흐름(validateToken → getAuthentication → getUsernameFromToken, 파싱 3회)
+ * filterWithoutCache: 단일 파싱 경로, 검증 토큰 캐시 비활성
+ * filterWithCache: 단일 파싱 경로, 검증 토큰 캐시 적중
+ * validateToken: 서명/만료 검증 1회
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private String authorizationHeader;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        uncachedProvider = createProvider(0);
+        JwtTokenProvider cachedProvider = createProvider(10_000);
+
+        LogSampler logSampler = new LogSampler(new LoggingProperties());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        uncachedFilter = new JwtAuthenticationFilter(uncachedProvider, logSampler, meterRegistry);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider, logSampler, meterRegistry);
+
+        token = cachedProvider.generateAccessToken("benchmark-user", 1L, "EXECUTOR");
+        authorizationHeader = "Bearer " + token;
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void legacyThreeParses(Blackhole blackhole) {
+        blackhole.consume(uncachedProvider.validateToken(token));
+        blackhole.consume(uncachedProvider.getAuthentication(token));
+        blackhole.consume(uncachedProvider.getUsernameFromToken(token));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Object filterWithoutCache() throws Exception {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object filterWithCache() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/executor/campaigns");
+        request.addHeader("Authorization", authorizationHeader);
+        filter.doFilter(request, new MockHttpServletResponse(), NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static JwtTokenProvider createProvider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new VerifiedTokenCache(cacheSize));
+        ReflectionTestUtils.setField(provider, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(provider, "ACCESS_TOKEN_EXPIRATION", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(provider, "REFRESH_TOKEN_EXPIRATION", TimeUnit.DAYS.toMillis(14));
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,134 @@
+package com.ai_marketing_msg_be.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 요청 스레드 여러 개가 동시에 프롬프트 크기(수 KB) 로그를 남길 때의 처리량 비교
+ * <p>
+ * eagerInfoSync: 기존 방식 (INFO로 원문 출력, 동기 appender)
+ * eagerInfoAsync: 원문 출력이지만 AsyncAppender 링 버퍼 경유
+ * payloadLoggerDebugOff: PayloadLogger, DEBUG 비활성 (페이로드 생성 안 함)
+ * payloadLoggerSampled: PayloadLogger, DEBUG 활성 + 5% 샘플링
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=LoggingOverheadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LoggingOverheadBenchmark {
+
+    private static final OutputStream DISCARD = OutputStream.nullOutputStream();
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private Logger debugOffLogger;
+    private Logger debugOnLogger;
+    private PayloadLogger payloadLogger;
+    private String prompt;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        context.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = createSink("sync");
+        OutputStreamAppender<ILoggingEvent> asyncSink = createSink("async-sink");
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("async");
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(20);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(asyncSink);
+        async.start();
+
+        syncLogger = createLogger("bench.sync", Level.INFO, sink);
+        asyncLogger = createLogger("bench.async", Level.INFO, async);
+        debugOffLogger = createLogger("bench.debug-off", Level.INFO, async);
+        debugOnLogger = createLogger("bench.debug-on", Level.DEBUG, async);
+
+        LoggingProperties properties = new LoggingProperties();
+        properties.setDefaultSampleRate(1.0);
+        properties.getSampleRates().put(LogCategory.PROMPT, 0.05);
+        properties.getPayloadDump().setThreshold(512);
+        PayloadDumpStore dumpStore = new PayloadDumpStore(properties);
+        dumpStore.init();
+        payloadLogger = new PayloadLogger(new LogSampler(properties), dumpStore);
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 80; i++) {
+            builder.append("고객 프로필과 캠페인 정보를 참고해 추천 사유를 작성하세요. line=").append(i).append('\n');
+        }
+        prompt = builder.toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void eagerInfoSync() {
+        syncLogger.info("생성된 프롬프트:\n{}", prompt);
+    }
+
+    @Benchmark
+    public void eagerInfoAsync() {
+        asyncLogger.info("생성된 프롬프트:\n{}", prompt);
+    }
+
+    @Benchmark
+    public void payloadLoggerDebugOff() {
+        payloadLogger.debug(debugOffLogger, LogCategory.PROMPT, "생성된 프롬프트", () -> prompt);
+    }
+
+    @Benchmark
+    public void payloadLoggerSampled() {
+        payloadLogger.debug(debugOnLogger, LogCategory.PROMPT, "생성된 프롬프트", () -> prompt);
+    }
+
+    private OutputStreamAppender<ILoggingEvent> createSink(String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5level [%thread] %logger{36} : %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(DISCARD);
+        appender.start();
+        return appender;
+    }
+
+    private Logger createLogger(String name, Level level, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setLevel(level);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
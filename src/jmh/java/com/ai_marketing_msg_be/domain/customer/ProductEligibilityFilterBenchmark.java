@@ -0,0 +1,47 @@
+package com.ai_marketing_msg_be.domain.customer;
+
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.customer.service.ProductEligibilityFilter;
+import com.ai_marketing_msg_be.support.SyntheticData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 상품 추천 전 연령/자격 필터링 비용 (카탈로그 크기별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductEligibilityFilterBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int catalogSize;
+
+    private ProductEligibilityFilter filter;
+    private List<ProductView> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filter = new ProductEligibilityFilter();
+        products = new SyntheticData(42).productViews(catalogSize);
+    }
+
+    @Benchmark
+    public List<ProductView> youngCustomer() {
+        return filter.filterByAge(products, 24);
+    }
+
+    @Benchmark
+    public List<ProductView> seniorCustomer() {
+        return filter.filterByAge(products, 68);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ai_marketing_msg_be.domain.customer;
+
+import com.ai_marketing_msg_be.config.PromptProperties;
+import com.ai_marketing_msg_be.domain.catalog.vo.CampaignView;
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.service.RecommendationPromptBuilder;
+import com.ai_marketing_msg_be.support.SyntheticData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 고객 맞춤 추천 프롬프트 4종 조립 비용 (카탈로그 크기별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationPromptBenchmark {
+
+    @Param({"20", "200"})
+    private int catalogSize;
+
+    @Param({"LEGACY", "PREFIX_STABLE"})
+    private PromptProperties.Layout layout;
+
+    private RecommendationPromptBuilder builder;
+    private Customer customer;
+    private List<ProductView> products;
+    private List<CampaignView> campaigns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        builder = new RecommendationPromptBuilder(promptProperties());
+
+        SyntheticData data = new SyntheticData(42);
+        customer = data.customer(1L);
+        products = data.productViews(catalogSize);
+        campaigns = data.campaignViews(catalogSize);
+    }
+
+    @Benchmark
+    public String productPrompt() {
+        return builder.buildProductRecommendationPrompt(customer, products);
+    }
+
+    @Benchmark
+    public String productPromptWithCampaign() {
+        return builder.buildProductRecommendationPromptWithCampaign(customer, products, campaigns.get(0));
+    }
+
+    @Benchmark
+    public String campaignPrompt() {
+        return builder.buildCampaignRecommendationPrompt(customer, campaigns);
+    }
+
+    @Benchmark
+    public String campaignPromptWithProduct() {
+        return builder.buildCampaignRecommendationPromptWithProduct(customer, campaigns, products.get(0));
+    }
+
+    private PromptProperties promptProperties() {
+        PromptProperties properties = new PromptProperties();
+        properties.setLayout(layout);
+        return properties;
+    }
+}
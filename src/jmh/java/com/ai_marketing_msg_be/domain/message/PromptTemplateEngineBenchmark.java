@@ -0,0 +1,96 @@
+package com.ai_marketing_msg_be.domain.message;
+
+import com.ai_marketing_msg_be.config.PromptProperties;
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.message.entity.ToneManner;
+import com.ai_marketing_msg_be.domain.message.service.PromptTemplateEngine;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.support.SyntheticData;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 메시지 생성 프롬프트 조립 비용 (세그먼트 / 개별 / 묶음 개별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptTemplateEngineBenchmark {
+
+    @Param({"10", "50"})
+    private int packedCustomerCount;
+
+    @Param({"LEGACY", "PREFIX_STABLE"})
+    private PromptProperties.Layout layout;
+
+    private PromptTemplateEngine engine;
+    private PromptContext segmentContext;
+    private PromptContext individualContext;
+    private PromptContext packedContext;
+    private List<Customer> packedCustomers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new PromptTemplateEngine(ObservationRegistry.NOOP, promptProperties());
+
+        SyntheticData data = new SyntheticData(42);
+        Campaign campaign = data.campaigns(1).get(0);
+        Product product = data.products(1).get(0);
+
+        segmentContext = PromptContext.builder()
+                .segmentFilter(data.segmentFilter())
+                .targetCustomerCount(12_345)
+                .campaign(campaign)
+                .product(product)
+                .toneManner(ToneManner.FRIENDLY)
+                .additionalContext("주말 한정 이벤트임을 강조해 주세요.")
+                .build();
+
+        individualContext = PromptContext.builder()
+                .customer(data.customer(1L))
+                .campaign(campaign)
+                .product(product)
+                .toneManner(ToneManner.FRIENDLY)
+                .build();
+
+        packedContext = PromptContext.builder()
+                .campaign(campaign)
+                .product(product)
+                .toneManner(ToneManner.FRIENDLY)
+                .build();
+        packedCustomers = data.customers(packedCustomerCount);
+    }
+
+    @Benchmark
+    public String segmentPrompt() {
+        return engine.buildPrompt(segmentContext);
+    }
+
+    @Benchmark
+    public String individualPrompt() {
+        return engine.buildPrompt(individualContext);
+    }
+
+    @Benchmark
+    public String packedIndividualPrompt() {
+        return engine.buildPackedIndividualPrompt(packedContext, packedCustomers);
+    }
+
+    private PromptProperties promptProperties() {
+        PromptProperties properties = new PromptProperties();
+        properties.setLayout(layout);
+        return properties;
+    }
+}
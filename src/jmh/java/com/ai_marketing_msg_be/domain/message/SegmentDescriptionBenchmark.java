@@ -0,0 +1,41 @@
+package com.ai_marketing_msg_be.domain.message;
+
+import com.ai_marketing_msg_be.domain.message.entity.Segment;
+import com.ai_marketing_msg_be.support.SyntheticData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 세그먼트 목록 응답마다 호출되는 Segment.getDescription 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SegmentDescriptionBenchmark {
+
+    private Segment fullSegment;
+    private Segment emptySegment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fullSegment = new SyntheticData(42).segment();
+        emptySegment = Segment.builder().segmentName("전체").build();
+    }
+
+    @Benchmark
+    public String allFilters() {
+        return fullSegment.getDescription();
+    }
+
+    @Benchmark
+    public String noFilters() {
+        return emptySegment.getDescription();
+    }
+}
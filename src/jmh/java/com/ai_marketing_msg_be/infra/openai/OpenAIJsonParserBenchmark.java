@@ -0,0 +1,65 @@
+package com.ai_marketing_msg_be.infra.openai;
+
+import com.ai_marketing_msg_be.domain.customer.dto.AIRecommendedCampaign;
+import com.ai_marketing_msg_be.domain.customer.dto.AIRecommendedProduct;
+import com.ai_marketing_msg_be.domain.message.dto.GPTMessage;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIJsonParser;
+import com.ai_marketing_msg_be.support.SyntheticData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * LLM 응답 파싱 비용 (추천 배열 / 메시지 배열 / 묶음 생성 객체)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAIJsonParserBenchmark {
+
+    private OpenAIJsonParser parser;
+    private String productResponse;
+    private String campaignResponse;
+    private String messageResponse;
+    private String packedResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new OpenAIJsonParser(new ObjectMapper());
+
+        SyntheticData data = new SyntheticData(42);
+        productResponse = data.productRecommendationResponse(data.productViews(10));
+        campaignResponse = data.campaignRecommendationResponse(data.campaignViews(10));
+        messageResponse = data.messageResponse();
+        packedResponse = data.packedMessageResponse(data.customers(20));
+    }
+
+    @Benchmark
+    public List<AIRecommendedProduct> productRecommendations() {
+        return parser.parseList(productResponse, AIRecommendedProduct.class);
+    }
+
+    @Benchmark
+    public List<AIRecommendedCampaign> campaignRecommendations() {
+        return parser.parseList(campaignResponse, AIRecommendedCampaign.class);
+    }
+
+    @Benchmark
+    public List<GPTMessage> generatedMessages() {
+        return parser.parseList(messageResponse, GPTMessage.class);
+    }
+
+    @Benchmark
+    public Map<String, List<GPTMessage>> packedMessages() {
+        return parser.parseKeyedLists(packedResponse, GPTMessage.class);
+    }
+}
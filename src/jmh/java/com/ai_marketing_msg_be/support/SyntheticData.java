@@ -0,0 +1,220 @@
+package com.ai_marketing_msg_be.support;
+
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.entity.CampaignStatus;
+import com.ai_marketing_msg_be.domain.campaign.entity.CampaignType;
+import com.ai_marketing_msg_be.domain.catalog.vo.CampaignView;
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.entity.Gender;
+import com.ai_marketing_msg_be.domain.customer.entity.MembershipLevel;
+import com.ai_marketing_msg_be.domain.customer.entity.Region;
+import com.ai_marketing_msg_be.domain.message.entity.Segment;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.domain.product.entity.StockStatus;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크용 한국어 합성 데이터 생성기
+ * <p>
+ * 실제 운영 데이터와 비슷한 분포(요금제/기기/상품명 연령 표기/혜택 문구)를 시드 기반으로 만들어
+ * 같은 시드면 항상 같은 데이터가 나오도록 한다.
+ */
+public class SyntheticData {
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "예준", "지민",
+            "다혜", "현우", "수빈", "준서", "유진", "건우", "채원", "우진", "지아", "선우"};
+    private static final String[] PLANS = {"5G 스탠다드", "5G 프리미엄", "5G 시그니처", "5G 슬림", "LTE 베이직", "LTE 데이터ON",
+            "Y 5G 스페셜", "5G 심플 110GB", "LTE 순 골든"};
+    private static final String[] DEVICES = {"갤럭시 S24", "갤럭시 Z 플립5", "아이폰 15", "아이폰 15 Pro", "갤럭시 A54", "아이폰 13 mini"};
+    private static final String[] CATEGORIES = {"모바일 요금제", "인터넷", "IPTV", "OTT", "디바이스", "생활편의"};
+    private static final String[] PRODUCT_BASES = {"5G 초이스", "데이터ON 비디오", "기가인터넷", "지니TV", "티빙 결합",
+            "디즈니+ 팩", "스마트홈 패키지", "갤럭시 워치 요금제", "밀리의 서재 구독", "안심 데이터"};
+    private static final String[] AGE_QUALIFIERS = {"", "", "", "", " (만 34세 이하)", " (만 65세 이상)", " (만 19~29세)",
+            " (만 12세 이하)", " 군인 전용", " 복지 전용", " 외국인 전용"};
+    private static final String[] BENEFITS = {"데이터 무제한", "OTT 1종 무료", "단말 할인 최대 30만원", "가족 결합 시 추가 할인",
+            "테더링 40GB", "해외 로밍 5GB", "멤버십 VIP 초이스", "스마트기기 1회선 무료", "지니뮤직 6개월 무료"};
+    private static final String[] CAMPAIGN_THEMES = {"봄맞이 5G 업그레이드", "인터넷 속도 업그레이드 특별 할인", "장기 고객 감사",
+            "신학기 청소년 요금제", "약정 만료 고객 케어", "OTT 결합 프로모션", "가족 결합 혜택 강화", "시니어 안심 요금제"};
+
+    private final Random random;
+
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(customer(i + 1L));
+        }
+        return customers;
+    }
+
+    public Customer customer(long customerId) {
+        int age = 15 + random.nextInt(65);
+        return Customer.builder()
+                .customerId(customerId)
+                .name(pick(SURNAMES) + pick(GIVEN_NAMES))
+                .phone(String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)))
+                .age(age)
+                .gender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE)
+                .region(pick(Region.values()))
+                .membershipLevel(pick(MembershipLevel.values()))
+                .currentPlan(pick(PLANS))
+                .currentDevice(pick(DEVICES))
+                .contractEndDate(LocalDate.now().plusDays(random.nextInt(730) - 120))
+                .avgDataUsageGb(BigDecimal.valueOf(random.nextDouble() * 120).setScale(2, RoundingMode.HALF_UP))
+                .joinDate(LocalDateTime.now().minusDays(random.nextInt(365 * 15)))
+                .lastPurchaseDate(LocalDateTime.now().minusDays(random.nextInt(400)))
+                .build();
+    }
+
+    public List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = Product.builder()
+                    .name(pick(PRODUCT_BASES) + " " + (i + 1) + pick(AGE_QUALIFIERS))
+                    .category(pick(CATEGORIES))
+                    .price(BigDecimal.valueOf(5_000L + random.nextInt(26) * 5_000L))
+                    .discountRate(random.nextInt(3) == 0 ? BigDecimal.valueOf(5L * (1 + random.nextInt(6))) : null)
+                    .benefits(benefits())
+                    .stockStatus(StockStatus.IN_STOCK)
+                    .build();
+            ReflectionTestUtils.setField(product, "productId", i + 1L);
+            products.add(product);
+        }
+        return products;
+    }
+
+    public List<ProductView> productViews(int count) {
+        return products(count).stream().map(ProductView::from).toList();
+    }
+
+    public List<Campaign> campaigns(int count) {
+        List<Campaign> campaigns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Campaign campaign = Campaign.builder()
+                    .userId(1L)
+                    .name(pick(CAMPAIGN_THEMES) + " " + (i + 1) + "차")
+                    .type(pick(CampaignType.values()))
+                    .description(pick(BENEFITS) + ", " + pick(BENEFITS) + " 제공")
+                    .startDate(LocalDate.now().minusDays(random.nextInt(30)))
+                    .endDate(LocalDate.now().plusDays(30 + random.nextInt(60)))
+                    .status(CampaignStatus.ACTIVE)
+                    .build();
+            ReflectionTestUtils.setField(campaign, "campaignId", i + 1L);
+            campaigns.add(campaign);
+        }
+        return campaigns;
+    }
+
+    public List<CampaignView> campaignViews(int count) {
+        return campaigns(count).stream()
+                .map(campaign -> CampaignView.from(campaign, Set.of()))
+                .toList();
+    }
+
+    public SegmentFilterRequest segmentFilter() {
+        int min = 20 + random.nextInt(30);
+        return SegmentFilterRequest.builder()
+                .ageRange(new SegmentFilterRequest.AgeRange(min, min + 10 + random.nextInt(20)))
+                .gender(random.nextBoolean() ? "MALE" : "FEMALE")
+                .regions(List.of(pick(Region.values()).name(), pick(Region.values()).name()))
+                .membershipLevel(pick(MembershipLevel.values()).name())
+                .recencyMaxDays(30 + random.nextInt(150))
+                .build();
+    }
+
+    public Segment segment() {
+        SegmentFilterRequest filter = segmentFilter();
+        return Segment.builder()
+                .segmentName("합성 세그먼트")
+                .ageMin(filter.getAgeRange().getMin())
+                .ageMax(filter.getAgeRange().getMax())
+                .gender(filter.getGender())
+                .regions(List.of(pick(Region.values()).getDescription(), pick(Region.values()).getDescription()))
+                .membershipLevel(filter.getMembershipLevel())
+                .recencyMaxDays(filter.getRecencyMaxDays())
+                .build();
+    }
+
+    /**
+     * 추천 응답처럼 코드 펜스와 앞 설명 문장이 붙은 JSON 배열
+     */
+    public String productRecommendationResponse(List<ProductView> products) {
+        return "추천 결과입니다.\n```json\n[\n" + products.stream().limit(3)
+                .map(product -> String.format(
+                        "  {\"rank\": %d, \"productId\": %d, \"reason\": \"%s\", \"expectedBenefit\": \"%s\", \"relevanceScore\": %d}",
+                        products.indexOf(product) + 1, product.getProductId(), reason(product.getName()),
+                        pick(BENEFITS), 85 + random.nextInt(16)))
+                .collect(Collectors.joining(",\n")) + "\n]\n```";
+    }
+
+    public String campaignRecommendationResponse(List<CampaignView> campaigns) {
+        return "```json\n[\n" + campaigns.stream().limit(3)
+                .map(campaign -> String.format(
+                        "  {\"rank\": %d, \"campaignId\": %d, \"reason\": \"%s\", \"expectedBenefit\": \"%s\", \"relevanceScore\": %d}",
+                        campaigns.indexOf(campaign) + 1, campaign.getCampaignId(), reason(campaign.getName()),
+                        pick(BENEFITS), 85 + random.nextInt(16)))
+                .collect(Collectors.joining(",\n")) + "\n]\n```";
+    }
+
+    /**
+     * 세그먼트/개별 메시지 생성 응답 (버전 3개)
+     */
+    public String messageResponse() {
+        return "[\n" + IntStream.rangeClosed(1, 3)
+                .mapToObj(version -> String.format("  {\"version\": %d, \"content\": \"%s\"}", version, message()))
+                .collect(Collectors.joining(",\n")) + "\n]";
+    }
+
+    /**
+     * 묶음 개별 메시지 생성 응답 (고객 ID → 버전 3개)
+     */
+    public String packedMessageResponse(List<Customer> customers) {
+        return "{\n" + customers.stream()
+                .map(customer -> String.format("  \"%d\": [%s]", customer.getCustomerId(),
+                        IntStream.rangeClosed(1, 3)
+                                .mapToObj(version -> String.format("{\"version\": %d, \"content\": \"%s\"}",
+                                        version, message()))
+                                .collect(Collectors.joining(", "))))
+                .collect(Collectors.joining(",\n")) + "\n}";
+    }
+
+    private String benefits() {
+        int count = 1 + random.nextInt(4);
+        List<String> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(pick(BENEFITS));
+        }
+        return String.join(", ", items);
+    }
+
+    private String reason(String itemName) {
+        return String.format("%s%s님은 %s 요금제를 사용 중이며 월 %.1fGB의 데이터를 사용합니다. %s은(는) %s 혜택을 제공하여 "
+                        + "고객의 사용 패턴에 맞는 실질적인 비용 절감과 편의성 향상을 기대할 수 있습니다.",
+                pick(SURNAMES), pick(GIVEN_NAMES), pick(PLANS), random.nextDouble() * 100, itemName, pick(BENEFITS));
+    }
+
+    private String message() {
+        return String.format("[KT] %s%s님, %s 고객님만을 위한 혜택! %s 지금 확인해 보세요.",
+                pick(SURNAMES), pick(GIVEN_NAMES), pick(PLANS), pick(BENEFITS));
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
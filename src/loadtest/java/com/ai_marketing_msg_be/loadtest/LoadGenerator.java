@@ -0,0 +1,216 @@
+package com.ai_marketing_msg_be.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행자(EXECUTOR) 시나리오 부하 생성기
+ * <p>
+ * 가상 사용자마다 login → 세그먼트 고객 수 → 세그먼트 메시지 생성 → 저장 → 목록 조회를 반복하고,
+ * 엔드포인트별 처리량과 p50/p95/p99를 출력한다(--out 지정 시 JSON으로도 저장).
+ * 승인된 EXECUTOR 계정이 필요하며(/auth/register 후 관리자 승인), 앱은 loadtest 프로필로
+ * {@link OpenAIStubServer}를 바라보게 띄우면 외부 호출 없이 실행된다.
+ * <pre>
+ * ./gradlew loadTest --args="--base-url=http://localhost:8080 --username=loadtester --password=... \
+ *     --users=20 --duration-seconds=120 --campaign-id=1 --product-id=1 --out=build/loadtest/result.json"
+ * </pre>
+ */
+public class LoadGenerator {
+
+    private static final String LOGIN = "POST /auth/login";
+    private static final String SEGMENT_COUNT = "POST /executor/segments/count";
+    private static final String GENERATE = "POST /executor/messages/generate/segment";
+    private static final String SAVE = "POST /executor/messages/save";
+    private static final String LIST = "GET /executor/messages";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final long campaignId;
+    private final long productId;
+    private final String toneId;
+    private final Duration requestTimeout;
+
+    LoadGenerator(Args args) {
+        this.baseUrl = args.get("base-url", "http://localhost:8080");
+        this.username = args.require("username");
+        this.password = args.require("password");
+        this.campaignId = args.getLong("campaign-id", 1);
+        this.productId = args.getLong("product-id", 1);
+        this.toneId = args.get("tone-id", "TONE001");
+        this.requestTimeout = Duration.ofSeconds(args.getLong("timeout-seconds", 60));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    public static void main(String[] rawArgs) throws Exception {
+        Args args = new Args(rawArgs);
+        int users = args.getInt("users", 10);
+        long durationSeconds = args.getLong("duration-seconds", 60);
+        String out = args.get("out", null);
+
+        LoadGenerator generator = new LoadGenerator(args);
+        System.out.printf("부하 시작 - users: %d, duration: %ds, target: %s%n", users, durationSeconds, generator.baseUrl);
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            futures.add(executor.submit(() -> generator.runUser(deadline)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        Map<String, LatencyRecorder.Summary> summaries = generator.recorder.summarize(elapsedSeconds);
+        printReport(summaries, elapsedSeconds);
+        if (out != null) {
+            generator.writeJson(Path.of(out), users, elapsedSeconds, summaries);
+        }
+    }
+
+    private void runUser(long deadline) {
+        while (System.nanoTime() < deadline) {
+            try {
+                runScenario();
+            } catch (IOException e) {
+                // 실패는 recorder에 기록되었으므로 다음 반복으로 진행
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void runScenario() throws IOException, InterruptedException {
+        ObjectNode login = objectMapper.createObjectNode()
+                .put("username", username)
+                .put("password", password);
+        JsonNode loginData = call(LOGIN, post("/auth/login", login, null));
+        if (loginData == null) {
+            return;
+        }
+        String token = loginData.path("accessToken").asText();
+
+        ObjectNode segmentFilter = objectMapper.createObjectNode();
+        segmentFilter.putObject("ageRange").put("min", 20).put("max", 39);
+        segmentFilter.putArray("regions").add("SEOUL").add("GYEONGGI");
+        segmentFilter.put("membershipLevel", "GOLD");
+        if (call(SEGMENT_COUNT, post("/executor/segments/count", segmentFilter, token)) == null) {
+            return;
+        }
+
+        ObjectNode generate = objectMapper.createObjectNode();
+        generate.set("segmentFilter", segmentFilter);
+        generate.put("campaignId", campaignId)
+                .put("productId", productId)
+                .put("toneId", toneId);
+        JsonNode generated = call(GENERATE, post("/executor/messages/generate/segment", generate, token));
+        if (generated == null || generated.path("messages").isEmpty()) {
+            return;
+        }
+        JsonNode firstMessage = generated.path("messages").get(0);
+
+        ObjectNode save = objectMapper.createObjectNode()
+                .put("messageType", "SEGMENT")
+                .put("campaignId", campaignId)
+                .put("productId", productId)
+                .put("toneId", toneId)
+                .put("messageContent", firstMessage.path("content").asText())
+                .put("messageVersion", firstMessage.path("version").asInt(1))
+                .put("aiModelUsed", "loadtest-stub");
+        save.set("segmentFilter", segmentFilter);
+        if (call(SAVE, post("/executor/messages/save", save, token)) == null) {
+            return;
+        }
+
+        call(LIST, HttpRequest.newBuilder(URI.create(baseUrl + "/executor/messages?page=1&size=20"))
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build());
+    }
+
+    private HttpRequest post(String path, JsonNode body, String token) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 성공(2xx) 시 ApiResponse.data를, 실패 시 null 반환
+     */
+    private JsonNode call(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long startedAt = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - startedAt, false);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        boolean success = response.statusCode() / 100 == 2;
+        recorder.record(endpoint, elapsed, success);
+        if (!success) {
+            return null;
+        }
+        return objectMapper.readTree(response.body()).path("data");
+    }
+
+    private static void printReport(Map<String, LatencyRecorder.Summary> summaries, double elapsedSeconds) {
+        System.out.printf("%n경과 %.1fs%n", elapsedSeconds);
+        System.out.printf("%-42s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "fail", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        summaries.forEach((endpoint, s) -> System.out.printf("%-42s %8d %8d %9.2f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, s.count(), s.failures(), s.throughput(),
+                s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis()));
+    }
+
+    private void writeJson(Path out, int users, double elapsedSeconds,
+                           Map<String, LatencyRecorder.Summary> summaries) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("baseUrl", baseUrl);
+        root.put("users", users);
+        root.put("elapsedSeconds", elapsedSeconds);
+        ObjectNode endpoints = root.putObject("endpoints");
+        summaries.forEach((endpoint, s) -> endpoints.set(endpoint, objectMapper.valueToTree(s)));
+
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), root);
+        System.out.println("결과 저장: " + out.toAbsolutePath());
+    }
+}
@@ -0,0 +1,178 @@
+package com.ai_marketing_msg_be.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 로컬 OpenAI /v1/chat/completions 대역
+ * <p>
+ * 지연은 중앙값/p99로 정한 로그정규 분포에서 뽑고, 지정한 비율로 오류 응답을 돌려준다.
+ * "stream": true 요청에는 SSE 청크로 응답한다. 앱은 loadtest 프로필로 이 서버를 바라보게 한다.
+ * <pre>
+ * ./gradlew openaiStub --args="--port=18080 --latency-median-ms=800 --latency-p99-ms=4000 --error-rate=0.01"
+ * </pre>
+ */
+public class OpenAIStubServer {
+
+    private static final double Z_99 = 2.326;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StubCompletions completions;
+    private final double latencyMu;
+    private final double latencySigma;
+    private final double errorRate;
+    private final int errorStatus;
+    private final int streamChunkChars;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    OpenAIStubServer(Args args) {
+        long medianMillis = args.getLong("latency-median-ms", 800);
+        long p99Millis = Math.max(medianMillis, args.getLong("latency-p99-ms", 4000));
+        this.latencyMu = Math.log(Math.max(1, medianMillis));
+        this.latencySigma = Math.log((double) Math.max(1, p99Millis) / Math.max(1, medianMillis)) / Z_99;
+        this.errorRate = args.getDouble("error-rate", 0.0);
+        this.errorStatus = args.getInt("error-status", 429);
+        this.streamChunkChars = args.getInt("stream-chunk-chars", 16);
+        this.completions = new StubCompletions(args.getLong("seed", 42));
+    }
+
+    public static void main(String[] rawArgs) throws IOException {
+        Args args = new Args(rawArgs);
+        int port = args.getInt("port", 18080);
+
+        OpenAIStubServer stub = new OpenAIStubServer(args);
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 512);
+        server.createContext("/v1/chat/completions", stub::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        System.out.printf("OpenAI 대역 서버 시작 - http://localhost:%d/v1/chat/completions (median %.0fms, p99 %.0fms, error-rate %.3f)%n",
+                port, Math.exp(stub.latencyMu), Math.exp(stub.latencyMu + Z_99 * stub.latencySigma), stub.errorRate);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.printf(
+                "요청 %d건, 오류 응답 %d건%n", stub.requestCount.get(), stub.errorCount.get())));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "{\"error\":{\"message\":\"method not allowed\"}}");
+                return;
+            }
+
+            JsonNode request;
+            try (InputStream body = exchange.getRequestBody()) {
+                request = objectMapper.readTree(body);
+            }
+            requestCount.incrementAndGet();
+
+            sleep(sampleLatencyMillis());
+
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errorCount.incrementAndGet();
+                send(exchange, errorStatus, "{\"error\":{\"message\":\"stub injected error\",\"type\":\"stub_error\"}}");
+                return;
+            }
+
+            String prompt = collectPrompt(request);
+            String content = completions.contentFor(prompt);
+            String model = request.path("model").asText("gpt-4o-mini");
+
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, model, content);
+            } else {
+                send(exchange, 200, objectMapper.writeValueAsString(completion(model, prompt, content)));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private long sampleLatencyMillis() {
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(Math.exp(latencyMu + latencySigma * gaussian));
+    }
+
+    private static String collectPrompt(JsonNode request) {
+        StringBuilder prompt = new StringBuilder();
+        for (JsonNode message : request.path("messages")) {
+            prompt.append(message.path("content").asText("")).append('\n');
+        }
+        return prompt.toString();
+    }
+
+    private ObjectNode completion(String model, String prompt, String content) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-stub-" + requestCount.get());
+        response.put("object", "chat.completion");
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("model", model);
+
+        ArrayNode choices = response.putArray("choices");
+        ObjectNode choice = choices.addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+
+        // 한국어 기준 대략 2자당 1토큰
+        int promptTokens = prompt.length() / 2;
+        int completionTokens = content.length() / 2;
+        ObjectNode usage = response.putObject("usage");
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        return response;
+    }
+
+    private void stream(HttpExchange exchange, String model, String content) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int from = 0; from < content.length(); from += streamChunkChars) {
+                String piece = content.substring(from, Math.min(from + streamChunkChars, content.length()));
+                ObjectNode chunk = objectMapper.createObjectNode();
+                chunk.put("object", "chat.completion.chunk");
+                chunk.put("model", model);
+                ObjectNode choice = chunk.putArray("choices").addObject();
+                choice.put("index", 0);
+                choice.putObject("delta").put("content", piece);
+                choice.putNull("finish_reason");
+
+                out.write(("data: " + objectMapper.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                sleep(ThreadLocalRandom.current().nextInt(5, 25));
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ai_marketing_msg_be.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 프롬프트 종류를 알아보고 앱의 파서가 기대하는 형식의 JSON 본문을 만들어 줌
+ * <p>
+ * - 묶음 개별 메시지: {"고객ID": [{version, content} x3], ...}
+ * - 상품 추천: [{rank, productId, reason, expectedBenefit, relevanceScore} x3] (프롬프트의 [ID] 목록에서 선택)
+ * - 캠페인 추천: [{rank, campaignId, ...} x3] (프롬프트의 [ID:n] 목록에서 선택)
+ * - 그 외(세그먼트/개별 메시지): [{version, content} x3]
+ */
+class StubCompletions {
+
+    private static final Pattern PACKED_CUSTOMER_ID = Pattern.compile("<고객 ID: (\\d+)>");
+    private static final Pattern PRODUCT_ID = Pattern.compile("(?m)^\\[(\\d+)]");
+    private static final Pattern CAMPAIGN_ID = Pattern.compile("\\[ID:(\\d+)]");
+
+    private static final String[] OPENINGS = {"고객님만을 위한", "이번 달 한정", "오래 함께해 주신 고객님께 드리는", "지금 바로 누리는"};
+    private static final String[] BENEFITS = {"데이터 무제한", "OTT 1종 무료", "단말 할인 최대 30만원", "가족 결합 추가 할인",
+            "해외 로밍 5GB", "스마트기기 1회선 무료"};
+
+    private final Random random;
+
+    StubCompletions(long seed) {
+        this.random = new Random(seed);
+    }
+
+    String contentFor(String prompt) {
+        List<String> packedIds = findAll(PACKED_CUSTOMER_ID, prompt);
+        if (!packedIds.isEmpty()) {
+            return packedMessages(packedIds);
+        }
+        if (prompt.contains("\"productId\"")) {
+            return recommendations("productId", findAll(PRODUCT_ID, prompt));
+        }
+        if (prompt.contains("\"campaignId\"")) {
+            return recommendations("campaignId", findAll(CAMPAIGN_ID, prompt));
+        }
+        return messages();
+    }
+
+    private String messages() {
+        return "[\n" + IntStream.rangeClosed(1, 3)
+                .mapToObj(version -> String.format("  {\"version\": %d, \"content\": \"%s\"}", version, message()))
+                .collect(Collectors.joining(",\n")) + "\n]";
+    }
+
+    private String packedMessages(List<String> customerIds) {
+        return "{\n" + customerIds.stream()
+                .map(id -> String.format("  \"%s\": [%s]", id, IntStream.rangeClosed(1, 3)
+                        .mapToObj(version -> String.format("{\"version\": %d, \"content\": \"%s\"}", version, message()))
+                        .collect(Collectors.joining(", "))))
+                .collect(Collectors.joining(",\n")) + "\n}";
+    }
+
+    private String recommendations(String idField, List<String> candidateIds) {
+        List<String> picked = new ArrayList<>(candidateIds);
+        Collections.shuffle(picked, random);
+        picked = picked.subList(0, Math.min(3, picked.size()));
+
+        return "```json\n[\n" + IntStream.range(0, picked.size())
+                .mapToObj(i -> String.format(
+                        "  {\"rank\": %d, \"%s\": %s, \"reason\": \"%s\", \"expectedBenefit\": \"%s\", \"relevanceScore\": %d}",
+                        i + 1, idField, picked.get(i),
+                        "고객님의 현재 요금제와 데이터 사용 패턴을 고려할 때 이 혜택이 실질적인 비용 절감과 편의성 향상을 제공합니다.",
+                        pick(BENEFITS), 85 + random.nextInt(16)))
+                .collect(Collectors.joining(",\n")) + "\n]\n```";
+    }
+
+    private String message() {
+        return String.format("[KT] %s %s 혜택! 지금 가입하시면 %s까지 함께 드립니다. 자세한 내용은 KT닷컴에서 확인해 보세요.",
+                pick(OPENINGS), pick(BENEFITS), pick(BENEFITS));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<String> findAll(Pattern pattern, String text) {
+        Set<String> ids = new LinkedHashSet<>();
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return new ArrayList<>(ids);
+    }
+}
@@ -0,0 +1,386 @@
+package com.ai_marketing_msg_be.loadtest.datagen;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 고객/상품/캠페인/세그먼트/AI생성메시지 대량 생성기
+ * <p>
+ * 같은 시드와 규모면 항상 같은 데이터가 만들어지도록 테이블마다 시드에서 파생한 Random을 쓰고,
+ * ID는 기존 최대값 다음부터 직접 지정한다. 다중 행 INSERT로 넣으며 세션의 외래키/유니크 검사는 끈다.
+ * 벤치마크에서는 {@link #generate(DatasetSpec)}를 직접 호출하면 된다.
+ * <pre>
+ * ./gradlew generateData --args="--jdbc-url=jdbc:mysql://localhost:3306/mixology --username=root --password=0000 \
+ *     --customers=3000000 --products=5000 --campaigns=3000 --segments=2000 --messages=30000000 --seed=42"
+ * </pre>
+ */
+public class BulkDataGenerator {
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권",
+            "황", "안", "송", "류", "홍"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "예준", "지민",
+            "다혜", "현우", "수빈", "준서", "유진", "건우", "채원", "우진", "지아", "선우", "영수", "순자", "정희", "미경"};
+
+    // 통신 가입자 분포를 흉내 낸 지역 가중치 (Region 순서)
+    private static final String[] REGIONS = {"SEOUL", "GYEONGGI", "INCHEON", "BUSAN", "DAEGU", "GWANGJU", "DAEJEON", "ULSAN",
+            "SEJONG", "GANGWON", "CHUNGBUK", "CHUNGNAM", "JEONBUK", "JEONNAM", "GYEONGBUK", "GYEONGNAM", "JEJU"};
+    private static final double[] REGION_WEIGHTS = {18.5, 26.5, 5.7, 6.4, 4.6, 2.8, 2.8, 2.2, 0.8, 3.0, 3.1, 4.2, 3.4, 3.5, 5.0,
+            6.4, 1.3};
+
+    private static final String[] MEMBERSHIPS = {"BASIC", "WHITE", "SILVER", "GOLD", "VIP", "VVIP"};
+    private static final double[] MEMBERSHIP_WEIGHTS = {30, 25, 20, 15, 7, 3};
+
+    private static final String[] PLANS_5G = {"5G 슬림", "5G 심플 110GB", "5G 스탠다드", "5G 프리미엄", "5G 시그니처", "Y 5G 스페셜"};
+    private static final String[] PLANS_LTE = {"LTE 베이직", "LTE 데이터ON 톡", "LTE 데이터ON 비디오", "LTE 순 골든"};
+    private static final String[] DEVICES = {"갤럭시 S24", "갤럭시 S23", "갤럭시 Z 플립5", "갤럭시 Z 폴드5", "갤럭시 A54", "아이폰 15",
+            "아이폰 15 Pro", "아이폰 14", "아이폰 13 mini", "갤럭시 S21"};
+
+    private static final String[] CATEGORIES = {"모바일 요금제", "인터넷", "IPTV", "OTT", "디바이스", "생활편의"};
+    private static final String[] PRODUCT_BASES = {"5G 초이스", "데이터ON 비디오", "기가인터넷", "지니TV", "티빙 결합", "디즈니+ 팩",
+            "스마트홈 패키지", "갤럭시 워치 요금제", "밀리의 서재 구독", "안심 데이터", "인터넷 슬림", "키즈 안심"};
+    private static final String[] AGE_QUALIFIERS = {"", "", "", "", "", "", " (만 34세 이하)", " (만 65세 이상)", " (만 19~29세)",
+            " (만 12세 이하)", " 군인 전용", " 복지 전용"};
+    private static final String[] BENEFITS = {"데이터 무제한", "OTT 1종 무료", "단말 할인 최대 30만원", "가족 결합 시 추가 할인",
+            "테더링 40GB", "해외 로밍 5GB", "멤버십 VIP 초이스", "스마트기기 1회선 무료", "지니뮤직 6개월 무료"};
+    private static final String[] STOCK_STATUSES = {"IN_STOCK", "IN_STOCK", "IN_STOCK", "IN_STOCK", "LIMITED", "OUT_OF_STOCK"};
+
+    private static final String[] CAMPAIGN_TYPES = {"NEW_CUSTOMER", "RETENTION", "UPSELLING", "CROSS_SELLING", "CHURN_PREVENTION"};
+    private static final String[] CAMPAIGN_STATUSES = {"ACTIVE", "ACTIVE", "COMPLETED", "DRAFT", "CANCELLED"};
+    private static final String[] CAMPAIGN_THEMES = {"봄맞이 5G 업그레이드", "인터넷 속도 업그레이드 특별 할인", "장기 고객 감사",
+            "신학기 청소년 요금제", "약정 만료 고객 케어", "OTT 결합 프로모션", "가족 결합 혜택 강화", "시니어 안심 요금제"};
+
+    private static final String[] TONE_IDS = {"TONE001", "TONE002", "TONE003", "TONE004", "TONE005"};
+    private static final String[] OPENINGS = {"고객님만을 위한", "이번 달 한정", "오래 함께해 주신 고객님께 드리는", "지금 바로 누리는"};
+
+    private static final long PROGRESS_INTERVAL = 1_000_000;
+
+    private final Connection connection;
+    private final LocalDateTime now;
+
+    /**
+     * @param now 날짜 컬럼의 기준 시각, 같은 값을 주면 날짜까지 재현된다
+     */
+    public BulkDataGenerator(Connection connection, LocalDateTime now) {
+        this.connection = connection;
+        this.now = now;
+    }
+
+    public static void main(String[] rawArgs) throws SQLException {
+        Map<String, String> args = parseArgs(rawArgs);
+        DatasetSpec spec = new DatasetSpec(
+                Long.parseLong(args.getOrDefault("seed", "42")),
+                Long.parseLong(args.getOrDefault("customers", "1000000")),
+                Integer.parseInt(args.getOrDefault("products", "2000")),
+                Integer.parseInt(args.getOrDefault("campaigns", "2000")),
+                Integer.parseInt(args.getOrDefault("segments", "1000")),
+                Long.parseLong(args.getOrDefault("messages", "10000000")),
+                Integer.parseInt(args.getOrDefault("rows-per-statement", "1000")));
+
+        try (Connection connection = DriverManager.getConnection(
+                required(args, "jdbc-url"), required(args, "username"), args.getOrDefault("password", ""))) {
+            new BulkDataGenerator(connection, LocalDate.now().atStartOfDay()).generate(spec);
+        }
+    }
+
+    public void generate(DatasetSpec spec) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        execute("SET SESSION foreign_key_checks = 0");
+        execute("SET SESSION unique_checks = 0");
+        try {
+            long userId = findMessageOwner();
+
+            long firstCustomerId = nextId("고객", "customer_id");
+            insertCustomers(spec, firstCustomerId);
+
+            long firstProductId = nextId("상품", "product_id");
+            insertProducts(spec, firstProductId);
+
+            long firstCampaignId = nextId("캠페인", "campaign_id");
+            insertCampaigns(spec, firstCampaignId, userId);
+            insertCampaignProducts(spec, firstCampaignId, firstProductId);
+
+            long firstSegmentId = nextId("고객세그먼트", "segment_id");
+            insertSegments(spec, firstSegmentId);
+
+            insertMessages(spec, userId, firstCustomerId, firstProductId, firstCampaignId, firstSegmentId);
+        } finally {
+            execute("SET SESSION unique_checks = 1");
+            execute("SET SESSION foreign_key_checks = 1");
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void insertCustomers(DatasetSpec spec, long firstId) throws SQLException {
+        Random random = tableRandom(spec, 1);
+        String[] columns = {"customer_id", "name", "phone", "age", "gender", "region", "membership_level", "current_plan",
+                "current_device", "contract_end_date", "avg_data_usage_gb", "join_date", "last_purchase_date",
+                "created_at", "updated_at"};
+
+        long startedAt = System.nanoTime();
+        try (MultiRowInserter inserter = new MultiRowInserter(connection, "고객", columns, spec.rowsPerStatement())) {
+            for (long i = 0; i < spec.customers(); i++) {
+                long id = firstId + i;
+                int age = (int) clamp(Math.round(42 + random.nextGaussian() * 14), 15, 85);
+                boolean young = age < 40;
+                String plan = random.nextDouble() < (young ? 0.85 : 0.55) ? pick(random, PLANS_5G) : pick(random, PLANS_LTE);
+                double usage = Math.exp(Math.log(young ? 18 : 8) + random.nextGaussian() * 0.8);
+                LocalDateTime joinDate = now.minusDays(random.nextInt(365 * 15));
+                LocalDateTime lastPurchase = random.nextDouble() < 0.1
+                        ? null : now.minusDays((long) (-Math.log(1 - random.nextDouble()) * 90));
+
+                inserter.add(id,
+                        pick(random, SURNAMES) + pick(random, GIVEN_NAMES),
+                        String.format("010-%04d-%04d", (id / 10_000) % 10_000, id % 10_000),
+                        age,
+                        random.nextBoolean() ? "MALE" : "FEMALE",
+                        weighted(random, REGIONS, REGION_WEIGHTS),
+                        weighted(random, MEMBERSHIPS, MEMBERSHIP_WEIGHTS),
+                        plan,
+                        pick(random, DEVICES),
+                        now.toLocalDate().plusDays(random.nextInt(900) - 180),
+                        BigDecimal.valueOf(Math.min(usage, 300)).setScale(2, RoundingMode.HALF_UP),
+                        joinDate,
+                        lastPurchase,
+                        joinDate,
+                        joinDate);
+                progress("고객", inserter.getInserted(), spec.customers(), startedAt);
+            }
+        }
+        log("고객", spec.customers(), startedAt);
+    }
+
+    private void insertProducts(DatasetSpec spec, long firstId) throws SQLException {
+        Random random = tableRandom(spec, 2);
+        String[] columns = {"product_id", "name", "category", "price", "discount_rate", "benefits", "stock_status",
+                "created_at", "updated_at"};
+
+        long startedAt = System.nanoTime();
+        try (MultiRowInserter inserter = new MultiRowInserter(connection, "상품", columns, spec.rowsPerStatement())) {
+            for (int i = 0; i < spec.products(); i++) {
+                LocalDateTime createdAt = now.minusDays(random.nextInt(730));
+                inserter.add(firstId + i,
+                        pick(random, PRODUCT_BASES) + " " + (i + 1) + pick(random, AGE_QUALIFIERS),
+                        pick(random, CATEGORIES),
+                        BigDecimal.valueOf(5_000L + random.nextInt(26) * 5_000L),
+                        random.nextInt(3) == 0 ? BigDecimal.valueOf(5L * (1 + random.nextInt(6))) : null,
+                        pick(random, BENEFITS) + ", " + pick(random, BENEFITS),
+                        pick(random, STOCK_STATUSES),
+                        createdAt,
+                        createdAt);
+            }
+        }
+        log("상품", spec.products(), startedAt);
+    }
+
+    private void insertCampaigns(DatasetSpec spec, long firstId, long userId) throws SQLException {
+        Random random = tableRandom(spec, 3);
+        String[] columns = {"campaign_id", "user_id", "name", "type", "description", "start_date", "end_date", "status",
+                "created_at", "updated_at"};
+
+        long startedAt = System.nanoTime();
+        try (MultiRowInserter inserter = new MultiRowInserter(connection, "캠페인", columns, spec.rowsPerStatement())) {
+            for (int i = 0; i < spec.campaigns(); i++) {
+                LocalDate startDate = now.toLocalDate().minusDays(random.nextInt(365));
+                LocalDateTime createdAt = startDate.atStartOfDay().minusDays(random.nextInt(14));
+                inserter.add(firstId + i,
+                        userId,
+                        pick(random, CAMPAIGN_THEMES) + " " + (i + 1) + "차",
+                        pick(random, CAMPAIGN_TYPES),
+                        pick(random, BENEFITS) + ", " + pick(random, BENEFITS) + " 제공",
+                        startDate,
+                        startDate.plusDays(14 + random.nextInt(90)),
+                        pick(random, CAMPAIGN_STATUSES),
+                        createdAt,
+                        createdAt);
+            }
+        }
+        log("캠페인", spec.campaigns(), startedAt);
+    }
+
+    private void insertCampaignProducts(DatasetSpec spec, long firstCampaignId, long firstProductId) throws SQLException {
+        if (spec.products() == 0) {
+            return;
+        }
+        Random random = tableRandom(spec, 4);
+        String[] columns = {"campaign_id", "product_id", "created_at", "updated_at"};
+
+        long startedAt = System.nanoTime();
+        long rows = 0;
+        try (MultiRowInserter inserter = new MultiRowInserter(connection, "캠페인_상품_매핑", columns,
+                spec.rowsPerStatement())) {
+            for (int i = 0; i < spec.campaigns(); i++) {
+                int count = Math.min(spec.products(), 3 + random.nextInt(6));
+                int offset = random.nextInt(spec.products());
+                for (int j = 0; j < count; j++) {
+                    // 연속 구간을 잡아 중복 없이 매핑
+                    inserter.add(firstCampaignId + i, firstProductId + (offset + j) % spec.products(), now, now);
+                }
+                rows += count;
+            }
+        }
+        log("캠페인_상품_매핑", rows, startedAt);
+    }
+
+    private void insertSegments(DatasetSpec spec, long firstId) throws SQLException {
+        Random random = tableRandom(spec, 5);
+        String[] columns = {"segment_id", "segment_name", "age_min", "age_max", "gender", "regions", "membership_level",
+                "recency_max_days", "target_customer_count", "created_at"};
+
+        long startedAt = System.nanoTime();
+        try (MultiRowInserter inserter = new MultiRowInserter(connection, "고객세그먼트", columns, spec.rowsPerStatement())) {
+            for (int i = 0; i < spec.segments(); i++) {
+                int ageMin = 15 + random.nextInt(50);
+                inserter.add(firstId + i,
+                        "세그먼트 " + (i + 1),
+                        random.nextInt(4) == 0 ? null : ageMin,
+                        random.nextInt(4) == 0 ? null : ageMin + 5 + random.nextInt(30),
+                        random.nextInt(3) == 0 ? null : (random.nextBoolean() ? "MALE" : "FEMALE"),
+                        "[\"" + weighted(random, REGIONS, REGION_WEIGHTS) + "\", \""
+                                + weighted(random, REGIONS, REGION_WEIGHTS) + "\"]",
+                        random.nextInt(3) == 0 ? null : weighted(random, MEMBERSHIPS, MEMBERSHIP_WEIGHTS),
+                        random.nextInt(2) == 0 ? null : 30 + random.nextInt(335),
+                        random.nextInt(200_000),
+                        now.minusDays(random.nextInt(365)));
+            }
+        }
+        log("고객세그먼트", spec.segments(), startedAt);
+    }
+
+    private void insertMessages(DatasetSpec spec, long userId, long firstCustomerId, long firstProductId,
+                                long firstCampaignId, long firstSegmentId) throws SQLException {
+        if (spec.messages() == 0) {
+            return;
+        }
+        if (spec.customers() == 0 || spec.products() == 0 || spec.campaigns() == 0 || spec.segments() == 0) {
+            throw new IllegalArgumentException("메시지를 만들려면 고객/상품/캠페인/세그먼트가 각각 1건 이상 필요합니다.");
+        }
+
+        Random random = tableRandom(spec, 6);
+        String[] columns = {"user_id", "campaign_id", "product_id", "message_type", "segment_id", "customer_id",
+                "message_content", "message_version", "character_count", "tone_id", "ai_model_used", "created_at",
+                "updated_at"};
+
+        long startedAt = System.nanoTime();
+        try (MultiRowInserter inserter = new MultiRowInserter(connection, "AI생성메시지", columns, spec.rowsPerStatement())) {
+            for (long i = 0; i < spec.messages(); i++) {
+                boolean segment = random.nextDouble() < 0.4;
+                String content = "[KT] " + pick(random, OPENINGS) + " " + pick(random, BENEFITS) + " 혜택! 지금 가입하시면 "
+                        + pick(random, BENEFITS) + "까지 함께 드립니다. 자세한 내용은 KT닷컴에서 확인해 보세요.";
+                // 최근일수록 많이 생성된 분포
+                LocalDateTime createdAt = now.minusSeconds((long) (-Math.log(1 - random.nextDouble()) * 86_400 * 60));
+
+                inserter.add(userId,
+                        firstCampaignId + random.nextInt(spec.campaigns()),
+                        firstProductId + random.nextInt(spec.products()),
+                        segment ? "SEGMENT" : "INDIVIDUAL",
+                        segment ? firstSegmentId + random.nextInt(spec.segments()) : null,
+                        segment ? null : firstCustomerId + (long) (random.nextDouble() * spec.customers()),
+                        content,
+                        1 + random.nextInt(3),
+                        content.length(),
+                        pick(random, TONE_IDS),
+                        "gpt-4o-mini",
+                        createdAt,
+                        createdAt);
+                progress("AI생성메시지", inserter.getInserted(), spec.messages(), startedAt);
+            }
+        }
+        log("AI생성메시지", spec.messages(), startedAt);
+    }
+
+    private long findMessageOwner() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT MIN(user_id) FROM 사용자")) {
+            resultSet.next();
+            long userId = resultSet.getLong(1);
+            if (resultSet.wasNull()) {
+                throw new IllegalStateException("사용자 테이블이 비어 있습니다. 앱을 한 번 실행해 관리자 계정을 만든 뒤 다시 시도하세요.");
+            }
+            return userId;
+        }
+    }
+
+    private long nextId(String table, String idColumn) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Random tableRandom(DatasetSpec spec, int table) {
+        return new Random(spec.seed() * 31 + table);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String weighted(Random random, String[] values, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < values.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static void progress(String table, long inserted, long total, long startedAt) {
+        if (inserted > 0 && inserted % PROGRESS_INTERVAL == 0) {
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            System.out.printf("  %s %,d / %,d (%.0f rows/s)%n", table, inserted, total, inserted / seconds);
+        }
+    }
+
+    private static void log(String table, long rows, long startedAt) {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        System.out.printf("%s %,d건 생성 - %.1fs%n", table, rows, seconds);
+    }
+
+    private static Map<String, String> parseArgs(String[] rawArgs) {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : rawArgs) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            args.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return args;
+    }
+
+    private static String required(Map<String, String> args, String key) {
+        String value = args.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + key + " 인자가 필요합니다.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ai_marketing_msg_be.loadtest.datagen;
+
+/**
+ * 생성할 데이터 규모와 시드
+ *
+ * @param rowsPerStatement 다중 행 INSERT 한 문장에 담을 행 수
+ */
+public record DatasetSpec(long seed,
+                          long customers,
+                          int products,
+                          int campaigns,
+                          int segments,
+                          long messages,
+                          int rowsPerStatement) {
+
+    /**
+     * 벤치마크용 소규모 데이터셋 (고객 10만, 메시지 100만)
+     */
+    public static DatasetSpec small(long seed) {
+        return new DatasetSpec(seed, 100_000, 500, 300, 200, 1_000_000, 1_000);
+    }
+
+    /**
+     * 운영 규모 데이터셋 (고객 300만, 상품 5천, 캠페인 3천, 메시지 3천만)
+     */
+    public static DatasetSpec large(long seed) {
+        return new DatasetSpec(seed, 3_000_000, 5_000, 3_000, 2_000, 30_000_000, 1_000);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ai_marketing_msg_be.loadtest.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * INSERT ... VALUES (...), (...), ... 한 문장에 rowsPerStatement 행씩 묶어 넣고 문장마다 커밋
+ * 마지막에 남은 행은 close()에서 한 번 더 만든 짧은 문장으로 넣는다.
+ */
+class MultiRowInserter implements AutoCloseable {
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final List<Object[]> pending;
+    private PreparedStatement fullStatement;
+    private long inserted;
+
+    MultiRowInserter(Connection connection, String table, String[] columns, int rowsPerStatement) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        // MySQL 프리페어드 문장 파라미터 한도(65535)를 넘지 않도록 제한
+        this.rowsPerStatement = Math.max(1, Math.min(rowsPerStatement, 65_535 / columns.length));
+        this.pending = new ArrayList<>(this.rowsPerStatement);
+    }
+
+    void add(Object... values) throws SQLException {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(table + " 컬럼 수와 값 수가 다릅니다.");
+        }
+        pending.add(values);
+        if (pending.size() == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            flush(fullStatement);
+        }
+    }
+
+    long getInserted() {
+        return inserted;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!pending.isEmpty()) {
+                try (PreparedStatement tail = connection.prepareStatement(sql(pending.size()))) {
+                    flush(tail);
+                }
+            }
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+    }
+
+    private void flush(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        for (Object[] row : pending) {
+            for (Object value : row) {
+                statement.setObject(index++, value);
+            }
+        }
+        statement.executeUpdate();
+        connection.commit();
+
+        inserted += pending.size();
+        pending.clear();
+    }
+
+    private String sql(int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+}
@@ -2,25 +2,42 @@ package com.ai_marketing_msg_be.auth.filter;
 
 import com.ai_marketing_msg_be.auth.provider.JwtTokenProvider;
 import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.logging.LogCategory;
+import com.ai_marketing_msg_be.common.logging.LogSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String HEADER_STRING = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final LogSampler logSampler;
+
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, LogSampler logSampler,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.logSampler = logSampler;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.anonymousTimer = filterTimer(meterRegistry, "anonymous");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -29,46 +46,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String path = request.getRequestURI();
-        log.info("=== JWT Filter 실행 - 경로: {} ===", path);  // ← 추가
-
+        long startedAt = System.nanoTime();
+        Timer timer = rejectedTimer;
         final String token = resolveToken(request);
-        log.info("추출된 토큰: {}", token != null ? "있음 (길이: " + token.length() + ")" : "없음");  // ← 추가
 
         try {
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                log.info("토큰 검증 성공");  // ← 추가
-
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
+            if (token != null) {
+                Authentication auth = jwtTokenProvider.authenticate(token);
                 SecurityContextHolder.getContext().setAuthentication(auth);
+                timer = authenticatedTimer;
 
-                log.info("SecurityContext에 인증 정보 설정 완료 - username: {}",
-                        jwtTokenProvider.getUsernameFromToken(token));  // ← info로 변경
+                log.debug("SecurityContext에 인증 정보 설정 완료 - username: {}", auth.getName());
             } else {
-                log.warn("토큰이 없거나 유효하지 않음");  // ← 추가
+                timer = anonymousTimer;
+                log.debug("토큰 없음 - 경로: {}", request.getRequestURI());
             }
         } catch (BusinessException exception) {
             SecurityContextHolder.clearContext();
             request.setAttribute("exception", exception.getErrorCode());
-            log.error("JWT 인증 실패 (BusinessException): {}", exception.getMessage());
+            if (logSampler.sample(LogCategory.AUTH_FAILURE)) {
+                log.warn("JWT 인증 실패 - 경로: {}, {}", request.getRequestURI(), exception.getMessage());
+            }
         } catch (Exception exception) {
             SecurityContextHolder.clearContext();
-            log.error("JWT 인증 중 예상치 못한 오류: {}", exception.getMessage(), exception);  // ← 스택트레이스 추가
+            log.error("JWT 인증 중 예상치 못한 오류: {}", exception.getMessage(), exception);
         }
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
 
-        log.info("=== JWT Filter 종료 ===");  // ← 추가
         filterChain.doFilter(request, response);
     }
 
     private String resolveToken(HttpServletRequest request) {
         String header = request.getHeader(HEADER_STRING);
-
-        log.info("Authorization 헤더: {}",
-                header != null ? header.substring(0, Math.min(20, header.length())) + "..." : "없음");  // ← 추가
-
         if (header != null && header.startsWith(TOKEN_PREFIX)) {
             return header.substring(TOKEN_PREFIX.length());
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.filter")
+                .description("JWT 인증 필터 처리 시간 (다음 필터 제외)")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,10 +1,12 @@
 package com.ai_marketing_msg_be.auth.provider;
 
 import com.ai_marketing_msg_be.auth.details.CustomUserDetails;
+import com.ai_marketing_msg_be.auth.provider.VerifiedTokenCache.VerifiedClaims;
 import com.ai_marketing_msg_be.common.exception.BusinessException;
 import com.ai_marketing_msg_be.common.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -14,6 +16,8 @@ import java.security.Key;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,8 +28,11 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     @Value("${jwt.secret}")
     private String SECRET_KEY;
 
@@ -37,9 +44,17 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    /**
+     * 불변·스레드 안전하므로 토큰마다 parserBuilder를 만들지 않고 재사용
+     */
+    private JwtParser jwtParser;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String generateAccessToken(String username, Long userId, String role) {
@@ -51,40 +66,29 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException exception) {
-            log.error("Invalid JWT signature: {}", exception.getMessage());
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        } catch (ExpiredJwtException exception) {
-            log.error("Expired JWT token: {}", exception.getMessage());
-            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
-        } catch (Exception exception) {
-            log.error("Invalid JWT token: {}", exception.getMessage());
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
+        parseClaims(token);
+        return true;
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        String username = claims.getSubject();
-        Long userId = claims.get("userId", Long.class);
-        String role = claims.get("role", String.class);
-
-        if (username == null || userId == null || role == null) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+    /**
+     * 요청 인증용 단일 파싱 경로
+     * 검증된 토큰은 만료 시각까지 캐시된 클레임으로 Authentication만 새로 만들고,
+     * 처음 보는 토큰만 서명 검증과 클레임 파싱을 한 번 수행한다.
+     */
+    public Authentication authenticate(String token) {
+        Optional<VerifiedClaims> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return toAuthentication(cached.get());
         }
 
-        Collection<? extends GrantedAuthority> authorities =
-                Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role));
-
-        CustomUserDetails userDetails = new CustomUserDetails(userId, username, "", "", role, true);
+        Claims claims = parseClaims(token);
+        VerifiedClaims verified = toVerifiedClaims(claims);
+        verifiedTokenCache.put(token, verified, claims.getExpiration());
+        return toAuthentication(verified);
+    }
 
-        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+    public Authentication getAuthentication(String token) {
+        return toAuthentication(toVerifiedClaims(getClaims(token)));
     }
 
     public Long getUserIdFromToken(String token) {
@@ -118,11 +122,43 @@ public class JwtTokenProvider {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            return getClaims(token);
+        } catch (SecurityException | MalformedJwtException exception) {
+            log.error("Invalid JWT signature: {}", exception.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        } catch (ExpiredJwtException exception) {
+            log.error("Expired JWT token: {}", exception.getMessage());
+            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
+        } catch (Exception exception) {
+            log.error("Invalid JWT token: {}", exception.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        String username = claims.getSubject();
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("role", String.class);
+
+        if (username == null || userId == null || role == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        return new VerifiedClaims(userId, username, role);
+    }
+
+    private Authentication toAuthentication(VerifiedClaims claims) {
+        Collection<? extends GrantedAuthority> authorities =
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_" + claims.role()));
+
+        CustomUserDetails userDetails = new CustomUserDetails(
+                claims.userId(), claims.username(), "", "", claims.role(), true);
+
+        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
     }
 
 
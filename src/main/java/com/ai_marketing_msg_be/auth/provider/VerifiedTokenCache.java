@@ -0,0 +1,126 @@
+package com.ai_marketing_msg_be.auth.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 통과한 토큰의 클레임(사용자 ID, 아이디, 권한)을 토큰 만료 시각까지 보관
+ * <p>
+ * Authentication은 요청 중에 details 설정 등으로 변경될 수 있어 공유하지 않고, 불변 클레임만 캐시해
+ * 요청마다 새로 만든다. 토큰 원문 대신 SHA-256 해시를 키로 쓰고, 최대 개수에 도달하면 만료 항목을
+ * 정리한 뒤에도 자리가 없을 때는 캐시하지 않는다(다음 요청에서 다시 검증).
+ * <p>
+ * 권한은 토큰 클레임에 들어 있어 캐시가 없어도 토큰 만료 전까지는 바뀌지 않는다.
+ * 로그아웃이나 권한 변경으로 기존 토큰을 막아야 할 때는 evictUser로 해당 사용자 항목을 지운다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size}") int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public Optional<VerifiedClaims> get(String token) {
+        if (maxSize <= 0) {
+            return Optional.empty();
+        }
+
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.getAsLong())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.claims);
+    }
+
+    public void put(String token, VerifiedClaims claims, Date expiration) {
+        if (maxSize <= 0 || expiration == null) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        if (expiration.getTime() <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+            if (entries.size() >= maxSize) {
+                log.debug("검증 토큰 캐시가 가득 차 저장 생략 - size: {}", entries.size());
+                return;
+            }
+        }
+
+        entries.put(hash(token), new Entry(claims, expiration.getTime()));
+    }
+
+    /**
+     * 해당 사용자의 모든 토큰 항목 삭제, 이후 요청은 서명과 클레임을 다시 검증한다
+     */
+    public void evictUser(Long userId) {
+        entries.values().removeIf(entry -> entry.claims.userId().equals(userId));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    public record VerifiedClaims(Long userId, String username, String role) {
+    }
+
+    private static final class Entry {
+        private final VerifiedClaims claims;
+        private final long expiresAtMillis;
+
+        private Entry(VerifiedClaims claims, long expiresAtMillis) {
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.ai_marketing_msg_be.common.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,28 @@
+package com.ai_marketing_msg_be.common.datasource;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보낼지 여부 (false면 단일 primary DataSource 사용)
+     */
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    /**
+     * 이 값보다 복제 지연이 크면 읽기도 primary로 보냄
+     */
+    private Duration maxLag;
+    private Duration lagCheckInterval;
+}
@@ -0,0 +1,82 @@
+package com.ai_marketing_msg_be.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제본의 복제 지연을 주기적으로 확인하여 읽기 라우팅 가능 여부를 결정
+ * <p>
+ * SHOW REPLICA STATUS(REPLICATION CLIENT 권한 필요)의 Seconds_Behind_Source를 사용한다.
+ * 복제가 멈췄거나(null) 조회에 실패하면 사용 불가로 본다.
+ * 복제 설정이 없는 인스턴스(로컬에서 두 DB로 라우팅만 검증하는 경우)는 지연 0으로 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+    private static final long UNKNOWN_LAG = -1;
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaUsable = true;
+    private volatile long lagSeconds = 0;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLag.toSeconds();
+
+        Gauge.builder("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("복제본 지연(초), 알 수 없으면 -1")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("읽기 트래픽을 복제본으로 보낼 수 있는지 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval}")
+    public void checkLag() {
+        long lag = readLagSeconds();
+        boolean usable = lag != UNKNOWN_LAG && lag <= maxLagSeconds;
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("복제본 읽기 재개 - lag: {}s", lag);
+            } else {
+                log.warn("복제 지연으로 읽기를 primary로 전환 - lag: {}s, 허용: {}s", lag, maxLagSeconds);
+            }
+        }
+        lagSeconds = lag;
+        replicaUsable = usable;
+    }
+
+    private long readLagSeconds() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+
+            if (!resultSet.next()) {
+                return 0;
+            }
+            long lag = resultSet.getLong(LAG_COLUMN);
+            return resultSet.wasNull() ? UNKNOWN_LAG : lag;
+
+        } catch (SQLException e) {
+            log.warn("복제 지연 조회 실패: {}", e.getMessage());
+            return UNKNOWN_LAG;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ai_marketing_msg_be.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션의 커넥션은 복제본에서, 나머지는 primary에서 가져온다.
+ * <p>
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감싸서 사용하며,
+ * 복제 지연이 허용치를 넘으면 읽기도 primary로 보낸다.
+ * 방금 커밋한 데이터를 다시 읽어야 하는 경우 {@link #onPrimary(Runnable)}로 primary에 고정한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter lagFallbacks;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.lagFallbacks = routeCounter(meterRegistry, "lag_fallback");
+    }
+
+    public static void onPrimary(Runnable action) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(PRIMARY_PINNED.get())) {
+            primaryRoutes.increment();
+            return DataSourceType.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            lagFallbacks.increment();
+            return DataSourceType.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return DataSourceType.REPLICA;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("커넥션 라우팅 결과")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
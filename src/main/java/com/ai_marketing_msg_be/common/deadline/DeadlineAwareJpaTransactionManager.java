@@ -0,0 +1,38 @@
+package com.ai_marketing_msg_be.common.deadline;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * 트랜잭션 타임아웃을 요청의 남은 시간으로 제한
+ * <p>
+ * Spring은 트랜잭션 타임아웃을 JPA 쿼리 힌트와 JDBC Statement queryTimeout으로 적용하므로
+ * 요청 기한을 넘기는 쿼리는 DB에서 취소된다. 기한이 이미 지났으면 커넥션을 얻기 전에 중단한다.
+ * <p>
+ * JpaTransactionManager.doBegin은 내부 예외를 CannotCreateTransactionException(500)으로 감싸므로
+ * 기한 확인은 super.doBegin 호출 전에 하여 REQUEST_DEADLINE_EXCEEDED(504)가 그대로 전파되게 한다.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        RequestDeadline.check("트랜잭션 시작");
+        super.doBegin(transaction, definition);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        if (!RequestDeadline.isSet()) {
+            return timeout;
+        }
+
+        int remainingSeconds = (int) Math.max(1, (RequestDeadline.remainingMillis() + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ai_marketing_msg_be.common.deadline;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 요청의 처리 기한
+ * <p>
+ * RequestDeadlineFilter가 요청 스레드에 설정하고, 추천 풀처럼 컨텍스트를 전파하는 실행기에서는
+ * RequestDeadlineThreadLocalAccessor로 워커 스레드에 복사된다.
+ * 기한이 없는 스레드(스케줄러, 생성 작업 워커)에서는 모든 메서드가 제한 없음으로 동작한다.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration timeout) {
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    public static boolean isExpired() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline != null && System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * 남은 시간(ms), 기한이 없으면 Long.MAX_VALUE
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    /**
+     * 설정된 타임아웃과 남은 시간 중 작은 값(ms), 0은 무제한을 뜻하는 API가 많아 최소 1ms
+     */
+    public static long timeoutMillis(long configuredMillis) {
+        return Math.max(1, Math.min(configuredMillis, remainingMillis()));
+    }
+
+    /**
+     * 기한이 지났으면 작업을 시작하지 않고 REQUEST_DEADLINE_EXCEEDED
+     */
+    public static void check(String stage) {
+        if (isExpired()) {
+            throw new BusinessException(ErrorCode.REQUEST_DEADLINE_EXCEEDED,
+                    "요청 처리 기한이 지나 중단했습니다: " + stage);
+        }
+    }
+
+    /**
+     * 예외를 다른 오류 코드로 감싸는 catch 블록에서 기한 초과는 그대로 전파
+     */
+    public static void propagateIfExceeded(Throwable e) {
+        if (e instanceof BusinessException businessException
+                && businessException.getErrorCode() == ErrorCode.REQUEST_DEADLINE_EXCEEDED) {
+            throw businessException;
+        }
+    }
+
+    static Long get() {
+        return DEADLINE_NANOS.get();
+    }
+
+    static void set(Long deadlineNanos) {
+        DEADLINE_NANOS.set(deadlineNanos);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ai_marketing_msg_be.common.deadline;
+
+import com.ai_marketing_msg_be.common.deadline.RequestDeadlineProperties.EndpointTimeout;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 처리 기한을 정해 RequestDeadline에 설정
+ * 헤더 값(ms, maxTimeout으로 제한) → 엔드포인트별 기본값 → 전체 기본값 순으로 적용한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final RequestDeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.start(resolveTimeout(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (RequestDeadline.isExpired()) {
+                log.warn("요청 처리 기한 초과 - {} {}", request.getMethod(), request.getRequestURI());
+            }
+            RequestDeadline.clear();
+        }
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request) {
+        String header = request.getHeader(properties.getHeader());
+        if (header != null) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    return Duration.ofMillis(Math.min(millis, properties.getMaxTimeout().toMillis()));
+                }
+            } catch (NumberFormatException e) {
+                log.debug("잘못된 기한 헤더 무시 - {}: {}", properties.getHeader(), header);
+            }
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (EndpointTimeout endpoint : properties.getEndpoints()) {
+            if (pathMatcher.match(endpoint.getPattern(), path)) {
+                return endpoint.getTimeout();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ai_marketing_msg_be.common.deadline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "request-deadline")
+public class RequestDeadlineProperties {
+
+    /**
+     * 클라이언트가 남은 시간(ms)을 보내는 헤더, 있으면 엔드포인트 기본값보다 우선
+     */
+    private String header;
+    private Duration defaultTimeout;
+    /**
+     * 헤더로 요청할 수 있는 최대 기한
+     */
+    private Duration maxTimeout;
+    /**
+     * 엔드포인트별 기본 기한, 먼저 일치하는 패턴 적용
+     */
+    private List<EndpointTimeout> endpoints = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class EndpointTimeout {
+        private String pattern;
+        private Duration timeout;
+    }
+}
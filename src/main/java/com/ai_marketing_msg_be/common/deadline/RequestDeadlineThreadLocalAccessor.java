@@ -0,0 +1,32 @@
+package com.ai_marketing_msg_be.common.deadline;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * context-propagation으로 요청 기한을 워커 스레드에 전파
+ * META-INF/services 등록으로 ContextRegistry에 자동 로드된다.
+ */
+public class RequestDeadlineThreadLocalAccessor implements ThreadLocalAccessor<Long> {
+
+    public static final String KEY = "request.deadline";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public Long getValue() {
+        return RequestDeadline.get();
+    }
+
+    @Override
+    public void setValue(Long value) {
+        RequestDeadline.set(value);
+    }
+
+    @Override
+    public void setValue() {
+        RequestDeadline.clear();
+    }
+}
@@ -11,6 +11,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(400, "Invalid input value"),
     RESOURCE_NOT_FOUND(404, "Resource not found"),
     INTERNAL_SERVER_ERROR(500, "Internal server error"),
+    REQUEST_DEADLINE_EXCEEDED(504, "Request deadline exceeded"),
 
     // Campaign
     CAMPAIGN_NOT_FOUND(404, "Campaign not found"),
@@ -79,9 +80,25 @@ public enum ErrorCode {
     MESSAGE_GROUP_NOT_FOUND(404, "Message group not found"),
     INVALID_MESSAGE_GROUP_ID(400, "Invalid message group ID"),
 
+    // GenerationJob 관련
+    GENERATION_JOB_NOT_FOUND(404, "Generation job not found"),
+    GENERATION_JOB_QUEUE_FULL(503, "Generation job queue is full"),
+    GENERATION_JOB_NOT_CANCELLABLE(409, "Generation job cannot be cancelled"),
+
+    // BulkGeneration 관련
+    BULK_GENERATION_JOB_NOT_FOUND(404, "Bulk generation job not found"),
+    BULK_GENERATION_TOO_MANY_ITEMS(400, "Too many items for a bulk generation job"),
+    BULK_GENERATION_SUBMIT_FAILED(502, "Failed to submit bulk generation batch"),
+
+    // FanOut 관련
+    INVALID_MESSAGE_TEMPLATE(400, "Invalid message template"),
+    MESSAGE_FAN_OUT_FAILED(500, "Failed to fan out segment message"),
+
     // AI/OpenAI
     OPENAI_API_CALL_FAILED(500, "Failed to call OpenAI API"),
     OPENAI_API_TIMEOUT(408, "OpenAI API request timed out"),
+    OPENAI_API_REJECTED(502, "OpenAI API rejected the request"),
+    OPENAI_API_RATE_LIMITED(429, "OpenAI API rate limit exceeded"),
     INVALID_JSON_RESPONSE(500, "Failed to parse AI response"),
     MESSAGE_GENERATION_FAILED(500, "Failed to generate message"),
     INVALID_PROMPT_CONTEXT(400, "Insufficient information for prompt generation"),
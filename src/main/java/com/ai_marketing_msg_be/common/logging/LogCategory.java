@@ -0,0 +1,12 @@
+package com.ai_marketing_msg_be.common.logging;
+
+/**
+ * 샘플링 비율을 따로 지정하는 로그 분류
+ */
+public enum LogCategory {
+
+    AUTH_FAILURE,
+    PROMPT,
+    LLM_REQUEST,
+    LLM_RESPONSE
+}
@@ -0,0 +1,21 @@
+package com.ai_marketing_msg_be.common.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LogSampler {
+
+    private final LoggingProperties loggingProperties;
+
+    public boolean sample(LogCategory category) {
+        double rate = loggingProperties.getSampleRates()
+                .getOrDefault(category, loggingProperties.getDefaultSampleRate());
+        if (rate >= 1.0) {
+            return true;
+        }
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
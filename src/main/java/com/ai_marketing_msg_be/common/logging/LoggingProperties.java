@@ -0,0 +1,38 @@
+package com.ai_marketing_msg_be.common.logging;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.logging")
+public class LoggingProperties {
+
+    /**
+     * 분류별 샘플링 비율 (0.0 ~ 1.0). 지정하지 않은 분류는 defaultSampleRate 적용
+     */
+    private Map<LogCategory, Double> sampleRates = new EnumMap<>(LogCategory.class);
+    private double defaultSampleRate;
+
+    private PayloadDump payloadDump = new PayloadDump();
+
+    @Getter
+    @Setter
+    public static class PayloadDump {
+        private boolean enabled;
+        /**
+         * 이 길이(문자 수) 이상인 페이로드는 로그 대신 덤프 파일로 보냄
+         */
+        private int threshold;
+        private String directory;
+        private int queueCapacity;
+        private Duration retention;
+        private Duration cleanupInterval;
+    }
+}
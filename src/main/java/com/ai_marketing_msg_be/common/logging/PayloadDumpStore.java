@@ -0,0 +1,120 @@
+package com.ai_marketing_msg_be.common.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트/LLM 응답 같은 큰 페이로드를 로그 대신 파일로 비동기 저장
+ * <p>
+ * 로그에는 덤프 ID와 길이만 남긴다. 쓰기 큐가 가득 차면 요청 스레드를 막지 않고 덤프를 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayloadDumpStore {
+
+    private static final DateTimeFormatter ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoggingProperties loggingProperties;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private ThreadPoolExecutor writer;
+    private Path directory;
+
+    @PostConstruct
+    public void init() {
+        LoggingProperties.PayloadDump properties = loggingProperties.getPayloadDump();
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        directory = Paths.get(properties.getDirectory());
+        writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payload-dump");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> dropped.incrementAndGet());
+    }
+
+    /**
+     * 로그에 넣을 페이로드 표현. 임계 길이 미만이면 원문, 이상이면 덤프 참조를 반환
+     */
+    public String describe(LogCategory category, String payload) {
+        if (payload == null) {
+            return "null";
+        }
+
+        LoggingProperties.PayloadDump properties = loggingProperties.getPayloadDump();
+        if (payload.length() < properties.getThreshold()) {
+            return payload;
+        }
+        if (writer == null) {
+            return payload.substring(0, properties.getThreshold()) + "...(" + payload.length() + "자)";
+        }
+
+        String dumpId = category.name().toLowerCase(Locale.ROOT) + "-"
+                + LocalDateTime.now().format(ID_FORMAT) + "-" + sequence.incrementAndGet();
+        writer.execute(() -> write(dumpId, payload));
+        return "[dump " + dumpId + ", " + payload.length() + "자]";
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.logging.payload-dump.cleanup-interval}")
+    public void deleteExpired() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+
+        Instant threshold = Instant.now().minus(loggingProperties.getPayloadDump().getRetention());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.txt")) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("페이로드 덤프 정리 실패 - {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private void write(String dumpId, String payload) {
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(dumpId + ".txt"), payload, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("페이로드 덤프 저장 실패 - id: {}, {}", dumpId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ai_marketing_msg_be.common.logging;
+
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트/응답 등 큰 페이로드용 DEBUG 로그
+ * <p>
+ * 레벨이 꺼져 있거나 샘플링에서 제외되면 페이로드를 만들지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayloadLogger {
+
+    private final LogSampler logSampler;
+    private final PayloadDumpStore payloadDumpStore;
+
+    public void debug(Logger log, LogCategory category, String label, Supplier<String> payload) {
+        if (!log.isDebugEnabled() || !logSampler.sample(category)) {
+            return;
+        }
+        log.debug("{} - {}", label, payloadDumpStore.describe(category, payload.get()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.ai_marketing_msg_be.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 현재 스레드 기준으로 집계
+ * <p>
+ * begin()을 호출한 스레드에서만 집계하므로 요청 밖(스케줄러, 비동기 작업)의 쿼리는 세지 않는다.
+ * JdbcTemplate 등 Hibernate를 거치지 않는 쿼리는 포함되지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static void begin() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * @return begin() 이후 실행된 쿼리 수
+     */
+    public static int end() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ai_marketing_msg_be.common.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요청 스레드에서 끝난 구간(Observation)별 소요 시간을 모아 Server-Timing 헤더 값으로 만든다.
+ */
+public final class LatencyBreakdown {
+
+    private static final ThreadLocal<List<Entry>> ENTRIES = new ThreadLocal<>();
+
+    private LatencyBreakdown() {
+    }
+
+    public static void begin() {
+        ENTRIES.set(new ArrayList<>());
+    }
+
+    public static void end() {
+        ENTRIES.remove();
+    }
+
+    public static boolean isActive() {
+        return ENTRIES.get() != null;
+    }
+
+    public static void record(String name, long elapsedNanos) {
+        List<Entry> entries = ENTRIES.get();
+        if (entries != null) {
+            entries.add(new Entry(name, elapsedNanos));
+        }
+    }
+
+    /**
+     * 예: openai.chat.completion;dur=1234.5, prompt.build;dur=0.8
+     */
+    public static String toServerTiming() {
+        List<Entry> entries = ENTRIES.get();
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder header = new StringBuilder();
+        for (Entry entry : entries) {
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            header.append(entry.name.replace(' ', '_'))
+                    .append(";dur=")
+                    .append(String.format(Locale.ROOT, "%.1f", entry.elapsedNanos / 1_000_000.0));
+        }
+        return header.toString();
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final long elapsedNanos;
+
+        private Entry(String name, long elapsedNanos) {
+            this.name = name;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ai_marketing_msg_be.common.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@ConditionalOnProperty(prefix = "tracing.latency-breakdown", name = "enabled", havingValue = "true")
+public class LatencyBreakdownFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LatencyBreakdown.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            LatencyBreakdown.end();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ai_marketing_msg_be.common.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observation 종료 시 소요 시간을 현재 요청의 LatencyBreakdown에 기록
+ */
+@Component
+@ConditionalOnProperty(prefix = "tracing.latency-breakdown", name = "enabled", havingValue = "true")
+public class LatencyBreakdownObservationHandler implements ObservationHandler<Observation.Context> {
+
+    private static final String STARTED_AT = LatencyBreakdownObservationHandler.class.getName() + ".startedAt";
+
+    @Override
+    public void onStart(Observation.Context context) {
+        if (LatencyBreakdown.isActive()) {
+            context.put(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Long startedAt = context.get(STARTED_AT);
+        if (startedAt != null) {
+            LatencyBreakdown.record(context.getName(), System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ai_marketing_msg_be.common.tracing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 Server-Timing 헤더 추가 (서비스 구간은 모두 끝난 시점)
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "tracing.latency-breakdown", name = "enabled", havingValue = "true")
+public class LatencyBreakdownResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        String serverTiming = LatencyBreakdown.toServerTiming();
+        if (serverTiming != null) {
+            response.getHeaders().add(SERVER_TIMING, serverTiming);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ai_marketing_msg_be.common.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "tracing")
+public class TracingProperties {
+
+    private FileExporter fileExporter = new FileExporter();
+    private LatencyBreakdown latencyBreakdown = new LatencyBreakdown();
+
+    @Getter
+    @Setter
+    public static class FileExporter {
+        private boolean enabled;
+        /**
+         * 스팬을 JSON Lines로 기록할 파일 경로
+         */
+        private String path;
+    }
+
+    @Getter
+    @Setter
+    public static class LatencyBreakdown {
+        /**
+         * 응답에 Server-Timing 헤더로 구간별 지연을 붙임 (디버그용)
+         */
+        private boolean enabled;
+    }
+}
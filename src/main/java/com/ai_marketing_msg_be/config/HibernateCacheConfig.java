@@ -0,0 +1,130 @@
+package com.ai_marketing_msg_be.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.OptionalLong;
+import java.util.function.ToDoubleFunction;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품/캠페인/캠페인-상품 매핑 엔티티와 조회 쿼리 결과를 위한 Hibernate 2차 캐시(Caffeine JCache)
+ * <p>
+ * 리전은 hibernate-cache.regions 설정으로 미리 만들고(missing_cache_strategy: fail),
+ * 리전별 적중/미스 횟수와 적중률을 hibernate.cache.* 메트릭으로 노출한다.
+ * 쓰기는 모두 JPA를 거치므로 엔티티 리전은 READ_WRITE 전략으로, 쿼리 리전은
+ * update-timestamps 리전으로 무효화된다.
+ * 리전은 인스턴스별 로컬 캐시라 다른 인스턴스의 쓰기로는 무효화되지 않으며, 리전별 expire-after-write가
+ * 다중 인스턴스 배포에서 변경/삭제가 반영되기까지의 최대 지연이다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class HibernateCacheConfig {
+
+    private static final String JCACHE_CACHE_MANAGER = "hibernate.javax.cache.cache_manager";
+    private static final String QUERY_REGION_PREFIX = "query-";
+    private static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private final HibernateCacheProperties hibernateCacheProperties;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateJCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        hibernateCacheProperties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStatisticsEnabled(true);
+            if (region.getMaxSize() > 0) {
+                configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            }
+            if (region.getExpireAfterWrite() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            }
+            // 같은 JVM에서 두 번째 컨텍스트가 뜨면(테스트 등) 공유 CacheManager에 리전이 이미 있음
+            if (cacheManager.getCache(name) != null) {
+                log.info("Hibernate 캐시 리전 재사용 - region: {}", name);
+                return;
+            }
+            cacheManager.createCache(name, configuration);
+            log.info("Hibernate 캐시 리전 생성 - region: {}, maxSize: {}, expireAfterWrite: {}",
+                    name, region.getMaxSize(), region.getExpireAfterWrite());
+        });
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateJCacheManagerCustomizer(CacheManager hibernateJCacheManager) {
+        return properties -> properties.put(JCACHE_CACHE_MANAGER, hibernateJCacheManager);
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheRegionMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : hibernateCacheProperties.getRegions().keySet()) {
+                if (region.equals(UPDATE_TIMESTAMPS_REGION)) {
+                    continue;
+                }
+                if (region.startsWith(QUERY_REGION_PREFIX) || region.equals(DEFAULT_QUERY_RESULTS_REGION)) {
+                    bindRegion(registry, region, "query", () -> statistics.getQueryRegionStatistics(region));
+                } else {
+                    bindRegion(registry, region, "entity", () -> statistics.getDomainDataRegionStatistics(region));
+                }
+            }
+        };
+    }
+
+    private void bindRegion(MeterRegistry registry, String region, String type, RegionStatisticsSource source) {
+        FunctionCounter.builder("hibernate.cache.region.requests", source,
+                        stats -> count(stats, CacheRegionStatistics::getHitCount))
+                .tags("region", region, "type", type, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.region.requests", source,
+                        stats -> count(stats, CacheRegionStatistics::getMissCount))
+                .tags("region", region, "type", type, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.region.puts", source,
+                        stats -> count(stats, CacheRegionStatistics::getPutCount))
+                .tags("region", region, "type", type)
+                .register(registry);
+        Gauge.builder("hibernate.cache.region.hit.ratio", source, HibernateCacheConfig::hitRatio)
+                .tags("region", region, "type", type)
+                .register(registry);
+    }
+
+    private static double count(RegionStatisticsSource source, ToDoubleFunction<CacheRegionStatistics> getter) {
+        CacheRegionStatistics stats = source.get();
+        return stats != null ? getter.applyAsDouble(stats) : 0;
+    }
+
+    private static double hitRatio(RegionStatisticsSource source) {
+        CacheRegionStatistics stats = source.get();
+        if (stats == null) {
+            return 0;
+        }
+        long total = stats.getHitCount() + stats.getMissCount();
+        return total > 0 ? (double) stats.getHitCount() / total : 0;
+    }
+
+    @FunctionalInterface
+    private interface RegionStatisticsSource {
+        CacheRegionStatistics get();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ai_marketing_msg_be.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "hibernate-cache")
+public class HibernateCacheProperties {
+
+    /**
+     * 2차 캐시 / 쿼리 캐시 리전별 크기와 만료 정책 (키: 리전 이름)
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+        /**
+         * 최대 항목 수, 0이면 제한 없음
+         */
+        private long maxSize;
+        /**
+         * 기록 후 만료 시간, 비어 있으면 만료하지 않음
+         */
+        private Duration expireAfterWrite;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ai_marketing_msg_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "prompt")
+public class PromptProperties {
+
+    private Layout layout;
+
+    public boolean isPrefixStable() {
+        return layout == Layout.PREFIX_STABLE;
+    }
+
+    public enum Layout {
+        /**
+         * 고객별 규칙/프로필이 고정 지시문보다 앞에 오는 기존 배치
+         */
+        LEGACY,
+        /**
+         * 고정 지시문 → 카탈로그(상품/캠페인) → 고객별 내용 순서로 두어 OpenAI 프롬프트 캐시가 앞부분을 재사용하도록 함
+         */
+        PREFIX_STABLE
+    }
+}
@@ -4,6 +4,8 @@ import com.ai_marketing_msg_be.auth.filter.JwtAuthenticationFilter;
 import com.ai_marketing_msg_be.auth.handler.CustomAccessDeniedHandler;
 import com.ai_marketing_msg_be.auth.handler.CustomAuthenticationEntryPoint;
 import com.ai_marketing_msg_be.auth.provider.JwtTokenProvider;
+import com.ai_marketing_msg_be.common.logging.LogSampler;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -29,6 +31,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final LogSampler logSampler;
+    private final MeterRegistry meterRegistry;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
@@ -54,8 +58,12 @@ public class SecurityConfig {
                         // 인증 API 허용
                         .requestMatchers("/auth/**").permitAll()
 
-                        // Health check 허용 (배포 시 필요)
-                        .requestMatchers("/actuator/health").permitAll()
+                        // Health check 허용 (배포 시 필요), 서비스 포트는 /livez, /readyz
+                        .requestMatchers("/livez", "/readyz").permitAll()
+
+                        // Actuator는 management.server.port(관리 포트)에서만 제공되므로 서비스 포트로는 도달하지 않음
+                        // 관리 포트는 내부망/스크레이퍼에만 열 것
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
 
                         // 캠페인 조회 - ADMIN, EXECUTOR 모두 가능
                         .requestMatchers(HttpMethod.GET, "/campaigns/**").hasAnyRole("ADMIN", "EXECUTOR")
@@ -114,7 +122,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider);
+        return new JwtAuthenticationFilter(jwtTokenProvider, logSampler, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,27 @@
+package com.ai_marketing_msg_be.config;
+
+import com.ai_marketing_msg_be.common.tracing.FileSpanExporter;
+import com.ai_marketing_msg_be.common.tracing.TracingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스팬 내보내기 설정
+ * 로컬/오프라인 환경은 파일로, 수집기가 있는 환경은 management.otlp.tracing.endpoint 지정 시 OTLP로 내보낸다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TracingConfig {
+
+    private final TracingProperties tracingProperties;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.file-exporter", name = "enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(ObjectMapper objectMapper) throws IOException {
+        return new FileSpanExporter(objectMapper, tracingProperties.getFileExporter().getPath());
+    }
+}
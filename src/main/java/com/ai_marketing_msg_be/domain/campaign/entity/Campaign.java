@@ -6,11 +6,15 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "캠페인")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "campaign")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Campaign extends BaseEntity {
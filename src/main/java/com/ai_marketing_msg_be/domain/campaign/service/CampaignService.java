@@ -6,8 +6,10 @@ import com.ai_marketing_msg_be.common.exception.ErrorCode;
 import com.ai_marketing_msg_be.domain.campaign.dto.*;
 import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
 import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.catalog.event.CatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CampaignService {
 
     private final CampaignRepository campaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 캠페인 목록 조회 (페이징)
@@ -67,6 +70,7 @@ public class CampaignService {
         // 저장
         Campaign savedCampaign = campaignRepository.save(campaign);
         log.info("Campaign created successfully. campaignId: {}", savedCampaign.getCampaignId());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.CAMPAIGN));
 
         return CreateCampaignResponse.from(savedCampaign);
     }
@@ -101,6 +105,7 @@ public class CampaignService {
         campaign.validateDateRange();
 
         log.info("Campaign updated successfully. campaignId: {}", campaignId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.CAMPAIGN));
 
         return UpdateCampaignResponse.from(campaign, userId);
     }
@@ -130,6 +135,7 @@ public class CampaignService {
         // 삭제
         campaignRepository.delete(campaign);
         log.info("Campaign deleted successfully. campaignId: {}", campaignId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.CAMPAIGN));
 
         return DeleteCampaignResponse.of(campaignId, userId);
     }
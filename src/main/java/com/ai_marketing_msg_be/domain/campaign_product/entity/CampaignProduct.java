@@ -8,12 +8,16 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 캠페인-상품 매핑 엔티티
  */
 @Entity
 @Table(name = "캠페인_상품_매핑")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "campaign-product")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CampaignProduct extends BaseEntity {
@@ -2,8 +2,11 @@ package com.ai_marketing_msg_be.domain.campaign_product.repository;
 
 import com.ai_marketing_msg_be.domain.campaign_product.entity.CampaignProduct;
 import com.ai_marketing_msg_be.domain.campaign_product.entity.CampaignProductId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +21,10 @@ public interface CampaignProductRepository extends JpaRepository<CampaignProduct
     /**
      * 특정 캠페인의 모든 상품 조회
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query-campaign-products")
+    })
     @Query("SELECT cp FROM CampaignProduct cp " +
            "JOIN FETCH cp.campaign " +
            "JOIN FETCH cp.product " +
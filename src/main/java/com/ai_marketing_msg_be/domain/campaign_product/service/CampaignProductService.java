@@ -10,10 +10,12 @@ import com.ai_marketing_msg_be.domain.campaign_product.dto.RemoveProductFromCamp
 import com.ai_marketing_msg_be.domain.campaign_product.entity.CampaignProduct;
 import com.ai_marketing_msg_be.domain.campaign_product.entity.CampaignProductId;
 import com.ai_marketing_msg_be.domain.campaign_product.repository.CampaignProductRepository;
+import com.ai_marketing_msg_be.domain.catalog.event.CatalogChangedEvent;
 import com.ai_marketing_msg_be.domain.product.entity.Product;
 import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ public class CampaignProductService {
     private final CampaignProductRepository campaignProductRepository;
     private final CampaignRepository campaignRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 캠페인에 상품 추가
@@ -61,6 +64,7 @@ public class CampaignProductService {
         CampaignProduct saved = campaignProductRepository.save(campaignProduct);
 
         log.info("Product {} added to campaign {} successfully", productId, campaignId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.CAMPAIGN_PRODUCT));
         return AddProductToCampaignResponse.from(saved);
     }
 
@@ -81,6 +85,7 @@ public class CampaignProductService {
         campaignProductRepository.delete(campaignProduct);
 
         log.info("Product {} removed from campaign {} successfully", productId, campaignId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.CAMPAIGN_PRODUCT));
         return RemoveProductFromCampaignResponse.of(campaignId, productId);
     }
 
@@ -0,0 +1,21 @@
+package com.ai_marketing_msg_be.domain.catalog.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품/캠페인/캠페인-상품 매핑이 변경되었음을 알리는 이벤트
+ * 커밋 이후 CatalogSnapshot이 다시 만들어진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogChangedEvent {
+
+    private final Target target;
+
+    public enum Target {
+        PRODUCT,
+        CAMPAIGN,
+        CAMPAIGN_PRODUCT
+    }
+}
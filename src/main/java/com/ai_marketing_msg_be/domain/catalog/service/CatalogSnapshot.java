@@ -0,0 +1,185 @@
+package com.ai_marketing_msg_be.domain.catalog.service;
+
+import com.ai_marketing_msg_be.common.datasource.ReplicationRoutingDataSource;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.campaign_product.entity.CampaignProduct;
+import com.ai_marketing_msg_be.domain.campaign_product.repository.CampaignProductRepository;
+import com.ai_marketing_msg_be.domain.catalog.event.CatalogChangedEvent;
+import com.ai_marketing_msg_be.domain.catalog.vo.CampaignView;
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품/캠페인 카탈로그의 불변 스냅샷
+ * <p>
+ * 카탈로그는 하루 몇 번만 바뀌므로 추천 요청마다 엔티티를 조회하지 않고 미리 만든 뷰를 공유한다.
+ * 변경 커밋 후와 주기적으로(다른 인스턴스의 변경 반영) 새 스냅샷을 만들어 참조를 원자적으로 교체한다.
+ * version은 상품/캠페인 내용이 이전 스냅샷과 달라졌을 때만 증가하므로 주기 갱신만으로는 바뀌지 않아 캐시 키에 사용할 수 있다.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshot {
+
+    private final ProductRepository productRepository;
+    private final CampaignRepository campaignRepository;
+    private final CampaignProductRepository campaignProductRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicReference<Catalog> current = new AtomicReference<>();
+
+    public CatalogSnapshot(ProductRepository productRepository,
+                           CampaignRepository campaignRepository,
+                           CampaignProductRepository campaignProductRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.campaignRepository = campaignRepository;
+        this.campaignProductRepository = campaignProductRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public long getVersion() {
+        return catalog().version;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return catalog().builtAt;
+    }
+
+    public List<ProductView> getAvailableProducts() {
+        return catalog().availableProducts;
+    }
+
+    public List<CampaignView> getActiveCampaigns() {
+        return catalog().activeCampaigns;
+    }
+
+    public Optional<ProductView> findProduct(Long productId) {
+        return Optional.ofNullable(catalog().productsById.get(productId));
+    }
+
+    public Optional<CampaignView> findCampaign(Long campaignId) {
+        return Optional.ofNullable(catalog().campaignsById.get(campaignId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.info("카탈로그 변경 감지 - target: {}", event.getTarget());
+        // 방금 커밋된 변경이 복제 지연으로 누락되지 않도록 primary에서 읽는다
+        ReplicationRoutingDataSource.onPrimary(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.snapshot.refresh-interval}",
+            initialDelayString = "${catalog.snapshot.refresh-interval}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 동시에 여러 변경이 들어와도 한 번에 하나씩만 만들고, 내용이 바뀐 경우에만 만든 순서대로 버전이 증가한다.
+     */
+    public synchronized void rebuild() {
+        Catalog previous = current.get();
+        long version = previous != null ? previous.version + 1 : 1;
+
+        Catalog catalog = readOnlyTransaction.execute(status -> load(version));
+        if (previous != null && previous.hasSameContent(catalog)) {
+            current.set(catalog.withVersion(previous.version));
+            log.debug("카탈로그 스냅샷 변경 없음 - version: {}", previous.version);
+            return;
+        }
+        current.set(catalog);
+
+        log.info("카탈로그 스냅샷 갱신 - version: {}, 판매 중 상품: {}, 진행 중 캠페인: {}",
+                version, catalog.availableProducts.size(), catalog.activeCampaigns.size());
+    }
+
+    private Catalog catalog() {
+        Catalog catalog = current.get();
+        if (catalog == null) {
+            rebuild();
+            catalog = current.get();
+        }
+        return catalog;
+    }
+
+    private Catalog load(long version) {
+        Map<Long, Set<Long>> productIdsByCampaign = new HashMap<>();
+        for (CampaignProduct mapping : campaignProductRepository.findAll()) {
+            productIdsByCampaign
+                    .computeIfAbsent(mapping.getId().getCampaignId(), id -> new HashSet<>())
+                    .add(mapping.getId().getProductId());
+        }
+
+        Map<Long, ProductView> productsById = productRepository.findAll().stream()
+                .map(ProductView::from)
+                .collect(Collectors.toUnmodifiableMap(ProductView::getProductId, Function.identity()));
+
+        Map<Long, CampaignView> campaignsById = campaignRepository.findAll().stream()
+                .map(campaign -> CampaignView.from(campaign,
+                        productIdsByCampaign.getOrDefault(campaign.getCampaignId(), Set.of())))
+                .collect(Collectors.toUnmodifiableMap(CampaignView::getCampaignId, Function.identity()));
+
+        return new Catalog(version, LocalDateTime.now(), productsById, campaignsById);
+    }
+
+    private static final class Catalog {
+        private final long version;
+        private final LocalDateTime builtAt;
+        private final Map<Long, ProductView> productsById;
+        private final Map<Long, CampaignView> campaignsById;
+        private final List<ProductView> availableProducts;
+        private final List<CampaignView> activeCampaigns;
+
+        private Catalog(long version, LocalDateTime builtAt,
+                        Map<Long, ProductView> productsById, Map<Long, CampaignView> campaignsById) {
+            this.version = version;
+            this.builtAt = builtAt;
+            this.productsById = productsById;
+            this.campaignsById = campaignsById;
+            this.availableProducts = productsById.values().stream()
+                    .filter(ProductView::isAvailable)
+                    .sorted(Comparator.comparing(ProductView::getProductId))
+                    .toList();
+            this.activeCampaigns = campaignsById.values().stream()
+                    .filter(CampaignView::isActive)
+                    .sorted(Comparator.comparing(CampaignView::getCampaignId))
+                    .toList();
+        }
+
+        private boolean hasSameContent(Catalog other) {
+            return productsById.equals(other.productsById) && campaignsById.equals(other.campaignsById);
+        }
+
+        private Catalog withVersion(long version) {
+            return new Catalog(version, builtAt, productsById, campaignsById);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ai_marketing_msg_be.domain.catalog.vo;
+
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.entity.CampaignStatus;
+import com.ai_marketing_msg_be.domain.campaign.entity.CampaignType;
+import java.time.LocalDate;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 카탈로그 스냅샷용 불변 캠페인 뷰 (연결된 상품 ID 포함)
+ */
+@Getter
+@EqualsAndHashCode
+public class CampaignView {
+
+    private final Long campaignId;
+    private final String name;
+    private final CampaignType type;
+    private final String typeDisplayName;
+    private final String description;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final CampaignStatus status;
+    private final Set<Long> productIds;
+
+    private CampaignView(Campaign campaign, Set<Long> productIds) {
+        this.campaignId = campaign.getCampaignId();
+        this.name = campaign.getName();
+        this.type = campaign.getType();
+        this.typeDisplayName = campaign.getType() != null ? campaign.getType().getDisplayName() : null;
+        this.description = campaign.getDescription();
+        this.startDate = campaign.getStartDate();
+        this.endDate = campaign.getEndDate();
+        this.status = campaign.getStatus();
+        this.productIds = Set.copyOf(productIds);
+    }
+
+    public static CampaignView from(Campaign campaign, Set<Long> productIds) {
+        return new CampaignView(campaign, productIds);
+    }
+
+    public boolean isActive() {
+        return status == CampaignStatus.ACTIVE;
+    }
+}
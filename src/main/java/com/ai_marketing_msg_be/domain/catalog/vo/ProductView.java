@@ -0,0 +1,69 @@
+package com.ai_marketing_msg_be.domain.catalog.vo;
+
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.domain.product.entity.StockStatus;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 카탈로그 스냅샷용 불변 상품 뷰
+ * 혜택 목록, 할인가, 가격 표시 문자열을 스냅샷 생성 시 한 번만 계산한다.
+ */
+@Getter
+@EqualsAndHashCode
+public class ProductView {
+
+    private final Long productId;
+    private final String name;
+    private final String category;
+    private final BigDecimal price;
+    private final BigDecimal discountRate;
+    /**
+     * 할인율이 있을 때만 값이 있음
+     */
+    private final BigDecimal discountedPrice;
+    private final String benefits;
+    private final List<String> benefitItems;
+    private final StockStatus stockStatus;
+    private final String priceDisplay;
+
+    private ProductView(Product product) {
+        this.productId = product.getProductId();
+        this.name = product.getName();
+        this.category = product.getCategory();
+        this.price = product.getPrice();
+        this.discountRate = product.getDiscountRate();
+        this.discountedPrice = hasDiscount(product) ? product.getDiscountedPrice() : null;
+        this.benefits = product.getBenefits();
+        this.benefitItems = splitBenefits(product.getBenefits());
+        this.stockStatus = product.getStockStatus();
+        this.priceDisplay = product.getPrice() != null
+                ? String.format("%,d원", product.getPrice().intValue()) : "가격 미정";
+    }
+
+    public static ProductView from(Product product) {
+        return new ProductView(product);
+    }
+
+    public boolean isAvailable() {
+        return stockStatus == StockStatus.IN_STOCK;
+    }
+
+    private static boolean hasDiscount(Product product) {
+        return product.getPrice() != null && product.getDiscountRate() != null
+                && product.getDiscountRate().compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    private static List<String> splitBenefits(String benefits) {
+        if (benefits == null || benefits.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(benefits.split("[,/\n]"))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ai_marketing_msg_be.domain.customer.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "recommendation")
+public class RecommendationProperties {
+    private Integer workerCount;
+    private Integer queueCapacity;
+    /**
+     * 상품 추천 AI 호출 전용 풀, 큐까지 가득 차면 AI 호출 없이 규칙 기반 추천으로 응답
+     */
+    private Integer productWorkerCount;
+    private Integer productQueueCapacity;
+    /**
+     * 상품 추천 AI 응답 대기 한도, 넘기면 규칙 기반 추천으로 응답
+     */
+    private Duration llmDeadline;
+    /**
+     * 기한을 넘겨 도착한 AI 추천 결과 보관 기간
+     */
+    private Duration llmResultTtl;
+    private Integer llmResultMaxSize;
+    /**
+     * 추천 프롬프트 토큰 상한, 넘으면 카탈로그 뒤쪽 후보부터 제외 (모델 컨텍스트 윈도우 기준 예산과 작은 쪽 적용)
+     */
+    private Integer maxPromptTokens;
+}
@@ -2,6 +2,7 @@ package com.ai_marketing_msg_be.domain.customer.controller;
 
 import com.ai_marketing_msg_be.common.dto.ApiResponse;
 import com.ai_marketing_msg_be.domain.customer.dto.CampaignRecommendationResponse;
+import com.ai_marketing_msg_be.domain.customer.dto.NextBestActionResponse;
 import com.ai_marketing_msg_be.domain.customer.dto.ProductRecommendationResponse;
 import com.ai_marketing_msg_be.domain.customer.service.CustomerRecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -79,5 +80,23 @@ public class CustomerRecommendationController {
 
     }
 
+    @GetMapping("/{customerId}/next-best-action")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(
+            summary = "고객 다음 추천 행동",
+            description = "캠페인 추천과 상품 추천을 한 번에 반환합니다. " +
+                    "두 추천의 AI 호출을 동시에 실행하므로 각각 호출하는 것보다 빠릅니다."
+    )
+    public ApiResponse<NextBestActionResponse> recommendNextBestAction(
+            @Parameter(description = "고객 ID", example = "1", required = true)
+            @PathVariable Long customerId,
 
+            HttpServletRequest httpRequest) {
+
+        log.info("Next Best Action Request - customerId: {}", customerId);
+
+        NextBestActionResponse response = recommendationService.recommendNextBestAction(customerId);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.ai_marketing_msg_be.domain.customer.dto;
+
+import com.ai_marketing_msg_be.domain.customer.dto.CampaignRecommendationResponse.CustomerProfileSummary;
+import com.ai_marketing_msg_be.domain.customer.entity.RecommendationSource;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "고객 다음 추천 행동(캠페인 + 상품) 응답")
+public class NextBestActionResponse {
+
+    @Schema(description = "고객 ID", example = "1")
+    private Long customerId;
+
+    @Schema(description = "고객명", example = "김철수")
+    private String customerName;
+
+    @Schema(description = "고객 프로필 요약")
+    private CustomerProfileSummary customerProfile;
+
+    @Schema(description = "추천 캠페인 목록 (최대 3개)")
+    private List<RecommendedCampaign> campaignRecommendations;
+
+    @Schema(description = "캠페인 추천 지연 여부 (true: AI 응답이 기한 내 도착하지 않아 캠페인 추천이 비어 있음, 다음 요청에서 제공)",
+            example = "false")
+    private Boolean campaignRecommendationDelayed;
+
+    @Schema(description = "추천 상품 목록")
+    private List<RecommendedProduct> productRecommendations;
+
+    @Schema(description = "상품 추천 출처 (LLM: AI 추천, RULE_BASED: AI 응답 지연 시 규칙 기반 추천)", example = "LLM")
+    private RecommendationSource productRecommendationSource;
+
+    @Schema(description = "추천 생성 일시")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+}
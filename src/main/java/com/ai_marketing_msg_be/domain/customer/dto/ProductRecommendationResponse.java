@@ -1,5 +1,6 @@
 package com.ai_marketing_msg_be.domain.customer.dto;
 
+import com.ai_marketing_msg_be.domain.customer.entity.RecommendationSource;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -32,6 +33,9 @@ public class ProductRecommendationResponse {
     @Schema(description = "추천 상품 목록 (최대 3개)")
     private List<RecommendedProduct> recommendations;
 
+    @Schema(description = "추천 출처 (LLM: AI 추천, RULE_BASED: AI 응답 지연 시 규칙 기반 추천)", example = "LLM")
+    private RecommendationSource recommendationSource;
+
     @Schema(description = "추천 생성 일시")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime generatedAt;
@@ -1,6 +1,7 @@
 package com.ai_marketing_msg_be.domain.customer.dto;
 
 import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.catalog.vo.CampaignView;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -56,4 +57,23 @@ public class RecommendedCampaign {
                 .relevanceScore(relevanceScore)
                 .build();
     }
-}
\ No newline at end of file
+
+    public static RecommendedCampaign fromView(
+            CampaignView campaign,
+            Integer rank,
+            String reason,
+            String expectedBenefit,
+            Integer relevanceScore) {
+
+        return RecommendedCampaign.builder()
+                .rank(rank)
+                .campaignId(campaign.getCampaignId())
+                .campaignName(campaign.getName())
+                .campaignType(campaign.getType().name())
+                .description(campaign.getDescription())
+                .reason(reason)
+                .expectedBenefit(expectedBenefit)
+                .relevanceScore(relevanceScore)
+                .build();
+    }
+}
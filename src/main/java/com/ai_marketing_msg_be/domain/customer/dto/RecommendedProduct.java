@@ -1,5 +1,6 @@
 package com.ai_marketing_msg_be.domain.customer.dto;
 
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
 import com.ai_marketing_msg_be.domain.product.entity.Product;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -82,4 +83,26 @@ public class RecommendedProduct {
                 .relevanceScore(relevanceScore)
                 .build();
     }
-}
\ No newline at end of file
+
+    public static RecommendedProduct fromView(
+            ProductView product,
+            Integer rank,
+            String reason,
+            String expectedBenefit,
+            Integer relevanceScore
+    ) {
+        return RecommendedProduct.builder()
+                .rank(rank)
+                .productId(product.getProductId())
+                .productName(product.getName())
+                .category(product.getCategory())
+                .price(product.getPrice())
+                .discountRate(product.getDiscountRate())
+                .discountedPrice(product.getDiscountedPrice())
+                .benefits(product.getBenefits())
+                .reason(reason)
+                .expectedBenefit(expectedBenefit)
+                .relevanceScore(relevanceScore)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.ai_marketing_msg_be.domain.customer.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RecommendationSource {
+    LLM("AI 추천"),
+    RULE_BASED("규칙 기반 추천");
+
+    private final String description;
+}
@@ -1,91 +1,159 @@
 package com.ai_marketing_msg_be.domain.customer.service;
 
+import com.ai_marketing_msg_be.common.deadline.RequestDeadline;
 import com.ai_marketing_msg_be.common.exception.BusinessException;
 import com.ai_marketing_msg_be.common.exception.ErrorCode;
-import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
-import com.ai_marketing_msg_be.domain.campaign.entity.CampaignStatus;
-import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.common.logging.LogCategory;
+import com.ai_marketing_msg_be.common.logging.PayloadLogger;
+import com.ai_marketing_msg_be.domain.catalog.service.CatalogSnapshot;
+import com.ai_marketing_msg_be.domain.catalog.vo.CampaignView;
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.customer.config.RecommendationProperties;
 import com.ai_marketing_msg_be.domain.customer.dto.AIRecommendedCampaign;
 import com.ai_marketing_msg_be.domain.customer.dto.AIRecommendedProduct;
 import com.ai_marketing_msg_be.domain.customer.dto.CampaignRecommendationResponse;
 import com.ai_marketing_msg_be.domain.customer.dto.CampaignRecommendationResponse.CustomerProfileSummary;
 import com.ai_marketing_msg_be.domain.customer.dto.CampaignRecommendationResponse.TargetProductInfo;
+import com.ai_marketing_msg_be.domain.customer.dto.NextBestActionResponse;
 import com.ai_marketing_msg_be.domain.customer.dto.ProductRecommendationResponse;
 import com.ai_marketing_msg_be.domain.customer.dto.ProductRecommendationResponse.TargetCampaignInfo;
 import com.ai_marketing_msg_be.domain.customer.dto.RecommendedCampaign;
 import com.ai_marketing_msg_be.domain.customer.dto.RecommendedProduct;
 import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.entity.RecommendationSource;
 import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
-import com.ai_marketing_msg_be.domain.product.entity.Product;
-import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.ai_marketing_msg_be.domain.customer.service.PromptBudgetFitter.FittedPrompt;
 import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAICallType;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIJsonParser;
 import com.ai_marketing_msg_be.infra.openai.service.OpenAIService;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.math.BigDecimal;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 고객 맞춤 캠페인/상품 추천
+ * <p>
+ * 다음 추천 행동(next best action)은 고객 조회와 후보 선정을 한 번만 하고
+ * 캠페인/상품 LLM 호출을 전용 풀에서 동시에 실행하여 응답 시간을 느린 쪽 호출 하나로 맞춘다.
+ * 캠페인 풀 큐가 가득 차면 요청 스레드가 직접 호출한다(CallerRunsPolicy).
+ * <p>
+ * 상품 추천은 별도 풀에서 AI 응답을 llmDeadline까지만 기다리고, 넘기면 규칙 기반 추천으로 응답한다.
+ * 상품 풀이 가득 차면 요청 스레드에서 AI를 호출하지 않고 바로 규칙 기반 추천으로 응답한다(AbortPolicy).
+ * 늦게 도착한 AI 결과는 보관했다가 같은 고객/캠페인의 다음 요청에 사용한다.
+ * <p>
+ * 추천 프롬프트는 호출 전에 토큰 수를 세어 예산을 넘으면 카탈로그 뒤쪽 후보부터 제외한다.
+ * 앞쪽 후보 순서는 유지되므로 prefix-stable 배치의 캐시 적중에도 영향이 적다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CustomerRecommendationService {
 
+    private static final String PRODUCT_SYSTEM_MESSAGE =
+            "당신은 KT의 전문 상품 추천 컨설턴트입니다. 고객 데이터를 심층 분석하여 최적의 상품을 추천합니다. JSON 형식으로만 응답합니다.";
+    private static final String CAMPAIGN_SYSTEM_MESSAGE =
+            "당신은 KT의 개인화 마케팅 캠페인 추천 전문가입니다. JSON 형식으로만 응답합니다.";
+
     private final CustomerRepository customerRepository;
-    private final CampaignRepository campaignRepository;
-    private final ProductRepository productRepository;
+    private final CatalogSnapshot catalogSnapshot;
+    private final ProductEligibilityFilter productEligibilityFilter;
+    private final RecommendationPromptBuilder recommendationPromptBuilder;
     private final OpenAIService openAIService;
     private final OpenAIProperties openAIProperties;
-    private final ObjectMapper objectMapper;
+    private final OpenAIJsonParser openAIJsonParser;
+    private final PayloadLogger payloadLogger;
+    private final ObservationRegistry observationRegistry;
+    private final RecommendationProperties recommendationProperties;
+    private final RuleBasedProductRanker ruleBasedProductRanker;
+    private final LateRecommendationCache lateRecommendationCache;
+    private final MeterRegistry meterRegistry;
+    private final PromptBudgetFitter promptBudgetFitter;
+
+    private ExecutorService recommendationExecutor;
+    /**
+     * 상품 추천 AI 호출 전용 풀, 가득 차면 거절하고 규칙 기반 추천으로 대체
+     */
+    private ExecutorService productRankingExecutor;
+
+    @PostConstruct
+    public void init() {
+        this.recommendationExecutor = newExecutor("recommendation-",
+                recommendationProperties.getWorkerCount(), recommendationProperties.getQueueCapacity(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.productRankingExecutor = newExecutor("recommendation-product-",
+                recommendationProperties.getProductWorkerCount(), recommendationProperties.getProductQueueCapacity(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ExecutorService newExecutor(String threadPrefix, int workerCount, int queueCapacity,
+                                               RejectedExecutionHandler rejectedExecutionHandler) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                workerCount, workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                rejectedExecutionHandler);
+        // 워커 스레드의 OpenAI 호출 관측이 요청 트레이스 아래에 기록되도록 컨텍스트 전파
+        return ContextExecutorService.wrap(executor, ContextSnapshotFactory.builder().build());
+    }
 
+    @PreDestroy
+    public void shutdown() {
+        recommendationExecutor.shutdown();
+        productRankingExecutor.shutdown();
+    }
+
+    @Timed(value = "recommendation.campaign", histogram = true)
     public CampaignRecommendationResponse recommendCampaigns(Long customerId, Long productId) {
         log.info("캠페인 추천 요청 - customerId: {}, productId: {}", customerId, productId);
 
         Customer customer = findCustomerById(customerId);
-        List<Campaign> activeCampaigns = campaignRepository.findByStatus(CampaignStatus.ACTIVE);
+        List<CampaignView> activeCampaigns = catalogSnapshot.getActiveCampaigns();
         log.info("활성 캠페인 수: {}", activeCampaigns.size());
 
-        Product targetProduct = productId != null ? findProductById(productId) : null;
-        String prompt = null;
+        ProductView targetProduct = productId != null ? findProductById(productId) : null;
         if (targetProduct != null) {
             log.info("타겟 상품: {}", targetProduct.getName());
-            prompt = buildCampaignRecommendationPromptWithProduct(customer, activeCampaigns, targetProduct);
         } else {
-            prompt = buildCampaignRecommendationPrompt(customer, activeCampaigns);
             log.info("타겟 상품 없음");
         }
-
-        log.info("생성된 프롬프트:\n{}", prompt);
-
-        List<AIRecommendedCampaign> aiRecommendations = callOpenAIForCampaignRecommendation(prompt);
-
-        Map<Long, Campaign> campaignMap = activeCampaigns.stream()
-                .collect(Collectors.toMap(Campaign::getCampaignId, c -> c));
-
-        List<RecommendedCampaign> recommendations = aiRecommendations.stream()
-                .filter(ai -> campaignMap.containsKey(ai.getCampaignId()))
-                .map(ai -> RecommendedCampaign.fromCampaign(
-                        campaignMap.get(ai.getCampaignId()),
-                        ai.getRank(),
-                        ai.getReason(),
-                        ai.getExpectedBenefit(),
-                        ai.getRelevanceScore()
-                ))
-                .collect(Collectors.toList());
+        List<RecommendedCampaign> recommendations = rankCampaigns(customer, activeCampaigns, targetProduct);
 
         return CampaignRecommendationResponse.builder()
                 .customerId(customerId)
@@ -97,14 +165,83 @@ public class CustomerRecommendationService {
                 .build();
     }
 
+    @Timed(value = "recommendation.product", histogram = true)
     public ProductRecommendationResponse recommendProducts(Long customerId, Long campaignId) {
         log.info("상품 추천 요청 - customerId: {}, campaignId: {}", customerId, campaignId);
 
         Customer customer = findCustomerById(customerId);
-        log.info("고객 조회 완료 - name: {}, age: {}, membership: {}",
+        log.debug("고객 조회 완료 - name: {}, age: {}, membership: {}",
                 customer.getName(), customer.getAge(), customer.getMembershipLevel());
 
-        List<Product> availableProducts = productRepository.findAvailableProducts();
+        List<ProductView> eligibleProducts = findEligibleProducts(customer);
+
+        CampaignView targetCampaign = campaignId != null ? findCampaignById(campaignId) : null;
+        if (targetCampaign != null) {
+            log.info("타겟 캠페인 조회 완료 - name: {}, type: {}",
+                    targetCampaign.getName(), targetCampaign.getType());
+        }
+
+        ProductRanking ranking = rankProductsWithinDeadline(customer, eligibleProducts, targetCampaign);
+
+        log.info("상품 추천 완료 - customerId: {}, 추천 상품 수: {}, source: {}",
+                customerId, ranking.recommendations.size(), ranking.source);
+
+        return ProductRecommendationResponse.builder()
+                .customerId(customerId)
+                .customerName(customer.getName())
+                .customerProfile(buildCustomerProfileSummaryForProduct(customer))
+                .targetCampaign(targetCampaign != null ? buildTargetCampaignInfo(targetCampaign) : null)
+                .recommendations(ranking.recommendations)
+                .recommendationSource(ranking.source)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 캠페인과 상품 추천을 함께 반환
+     * 고객 조회와 상품 적격성 필터링은 한 번만 수행하고 두 LLM 호출은 동시에 실행한다.
+     * 두 호출 모두 llm-deadline 안에서만 기다리며, 캠페인 추천이 기한을 넘기면 빈 목록으로 응답한다.
+     */
+    @Timed(value = "recommendation.next-best-action", histogram = true)
+    public NextBestActionResponse recommendNextBestAction(Long customerId) {
+        log.info("다음 추천 행동 요청 - customerId: {}", customerId);
+
+        Customer customer = findCustomerById(customerId);
+        List<CampaignView> activeCampaigns = catalogSnapshot.getActiveCampaigns();
+        List<ProductView> eligibleProducts = findEligibleProducts(customer);
+        long catalogVersion = catalogSnapshot.getVersion();
+
+        // 상품 추천을 기다리는 동안에도 캠페인 추천 기한은 흐르므로 시작 시점 기준으로 계산
+        long campaignDeadlineNanos = System.nanoTime() + recommendationProperties.getLlmDeadline().toNanos();
+        List<RecommendedCampaign> lateCampaigns = lateRecommendationCache.getCampaigns(customerId, catalogVersion);
+        CompletableFuture<List<RecommendedCampaign>> campaigns = lateCampaigns != null
+                ? CompletableFuture.completedFuture(lateCampaigns)
+                : CompletableFuture.supplyAsync(() -> rankCampaigns(customer, activeCampaigns, null),
+                        recommendationExecutor);
+        ProductRanking products = rankProductsWithinDeadline(customer, eligibleProducts, null);
+
+        List<RecommendedCampaign> campaignRecommendations =
+                awaitCampaigns(customerId, campaigns, campaignDeadlineNanos, catalogVersion);
+        boolean campaignDelayed = campaignRecommendations == null;
+
+        log.info("다음 추천 행동 완료 - customerId: {}, 캠페인: {}개{}, 상품: {}개, 상품 source: {}",
+                customerId, campaignDelayed ? 0 : campaignRecommendations.size(), campaignDelayed ? "(기한 초과)" : "",
+                products.recommendations.size(), products.source);
+
+        return NextBestActionResponse.builder()
+                .customerId(customerId)
+                .customerName(customer.getName())
+                .customerProfile(buildCustomerProfileSummary(customer))
+                .campaignRecommendations(campaignDelayed ? List.of() : campaignRecommendations)
+                .campaignRecommendationDelayed(campaignDelayed)
+                .productRecommendations(products.recommendations)
+                .productRecommendationSource(products.source)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private List<ProductView> findEligibleProducts(Customer customer) {
+        List<ProductView> availableProducts = catalogSnapshot.getAvailableProducts();
         log.info("재고 있는 상품 조회 완료 - 총 {}개", availableProducts.size());
 
         if (availableProducts.isEmpty()) {
@@ -112,7 +249,8 @@ public class CustomerRecommendationService {
                     "추천 가능한 상품이 없습니다.");
         }
 
-        List<Product> eligibleProducts = filterProductsByAge(availableProducts, customer.getAge());
+        List<ProductView> eligibleProducts = observe("recommendation.products.filter",
+                () -> productEligibilityFilter.filterByAge(availableProducts, customer.getAge()));
         log.info("필터링 후 상품 수: {}개 (원본: {}개)",
                 eligibleProducts.size(), availableProducts.size());
 
@@ -120,147 +258,178 @@ public class CustomerRecommendationService {
             throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND,
                     String.format("%d세 고객에게 추천 가능한 상품이 없습니다.", customer.getAge()));
         }
+        return eligibleProducts;
+    }
 
-        Campaign targetCampaign = null;
-        if (campaignId != null) {
-            targetCampaign = findCampaignById(campaignId);
-            log.info("타겟 캠페인 조회 완료 - name: {}, type: {}",
-                    targetCampaign.getName(), targetCampaign.getType());
-        }
-
-        String prompt = targetCampaign != null
-                ? buildProductRecommendationPromptWithCampaign(customer, eligibleProducts, targetCampaign)
-                : buildProductRecommendationPrompt(customer, eligibleProducts);
-
-        log.info("생성된 프롬프트:\n{}", prompt);
-
-        List<AIRecommendedProduct> aiRecommendations = callOpenAIForProductRecommendation(prompt);
-        log.info("AI 추천 완료 - 추천 상품 수: {}", aiRecommendations.size());
+    /**
+     * AI 상품 추천을 기한까지 기다리고, 기한 초과나 실패 시 규칙 기반 추천으로 대체
+     * AI 호출은 계속 진행되어 늦게 끝난 결과는 다음 요청을 위해 보관한다.
+     */
+    private ProductRanking rankProductsWithinDeadline(Customer customer, List<ProductView> eligibleProducts,
+                                                      CampaignView targetCampaign) {
+        Long customerId = customer.getCustomerId();
+        Long campaignId = targetCampaign != null ? targetCampaign.getCampaignId() : null;
+        long catalogVersion = catalogSnapshot.getVersion();
 
-        List<RecommendedProduct> recommendations = mapToRecommendedProducts(
-                aiRecommendations, eligibleProducts, customer.getAge());
+        List<RecommendedProduct> lateResult = lateRecommendationCache.getProducts(customerId, campaignId, catalogVersion);
+        if (lateResult != null) {
+            log.info("보관된 AI 상품 추천 사용 - customerId: {}, campaignId: {}", customerId, campaignId);
+            return productRanking(lateResult, RecommendationSource.LLM);
+        }
 
-        log.info("상품 추천 완료 - customerId: {}, 추천 상품 수: {}",
-                customerId, recommendations.size());
+        CompletableFuture<List<RecommendedProduct>> llmRanking;
+        try {
+            llmRanking = CompletableFuture.supplyAsync(
+                    () -> rankProducts(customer, eligibleProducts, targetCampaign), productRankingExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("상품 추천 풀 포화 - AI 호출 없이 규칙 기반 추천으로 응답, customerId: {}", customerId);
+            meterRegistry.counter("recommendation.product.rejected").increment();
+            return ruleBasedRanking(customer, eligibleProducts, targetCampaign);
+        }
 
-        return ProductRecommendationResponse.builder()
-                .customerId(customerId)
-                .customerName(customer.getName())
-                .customerProfile(buildCustomerProfileSummaryForProduct(customer))
-                .targetCampaign(targetCampaign != null ? buildTargetCampaignInfo(targetCampaign) : null)
-                .recommendations(recommendations)
-                .generatedAt(LocalDateTime.now())
-                .build();
+        long deadlineMillis = RequestDeadline.timeoutMillis(recommendationProperties.getLlmDeadline().toMillis());
+        try {
+            return productRanking(llmRanking.get(deadlineMillis, TimeUnit.MILLISECONDS), RecommendationSource.LLM);
+        } catch (TimeoutException e) {
+            log.warn("AI 상품 추천 기한 초과({}ms) - 규칙 기반 추천으로 응답, customerId: {}", deadlineMillis, customerId);
+            llmRanking.thenAccept(recommendations -> {
+                lateRecommendationCache.putProducts(customerId, campaignId, catalogVersion, recommendations);
+                log.info("늦게 도착한 AI 상품 추천 보관 - customerId: {}, campaignId: {}", customerId, campaignId);
+            });
+        } catch (ExecutionException e) {
+            log.warn("AI 상품 추천 실패 - 규칙 기반 추천으로 응답, customerId: {}, error: {}",
+                    customerId, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.RECOMMENDATION_FAILED);
+        }
+        return ruleBasedRanking(customer, eligibleProducts, targetCampaign);
     }
 
-    private List<Product> filterProductsByAge(List<Product> products, Integer customerAge) {
-        if (customerAge == null) {
-            log.warn("고객 나이 정보 없음 - 필터링 없이 모든 상품 반환");
-            return products;
+    private ProductRanking ruleBasedRanking(Customer customer, List<ProductView> eligibleProducts,
+                                            CampaignView targetCampaign) {
+        RequestDeadline.check("규칙 기반 상품 추천");
+        List<RecommendedProduct> fallback = observe("recommendation.products.rule-based",
+                () -> ruleBasedProductRanker.rank(customer, eligibleProducts, targetCampaign));
+        if (fallback.isEmpty()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND,
+                    "추천 가능한 상품을 찾을 수 없습니다.");
         }
+        return productRanking(fallback, RecommendationSource.RULE_BASED);
+    }
 
-        List<Product> filtered = new ArrayList<>();
-
-        Pattern maxAgePattern = Pattern.compile("만\\s*(\\d+)세\\s*이하");
-        Pattern minAgePattern = Pattern.compile("만\\s*(\\d+)세\\s*이상");
-        Pattern rangePattern = Pattern.compile("만\\s*(\\d+)세?\\s*~\\s*(\\d+)세");
-
-        for (Product product : products) {
-            String productName = product.getName();
-            String benefits = product.getBenefits() != null ? product.getBenefits() : "";
-            boolean isEligible = true;
-            String filterReason = "";
-
-            if (productName.contains("군인") || benefits.contains("군인")) {
-                isEligible = false;
-                filterReason = "군인 전용 상품 (고객 정보 미확인)";
-            }
+    private ProductRanking productRanking(List<RecommendedProduct> recommendations, RecommendationSource source) {
+        meterRegistry.counter("recommendation.product.source", "source", source.name().toLowerCase()).increment();
+        return new ProductRanking(recommendations, source);
+    }
 
-            if (productName.contains("외국인") || benefits.contains("외국인")) {
-                isEligible = false;
-                filterReason = "외국인 전용 상품 (고객 정보 미확인)";
-            }
+    private List<RecommendedCampaign> rankCampaigns(Customer customer, List<CampaignView> activeCampaigns,
+                                                    ProductView targetProduct) {
+        FittedPrompt<CampaignView> fitted = observe("recommendation.prompt.build", () -> promptBudgetFitter.fit(
+                "campaign", activeCampaigns,
+                campaigns -> targetProduct != null
+                        ? recommendationPromptBuilder.buildCampaignRecommendationPromptWithProduct(customer, campaigns, targetProduct)
+                        : recommendationPromptBuilder.buildCampaignRecommendationPrompt(customer, campaigns),
+                this::buildCampaignRecommendationRequest));
+
+        payloadLogger.debug(log, LogCategory.PROMPT, "캠페인 추천 프롬프트", fitted::prompt);
+
+        List<AIRecommendedCampaign> aiRecommendations = callOpenAIForCampaignRecommendation(fitted.getRequest());
+
+        Map<Long, CampaignView> campaignMap = fitted.getCandidates().stream()
+                .collect(Collectors.toMap(CampaignView::getCampaignId, c -> c));
+
+        return observe("recommendation.response.map",
+                () -> aiRecommendations.stream()
+                        .filter(ai -> campaignMap.containsKey(ai.getCampaignId()))
+                        .map(ai -> RecommendedCampaign.fromView(
+                                campaignMap.get(ai.getCampaignId()),
+                                ai.getRank(),
+                                ai.getReason(),
+                                ai.getExpectedBenefit(),
+                                ai.getRelevanceScore()
+                        ))
+                        .collect(Collectors.toList()));
+    }
 
-            if ((productName.contains("장애인") || benefits.contains("장애인") ||
-                    productName.contains("복지") || benefits.contains("복지") ||
-                    productName.contains("국가유공자") || benefits.contains("국가유공자")) &&
-                    (productName.contains("전용") || benefits.contains("전용"))) {
-                isEligible = false;
-                filterReason = "복지 대상자 전용 상품 (고객 정보 미확인)";
-            }
+    private List<RecommendedProduct> rankProducts(Customer customer, List<ProductView> eligibleProducts,
+                                                  CampaignView targetCampaign) {
+        FittedPrompt<ProductView> fitted = observe("recommendation.prompt.build", () -> promptBudgetFitter.fit(
+                "product", eligibleProducts,
+                products -> targetCampaign != null
+                        ? recommendationPromptBuilder.buildProductRecommendationPromptWithCampaign(customer, products, targetCampaign)
+                        : recommendationPromptBuilder.buildProductRecommendationPrompt(customer, products),
+                this::buildProductRecommendationRequest));
 
-            if (isEligible) {
-                Matcher maxAgeMatcher = maxAgePattern.matcher(productName);
-                if (maxAgeMatcher.find()) {
-                    int maxAge = Integer.parseInt(maxAgeMatcher.group(1));
-                    if (customerAge > maxAge) {
-                        isEligible = false;
-                        filterReason = String.format("최대 연령 제한(%d세) 초과", maxAge);
-                    }
-                }
-            }
+        payloadLogger.debug(log, LogCategory.PROMPT, "상품 추천 프롬프트", fitted::prompt);
 
-            if (isEligible) {
-                Matcher minAgeMatcher = minAgePattern.matcher(productName);
-                if (minAgeMatcher.find()) {
-                    int minAge = Integer.parseInt(minAgeMatcher.group(1));
-                    if (customerAge < minAge) {
-                        isEligible = false;
-                        filterReason = String.format("최소 연령 제한(%d세) 미달", minAge);
-                    }
-                }
-            }
+        List<AIRecommendedProduct> aiRecommendations = callOpenAIForProductRecommendation(fitted.getRequest());
+        log.info("AI 추천 완료 - 추천 상품 수: {}", aiRecommendations.size());
 
-            if (isEligible) {
-                Matcher rangeMatcher = rangePattern.matcher(productName);
-                if (rangeMatcher.find()) {
-                    int minAge = Integer.parseInt(rangeMatcher.group(1));
-                    int maxAge = Integer.parseInt(rangeMatcher.group(2));
-                    if (customerAge < minAge || customerAge > maxAge) {
-                        isEligible = false;
-                        filterReason = String.format("연령 범위(%d~%d세) 벗어남", minAge, maxAge);
-                    }
-                }
-            }
+        return observe("recommendation.response.map",
+                () -> mapToRecommendedProducts(aiRecommendations, fitted.getCandidates(), customer.getAge()));
+    }
 
-            if (isEligible) {
-                filtered.add(product);
-            } else {
-                log.debug("상품 필터링: [{}] - 사유: {}", productName, filterReason);
+    /**
+     * 캠페인 추천을 남은 기한까지만 기다리고, 기한을 넘기면 null
+     * 늦게 끝난 결과는 상품 추천과 같이 다음 요청을 위해 보관한다.
+     */
+    private List<RecommendedCampaign> awaitCampaigns(Long customerId,
+                                                     CompletableFuture<List<RecommendedCampaign>> campaigns,
+                                                     long deadlineNanos, long catalogVersion) {
+        long remainingMillis = RequestDeadline.timeoutMillis(
+                Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime())));
+        try {
+            return campaigns.get(remainingMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("AI 캠페인 추천 기한 초과 - 캠페인 추천 없이 응답, customerId: {}", customerId);
+            meterRegistry.counter("recommendation.campaign.delayed").increment();
+            campaigns.thenAccept(recommendations -> {
+                lateRecommendationCache.putCampaigns(customerId, catalogVersion, recommendations);
+                log.info("늦게 도착한 AI 캠페인 추천 보관 - customerId: {}", customerId);
+            });
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
             }
+            log.error("추천 작업 실패", e.getCause());
+            throw new BusinessException(ErrorCode.RECOMMENDATION_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.RECOMMENDATION_FAILED);
         }
+    }
 
-        log.info("필터링 결과: 전체 {}개 → 적격 {}개 (고객 나이: {}세)",
-                products.size(), filtered.size(), customerAge);
-
-        return filtered;
+    private <T> T observe(String name, Supplier<T> supplier) {
+        return Observation.createNotStarted(name, observationRegistry).observe(supplier);
     }
 
     private List<RecommendedProduct> mapToRecommendedProducts(
             List<AIRecommendedProduct> aiRecommendations,
-            List<Product> eligibleProducts,
+            List<ProductView> eligibleProducts,
             Integer customerAge) {
 
-        Map<Long, Product> productMap = eligibleProducts.stream()
-                .collect(Collectors.toMap(Product::getProductId, p -> p));
+        Map<Long, ProductView> productMap = eligibleProducts.stream()
+                .collect(Collectors.toMap(ProductView::getProductId, p -> p));
 
         List<RecommendedProduct> recommendations = new ArrayList<>();
 
         for (AIRecommendedProduct aiRec : aiRecommendations) {
-            Product product = productMap.get(aiRec.getProductId());
+            ProductView product = productMap.get(aiRec.getProductId());
 
             if (product == null) {
                 log.warn("AI가 추천한 상품을 찾을 수 없음 - productId: {}", aiRec.getProductId());
                 continue;
             }
 
-            if (!isProductEligible(product, customerAge)) {
+            if (!productEligibilityFilter.isEligible(product, customerAge)) {
                 log.warn("AI가 부적격 상품 추천 - productId: {}, productName: {}, customerAge: {}",
                         product.getProductId(), product.getName(), customerAge);
                 continue;
             }
 
-            RecommendedProduct recommendedProduct = RecommendedProduct.fromProduct(
+            RecommendedProduct recommendedProduct = RecommendedProduct.fromView(
                     product,
                     aiRec.getRank(),
                     aiRec.getReason(),
@@ -281,569 +450,82 @@ public class CustomerRecommendationService {
         return recommendations;
     }
 
-    private boolean isProductEligible(Product product, Integer customerAge) {
-        if (customerAge == null) {
-            return true;
-        }
-
-        String productName = product.getName();
-        String benefits = product.getBenefits() != null ? product.getBenefits() : "";
-
-        if (productName.contains("군인") || benefits.contains("군인")) {
-            return false;
-        }
-
-        if (productName.contains("외국인") || benefits.contains("외국인")) {
-            return false;
-        }
-
-        if ((productName.contains("장애인") || benefits.contains("장애인") ||
-                productName.contains("복지") || benefits.contains("복지") ||
-                productName.contains("국가유공자") || benefits.contains("국가유공자")) &&
-                (productName.contains("전용") || benefits.contains("전용"))) {
-            return false;
-        }
-
-        Pattern maxAgePattern = Pattern.compile("만\\s*(\\d+)세\\s*이하");
-        Pattern minAgePattern = Pattern.compile("만\\s*(\\d+)세\\s*이상");
-        Pattern rangePattern = Pattern.compile("만\\s*(\\d+)세?\\s*~\\s*(\\d+)세");
-
-        Matcher maxAgeMatcher = maxAgePattern.matcher(productName);
-        if (maxAgeMatcher.find()) {
-            int maxAge = Integer.parseInt(maxAgeMatcher.group(1));
-            if (customerAge > maxAge) {
-                return false;
-            }
-        }
-
-        Matcher minAgeMatcher = minAgePattern.matcher(productName);
-        if (minAgeMatcher.find()) {
-            int minAge = Integer.parseInt(minAgeMatcher.group(1));
-            if (customerAge < minAge) {
-                return false;
-            }
-        }
-
-        Matcher rangeMatcher = rangePattern.matcher(productName);
-        if (rangeMatcher.find()) {
-            int minAge = Integer.parseInt(rangeMatcher.group(1));
-            int maxAge = Integer.parseInt(rangeMatcher.group(2));
-            if (customerAge < minAge || customerAge > maxAge) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-
-    private String buildProductRecommendationPrompt(Customer customer, List<Product> products) {
-        StringBuilder prompt = new StringBuilder();
-
-        prompt.append("🚨 **절대 준수 규칙 - 위반 시 추천 무효** 🚨\n\n");
-
-        prompt.append("❌ 규칙0: **반드시 정확히 3개 추천** (1개나 2개는 불가)\n");
-
-        if (customer.getCurrentPlan() != null) {
-            String currentPlan = customer.getCurrentPlan();
-            if (currentPlan.contains("5G")) {
-                prompt.append(String.format("❌ 규칙1: 고객은 '%s' 사용 중 → **LTE/3G 추천 절대 금지**\n", currentPlan));
-            } else if (currentPlan.contains("LTE")) {
-                prompt.append(String.format("❌ 규칙1: 고객은 '%s' 사용 중 → **3G 추천 절대 금지**\n", currentPlan));
-            }
-        }
-
-        if (customer.getAvgDataUsageGb() != null) {
-            BigDecimal dataUsage = customer.getAvgDataUsageGb();
-            prompt.append(String.format("❌ 규칙2: 고객 데이터 %.1fGB/월 → **%.1fGB 미만 요금제 추천 금지**\n",
-                    dataUsage, dataUsage));
-            prompt.append("   예: 36.8GB 고객에게 15GB 요금제 추천 불가!\n");
-        }
-
-        if (customer.getMembershipLevel() != null) {
-            String membership = customer.getMembershipLevel().name();
-            if (membership.equals("WHITE") || membership.equals("BASIC")) {
-                prompt.append("❌ 규칙3: WHITE/BASIC → **현재 가격 ±20% 초과 금지**\n");
-                prompt.append("   예: 5만원 사용 중 → 4~6만원대만 OK, 9만원 절대 불가!\n");
-            } else if (membership.equals("SILVER") || membership.equals("GOLD")) {
-                prompt.append("❌ 규칙3: SILVER/GOLD → **현재 가격 ±30% 초과 지양**\n");
-            } else if (membership.contains("VIP")) {
-                prompt.append("✅ 규칙3: VIP/VVIP → 가격 제한 없음 (프리미엄 OK)\n");
-            }
-        }
-
-        prompt.append("\n🔥 위 4가지 규칙 위반 = 즉시 제외! 🔥\n");
-        prompt.append("=".repeat(60) + "\n\n");
-
-        prompt.append("## 고객\n");
-        prompt.append(String.format("%s / %d세 / %s\n",
-                customer.getName(),
-                customer.getAge(),
-                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "일반"));
-        prompt.append(String.format("현재: %s", customer.getCurrentPlan()));
-        if (customer.getAvgDataUsageGb() != null) {
-            prompt.append(String.format(" / %.1fGB 사용", customer.getAvgDataUsageGb()));
-        }
-        prompt.append("\n\n");
-
-        prompt.append("## 상품 목록\n");
-        for (Product p : products) {
-            String priceStr = p.getPrice() != null ? String.format("%,d원", p.getPrice().intValue()) : "가격 미정";
-            prompt.append(String.format("[%d] %s | %s | %s\n",
-                    p.getProductId(),
-                    p.getName(),
-                    priceStr,
-                    p.getCategory()));
-        }
-        prompt.append("\n");
-
-        prompt.append("## 추천 전 체크리스트\n");
-        prompt.append("[ ] 다운그레이드 아닌가?\n");
-        prompt.append("[ ] 데이터 사용량 충분한가?\n");
-        prompt.append("[ ] 멤버십 가격대 맞는가?\n");
-        prompt.append("\n⚠️ 모바일 요금제가 부족하면 OTT/디바이스/생활편의 카테고리 추천\n\n");
-
-        prompt.append("## 응답 (JSON만, 다른 텍스트 금지)\n");
-        prompt.append("⚠️ **반드시 정확히 3개 추천 필수** (더 많거나 적으면 안됨)\n\n");
-
-        prompt.append("### ✍️ reason 작성 규칙 (매우 중요)\n");
-        prompt.append("❌ 나쁜 예: \"적합하여 추천드립니다\" (너무 짧고 성의없음)\n");
-        prompt.append("❌ 나쁜 예: \"김다혜, 27세, 5G 스탠다드 사용 중\" (단어만 나열)\n");
-        prompt.append(
-                "✅ 좋은 예: \"김다혜님은 27세 WHITE 등급으로 5G 스탠다드 요금제를 사용 중이며 월 36.8GB의 데이터를 사용합니다. 이 상품은 데이터 무제한과 OTT 혜택을 제공하여, 고객의 높은 데이터 사용 패턴과 멤버십 등급을 고려할 때 실질적인 비용 절감과 편의성 향상을 제공합니다.\"\n\n");
-
-        prompt.append("**reason 필수 포함 (3가지 모두):**\n");
-        prompt.append("1️⃣ 고객 상황: 이름 + 나이 + 등급 + 현재 요금제 + 데이터 사용량\n");
-        prompt.append("2️⃣ 상품 특징: 이 상품만의 구체적인 장점/혜택\n");
-        prompt.append("3️⃣ 연결고리: 왜 이 고객에게 이 상품이 맞는지 논리적 설명\n");
-        prompt.append("**최소 길이: 2-3문장, 100자 이상**\n\n");
-
-        prompt.append("[\n");
-        prompt.append(
-                "  {\"rank\":1, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100},\n");
-        prompt.append(
-                "  {\"rank\":2, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100},\n");
-        prompt.append(
-                "  {\"rank\":3, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100}\n");
-        prompt.append("]\n");
-
-        return prompt.toString();
+    private OpenAIRequest buildProductRecommendationRequest(String prompt) {
+        return OpenAIRequest.builder()
+                .model(openAIProperties.getModel())
+                .messages(List.of(
+                        OpenAIMessage.builder()
+                                .role("system")
+                                .content(PRODUCT_SYSTEM_MESSAGE)
+                                .build(),
+                        OpenAIMessage.builder()
+                                .role("user")
+                                .content(prompt)
+                                .build()
+                ))
+                .temperature(0.3)
+                .maxTokens(1500)
+                .build();
     }
 
-    private String buildProductRecommendationPromptWithCampaign(
-            Customer customer, List<Product> products, Campaign campaign) {
-
-        StringBuilder prompt = new StringBuilder();
-
-        prompt.append("🚨 **절대 준수 규칙 - 위반 시 추천 무효** 🚨\n\n");
-
-        prompt.append("❌ 규칙0: **반드시 정확히 3개 추천** (1개나 2개는 불가)\n");
-
-        if (customer.getCurrentPlan() != null) {
-            String currentPlan = customer.getCurrentPlan();
-            if (currentPlan.contains("5G")) {
-                prompt.append(String.format("❌ 규칙1: 고객은 '%s' 사용 중 → **LTE/3G 추천 절대 금지**\n", currentPlan));
-            } else if (currentPlan.contains("LTE")) {
-                prompt.append(String.format("❌ 규칙1: 고객은 '%s' 사용 중 → **3G 추천 절대 금지**\n", currentPlan));
-            }
-        }
-
-        if (customer.getAvgDataUsageGb() != null) {
-            BigDecimal dataUsage = customer.getAvgDataUsageGb();
-            prompt.append(String.format("❌ 규칙2: 고객 데이터 %.1fGB/월 → **%.1fGB 미만 요금제 추천 금지**\n",
-                    dataUsage, dataUsage));
-        }
-
-        if (customer.getMembershipLevel() != null) {
-            String membership = customer.getMembershipLevel().name();
-            if (membership.equals("WHITE") || membership.equals("BASIC")) {
-                prompt.append("❌ 규칙3: WHITE/BASIC → **현재 가격 ±20% 초과 금지**\n");
-            } else if (membership.equals("SILVER") || membership.equals("GOLD")) {
-                prompt.append("❌ 규칙3: SILVER/GOLD → **현재 가격 ±30% 초과 지양**\n");
-            } else if (membership.contains("VIP")) {
-                prompt.append("✅ 규칙3: VIP/VVIP → 가격 제한 없음\n");
-            }
-        }
-
-        prompt.append("\n🔥 위 4가지 규칙 위반 = 즉시 제외! 🔥\n");
-        prompt.append("=".repeat(60) + "\n\n");
-
-        prompt.append("## 타겟 캠페인\n");
-        prompt.append(String.format("%s (%s)\n", campaign.getName(), campaign.getType().getDisplayName()));
-        if (campaign.getDescription() != null) {
-            prompt.append(String.format("혜택: %s\n", campaign.getDescription()));
-        }
-        prompt.append("\n");
-
-        prompt.append("## 고객\n");
-        prompt.append(String.format("%s / %d세 / %s\n",
-                customer.getName(),
-                customer.getAge(),
-                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "일반"));
-        prompt.append(String.format("현재: %s", customer.getCurrentPlan()));
-        if (customer.getAvgDataUsageGb() != null) {
-            prompt.append(String.format(" / %.1fGB 사용", customer.getAvgDataUsageGb()));
-        }
-        prompt.append("\n\n");
-
-        prompt.append("## 상품 목록\n");
-        for (Product p : products) {
-            String priceStr = p.getPrice() != null ? String.format("%,d원", p.getPrice().intValue()) : "가격 미정";
-            prompt.append(String.format("[%d] %s | %s | %s\n",
-                    p.getProductId(),
-                    p.getName(),
-                    priceStr,
-                    p.getCategory()));
-        }
-        prompt.append("\n");
-
-        prompt.append("## 추천 원칙\n");
-        prompt.append("캠페인 목적 50% + 고객 적합성 50%\n\n");
-
-        prompt.append("## 추천 전 체크리스트\n");
-        prompt.append("[ ] 캠페인 목적에 맞는가?\n");
-        prompt.append("[ ] 다운그레이드 아닌가?\n");
-        prompt.append("[ ] 데이터 사용량 충분한가?\n");
-        prompt.append("[ ] 멤버십 가격대 맞는가?\n");
-        prompt.append("\n⚠️ 모바일 요금제가 부족하면 OTT/디바이스/생활편의 카테고리 추천\n\n");
-
-        prompt.append("## 응답 (JSON만, 다른 텍스트 금지)\n");
-        prompt.append("⚠️ **반드시 정확히 3개 추천 필수** (더 많거나 적으면 안됨)\n\n");
-
-        prompt.append("### ✍️ reason 작성 규칙 (매우 중요)\n");
-        prompt.append("❌ 나쁜 예: \"인터넷 속도 업그레이드 특별 할인, 김다혜, 5G 스탠다드 사용 중\" (단어만 나열)\n");
-        prompt.append("❌ 나쁜 예: \"캠페인 혜택이 좋아서 추천\" (너무 짧고 성의없음)\n");
-        prompt.append(
-                "✅ 좋은 예: \"'인터넷 속도 업그레이드 특별 할인' 캠페인은 김다혜님(27세, WHITE 등급, 5G 스탠다드 사용 중)에게 적합합니다. 이 상품은 [구체적 상품 특징]을 제공하며, 캠페인의 [구체적 할인/혜택]과 결합하여 고객의 [니즈/상황]에 최적화된 솔루션을 제공합니다.\"\n\n");
-
-        prompt.append("**reason 필수 포함 (4가지 모두):**\n");
-        prompt.append("1️⃣ 캠페인명: 정확한 캠페인 이름\n");
-        prompt.append("2️⃣ 고객 상황: 이름 + 나이 + 등급 + 현재 요금제\n");
-        prompt.append("3️⃣ 상품 특징: 이 상품의 구체적 장점\n");
-        prompt.append("4️⃣ 시너지 설명: 캠페인 혜택 + 상품 특징이 고객에게 주는 가치\n");
-        prompt.append("**최소 길이: 2-3문장, 100자 이상**\n\n");
-
-        prompt.append("[\n");
-        prompt.append(
-                "  {\"rank\":1, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100},\n");
-        prompt.append(
-                "  {\"rank\":2, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100},\n");
-        prompt.append(
-                "  {\"rank\":3, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100}\n");
-        prompt.append("]\n");
-
-        return prompt.toString();
+    private OpenAIRequest buildCampaignRecommendationRequest(String prompt) {
+        return OpenAIRequest.builder()
+                .model(openAIProperties.getModel())
+                .messages(List.of(
+                        OpenAIMessage.builder()
+                                .role("system")
+                                .content(CAMPAIGN_SYSTEM_MESSAGE)
+                                .build(),
+                        OpenAIMessage.builder()
+                                .role("user")
+                                .content(prompt)
+                                .build()
+                ))
+                .temperature(0.3)
+                .maxTokens(1500)
+                .build();
     }
 
-    private List<AIRecommendedProduct> callOpenAIForProductRecommendation(String prompt) {
+    private List<AIRecommendedProduct> callOpenAIForProductRecommendation(OpenAIRequest request) {
         try {
             log.info("OpenAI API 호출 시작 - 상품 추천");
 
-            OpenAIRequest request = OpenAIRequest.builder()
-                    .model(openAIProperties.getModel())
-                    .messages(List.of(
-                            OpenAIMessage.builder()
-                                    .role("system")
-                                    .content(
-                                            "당신은 KT의 전문 상품 추천 컨설턴트입니다. 고객 데이터를 심층 분석하여 최적의 상품을 추천합니다. JSON 형식으로만 응답합니다.")
-                                    .build(),
-                            OpenAIMessage.builder()
-                                    .role("user")
-                                    .content(prompt)
-                                    .build()
-                    ))
-                    .temperature(0.3)
-                    .maxTokens(1500)
-                    .build();
-
-            OpenAIResponse response = openAIService.callChatCompletion(request);
+            OpenAIResponse response = openAIService.callChatCompletion(OpenAICallType.PRODUCT_RECOMMENDATION, request);
 
             String content = response.getChoices().get(0).getMessage().getContent();
-            log.info("OpenAI 응답:\n{}", content);
+            payloadLogger.debug(log, LogCategory.LLM_RESPONSE, "상품 추천 응답", () -> content);
 
-            return parseAIResponseOfProduct(content);
+            return openAIJsonParser.parseList(content, AIRecommendedProduct.class);
 
         } catch (Exception e) {
+            RequestDeadline.propagateIfExceeded(e);
+            OpenAIService.propagateIfRejected(e);
             log.error("OpenAI API 호출 실패 - 상품 추천", e);
             throw new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED,
                     "AI 상품 추천 생성에 실패했습니다: " + e.getMessage());
         }
     }
 
-    private List<AIRecommendedProduct> parseAIResponseOfProduct(String content) {
+    private List<AIRecommendedCampaign> callOpenAIForCampaignRecommendation(OpenAIRequest request) {
         try {
-            String cleanedContent = content
-                    .replaceAll("```json\\s*", "")
-                    .replaceAll("```\\s*", "")
-                    .trim();
-
-            log.debug("파싱할 JSON: {}", cleanedContent);
-
-            return objectMapper.readValue(
-                    cleanedContent,
-                    new TypeReference<List<AIRecommendedProduct>>() {
-                    }
-            );
-
-        } catch (Exception e) {
-            log.error("AI 응답 파싱 실패 - content: {}", content, e);
-            throw new BusinessException(ErrorCode.INVALID_JSON_RESPONSE,
-                    "AI 응답을 파싱할 수 없습니다.");
-        }
-    }
-
-    private void getCustomerProfileInfoToJson(Customer customer, StringBuilder prompt) {
-        prompt.append("## 📊 고객 프로필\n");
-        prompt.append(String.format("- **이름**: %s\n", customer.getName()));
-        prompt.append(String.format("- **나이/성별**: %d세 %s\n",
-                customer.getAge(),
-                customer.getGender() != null ? customer.getGender().getDescription() : "미지정"));
-        prompt.append(String.format("- **멤버십**: %s 등급\n",
-                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "미지정"));
-
-        if (customer.getJoinDate() != null) {
-            long yearsAsCustomer = java.time.temporal.ChronoUnit.YEARS.between(
-                    customer.getJoinDate(),
-                    java.time.LocalDateTime.now()
-            );
-            prompt.append(String.format("- **가입일**: %s (%d년 이용 고객)\n",
-                    customer.getJoinDate().toLocalDate(), yearsAsCustomer));
-        }
-
-        if (customer.getRegion() != null) {
-            prompt.append(String.format("- **거주 지역**: %s\n",
-                    customer.getRegion().getDescription()));
-        }
-
-        prompt.append(String.format("- **현재 요금제**: %s\n", customer.getCurrentPlan()));
-
-        if (customer.getCurrentDevice() != null) {
-            prompt.append(String.format("- **현재 기기**: %s\n", customer.getCurrentDevice()));
-        }
-
-        prompt.append(String.format("- **데이터 사용량**: %.1fGB (월평균)\n",
-                customer.getAvgDataUsageGb()));
-
-        if (customer.getRecencyDays() != null) {
-            prompt.append(String.format("- **마지막 구매**: %d일 전\n",
-                    customer.getRecencyDays()));
-        }
-        if (customer.getContractEndDate() != null) {
-            prompt.append(String.format("- **약정 종료일**: %s\n",
-                    customer.getContractEndDate()));
-        }
-        prompt.append("\n");
-    }
-
-    private String buildCampaignRecommendationPromptWithProduct(
-            Customer customer,
-            List<Campaign> campaigns,
-            Product targetProduct) {
-
-        StringBuilder prompt = new StringBuilder();
-
-        prompt.append("당신은 KT의 마케팅 전문가입니다.\n");
-        prompt.append("고객 정보와 활성 캠페인 목록을 분석하여 최적의 캠페인 3개를 추천해주세요.\n\n");
-
-        prompt.append("🎯 **핵심 미션**: 아래 타겟 상품과 고객을 위한 최적 캠페인을 찾아주세요!\n\n");
-
-        prompt.append("### 📦 타겟 상품 정보 (매우 중요)\n");
-        prompt.append(String.format("- 상품명: %s\n", targetProduct.getName()));
-        prompt.append(String.format("- 카테고리: %s\n", targetProduct.getCategory()));
-        prompt.append(String.format("- 가격: %,d원\n", targetProduct.getPrice().intValue()));
-        if (targetProduct.getBenefits() != null) {
-            prompt.append(String.format("- 핵심 혜택:\n%s\n", formatBenefits(targetProduct.getBenefits())));
-        }
-        prompt.append("\n");
-
-        getCustomerProfileInfoToJson(customer, prompt);
-        getActiveCampaignsInfoToJson(campaigns, prompt);
-
-        prompt.append("⚖️ **추천 균형 원칙 (반드시 준수)**:\n");
-        prompt.append("- 상품 연관성: 50% - 이 상품과 직접 관련된 캠페인인가?\n");
-        prompt.append("- 고객 적합성: 50% - 이 고객에게도 적합한 캠페인인가?\n");
-        prompt.append("→ 두 요소를 균형있게 고려하여 추천하세요.\n\n");
-
-        prompt.append("### 🎯 추천 기준 (반드시 준수)\n\n");
-
-        prompt.append("#### 1. 논리적 적합성 검증 (필수)\n");
-        prompt.append("추천 전에 다음을 반드시 확인하세요:\n");
-        prompt.append("- 상품 타겟 연령/조건이 고객과 맞는가?\n");
-        prompt.append("- 캠페인 대상이 고객과 맞는가?\n");
-        prompt.append("#### 2️. reason 작성 3단계 (구체적으로)\n\n");
-        prompt.append("**[1단계] 고객의 현재 상황 분석**\n");
-        prompt.append("**[2단계] 상품의 핵심 특징 파악**\n");
-        prompt.append(String.format("- %s: %s 카테고리\n",
-                targetProduct.getName(), targetProduct.getCategory()));
-        if (targetProduct.getBenefits() != null) {
-            prompt.append("- 상품 혜택:\n");
-            String[] benefits = targetProduct.getBenefits().split("[,/]");
-            for (String b : benefits) {
-                prompt.append(String.format("  • %s\n", b.trim()));
-            }
-        }
-        prompt.append("\n");
-        prompt.append("**[3단계] 연결고리 명확히 설명**\n");
-        prompt.append("reason에 반드시 포함할 내용:\n");
-        prompt.append("1. 이 상품이 고객에게 왜 필요한가? (구체적 근거)\n");
-        prompt.append("2. 이 캠페인이 왜 이 상품 구매를 도와주는가? (할인/혜택)\n");
-        prompt.append("3. 두 가지가 결합되면 고객에게 무엇이 좋은가? (시너지)\n\n");
-
-        String exampleReason = String.format(
-                "000님은 00세 VIP 고객으로 0000를 사용 중이며 월 00GB의 데이터를 소비하는 유저입니다. " +
-                        "%s 상품은 [상품의 구체적 특징]을 제공하며, " +
-                        "이 캠페인의 [캠페인 혜택 구체적 명시]를 통해 " +
-                        "[고객이 얻는 실질적 이득]을 누릴 수 있습니다.",
-                targetProduct.getName()
-        );
-
-        prompt.append(buildCampaignResponseCommonFormat(true, exampleReason));
-        return prompt.toString();
-    }
-
-    private String buildCampaignRecommendationPrompt(Customer customer, List<Campaign> campaigns) {
-        StringBuilder prompt = new StringBuilder();
-
-        prompt.append("당신은 KT의 마케팅 전문가입니다.\n");
-        prompt.append("고객 정보와 활성 캠페인 목록을 분석하여 최적의 캠페인 3개를 추천해주세요.\n\n");
-
-        prompt.append("🎯 **핵심 미션**: 아래의 고객 프로필과 활성 캠페인 정보를 분석하여 최적 캠페인을 찾아주세요!\n\n");
-
-        getCustomerProfileInfoToJson(customer, prompt);
-        getActiveCampaignsInfoToJson(campaigns, prompt);
-
-        prompt.append("\n## 🎯 추천 기준\n\n");
-        prompt.append("**추천 시 반드시 고려할 점:**\n");
-        prompt.append("1. **고객의 현재 상태를 구체적으로 언급**하세요\n");
-        prompt.append("   - 예: \"000 고객은 5G 시그니처 요금제를 사용중이며...\"\n");
-        prompt.append("   - 예: \"VIP 등급으로서 프리미엄 서비스 선호도가 높으므로...\"\n\n");
-
-        prompt.append("2. **reason 작성 시 필수 포함 요소:**\n");
-        prompt.append("   - 고객의 이름\n");
-        prompt.append("   - 고객의 구체적 상황 (요금제, 멤버십, 사용 패턴 등)\n");
-        prompt.append("   - 이 캠페인이 **왜 이 고객에게** 적합한지 개인화된 설명\n\n");
-
-        prompt.append("3. **일반적 마케팅 용어 지양:**\n");
-        prompt.append("   - ❌ \"고객의 구매욕구를 자극\"\n");
-        prompt.append("   - ❌ \"고객유지 효과 기대\"\n");
-        prompt.append("   - ✅ \"000 고객님의 [구체적 상황]을 고려할 때...\"\n\n");
-
-        String exampleReason = String.format(
-                "%s 고객은 %s 등급이며 %s 요금제를 사용중입니다. 이 캠페인은 고객의 현재 상황에 매우 적합하며...",
-                customer.getName(),
-                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "회원",
-                customer.getCurrentPlan() != null ? customer.getCurrentPlan() : "현재"
-        );
-
-        prompt.append(buildCampaignResponseCommonFormat(false, exampleReason));
-        return prompt.toString();
-    }
-
-    private void getActiveCampaignsInfoToJson(List<Campaign> campaigns, StringBuilder prompt) {
-        prompt.append("### 📋 활성 캠페인 목록\n");
-        for (int i = 0; i < campaigns.size(); i++) {
-            Campaign c = campaigns.get(i);
-            prompt.append(String.format("%d. [ID:%d] %s (%s)\n",
-                    i + 1, c.getCampaignId(), c.getName(), c.getType().getDisplayName()));
-            if (c.getDescription() != null) {
-                prompt.append(String.format("   혜택: %s\n", c.getDescription()));
-            }
-        }
-        prompt.append("\n");
-    }
-
-    private String buildCampaignResponseCommonFormat(boolean withProduct, String exampleReason) {
-        StringBuilder format = new StringBuilder();
-        format.append("### 📤 응답 형식 (JSON만 출력, 다른 텍스트 금지)\n");
-        format.append("[\n");
-        format.append("  {\n");
-        format.append("    \"rank\": 순위,\n");
-        format.append("    \"campaignId\": 캠페인아이디,\n");
-        format.append(String.format("    \"reason\": \"%s\",\n", exampleReason));
-        format.append("    \"expectedBenefit\": \"예상 혜택\",\n");
-        format.append("    \"relevanceScore\": 연관도 점수\n");
-        format.append("  },\n");
-        format.append("  {\n");
-        format.append("    \"rank\": 순위,\n");
-        format.append("    \"campaignId\": 캠페인아이디,\n");
-        format.append(String.format("    \"reason\": \"%s\",\n", exampleReason));
-        format.append("    \"expectedBenefit\": \"...\",\n");
-        format.append("    \"relevanceScore\": 연관도 점수\n");
-        format.append("  },\n");
-        format.append("  {\n");
-        format.append("    \"rank\": 순위,\n");
-        format.append("    \"campaignId\": 캠페인아이디,\n");
-        format.append(String.format("    \"reason\": \"%s\",\n", exampleReason));
-        format.append("    \"expectedBenefit\": \"...\",\n");
-        format.append("    \"relevanceScore\": 연관도 점수\n");
-        format.append("  }\n");
-        format.append("]\n");
-        format.append("\n");
-        format.append("- **rank**: 1 (최우선), 2, 3 순서대로 부여\n");
-        format.append("- **relevanceScore**: 85~100 사이 점수\n");
-
-        if (withProduct) {
-            format.append("- **reason**: 타겟 상품 연관성(50%) + 고객 적합성(50%) 모두 명시\n");
-        } else {
-            format.append("- **reason**: 고객의 이름과 구체적 상황을 포함한 개인화된 설명\n");
-        }
-
-        return format.toString();
-    }
-
-    private List<AIRecommendedCampaign> callOpenAIForCampaignRecommendation(String prompt) {
-        try {
-            OpenAIRequest request = OpenAIRequest.builder()
-                    .model(openAIProperties.getModel())
-                    .messages(List.of(
-                            OpenAIMessage.builder()
-                                    .role("system")
-                                    .content("당신은 KT의 개인화 마케팅 캠페인 추천 전문가입니다. JSON 형식으로만 응답합니다.")
-                                    .build(),
-                            OpenAIMessage.builder()
-                                    .role("user")
-                                    .content(prompt)
-                                    .build()
-                    ))
-                    .temperature(0.3)
-                    .maxTokens(1500)
-                    .build();
-
-            OpenAIResponse response = openAIService.callChatCompletion(request);
+            OpenAIResponse response = openAIService.callChatCompletion(OpenAICallType.CAMPAIGN_RECOMMENDATION, request);
             String content = response.getChoices().get(0).getMessage().getContent();
 
-            log.info("OpenAI 응답:\n{}", content);
+            payloadLogger.debug(log, LogCategory.LLM_RESPONSE, "캠페인 추천 응답", () -> content);
 
-            List<AIRecommendedCampaign> recommendations = parseAIResponseOfCampaign(content);
+            List<AIRecommendedCampaign> recommendations = openAIJsonParser.parseList(content, AIRecommendedCampaign.class);
 
             log.info("AI 추천 결과: {}개 캠페인", recommendations.size());
             return recommendations;
 
         } catch (Exception e) {
+            RequestDeadline.propagateIfExceeded(e);
+            OpenAIService.propagateIfRejected(e);
             log.error("캠페인 추천 중 오류 발생", e);
             throw new BusinessException(ErrorCode.RECOMMENDATION_FAILED);
         }
     }
 
-    private List<AIRecommendedCampaign> parseAIResponseOfCampaign(String content) {
-        try {
-            String cleanedContent = content
-                    .replaceAll("```json\\s*", "")
-                    .replaceAll("```\\s*", "")
-                    .trim();
-
-            return objectMapper.readValue(
-                    cleanedContent,
-                    new TypeReference<>() {
-                    }
-            );
-
-        } catch (Exception e) {
-            log.error("AI 응답 파싱 실패 - content: {}", content, e);
-            throw new BusinessException(ErrorCode.INVALID_JSON_RESPONSE);
-        }
-    }
-
     private CustomerProfileSummary buildCustomerProfileSummary(Customer customer) {
         Integer yearsAsCustomer = null;
         String joinDate = null;
@@ -901,7 +583,7 @@ public class CustomerRecommendationService {
                 .build();
     }
 
-    private TargetProductInfo buildTargetProductInfo(Product product) {
+    private TargetProductInfo buildTargetProductInfo(ProductView product) {
         return TargetProductInfo.builder()
                 .productId(product.getProductId())
                 .productName(product.getName())
@@ -910,7 +592,7 @@ public class CustomerRecommendationService {
                 .build();
     }
 
-    private TargetCampaignInfo buildTargetCampaignInfo(Campaign campaign) {
+    private TargetCampaignInfo buildTargetCampaignInfo(CampaignView campaign) {
         return TargetCampaignInfo.builder()
                 .campaignId(campaign.getCampaignId())
                 .campaignName(campaign.getName())
@@ -924,30 +606,24 @@ public class CustomerRecommendationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND));
     }
 
-    private Product findProductById(Long productId) {
-        return productRepository.findById(productId)
+    private ProductView findProductById(Long productId) {
+        return catalogSnapshot.findProduct(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
-    private Campaign findCampaignById(Long campaignId) {
-        return campaignRepository.findById(campaignId)
+    private CampaignView findCampaignById(Long campaignId) {
+        return catalogSnapshot.findCampaign(campaignId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CAMPAIGN_NOT_FOUND,
                         "캠페인을 찾을 수 없습니다. campaignId: " + campaignId));
     }
 
-    private String formatBenefits(String benefits) {
-        if (benefits == null || benefits.isEmpty()) {
-            return "  (혜택 정보 없음)";
-        }
+    private static final class ProductRanking {
+        private final List<RecommendedProduct> recommendations;
+        private final RecommendationSource source;
 
-        String[] lines = benefits.split("[,/\n]");
-        StringBuilder formatted = new StringBuilder();
-        for (String line : lines) {
-            String trimmed = line.trim();
-            if (!trimmed.isEmpty()) {
-                formatted.append("  • ").append(trimmed).append("\n");
-            }
+        private ProductRanking(List<RecommendedProduct> recommendations, RecommendationSource source) {
+            this.recommendations = recommendations;
+            this.source = source;
         }
-        return formatted.toString();
     }
-}
\ No newline at end of file
+}
@@ -11,6 +11,7 @@ import com.ai_marketing_msg_be.domain.customer.entity.Customer;
 import com.ai_marketing_msg_be.domain.customer.entity.SearchType;
 import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
 import com.ai_marketing_msg_be.domain.customer.repository.CustomerSpecification;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -70,7 +71,8 @@ public class CustomerService {
         return CustomerDetailResponse.from(customer);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    @Timed(value = "segment.count", description = "세그먼트 대상 고객 수 조회", histogram = true)
     public int countBySegmentFilter(SegmentFilterRequest filter) {
         log.info("Counting customers by segment filter: {}", filter);
 
@@ -0,0 +1,53 @@
+package com.ai_marketing_msg_be.domain.customer.service;
+
+import com.ai_marketing_msg_be.domain.customer.config.RecommendationProperties;
+import com.ai_marketing_msg_be.domain.customer.dto.RecommendedCampaign;
+import com.ai_marketing_msg_be.domain.customer.dto.RecommendedProduct;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기한을 넘겨 도착한 AI 상품/캠페인 추천 결과 보관
+ * <p>
+ * 키에 카탈로그 버전을 넣어 상품/캠페인이 바뀌면 이전 결과를 쓰지 않는다.
+ */
+@Component
+public class LateRecommendationCache {
+
+    private final Cache<String, List<RecommendedProduct>> products;
+    private final Cache<String, List<RecommendedCampaign>> campaigns;
+
+    public LateRecommendationCache(RecommendationProperties recommendationProperties) {
+        this.products = Caffeine.newBuilder()
+                .maximumSize(recommendationProperties.getLlmResultMaxSize())
+                .expireAfterWrite(recommendationProperties.getLlmResultTtl())
+                .build();
+        this.campaigns = Caffeine.newBuilder()
+                .maximumSize(recommendationProperties.getLlmResultMaxSize())
+                .expireAfterWrite(recommendationProperties.getLlmResultTtl())
+                .build();
+    }
+
+    public List<RecommendedProduct> getProducts(Long customerId, Long campaignId, long catalogVersion) {
+        return products.getIfPresent(key(customerId, campaignId, catalogVersion));
+    }
+
+    public void putProducts(Long customerId, Long campaignId, long catalogVersion,
+                            List<RecommendedProduct> recommendations) {
+        products.put(key(customerId, campaignId, catalogVersion), recommendations);
+    }
+
+    public List<RecommendedCampaign> getCampaigns(Long customerId, long catalogVersion) {
+        return campaigns.getIfPresent(key(customerId, null, catalogVersion));
+    }
+
+    public void putCampaigns(Long customerId, long catalogVersion, List<RecommendedCampaign> recommendations) {
+        campaigns.put(key(customerId, null, catalogVersion), recommendations);
+    }
+
+    private static String key(Long customerId, Long campaignId, long catalogVersion) {
+        return customerId + ":" + (campaignId != null ? campaignId : "-") + ":" + catalogVersion;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ai_marketing_msg_be.domain.customer.service;
+
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 나이와 가입 자격(군인/외국인/복지 전용)으로 추천 불가 상품을 걸러냄
+ * 상품명의 "만 N세 이하/이상", "만 N~M세" 표기를 연령 제한으로 해석한다.
+ */
+@Slf4j
+@Component
+public class ProductEligibilityFilter {
+
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("만\\s*(\\d+)세\\s*이하");
+    private static final Pattern MIN_AGE_PATTERN = Pattern.compile("만\\s*(\\d+)세\\s*이상");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("만\\s*(\\d+)세?\\s*~\\s*(\\d+)세");
+
+    public List<ProductView> filterByAge(List<ProductView> products, Integer customerAge) {
+        if (customerAge == null) {
+            log.warn("고객 나이 정보 없음 - 필터링 없이 모든 상품 반환");
+            return products;
+        }
+
+        List<ProductView> filtered = new ArrayList<>();
+        for (ProductView product : products) {
+            String filterReason = ineligibleReason(product, customerAge);
+            if (filterReason == null) {
+                filtered.add(product);
+            } else {
+                log.debug("상품 필터링: [{}] - 사유: {}", product.getName(), filterReason);
+            }
+        }
+
+        log.info("필터링 결과: 전체 {}개 → 적격 {}개 (고객 나이: {}세)",
+                products.size(), filtered.size(), customerAge);
+
+        return filtered;
+    }
+
+    public boolean isEligible(ProductView product, Integer customerAge) {
+        return customerAge == null || ineligibleReason(product, customerAge) == null;
+    }
+
+    /**
+     * 추천할 수 없으면 사유를, 추천 가능하면 null 반환
+     */
+    private String ineligibleReason(ProductView product, int customerAge) {
+        String productName = product.getName();
+        String benefits = product.getBenefits() != null ? product.getBenefits() : "";
+
+        if ((productName.contains("장애인") || benefits.contains("장애인") ||
+                productName.contains("복지") || benefits.contains("복지") ||
+                productName.contains("국가유공자") || benefits.contains("국가유공자")) &&
+                (productName.contains("전용") || benefits.contains("전용"))) {
+            return "복지 대상자 전용 상품 (고객 정보 미확인)";
+        }
+
+        if (productName.contains("외국인") || benefits.contains("외국인")) {
+            return "외국인 전용 상품 (고객 정보 미확인)";
+        }
+
+        if (productName.contains("군인") || benefits.contains("군인")) {
+            return "군인 전용 상품 (고객 정보 미확인)";
+        }
+
+        Matcher maxAgeMatcher = MAX_AGE_PATTERN.matcher(productName);
+        if (maxAgeMatcher.find()) {
+            int maxAge = Integer.parseInt(maxAgeMatcher.group(1));
+            if (customerAge > maxAge) {
+                return String.format("최대 연령 제한(%d세) 초과", maxAge);
+            }
+        }
+
+        Matcher minAgeMatcher = MIN_AGE_PATTERN.matcher(productName);
+        if (minAgeMatcher.find()) {
+            int minAge = Integer.parseInt(minAgeMatcher.group(1));
+            if (customerAge < minAge) {
+                return String.format("최소 연령 제한(%d세) 미달", minAge);
+            }
+        }
+
+        Matcher rangeMatcher = RANGE_PATTERN.matcher(productName);
+        if (rangeMatcher.find()) {
+            int minAge = Integer.parseInt(rangeMatcher.group(1));
+            int maxAge = Integer.parseInt(rangeMatcher.group(2));
+            if (customerAge < minAge || customerAge > maxAge) {
+                return String.format("연령 범위(%d~%d세) 벗어남", minAge, maxAge);
+            }
+        }
+
+        return null;
+    }
+}
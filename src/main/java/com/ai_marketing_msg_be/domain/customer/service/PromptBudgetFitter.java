@@ -0,0 +1,93 @@
+package com.ai_marketing_msg_be.domain.customer.service;
+
+import com.ai_marketing_msg_be.domain.customer.config.RecommendationProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.service.PromptTokenizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트가 토큰 예산(maxPromptTokens와 모델 컨텍스트 윈도우 기준 예산 중 작은 값)을 넘지 않도록 후보를 줄임
+ * (추천 후보 상품/캠페인, 묶음 생성 고객)
+ * <p>
+ * 후보 앞쪽 순서를 유지한 채 뒤쪽부터 제외하며, 예산 안에 들어오는 가장 긴 앞부분을 이진 탐색으로 찾는다.
+ * 대부분의 요청은 전체 후보가 예산 안이라 프롬프트를 한 번만 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptBudgetFitter {
+
+    private final PromptTokenizer promptTokenizer;
+    private final RecommendationProperties recommendationProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 추천 프롬프트용, recommendation.max-prompt-tokens 적용
+     */
+    public <T> FittedPrompt<T> fit(String type, List<T> candidates,
+                                   Function<List<T>, String> promptBuilder,
+                                   Function<String, OpenAIRequest> requestBuilder) {
+        return fit(type, recommendationProperties.getMaxPromptTokens(), candidates, promptBuilder, requestBuilder);
+    }
+
+    public <T> FittedPrompt<T> fit(String type, int maxPromptTokens, List<T> candidates,
+                                   Function<List<T>, String> promptBuilder,
+                                   Function<String, OpenAIRequest> requestBuilder) {
+        FittedPrompt<T> full = build(candidates, promptBuilder, requestBuilder);
+        int budget = Math.min(maxPromptTokens, promptTokenizer.promptBudget(full.request));
+        if (full.promptTokens <= budget || candidates.size() <= 1) {
+            return full;
+        }
+
+        FittedPrompt<T> best = null;
+        int low = 1;
+        int high = candidates.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            FittedPrompt<T> attempt = build(candidates.subList(0, mid), promptBuilder, requestBuilder);
+            if (attempt.promptTokens <= budget) {
+                best = attempt;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (best == null) {
+            best = build(candidates.subList(0, 1), promptBuilder, requestBuilder);
+        }
+
+        meterRegistry.counter("prompt.truncated", "type", type).increment();
+        log.warn("프롬프트 토큰 예산 초과로 후보 축소 - type: {}, 후보: {} -> {}개, 토큰: {} -> {}, 예산: {}",
+                type, candidates.size(), best.candidates.size(), full.promptTokens, best.promptTokens, budget);
+        return best;
+    }
+
+    private <T> FittedPrompt<T> build(List<T> candidates, Function<List<T>, String> promptBuilder,
+                                      Function<String, OpenAIRequest> requestBuilder) {
+        OpenAIRequest request = requestBuilder.apply(promptBuilder.apply(candidates));
+        return new FittedPrompt<>(candidates, request, promptTokenizer.countPromptTokens(request));
+    }
+
+    @Getter
+    public static final class FittedPrompt<T> {
+        private final List<T> candidates;
+        private final OpenAIRequest request;
+        private final int promptTokens;
+
+        private FittedPrompt(List<T> candidates, OpenAIRequest request, int promptTokens) {
+            this.candidates = candidates;
+            this.request = request;
+            this.promptTokens = promptTokens;
+        }
+
+        public String prompt() {
+            return request.getMessages().get(request.getMessages().size() - 1).getContent();
+        }
+    }
+}
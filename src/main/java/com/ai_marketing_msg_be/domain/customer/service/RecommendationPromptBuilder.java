@@ -0,0 +1,586 @@
+package com.ai_marketing_msg_be.domain.customer.service;
+
+import com.ai_marketing_msg_be.config.PromptProperties;
+import com.ai_marketing_msg_be.domain.catalog.vo.CampaignView;
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 맞춤 상품/캠페인 추천용 프롬프트 생성
+ * <p>
+ * prefix-stable 배치에서는 고객과 무관한 지시문을 상수로 앞에 두고, 카탈로그(상품/캠페인 목록),
+ * 고객별 프로필과 규칙 순서로 이어 붙여 OpenAI 프롬프트 캐시가 앞부분을 재사용하도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationPromptBuilder {
+
+    private static final String PRODUCT_INSTRUCTIONS = buildProductInstructions(false);
+    private static final String CAMPAIGN_PRODUCT_INSTRUCTIONS = buildProductInstructions(true);
+    private static final String CAMPAIGN_INSTRUCTIONS = buildCampaignInstructions(false);
+    private static final String PRODUCT_CAMPAIGN_INSTRUCTIONS = buildCampaignInstructions(true);
+
+    private final PromptProperties promptProperties;
+
+    public String buildProductRecommendationPrompt(Customer customer, List<ProductView> products) {
+        if (promptProperties.isPrefixStable()) {
+            return buildPrefixStableProductPrompt(customer, products, null);
+        }
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("🚨 **절대 준수 규칙 - 위반 시 추천 무효** 🚨\n\n");
+
+        prompt.append("❌ 규칙0: **반드시 정확히 3개 추천** (1개나 2개는 불가)\n");
+
+        appendCustomerRules(customer, prompt, true);
+
+        prompt.append("\n🔥 위 4가지 규칙 위반 = 즉시 제외! 🔥\n");
+        prompt.append("=".repeat(60) + "\n\n");
+
+        appendCustomerSummary(customer, prompt);
+
+        appendProductCatalog(products, prompt);
+
+        prompt.append("## 추천 전 체크리스트\n");
+        prompt.append("[ ] 다운그레이드 아닌가?\n");
+        prompt.append("[ ] 데이터 사용량 충분한가?\n");
+        prompt.append("[ ] 멤버십 가격대 맞는가?\n");
+        prompt.append("\n⚠️ 모바일 요금제가 부족하면 OTT/디바이스/생활편의 카테고리 추천\n\n");
+
+        prompt.append("## 응답 (JSON만, 다른 텍스트 금지)\n");
+        prompt.append("⚠️ **반드시 정확히 3개 추천 필수** (더 많거나 적으면 안됨)\n\n");
+
+        prompt.append("### ✍️ reason 작성 규칙 (매우 중요)\n");
+        prompt.append("❌ 나쁜 예: \"적합하여 추천드립니다\" (너무 짧고 성의없음)\n");
+        prompt.append("❌ 나쁜 예: \"김다혜, 27세, 5G 스탠다드 사용 중\" (단어만 나열)\n");
+        prompt.append(
+                "✅ 좋은 예: \"김다혜님은 27세 WHITE 등급으로 5G 스탠다드 요금제를 사용 중이며 월 36.8GB의 데이터를 사용합니다. 이 상품은 데이터 무제한과 OTT 혜택을 제공하여, 고객의 높은 데이터 사용 패턴과 멤버십 등급을 고려할 때 실질적인 비용 절감과 편의성 향상을 제공합니다.\"\n\n");
+
+        prompt.append("**reason 필수 포함 (3가지 모두):**\n");
+        prompt.append("1️⃣ 고객 상황: 이름 + 나이 + 등급 + 현재 요금제 + 데이터 사용량\n");
+        prompt.append("2️⃣ 상품 특징: 이 상품만의 구체적인 장점/혜택\n");
+        prompt.append("3️⃣ 연결고리: 왜 이 고객에게 이 상품이 맞는지 논리적 설명\n");
+        prompt.append("**최소 길이: 2-3문장, 100자 이상**\n\n");
+
+        appendProductResponseArray(prompt);
+
+        return prompt.toString();
+    }
+
+    public String buildProductRecommendationPromptWithCampaign(
+            Customer customer, List<ProductView> products, CampaignView campaign) {
+
+        if (promptProperties.isPrefixStable()) {
+            return buildPrefixStableProductPrompt(customer, products, campaign);
+        }
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("🚨 **절대 준수 규칙 - 위반 시 추천 무효** 🚨\n\n");
+
+        prompt.append("❌ 규칙0: **반드시 정확히 3개 추천** (1개나 2개는 불가)\n");
+
+        appendCustomerRules(customer, prompt, false);
+
+        prompt.append("\n🔥 위 4가지 규칙 위반 = 즉시 제외! 🔥\n");
+        prompt.append("=".repeat(60) + "\n\n");
+
+        appendTargetCampaign(campaign, prompt);
+
+        appendCustomerSummary(customer, prompt);
+
+        appendProductCatalog(products, prompt);
+
+        prompt.append("## 추천 원칙\n");
+        prompt.append("캠페인 목적 50% + 고객 적합성 50%\n\n");
+
+        prompt.append("## 추천 전 체크리스트\n");
+        prompt.append("[ ] 캠페인 목적에 맞는가?\n");
+        prompt.append("[ ] 다운그레이드 아닌가?\n");
+        prompt.append("[ ] 데이터 사용량 충분한가?\n");
+        prompt.append("[ ] 멤버십 가격대 맞는가?\n");
+        prompt.append("\n⚠️ 모바일 요금제가 부족하면 OTT/디바이스/생활편의 카테고리 추천\n\n");
+
+        prompt.append("## 응답 (JSON만, 다른 텍스트 금지)\n");
+        prompt.append("⚠️ **반드시 정확히 3개 추천 필수** (더 많거나 적으면 안됨)\n\n");
+
+        prompt.append("### ✍️ reason 작성 규칙 (매우 중요)\n");
+        prompt.append("❌ 나쁜 예: \"인터넷 속도 업그레이드 특별 할인, 김다혜, 5G 스탠다드 사용 중\" (단어만 나열)\n");
+        prompt.append("❌ 나쁜 예: \"캠페인 혜택이 좋아서 추천\" (너무 짧고 성의없음)\n");
+        prompt.append(
+                "✅ 좋은 예: \"'인터넷 속도 업그레이드 특별 할인' 캠페인은 김다혜님(27세, WHITE 등급, 5G 스탠다드 사용 중)에게 적합합니다. 이 상품은 [구체적 상품 특징]을 제공하며, 캠페인의 [구체적 할인/혜택]과 결합하여 고객의 [니즈/상황]에 최적화된 솔루션을 제공합니다.\"\n\n");
+
+        prompt.append("**reason 필수 포함 (4가지 모두):**\n");
+        prompt.append("1️⃣ 캠페인명: 정확한 캠페인 이름\n");
+        prompt.append("2️⃣ 고객 상황: 이름 + 나이 + 등급 + 현재 요금제\n");
+        prompt.append("3️⃣ 상품 특징: 이 상품의 구체적 장점\n");
+        prompt.append("4️⃣ 시너지 설명: 캠페인 혜택 + 상품 특징이 고객에게 주는 가치\n");
+        prompt.append("**최소 길이: 2-3문장, 100자 이상**\n\n");
+
+        appendProductResponseArray(prompt);
+
+        return prompt.toString();
+    }
+
+    public String buildCampaignRecommendationPromptWithProduct(
+            Customer customer,
+            List<CampaignView> campaigns,
+            ProductView targetProduct) {
+
+        if (promptProperties.isPrefixStable()) {
+            StringBuilder prompt = new StringBuilder(PRODUCT_CAMPAIGN_INSTRUCTIONS);
+            getActiveCampaignsInfoToJson(campaigns, prompt);
+            appendTargetProduct(targetProduct, prompt);
+            getCustomerProfileInfoToJson(customer, prompt);
+            return prompt.toString();
+        }
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 KT의 마케팅 전문가입니다.\n");
+        prompt.append("고객 정보와 활성 캠페인 목록을 분석하여 최적의 캠페인 3개를 추천해주세요.\n\n");
+
+        prompt.append("🎯 **핵심 미션**: 아래 타겟 상품과 고객을 위한 최적 캠페인을 찾아주세요!\n\n");
+
+        appendTargetProduct(targetProduct, prompt);
+
+        getCustomerProfileInfoToJson(customer, prompt);
+        getActiveCampaignsInfoToJson(campaigns, prompt);
+
+        prompt.append("⚖️ **추천 균형 원칙 (반드시 준수)**:\n");
+        prompt.append("- 상품 연관성: 50% - 이 상품과 직접 관련된 캠페인인가?\n");
+        prompt.append("- 고객 적합성: 50% - 이 고객에게도 적합한 캠페인인가?\n");
+        prompt.append("→ 두 요소를 균형있게 고려하여 추천하세요.\n\n");
+
+        prompt.append("### 🎯 추천 기준 (반드시 준수)\n\n");
+
+        prompt.append("#### 1. 논리적 적합성 검증 (필수)\n");
+        prompt.append("추천 전에 다음을 반드시 확인하세요:\n");
+        prompt.append("- 상품 타겟 연령/조건이 고객과 맞는가?\n");
+        prompt.append("- 캠페인 대상이 고객과 맞는가?\n");
+        prompt.append("#### 2️. reason 작성 3단계 (구체적으로)\n\n");
+        prompt.append("**[1단계] 고객의 현재 상황 분석**\n");
+        prompt.append("**[2단계] 상품의 핵심 특징 파악**\n");
+        prompt.append(String.format("- %s: %s 카테고리\n",
+                targetProduct.getName(), targetProduct.getCategory()));
+        if (targetProduct.getBenefits() != null) {
+            prompt.append("- 상품 혜택:\n");
+            String[] benefits = targetProduct.getBenefits().split("[,/]");
+            for (String b : benefits) {
+                prompt.append(String.format("  • %s\n", b.trim()));
+            }
+        }
+        prompt.append("\n");
+        prompt.append("**[3단계] 연결고리 명확히 설명**\n");
+        prompt.append("reason에 반드시 포함할 내용:\n");
+        prompt.append("1. 이 상품이 고객에게 왜 필요한가? (구체적 근거)\n");
+        prompt.append("2. 이 캠페인이 왜 이 상품 구매를 도와주는가? (할인/혜택)\n");
+        prompt.append("3. 두 가지가 결합되면 고객에게 무엇이 좋은가? (시너지)\n\n");
+
+        String exampleReason = String.format(
+                "000님은 00세 VIP 고객으로 0000를 사용 중이며 월 00GB의 데이터를 소비하는 유저입니다. " +
+                        "%s 상품은 [상품의 구체적 특징]을 제공하며, " +
+                        "이 캠페인의 [캠페인 혜택 구체적 명시]를 통해 " +
+                        "[고객이 얻는 실질적 이득]을 누릴 수 있습니다.",
+                targetProduct.getName()
+        );
+
+        prompt.append(buildCampaignResponseCommonFormat(true, exampleReason));
+        return prompt.toString();
+    }
+
+    public String buildCampaignRecommendationPrompt(Customer customer, List<CampaignView> campaigns) {
+        if (promptProperties.isPrefixStable()) {
+            StringBuilder prompt = new StringBuilder(CAMPAIGN_INSTRUCTIONS);
+            getActiveCampaignsInfoToJson(campaigns, prompt);
+            getCustomerProfileInfoToJson(customer, prompt);
+            return prompt.toString();
+        }
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 KT의 마케팅 전문가입니다.\n");
+        prompt.append("고객 정보와 활성 캠페인 목록을 분석하여 최적의 캠페인 3개를 추천해주세요.\n\n");
+
+        prompt.append("🎯 **핵심 미션**: 아래의 고객 프로필과 활성 캠페인 정보를 분석하여 최적 캠페인을 찾아주세요!\n\n");
+
+        getCustomerProfileInfoToJson(customer, prompt);
+        getActiveCampaignsInfoToJson(campaigns, prompt);
+
+        prompt.append("\n## 🎯 추천 기준\n\n");
+        prompt.append("**추천 시 반드시 고려할 점:**\n");
+        prompt.append("1. **고객의 현재 상태를 구체적으로 언급**하세요\n");
+        prompt.append("   - 예: \"000 고객은 5G 시그니처 요금제를 사용중이며...\"\n");
+        prompt.append("   - 예: \"VIP 등급으로서 프리미엄 서비스 선호도가 높으므로...\"\n\n");
+
+        prompt.append("2. **reason 작성 시 필수 포함 요소:**\n");
+        prompt.append("   - 고객의 이름\n");
+        prompt.append("   - 고객의 구체적 상황 (요금제, 멤버십, 사용 패턴 등)\n");
+        prompt.append("   - 이 캠페인이 **왜 이 고객에게** 적합한지 개인화된 설명\n\n");
+
+        prompt.append("3. **일반적 마케팅 용어 지양:**\n");
+        prompt.append("   - ❌ \"고객의 구매욕구를 자극\"\n");
+        prompt.append("   - ❌ \"고객유지 효과 기대\"\n");
+        prompt.append("   - ✅ \"000 고객님의 [구체적 상황]을 고려할 때...\"\n\n");
+
+        String exampleReason = String.format(
+                "%s 고객은 %s 등급이며 %s 요금제를 사용중입니다. 이 캠페인은 고객의 현재 상황에 매우 적합하며...",
+                customer.getName(),
+                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "회원",
+                customer.getCurrentPlan() != null ? customer.getCurrentPlan() : "현재"
+        );
+
+        prompt.append(buildCampaignResponseCommonFormat(false, exampleReason));
+        return prompt.toString();
+    }
+
+    /**
+     * 고정 지시문 → 상품 목록 → (타겟 캠페인) → 고객 프로필과 고객별 규칙 순서
+     */
+    private String buildPrefixStableProductPrompt(Customer customer, List<ProductView> products,
+                                                  CampaignView campaign) {
+        StringBuilder prompt = new StringBuilder(campaign != null ? CAMPAIGN_PRODUCT_INSTRUCTIONS : PRODUCT_INSTRUCTIONS);
+
+        appendProductCatalog(products, prompt);
+        if (campaign != null) {
+            appendTargetCampaign(campaign, prompt);
+        }
+        appendCustomerSummary(customer, prompt);
+
+        prompt.append("## 이 고객에게 적용되는 규칙\n");
+        appendCustomerRules(customer, prompt, false);
+        return prompt.toString();
+    }
+
+    /**
+     * 상품 추천의 고객과 무관한 지시문, 규칙은 일반형으로 쓰고 고객별 값은 프롬프트 끝에 둔다.
+     */
+    private static String buildProductInstructions(boolean withCampaign) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("🚨 **절대 준수 규칙 - 위반 시 추천 무효** 🚨\n\n");
+        prompt.append("❌ 규칙0: **반드시 정확히 3개 추천** (1개나 2개는 불가)\n");
+        prompt.append("❌ 규칙1: 5G 요금제 고객 → **LTE/3G 추천 절대 금지**, LTE 요금제 고객 → **3G 추천 절대 금지**\n");
+        prompt.append("❌ 규칙2: 고객 월 데이터 사용량 **미만 요금제 추천 금지**\n");
+        prompt.append("   예: 36.8GB 고객에게 15GB 요금제 추천 불가!\n");
+        prompt.append("❌ 규칙3: 멤버십별 가격대\n");
+        prompt.append("   - WHITE/BASIC → **현재 가격 ±20% 초과 금지** (예: 5만원 사용 중 → 4~6만원대만 OK, 9만원 절대 불가!)\n");
+        prompt.append("   - SILVER/GOLD → **현재 가격 ±30% 초과 지양**\n");
+        prompt.append("   - VIP/VVIP → 가격 제한 없음 (프리미엄 OK)\n");
+        prompt.append("\n🔥 위 4가지 규칙 위반 = 즉시 제외! 고객별 적용 값은 맨 아래 '이 고객에게 적용되는 규칙' 참고 🔥\n");
+        prompt.append("=".repeat(60) + "\n\n");
+
+        if (withCampaign) {
+            prompt.append("## 추천 원칙\n");
+            prompt.append("캠페인 목적 50% + 고객 적합성 50%\n\n");
+        }
+
+        prompt.append("## 추천 전 체크리스트\n");
+        if (withCampaign) {
+            prompt.append("[ ] 캠페인 목적에 맞는가?\n");
+        }
+        prompt.append("[ ] 다운그레이드 아닌가?\n");
+        prompt.append("[ ] 데이터 사용량 충분한가?\n");
+        prompt.append("[ ] 멤버십 가격대 맞는가?\n");
+        prompt.append("\n⚠️ 모바일 요금제가 부족하면 OTT/디바이스/생활편의 카테고리 추천\n\n");
+
+        prompt.append("## 응답 (JSON만, 다른 텍스트 금지)\n");
+        prompt.append("⚠️ **반드시 정확히 3개 추천 필수** (더 많거나 적으면 안됨)\n\n");
+
+        prompt.append("### ✍️ reason 작성 규칙 (매우 중요)\n");
+        if (withCampaign) {
+            prompt.append("❌ 나쁜 예: \"인터넷 속도 업그레이드 특별 할인, 김다혜, 5G 스탠다드 사용 중\" (단어만 나열)\n");
+            prompt.append("❌ 나쁜 예: \"캠페인 혜택이 좋아서 추천\" (너무 짧고 성의없음)\n");
+            prompt.append(
+                    "✅ 좋은 예: \"'인터넷 속도 업그레이드 특별 할인' 캠페인은 김다혜님(27세, WHITE 등급, 5G 스탠다드 사용 중)에게 적합합니다. 이 상품은 [구체적 상품 특징]을 제공하며, 캠페인의 [구체적 할인/혜택]과 결합하여 고객의 [니즈/상황]에 최적화된 솔루션을 제공합니다.\"\n\n");
+
+            prompt.append("**reason 필수 포함 (4가지 모두):**\n");
+            prompt.append("1️⃣ 캠페인명: 정확한 캠페인 이름\n");
+            prompt.append("2️⃣ 고객 상황: 이름 + 나이 + 등급 + 현재 요금제\n");
+            prompt.append("3️⃣ 상품 특징: 이 상품의 구체적 장점\n");
+            prompt.append("4️⃣ 시너지 설명: 캠페인 혜택 + 상품 특징이 고객에게 주는 가치\n");
+        } else {
+            prompt.append("❌ 나쁜 예: \"적합하여 추천드립니다\" (너무 짧고 성의없음)\n");
+            prompt.append("❌ 나쁜 예: \"김다혜, 27세, 5G 스탠다드 사용 중\" (단어만 나열)\n");
+            prompt.append(
+                    "✅ 좋은 예: \"김다혜님은 27세 WHITE 등급으로 5G 스탠다드 요금제를 사용 중이며 월 36.8GB의 데이터를 사용합니다. 이 상품은 데이터 무제한과 OTT 혜택을 제공하여, 고객의 높은 데이터 사용 패턴과 멤버십 등급을 고려할 때 실질적인 비용 절감과 편의성 향상을 제공합니다.\"\n\n");
+
+            prompt.append("**reason 필수 포함 (3가지 모두):**\n");
+            prompt.append("1️⃣ 고객 상황: 이름 + 나이 + 등급 + 현재 요금제 + 데이터 사용량\n");
+            prompt.append("2️⃣ 상품 특징: 이 상품만의 구체적인 장점/혜택\n");
+            prompt.append("3️⃣ 연결고리: 왜 이 고객에게 이 상품이 맞는지 논리적 설명\n");
+        }
+        prompt.append("**최소 길이: 2-3문장, 100자 이상**\n\n");
+
+        appendProductResponseArray(prompt);
+        prompt.append("\n");
+
+        return prompt.toString();
+    }
+
+    /**
+     * 캠페인 추천의 고객과 무관한 지시문, 응답 예시도 고객/상품 이름 대신 자리표시자를 쓴다.
+     */
+    private static String buildCampaignInstructions(boolean withProduct) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 KT의 마케팅 전문가입니다.\n");
+        prompt.append("고객 정보와 활성 캠페인 목록을 분석하여 최적의 캠페인 3개를 추천해주세요.\n\n");
+
+        String exampleReason;
+        if (withProduct) {
+            prompt.append("🎯 **핵심 미션**: 아래 타겟 상품과 고객을 위한 최적 캠페인을 찾아주세요!\n\n");
+
+            prompt.append("⚖️ **추천 균형 원칙 (반드시 준수)**:\n");
+            prompt.append("- 상품 연관성: 50% - 이 상품과 직접 관련된 캠페인인가?\n");
+            prompt.append("- 고객 적합성: 50% - 이 고객에게도 적합한 캠페인인가?\n");
+            prompt.append("→ 두 요소를 균형있게 고려하여 추천하세요.\n\n");
+
+            prompt.append("### 🎯 추천 기준 (반드시 준수)\n\n");
+
+            prompt.append("#### 1. 논리적 적합성 검증 (필수)\n");
+            prompt.append("추천 전에 다음을 반드시 확인하세요:\n");
+            prompt.append("- 상품 타겟 연령/조건이 고객과 맞는가?\n");
+            prompt.append("- 캠페인 대상이 고객과 맞는가?\n");
+            prompt.append("#### 2️. reason 작성 3단계 (구체적으로)\n\n");
+            prompt.append("**[1단계] 고객의 현재 상황 분석**\n");
+            prompt.append("**[2단계] 상품의 핵심 특징 파악** (아래 '타겟 상품 정보' 참고)\n");
+            prompt.append("**[3단계] 연결고리 명확히 설명**\n");
+            prompt.append("reason에 반드시 포함할 내용:\n");
+            prompt.append("1. 이 상품이 고객에게 왜 필요한가? (구체적 근거)\n");
+            prompt.append("2. 이 캠페인이 왜 이 상품 구매를 도와주는가? (할인/혜택)\n");
+            prompt.append("3. 두 가지가 결합되면 고객에게 무엇이 좋은가? (시너지)\n\n");
+
+            exampleReason = "000님은 00세 VIP 고객으로 0000를 사용 중이며 월 00GB의 데이터를 소비하는 유저입니다. "
+                    + "[타겟 상품명] 상품은 [상품의 구체적 특징]을 제공하며, "
+                    + "이 캠페인의 [캠페인 혜택 구체적 명시]를 통해 "
+                    + "[고객이 얻는 실질적 이득]을 누릴 수 있습니다.";
+        } else {
+            prompt.append("🎯 **핵심 미션**: 아래의 고객 프로필과 활성 캠페인 정보를 분석하여 최적 캠페인을 찾아주세요!\n\n");
+
+            prompt.append("## 🎯 추천 기준\n\n");
+            prompt.append("**추천 시 반드시 고려할 점:**\n");
+            prompt.append("1. **고객의 현재 상태를 구체적으로 언급**하세요\n");
+            prompt.append("   - 예: \"000 고객은 5G 시그니처 요금제를 사용중이며...\"\n");
+            prompt.append("   - 예: \"VIP 등급으로서 프리미엄 서비스 선호도가 높으므로...\"\n\n");
+
+            prompt.append("2. **reason 작성 시 필수 포함 요소:**\n");
+            prompt.append("   - 고객의 이름\n");
+            prompt.append("   - 고객의 구체적 상황 (요금제, 멤버십, 사용 패턴 등)\n");
+            prompt.append("   - 이 캠페인이 **왜 이 고객에게** 적합한지 개인화된 설명\n\n");
+
+            prompt.append("3. **일반적 마케팅 용어 지양:**\n");
+            prompt.append("   - ❌ \"고객의 구매욕구를 자극\"\n");
+            prompt.append("   - ❌ \"고객유지 효과 기대\"\n");
+            prompt.append("   - ✅ \"000 고객님의 [구체적 상황]을 고려할 때...\"\n\n");
+
+            exampleReason = "[고객 이름] 고객은 [멤버십] 등급이며 [현재 요금제] 요금제를 사용중입니다. "
+                    + "이 캠페인은 고객의 현재 상황에 매우 적합하며...";
+        }
+
+        prompt.append(buildCampaignResponseCommonFormat(withProduct, exampleReason));
+        prompt.append("\n");
+        return prompt.toString();
+    }
+
+    private void appendCustomerRules(Customer customer, StringBuilder prompt, boolean withExamples) {
+        if (customer.getCurrentPlan() != null) {
+            String currentPlan = customer.getCurrentPlan();
+            if (currentPlan.contains("5G")) {
+                prompt.append(String.format("❌ 규칙1: 고객은 '%s' 사용 중 → **LTE/3G 추천 절대 금지**\n", currentPlan));
+            } else if (currentPlan.contains("LTE")) {
+                prompt.append(String.format("❌ 규칙1: 고객은 '%s' 사용 중 → **3G 추천 절대 금지**\n", currentPlan));
+            }
+        }
+
+        if (customer.getAvgDataUsageGb() != null) {
+            BigDecimal dataUsage = customer.getAvgDataUsageGb();
+            prompt.append(String.format("❌ 규칙2: 고객 데이터 %.1fGB/월 → **%.1fGB 미만 요금제 추천 금지**\n",
+                    dataUsage, dataUsage));
+            if (withExamples) {
+                prompt.append("   예: 36.8GB 고객에게 15GB 요금제 추천 불가!\n");
+            }
+        }
+
+        if (customer.getMembershipLevel() != null) {
+            String membership = customer.getMembershipLevel().name();
+            if (membership.equals("WHITE") || membership.equals("BASIC")) {
+                prompt.append("❌ 규칙3: WHITE/BASIC → **현재 가격 ±20% 초과 금지**\n");
+                if (withExamples) {
+                    prompt.append("   예: 5만원 사용 중 → 4~6만원대만 OK, 9만원 절대 불가!\n");
+                }
+            } else if (membership.equals("SILVER") || membership.equals("GOLD")) {
+                prompt.append("❌ 규칙3: SILVER/GOLD → **현재 가격 ±30% 초과 지양**\n");
+            } else if (membership.contains("VIP")) {
+                prompt.append(withExamples
+                        ? "✅ 규칙3: VIP/VVIP → 가격 제한 없음 (프리미엄 OK)\n"
+                        : "✅ 규칙3: VIP/VVIP → 가격 제한 없음\n");
+            }
+        }
+    }
+
+    private void appendCustomerSummary(Customer customer, StringBuilder prompt) {
+        prompt.append("## 고객\n");
+        prompt.append(String.format("%s / %d세 / %s\n",
+                customer.getName(),
+                customer.getAge(),
+                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "일반"));
+        prompt.append(String.format("현재: %s", customer.getCurrentPlan()));
+        if (customer.getAvgDataUsageGb() != null) {
+            prompt.append(String.format(" / %.1fGB 사용", customer.getAvgDataUsageGb()));
+        }
+        prompt.append("\n\n");
+    }
+
+    private void appendProductCatalog(List<ProductView> products, StringBuilder prompt) {
+        prompt.append("## 상품 목록\n");
+        for (ProductView p : products) {
+            String priceStr = p.getPriceDisplay();
+            prompt.append(String.format("[%d] %s | %s | %s\n",
+                    p.getProductId(),
+                    p.getName(),
+                    priceStr,
+                    p.getCategory()));
+        }
+        prompt.append("\n");
+    }
+
+    private void appendTargetCampaign(CampaignView campaign, StringBuilder prompt) {
+        prompt.append("## 타겟 캠페인\n");
+        prompt.append(String.format("%s (%s)\n", campaign.getName(), campaign.getType().getDisplayName()));
+        if (campaign.getDescription() != null) {
+            prompt.append(String.format("혜택: %s\n", campaign.getDescription()));
+        }
+        prompt.append("\n");
+    }
+
+    private void appendTargetProduct(ProductView targetProduct, StringBuilder prompt) {
+        prompt.append("### 📦 타겟 상품 정보 (매우 중요)\n");
+        prompt.append(String.format("- 상품명: %s\n", targetProduct.getName()));
+        prompt.append(String.format("- 카테고리: %s\n", targetProduct.getCategory()));
+        prompt.append(String.format("- 가격: %,d원\n", targetProduct.getPrice().intValue()));
+        if (targetProduct.getBenefits() != null) {
+            prompt.append(String.format("- 핵심 혜택:\n%s\n", formatBenefits(targetProduct.getBenefitItems())));
+        }
+        prompt.append("\n");
+    }
+
+    private static void appendProductResponseArray(StringBuilder prompt) {
+        prompt.append("[\n");
+        prompt.append(
+                "  {\"rank\":1, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100},\n");
+        prompt.append(
+                "  {\"rank\":2, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100},\n");
+        prompt.append(
+                "  {\"rank\":3, \"productId\":ID, \"reason\":\"구체적이고 상세한 2-3문장\", \"expectedBenefit\":\"혜택\", \"relevanceScore\":85-100}\n");
+        prompt.append("]\n");
+    }
+
+    private void getCustomerProfileInfoToJson(Customer customer, StringBuilder prompt) {
+        prompt.append("## 📊 고객 프로필\n");
+        prompt.append(String.format("- **이름**: %s\n", customer.getName()));
+        prompt.append(String.format("- **나이/성별**: %d세 %s\n",
+                customer.getAge(),
+                customer.getGender() != null ? customer.getGender().getDescription() : "미지정"));
+        prompt.append(String.format("- **멤버십**: %s 등급\n",
+                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "미지정"));
+
+        if (customer.getJoinDate() != null) {
+            long yearsAsCustomer = java.time.temporal.ChronoUnit.YEARS.between(
+                    customer.getJoinDate(),
+                    java.time.LocalDateTime.now()
+            );
+            prompt.append(String.format("- **가입일**: %s (%d년 이용 고객)\n",
+                    customer.getJoinDate().toLocalDate(), yearsAsCustomer));
+        }
+
+        if (customer.getRegion() != null) {
+            prompt.append(String.format("- **거주 지역**: %s\n",
+                    customer.getRegion().getDescription()));
+        }
+
+        prompt.append(String.format("- **현재 요금제**: %s\n", customer.getCurrentPlan()));
+
+        if (customer.getCurrentDevice() != null) {
+            prompt.append(String.format("- **현재 기기**: %s\n", customer.getCurrentDevice()));
+        }
+
+        prompt.append(String.format("- **데이터 사용량**: %.1fGB (월평균)\n",
+                customer.getAvgDataUsageGb()));
+
+        if (customer.getRecencyDays() != null) {
+            prompt.append(String.format("- **마지막 구매**: %d일 전\n",
+                    customer.getRecencyDays()));
+        }
+        if (customer.getContractEndDate() != null) {
+            prompt.append(String.format("- **약정 종료일**: %s\n",
+                    customer.getContractEndDate()));
+        }
+        prompt.append("\n");
+    }
+
+    private void getActiveCampaignsInfoToJson(List<CampaignView> campaigns, StringBuilder prompt) {
+        prompt.append("### 📋 활성 캠페인 목록\n");
+        for (int i = 0; i < campaigns.size(); i++) {
+            CampaignView c = campaigns.get(i);
+            prompt.append(String.format("%d. [ID:%d] %s (%s)\n",
+                    i + 1, c.getCampaignId(), c.getName(), c.getType().getDisplayName()));
+            if (c.getDescription() != null) {
+                prompt.append(String.format("   혜택: %s\n", c.getDescription()));
+            }
+        }
+        prompt.append("\n");
+    }
+
+    private static String buildCampaignResponseCommonFormat(boolean withProduct, String exampleReason) {
+        StringBuilder format = new StringBuilder();
+        format.append("### 📤 응답 형식 (JSON만 출력, 다른 텍스트 금지)\n");
+        format.append("[\n");
+        format.append("  {\n");
+        format.append("    \"rank\": 순위,\n");
+        format.append("    \"campaignId\": 캠페인아이디,\n");
+        format.append(String.format("    \"reason\": \"%s\",\n", exampleReason));
+        format.append("    \"expectedBenefit\": \"예상 혜택\",\n");
+        format.append("    \"relevanceScore\": 연관도 점수\n");
+        format.append("  },\n");
+        format.append("  {\n");
+        format.append("    \"rank\": 순위,\n");
+        format.append("    \"campaignId\": 캠페인아이디,\n");
+        format.append(String.format("    \"reason\": \"%s\",\n", exampleReason));
+        format.append("    \"expectedBenefit\": \"...\",\n");
+        format.append("    \"relevanceScore\": 연관도 점수\n");
+        format.append("  },\n");
+        format.append("  {\n");
+        format.append("    \"rank\": 순위,\n");
+        format.append("    \"campaignId\": 캠페인아이디,\n");
+        format.append(String.format("    \"reason\": \"%s\",\n", exampleReason));
+        format.append("    \"expectedBenefit\": \"...\",\n");
+        format.append("    \"relevanceScore\": 연관도 점수\n");
+        format.append("  }\n");
+        format.append("]\n");
+        format.append("\n");
+        format.append("- **rank**: 1 (최우선), 2, 3 순서대로 부여\n");
+        format.append("- **relevanceScore**: 85~100 사이 점수\n");
+
+        if (withProduct) {
+            format.append("- **reason**: 타겟 상품 연관성(50%) + 고객 적합성(50%) 모두 명시\n");
+        } else {
+            format.append("- **reason**: 고객의 이름과 구체적 상황을 포함한 개인화된 설명\n");
+        }
+
+        return format.toString();
+    }
+
+    private static String formatBenefits(List<String> benefitItems) {
+        if (benefitItems.isEmpty()) {
+            return "  (혜택 정보 없음)";
+        }
+
+        StringBuilder formatted = new StringBuilder();
+        for (String item : benefitItems) {
+            formatted.append("  • ").append(item).append("\n");
+        }
+        return formatted.toString();
+    }
+}
@@ -0,0 +1,258 @@
+package com.ai_marketing_msg_be.domain.customer.service;
+
+import com.ai_marketing_msg_be.domain.catalog.service.CatalogSnapshot;
+import com.ai_marketing_msg_be.domain.catalog.vo.CampaignView;
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.customer.dto.RecommendedProduct;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.entity.MembershipLevel;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 응답이 늦을 때 쓰는 결정적 상품 추천
+ * <p>
+ * 상품 추천 프롬프트의 규칙을 그대로 적용한다.
+ * 5G/LTE 사용자에게 하위 세대 요금제 제외, 월 데이터 사용량보다 적은 제공량 제외,
+ * WHITE/BASIC은 현재 요금 ±20% 밖 제외, SILVER/GOLD는 ±30% 밖 감점, VIP/VVIP는 가격 제한 없음.
+ * 현재 요금은 고객의 요금제명과 같은 상품 가격으로 판단하며, 찾지 못하면 가격 규칙은 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RuleBasedProductRanker {
+
+    private static final int RECOMMENDATION_COUNT = 3;
+    private static final int BASE_SCORE = 85;
+    private static final double UNLIMITED = Double.MAX_VALUE;
+    private static final Pattern DATA_ALLOWANCE_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*GB",
+            Pattern.CASE_INSENSITIVE);
+
+    private final CatalogSnapshot catalogSnapshot;
+
+    public List<RecommendedProduct> rank(Customer customer, List<ProductView> eligibleProducts,
+                                         CampaignView targetCampaign) {
+        int customerGeneration = networkGeneration(customer.getCurrentPlan());
+        double dataUsage = customer.getAvgDataUsageGb() != null ? customer.getAvgDataUsageGb().doubleValue() : 0;
+        BigDecimal currentPrice = findCurrentPlanPrice(customer.getCurrentPlan());
+        double priceBand = priceBand(customer.getMembershipLevel());
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (ProductView product : eligibleProducts) {
+            int generation = networkGeneration(product.getName());
+            if (generation > 0 && generation < customerGeneration) {
+                continue;
+            }
+
+            Double allowance = dataAllowance(product);
+            if (allowance != null && allowance < dataUsage) {
+                continue;
+            }
+
+            Double priceGap = priceGap(product, currentPrice);
+            boolean outsideBand = priceGap != null && priceBand > 0 && priceGap > priceBand;
+            if (outsideBand && isStrictPriceBand(customer.getMembershipLevel())) {
+                continue;
+            }
+
+            List<String> highlights = new ArrayList<>();
+            int score = BASE_SCORE;
+
+            if (generation > 0 && customerGeneration > 0) {
+                if (generation > customerGeneration) {
+                    score += 6;
+                    highlights.add(generationLabel(generation) + " 요금제로 업그레이드");
+                } else {
+                    score += 3;
+                    highlights.add("현재와 같은 " + generationLabel(generation) + " 요금제");
+                }
+            }
+
+            if (allowance != null) {
+                if (allowance == UNLIMITED) {
+                    score += 4;
+                    highlights.add("데이터 무제한");
+                } else if (allowance >= dataUsage * 1.2) {
+                    score += 3;
+                    highlights.add(String.format("월 %.0fGB로 사용량 대비 여유", allowance));
+                } else {
+                    score += 1;
+                }
+            }
+
+            if (priceGap != null) {
+                if (outsideBand) {
+                    score -= 5;
+                } else {
+                    score += (int) Math.round(3 * (1 - Math.min(priceGap, 1.0)));
+                    highlights.add("현재 요금과 비슷한 가격대");
+                }
+            }
+
+            if (product.getDiscountedPrice() != null) {
+                score += 2;
+                highlights.add(String.format("%s%% 할인", product.getDiscountRate().stripTrailingZeros().toPlainString()));
+            }
+
+            if (targetCampaign != null && matchesCampaign(product, targetCampaign)) {
+                score += 4;
+                highlights.add("'" + targetCampaign.getName() + "' 캠페인 혜택과 연계");
+            }
+
+            candidates.add(new Candidate(product, Math.min(score, 100), highlights));
+        }
+
+        candidates.sort(Comparator.comparingInt((Candidate candidate) -> candidate.score).reversed()
+                .thenComparing(candidate -> candidate.product.getProductId()));
+
+        List<RecommendedProduct> recommendations = new ArrayList<>();
+        for (int i = 0; i < Math.min(RECOMMENDATION_COUNT, candidates.size()); i++) {
+            Candidate candidate = candidates.get(i);
+            recommendations.add(RecommendedProduct.fromView(
+                    candidate.product,
+                    i + 1,
+                    buildReason(customer, candidate),
+                    buildExpectedBenefit(candidate.product),
+                    candidate.score));
+        }
+        return recommendations;
+    }
+
+    private BigDecimal findCurrentPlanPrice(String currentPlan) {
+        if (currentPlan == null) {
+            return null;
+        }
+        return catalogSnapshot.getAvailableProducts().stream()
+                .filter(product -> currentPlan.equals(product.getName()))
+                .map(ProductView::getPrice)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Double priceGap(ProductView product, BigDecimal currentPrice) {
+        if (currentPrice == null || currentPrice.signum() <= 0 || product.getPrice() == null) {
+            return null;
+        }
+        return Math.abs(product.getPrice().doubleValue() - currentPrice.doubleValue()) / currentPrice.doubleValue();
+    }
+
+    private static double priceBand(MembershipLevel membershipLevel) {
+        if (membershipLevel == null) {
+            return 0;
+        }
+        return switch (membershipLevel) {
+            case BASIC, WHITE -> 0.2;
+            case SILVER, GOLD -> 0.3;
+            case VIP, VVIP -> 0;
+        };
+    }
+
+    private static boolean isStrictPriceBand(MembershipLevel membershipLevel) {
+        return membershipLevel == MembershipLevel.BASIC || membershipLevel == MembershipLevel.WHITE;
+    }
+
+    /**
+     * 5G=5, LTE=4, 3G=3, 요금제가 아니면 0
+     */
+    private static int networkGeneration(String text) {
+        if (text == null) {
+            return 0;
+        }
+        if (text.contains("5G")) {
+            return 5;
+        }
+        if (text.contains("LTE")) {
+            return 4;
+        }
+        if (text.contains("3G")) {
+            return 3;
+        }
+        return 0;
+    }
+
+    private static String generationLabel(int generation) {
+        return switch (generation) {
+            case 5 -> "5G";
+            case 4 -> "LTE";
+            default -> "3G";
+        };
+    }
+
+    /**
+     * 상품명, 없으면 혜택에서 월 데이터 제공량을 읽는다. 무제한이면 UNLIMITED, 알 수 없으면 null
+     */
+    private static Double dataAllowance(ProductView product) {
+        Double allowance = parseAllowance(product.getName());
+        return allowance != null ? allowance : parseAllowance(product.getBenefits());
+    }
+
+    private static Double parseAllowance(String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.contains("무제한")) {
+            return UNLIMITED;
+        }
+        Matcher matcher = DATA_ALLOWANCE_PATTERN.matcher(text);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : null;
+    }
+
+    private static boolean matchesCampaign(ProductView product, CampaignView campaign) {
+        String campaignText = campaign.getName() + " " + (campaign.getDescription() != null ? campaign.getDescription() : "");
+        if (product.getCategory() != null && campaignText.contains(product.getCategory())) {
+            return true;
+        }
+        for (String token : product.getName().split("\\s+")) {
+            if (token.length() >= 2 && campaignText.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String buildReason(Customer customer, Candidate candidate) {
+        StringBuilder reason = new StringBuilder();
+        reason.append(String.format("%s님은 %s세 %s 등급으로 %s 요금제를 사용 중",
+                customer.getName(),
+                customer.getAge() != null ? customer.getAge() : "-",
+                customer.getMembershipLevel() != null ? customer.getMembershipLevel().getDescription() : "일반",
+                customer.getCurrentPlan() != null ? customer.getCurrentPlan() : "현재"));
+        if (customer.getAvgDataUsageGb() != null) {
+            reason.append(String.format("이며 월 %.1fGB의 데이터를 사용합니다. ", customer.getAvgDataUsageGb()));
+        } else {
+            reason.append("입니다. ");
+        }
+        reason.append(candidate.product.getName()).append("은(는) ");
+        reason.append(candidate.highlights.isEmpty()
+                ? "고객님의 이용 패턴에 맞는 상품입니다."
+                : String.join(", ", candidate.highlights) + " 조건을 충족합니다.");
+        return reason.toString();
+    }
+
+    private static String buildExpectedBenefit(ProductView product) {
+        List<String> items = product.getBenefitItems();
+        if (!items.isEmpty()) {
+            return String.join(", ", items.subList(0, Math.min(2, items.size())));
+        }
+        return product.getDiscountedPrice() != null
+                ? String.format("할인 적용 시 월 %,d원", product.getDiscountedPrice().intValue())
+                : product.getPriceDisplay();
+    }
+
+    private static final class Candidate {
+        private final ProductView product;
+        private final int score;
+        private final List<String> highlights;
+
+        private Candidate(ProductView product, int score, List<String> highlights) {
+            this.product = product;
+            this.score = score;
+            this.highlights = highlights;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ai_marketing_msg_be.domain.message.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "generation.bulk")
+public class BulkGenerationProperties {
+    /**
+     * 배치 입력/결과 JSONL 파일 저장 위치
+     */
+    private String workDirectory;
+    private Duration pollInterval;
+    /**
+     * 작업 점유 유지 시간, 반영 중에는 청크마다 연장되며 인스턴스가 죽으면 이 시간 뒤 다른 인스턴스가 이어받음
+     */
+    private Duration leaseDuration;
+    /**
+     * 결과 반영 시 한 트랜잭션에서 처리하는 줄 수, 체크포인트 단위
+     */
+    private Integer ingestChunkSize;
+    private Integer maxItems;
+}
@@ -0,0 +1,17 @@
+package com.ai_marketing_msg_be.domain.message.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "generation.fan-out")
+public class FanOutProperties {
+    private Integer batchSize;
+    private Integer workerCount;
+    private Integer queueCapacity;
+    private Integer maxLength;
+}
@@ -0,0 +1,23 @@
+package com.ai_marketing_msg_be.domain.message.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "generation.job")
+public class GenerationJobProperties {
+    private Integer workerCount;
+    private Integer queueCapacity;
+    private Duration resultTtl;
+    private Duration staleAfter;
+    /**
+     * 실행 중인 작업의 하트비트 갱신 주기, staleAfter보다 충분히 짧아야 함
+     */
+    private Duration heartbeatInterval;
+    private Duration subscriptionTimeout;
+}
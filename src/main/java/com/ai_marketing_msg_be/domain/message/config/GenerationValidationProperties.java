@@ -0,0 +1,28 @@
+package com.ai_marketing_msg_be.domain.message.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "generation.validation")
+public class GenerationValidationProperties {
+    private boolean enabled;
+    private Integer minLength;
+    private Integer maxLength;
+    private List<String> bannedPhrases = new ArrayList<>();
+    /**
+     * 메시지에 언급되어야 하는 상품 혜택 수 (상품 혜택이 이보다 적으면 전체)
+     */
+    private Integer minBenefitMentions;
+    /**
+     * 검증에 실패한 버전이 이 수 이하일 때만 해당 버전을 다시 생성
+     */
+    private Integer maxRegeneratedVersions;
+    private Integer regenerationMaxTokens;
+}
@@ -0,0 +1,22 @@
+package com.ai_marketing_msg_be.domain.message.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "generation.packing")
+public class PackingProperties {
+    private Integer maxCustomersPerCall;
+    private Integer estimatedTokensPerCustomer;
+    private Double budgetUtilization;
+    private Integer maxRetries;
+    private Integer maxMessageLength;
+    /**
+     * 묶음 프롬프트 토큰 상한, 넘으면 묶음의 뒤쪽 고객을 다음 호출로 넘김 (모델 컨텍스트 윈도우 기준 예산과 작은 쪽 적용)
+     */
+    private Integer maxPromptTokens;
+}
@@ -0,0 +1,55 @@
+package com.ai_marketing_msg_be.domain.message.config;
+
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "generation.pre-generation")
+public class PreGenerationProperties {
+    private Boolean enabled;
+    private LocalTime offPeakEnd;
+    private Duration ttl;
+    private Duration refreshBefore;
+    private Double rateReserveRatio;
+    private Integer estimatedTokensPerCall;
+    private List<String> toneIds = new ArrayList<>();
+    private List<SegmentPreset> segments = new ArrayList<>();
+
+    /**
+     * 자주 사용되는 세그먼트 조건 (설정값은 모두 선택)
+     */
+    @Getter
+    @Setter
+    public static class SegmentPreset {
+        private String name;
+        private Integer ageMin;
+        private Integer ageMax;
+        private String gender;
+        private List<String> regions;
+        private String membershipLevel;
+        private Integer recencyMaxDays;
+
+        public SegmentFilterRequest toFilter() {
+            SegmentFilterRequest.AgeRange ageRange = ageMin != null || ageMax != null
+                    ? SegmentFilterRequest.AgeRange.builder().min(ageMin).max(ageMax).build()
+                    : null;
+
+            return SegmentFilterRequest.builder()
+                    .ageRange(ageRange)
+                    .gender(gender)
+                    .regions(regions)
+                    .membershipLevel(membershipLevel)
+                    .recencyMaxDays(recencyMaxDays)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ai_marketing_msg_be.domain.message.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "generation.similarity-cache")
+public class SimilarityCacheProperties {
+    private boolean enabled;
+    /**
+     * 연령 범위와 추가 컨텍스트 각각의 추정 유사도(Jaccard)가 모두 이 값 이상이면 재사용
+     */
+    private double threshold;
+    private Integer maxEntries;
+    private Duration ttl;
+    /**
+     * 항목(연령, 추가 컨텍스트)별 MinHash 개수, 유사도 추정 정밀도
+     */
+    private int hashesPerSection;
+    /**
+     * 항목별 LSH 밴드 수와 밴드당 해시 수 (bandsPerSection * rowsPerBand <= hashesPerSection)
+     */
+    private int bandsPerSection;
+    private int rowsPerBand;
+    /**
+     * 밴드 하나에 남기는 최근 항목 수, 같은 밴드에 몰린 요청의 조회 비용 상한
+     */
+    private int maxEntriesPerBand;
+}
@@ -0,0 +1,80 @@
+package com.ai_marketing_msg_be.domain.message.controller;
+
+import com.ai_marketing_msg_be.common.dto.ApiResponse;
+import com.ai_marketing_msg_be.common.dto.PageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.BulkGenerationItemResponse;
+import com.ai_marketing_msg_be.domain.message.dto.BulkGenerationJobResponse;
+import com.ai_marketing_msg_be.domain.message.dto.BulkIndividualGenerationRequest;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItemStatus;
+import com.ai_marketing_msg_be.domain.message.service.BulkGenerationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/executor/messages/bulk-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Bulk Message Generation", description = "배치 기반 대량 AI 메시지 생성 API")
+public class BulkGenerationController {
+
+    private final BulkGenerationService bulkGenerationService;
+
+    @PostMapping("/individual")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "대량 개별 메시지 생성 작업 등록",
+            description = "고객별 개별 메시지 생성을 배치로 제출하고 작업 ID를 즉시 반환합니다. 배치 완료 후 결과가 항목별로 반영됩니다.")
+    public ApiResponse<BulkGenerationJobResponse> submitIndividual(
+            @Valid @RequestBody BulkIndividualGenerationRequest request,
+            HttpServletRequest httpRequest) {
+
+        log.info("POST /executor/messages/bulk-jobs/individual - 고객 수: {}, campaignId: {}, productId: {}",
+                request.getCustomerIds().size(), request.getCampaignId(), request.getProductId());
+
+        BulkGenerationJobResponse response = bulkGenerationService.submitIndividual(request);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "대량 메시지 생성 작업 조회", description = "작업 상태와 결과 반영 진행 상황을 조회합니다.")
+    public ApiResponse<BulkGenerationJobResponse> getJob(
+            @PathVariable String jobId,
+            HttpServletRequest httpRequest) {
+
+        BulkGenerationJobResponse response = bulkGenerationService.getJob(jobId);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+
+    @GetMapping("/{jobId}/items")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "대량 메시지 생성 항목 조회", description = "항목별 생성 결과와 실패 사유를 페이지 단위로 조회합니다.")
+    public ApiResponse<PageResponse<BulkGenerationItemResponse>> getItems(
+            @PathVariable String jobId,
+            @Parameter(description = "항목 상태 필터") @RequestParam(required = false) BulkGenerationItemStatus status,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "50") int size,
+            HttpServletRequest httpRequest) {
+
+        PageResponse<BulkGenerationItemResponse> response = bulkGenerationService.getItems(
+                jobId, status, PageRequest.of(page, size, Sort.by("itemId")));
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+}
@@ -0,0 +1,89 @@
+package com.ai_marketing_msg_be.domain.message.controller;
+
+import com.ai_marketing_msg_be.common.dto.ApiResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateSegmentMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.GenerationJobResponse;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJobPriority;
+import com.ai_marketing_msg_be.domain.message.service.GenerationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/executor/messages/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Message Generation Job", description = "비동기 AI 메시지 생성 작업 API")
+public class GenerationJobController {
+
+    private final GenerationJobService generationJobService;
+
+    @PostMapping("/segment")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "세그먼트 메시지 생성 작업 등록",
+            description = "세그먼트 메시지 생성을 작업으로 등록하고 작업 ID를 즉시 반환합니다. 결과는 작업 조회 또는 이벤트 구독으로 확인합니다.")
+    public ApiResponse<GenerationJobResponse> submitSegmentJob(
+            @Valid @RequestBody GenerateSegmentMessageRequest request,
+            @RequestParam(defaultValue = "NORMAL") GenerationJobPriority priority,
+            HttpServletRequest httpRequest) {
+
+        log.info("POST /executor/messages/jobs/segment - campaignId: {}, productId: {}, priority: {}",
+                request.getCampaignId(), request.getProductId(), priority);
+
+        GenerationJobResponse response = generationJobService.submitSegmentJob(request, priority);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "메시지 생성 작업 조회",
+            description = "작업 상태와 진행률을 조회합니다. 완료된 작업은 생성 결과를 함께 반환합니다.")
+    public ApiResponse<GenerationJobResponse> getJob(
+            @PathVariable String jobId,
+            HttpServletRequest httpRequest) {
+
+        GenerationJobResponse response = generationJobService.getJob(jobId);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "메시지 생성 작업 진행 이벤트 구독",
+            description = "작업 진행 상황을 Server-Sent Events로 전달합니다. 작업이 종료되면 스트림이 닫힙니다.")
+    public SseEmitter subscribeJob(@PathVariable String jobId) {
+
+        log.info("GET /executor/messages/jobs/{}/events", jobId);
+
+        return generationJobService.subscribe(jobId);
+    }
+
+    @DeleteMapping("/{jobId}")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "메시지 생성 작업 취소", description = "대기 중이거나 진행 중인 작업을 취소합니다.")
+    public ApiResponse<GenerationJobResponse> cancelJob(
+            @PathVariable String jobId,
+            HttpServletRequest httpRequest) {
+
+        log.info("DELETE /executor/messages/jobs/{}", jobId);
+
+        GenerationJobResponse response = generationJobService.cancelJob(jobId);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+}
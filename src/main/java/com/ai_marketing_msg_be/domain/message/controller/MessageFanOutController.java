@@ -0,0 +1,44 @@
+package com.ai_marketing_msg_be.domain.message.controller;
+
+import com.ai_marketing_msg_be.common.dto.ApiResponse;
+import com.ai_marketing_msg_be.domain.message.dto.FanOutMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.FanOutMessageResponse;
+import com.ai_marketing_msg_be.domain.message.service.MessageFanOutService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/executor/messages/fan-out")
+@RequiredArgsConstructor
+@Tag(name = "Message Fan-out", description = "세그먼트 메시지 고객별 개인화 API")
+public class MessageFanOutController {
+
+    private final MessageFanOutService messageFanOutService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "세그먼트 메시지 고객별 팬아웃",
+            description = "세그먼트 템플릿 메시지의 슬롯({name}, {plan}, {device}, {recency})을 고객 정보로 채워 "
+                    + "세그먼트 고객 전원의 개별 메시지로 저장합니다. AI 호출 없이 처리됩니다.")
+    public ApiResponse<FanOutMessageResponse> fanOut(
+            @Valid @RequestBody FanOutMessageRequest request,
+            HttpServletRequest httpRequest) {
+
+        log.info("POST /executor/messages/fan-out - campaignId: {}, productId: {}",
+                request.getCampaignId(), request.getProductId());
+
+        FanOutMessageResponse response = messageFanOutService.fanOut(request);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+}
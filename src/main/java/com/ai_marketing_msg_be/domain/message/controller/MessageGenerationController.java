@@ -3,8 +3,13 @@ package com.ai_marketing_msg_be.domain.message.controller;
 import com.ai_marketing_msg_be.common.dto.ApiResponse;
 import com.ai_marketing_msg_be.domain.message.dto.GenerateIndividualMessageRequest;
 import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GeneratePackedIndividualMessageRequest;
 import com.ai_marketing_msg_be.domain.message.dto.GenerateSegmentMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.GenerationUsageStatsResponse;
+import com.ai_marketing_msg_be.domain.message.dto.PackedIndividualMessageResponse;
+import com.ai_marketing_msg_be.domain.message.service.GenerationUsageStats;
 import com.ai_marketing_msg_be.domain.message.service.MessageGenerationService;
+import com.ai_marketing_msg_be.domain.message.service.PackedMessageGenerationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,6 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class MessageGenerationController {
 
     private final MessageGenerationService messageGenerationService;
+    private final PackedMessageGenerationService packedMessageGenerationService;
+    private final GenerationUsageStats generationUsageStats;
 
     @PostMapping("/segment")
     @PreAuthorize("hasRole('EXECUTOR')")
@@ -63,4 +71,29 @@ public class MessageGenerationController {
 
         return ApiResponse.ok(response, httpRequest.getRequestURI());
     }
-}
\ No newline at end of file
+
+    @PostMapping("/individual/packed")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "다수 고객 개별 메시지 일괄 생성",
+            description = "여러 고객의 프로필을 한 번의 AI 호출에 묶어 고객별 3가지 버전의 개인화 메시지를 생성합니다. "
+                    + "검증에 실패한 고객만 다시 묶어 재시도합니다.")
+    public ApiResponse<PackedIndividualMessageResponse> generatePackedIndividualMessages(
+            @Valid @RequestBody GeneratePackedIndividualMessageRequest request,
+            HttpServletRequest httpRequest) {
+
+        log.info("POST /executor/messages/generate/individual/packed - 고객 수: {}, campaignId: {}, productId: {}",
+                request.getCustomerIds().size(), request.getCampaignId(), request.getProductId());
+
+        PackedIndividualMessageResponse response = packedMessageGenerationService.generatePackedIndividualMessages(request);
+
+        return ApiResponse.ok(response, httpRequest.getRequestURI());
+    }
+
+    @GetMapping("/usage-stats")
+    @PreAuthorize("hasRole('EXECUTOR')")
+    @Operation(summary = "개별 메시지 생성 방식별 사용량 비교",
+            description = "단건 생성과 묶음 생성의 고객당 토큰/비용과 처리량을 비교합니다. (애플리케이션 기동 이후 누적)")
+    public ApiResponse<GenerationUsageStatsResponse> getUsageStats(HttpServletRequest httpRequest) {
+        return ApiResponse.ok(generationUsageStats.snapshot(), httpRequest.getRequestURI());
+    }
+}
@@ -0,0 +1,50 @@
+package com.ai_marketing_msg_be.domain.message.dto;
+
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItem;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대량 메시지 생성 항목 응답")
+public class BulkGenerationItemResponse {
+
+    @Schema(description = "항목 ID", example = "BULK_A1B2C3D4E5F6-000001")
+    private String customId;
+
+    @Schema(description = "항목 상태", example = "SUCCEEDED")
+    private BulkGenerationItemStatus status;
+
+    @Schema(description = "고객 ID (개별 메시지)", example = "1")
+    private Long customerId;
+
+    @Schema(description = "캠페인 ID", example = "1")
+    private Long campaignId;
+
+    @Schema(description = "상품 ID", example = "100")
+    private Long productId;
+
+    @Schema(description = "생성 결과 (성공 시에만 포함)")
+    private GenerateMessageResponse result;
+
+    @Schema(description = "실패 사유 (실패 시에만 포함)")
+    private String errorMessage;
+
+    public static BulkGenerationItemResponse of(BulkGenerationItem item, GenerateMessageResponse result) {
+        return BulkGenerationItemResponse.builder()
+                .customId(item.getCustomId())
+                .status(item.getStatus())
+                .customerId(item.getCustomerId())
+                .campaignId(item.getCampaignId())
+                .productId(item.getProductId())
+                .result(result)
+                .errorMessage(item.getErrorMessage())
+                .build();
+    }
+}
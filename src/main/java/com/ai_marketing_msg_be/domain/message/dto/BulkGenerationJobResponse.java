@@ -0,0 +1,67 @@
+package com.ai_marketing_msg_be.domain.message.dto;
+
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJob;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대량 메시지 생성 작업 상태 응답")
+public class BulkGenerationJobResponse {
+
+    @Schema(description = "작업 ID", example = "BULK_A1B2C3D4E5F6")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "SUBMITTED")
+    private BulkGenerationJobStatus status;
+
+    @Schema(description = "배치 ID", example = "batch_abc123")
+    private String batchId;
+
+    @Schema(description = "요청 항목 수", example = "5000")
+    private Integer itemCount;
+
+    @Schema(description = "성공 항목 수 (종료 시 확정)", example = "4987")
+    private Integer succeededCount;
+
+    @Schema(description = "실패 항목 수 (종료 시 확정)", example = "13")
+    private Integer failedCount;
+
+    @Schema(description = "반영을 마친 결과 줄 수", example = "3000")
+    private Long checkpointLine;
+
+    @Schema(description = "실패 사유 (실패 시에만 포함)")
+    private String errorMessage;
+
+    @Schema(description = "등록 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "배치 제출 일시")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "종료 일시")
+    private LocalDateTime completedAt;
+
+    public static BulkGenerationJobResponse from(BulkGenerationJob job) {
+        return BulkGenerationJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .batchId(job.getBatchId())
+                .itemCount(job.getItemCount())
+                .succeededCount(job.getSucceededCount())
+                .failedCount(job.getFailedCount())
+                .checkpointLine(job.getCheckpointLine())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .submittedAt(job.getSubmittedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ai_marketing_msg_be.domain.message.dto;
+
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "세그먼트 메시지 고객별 팬아웃 요청")
+public class FanOutMessageRequest {
+
+    @NotNull(message = "Segment filter is required")
+    @Valid
+    @Schema(description = "세그먼트 필터 조건")
+    private SegmentFilterRequest segmentFilter;
+
+    @NotNull(message = "Campaign ID is required")
+    @Schema(description = "캠페인 ID", example = "1")
+    private Long campaignId;
+
+    @NotNull(message = "Product ID is required")
+    @Schema(description = "상품 ID", example = "100")
+    private Long productId;
+
+    @Schema(description = "톤앤매너 ID", example = "TONE001")
+    private String toneId;
+
+    @NotBlank(message = "Template content is required")
+    @Schema(description = "템플릿 메시지 ({name}, {plan}, {device}, {recency} 슬롯 사용 가능, 중괄호 문자는 {{, }})",
+            example = "{name}님, {plan} 이용 고객께만 드리는 갤럭시 S24 특별 혜택! 지금 KT샵에서 확인하세요.")
+    private String templateContent;
+
+    @NotNull(message = "Message version is required")
+    @Min(value = 1, message = "Message version must be at least 1")
+    @Schema(description = "템플릿 메시지 버전", example = "1")
+    private Integer messageVersion;
+}
@@ -0,0 +1,46 @@
+package com.ai_marketing_msg_be.domain.message.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "세그먼트 메시지 팬아웃 결과")
+public class FanOutMessageResponse {
+
+    @Schema(description = "팬아웃 ID (저장된 메시지의 fan_out_id)", example = "FAN_OUT_A1B2C3D4E5F6")
+    private String fanOutId;
+
+    @Schema(description = "처리한 세그먼트 고객 수", example = "50000")
+    private Long processedCount;
+
+    @Schema(description = "저장된 메시지 수", example = "49980")
+    private Long writtenCount;
+
+    @Schema(description = "길이 제한 초과로 제외된 고객 수", example = "20")
+    private Long rejectedCount;
+
+    @Schema(description = "처리 시간(ms)", example = "8200")
+    private Long elapsedMillis;
+
+    @Schema(description = "분당 처리 고객 수", example = "365853")
+    private Long customersPerMinute;
+
+    public static FanOutMessageResponse of(String fanOutId, long processedCount, long writtenCount,
+                                           long rejectedCount, long elapsedMillis) {
+        long perMinute = elapsedMillis > 0 ? processedCount * 60_000L / elapsedMillis : processedCount;
+        return FanOutMessageResponse.builder()
+                .fanOutId(fanOutId)
+                .processedCount(processedCount)
+                .writtenCount(writtenCount)
+                .rejectedCount(rejectedCount)
+                .elapsedMillis(elapsedMillis)
+                .customersPerMinute(perMinute)
+                .build();
+    }
+}
@@ -30,6 +30,13 @@ public class GenerateMessageResponse {
     @Schema(description = "타겟 고객 수", example = "15234")
     private Integer targetCustomerCount;
 
+    @Schema(description = "비슷한 이전 요청의 메시지를 재사용한 경우 원본 메시지 그룹 ID (regenerate=true로 다시 요청하면 새로 생성)",
+            example = "MSG_GROUP_000")
+    private String reusedMessageGroupId;
+
+    @Schema(description = "재사용한 요청과의 추정 유사도 (0~1)", example = "0.92")
+    private Double similarity;
+
     public static GenerateMessageResponse of(
             String messageGroupId,
             List<GeneratedMessage> messages,
@@ -42,4 +49,21 @@ public class GenerateMessageResponse {
                 .targetCustomerCount(targetCustomerCount)
                 .build();
     }
+
+    public static GenerateMessageResponse reused(
+            String messageGroupId,
+            List<GeneratedMessage> messages,
+            Integer targetCustomerCount,
+            String reusedMessageGroupId,
+            double similarity) {
+
+        return GenerateMessageResponse.builder()
+                .messageGroupId(messageGroupId)
+                .messages(messages)
+                .generatedAt(LocalDateTime.now())
+                .targetCustomerCount(targetCustomerCount)
+                .reusedMessageGroupId(reusedMessageGroupId)
+                .similarity(similarity)
+                .build();
+    }
 }
\ No newline at end of file
@@ -34,4 +34,11 @@ public class GenerateSegmentMessageRequest {
 
     @Schema(description = "추가 컨텍스트", example = "20대 남성 타겟, 최신 스마트폰 구매 유도")
     private String additionalContext;
+
+    @Schema(description = "true면 사전 생성/유사 요청 메시지를 재사용하지 않고 새로 생성", example = "false")
+    private Boolean regenerate;
+
+    public boolean isRegenerateRequested() {
+        return Boolean.TRUE.equals(regenerate);
+    }
 }
\ No newline at end of file
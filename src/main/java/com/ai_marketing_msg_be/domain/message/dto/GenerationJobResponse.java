@@ -0,0 +1,79 @@
+package com.ai_marketing_msg_be.domain.message.dto;
+
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJob;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJobPriority;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJobStatus;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationStage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "메시지 생성 작업 상태 응답")
+public class GenerationJobResponse {
+
+    @Schema(description = "작업 ID", example = "JOB_A1B2C3D4E5F6")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private GenerationJobStatus status;
+
+    @Schema(description = "우선순위", example = "NORMAL")
+    private GenerationJobPriority priority;
+
+    @Schema(description = "진행 단계", example = "CALLING_LLM")
+    private GenerationStage stage;
+
+    @Schema(description = "진행률(%)", example = "40")
+    private Integer progress;
+
+    @Schema(description = "생성 결과 (완료 시에만 포함)")
+    private GenerateMessageResponse result;
+
+    @Schema(description = "먼저 생성된 메시지 (실행 중에만 포함, 검증 실패 버전은 완료 결과에서 바뀔 수 있음)")
+    private List<GeneratedMessage> partialMessages;
+
+    @Schema(description = "실패 사유 (실패 시에만 포함)")
+    private String errorMessage;
+
+    @Schema(description = "등록 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "시작 일시")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 일시")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "결과 만료 일시")
+    private LocalDateTime expiresAt;
+
+    public static GenerationJobResponse of(GenerationJob job, GenerateMessageResponse result) {
+        return of(job, result, null);
+    }
+
+    public static GenerationJobResponse of(GenerationJob job, GenerateMessageResponse result,
+                                           List<GeneratedMessage> partialMessages) {
+        return GenerationJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .priority(job.getPriority())
+                .stage(job.getStage())
+                .progress(job.getProgress())
+                .result(result)
+                .partialMessages(partialMessages)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .expiresAt(job.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ai_marketing_msg_be.domain.message.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "개별 메시지 생성 방식별 처리량/비용 비교")
+public class GenerationUsageStatsResponse {
+
+    @Schema(description = "생성 방식별 통계")
+    private List<ModeStats> modes;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ModeStats {
+
+        @Schema(description = "생성 방식", example = "PACKED")
+        private String mode;
+
+        @Schema(description = "생성 완료 고객 수", example = "120")
+        private Long customerCount;
+
+        @Schema(description = "LLM 호출 수", example = "30")
+        private Long llmCallCount;
+
+        @Schema(description = "입력 토큰 합계", example = "84000")
+        private Long promptTokens;
+
+        @Schema(description = "출력 토큰 합계", example = "46000")
+        private Long completionTokens;
+
+        @Schema(description = "고객당 평균 토큰", example = "1083.3")
+        private Double tokensPerCustomer;
+
+        @Schema(description = "고객당 예상 비용(USD)", example = "0.00033")
+        private Double costPerCustomer;
+
+        @Schema(description = "초당 처리 고객 수 (LLM 대기 시간 기준)", example = "0.85")
+        private Double customersPerSecond;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ai_marketing_msg_be.domain.message.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "다수 고객 개별 메시지 일괄 생성 응답")
+public class PackedIndividualMessageResponse {
+
+    @Schema(description = "고객별 생성 결과")
+    private List<CustomerMessageResult> results;
+
+    @Schema(description = "요청 고객 수", example = "12")
+    private Integer requestedCount;
+
+    @Schema(description = "생성 실패 고객 수", example = "0")
+    private Integer failedCount;
+
+    @Schema(description = "호출당 고객 수", example = "3")
+    private Integer packSize;
+
+    @Schema(description = "LLM 호출 수 (재시도 포함)", example = "4")
+    private Integer llmCallCount;
+
+    @Schema(description = "사용 토큰 합계", example = "5200")
+    private Long totalTokens;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CustomerMessageResult {
+
+        @Schema(description = "고객 ID", example = "1")
+        private Long customerId;
+
+        @Schema(description = "생성 성공 여부", example = "true")
+        private Boolean success;
+
+        @Schema(description = "생성 결과 (성공 시)")
+        private GenerateMessageResponse generated;
+
+        public static CustomerMessageResult success(Long customerId, GenerateMessageResponse generated) {
+            return CustomerMessageResult.builder()
+                    .customerId(customerId)
+                    .success(true)
+                    .generated(generated)
+                    .build();
+        }
+
+        public static CustomerMessageResult failure(Long customerId) {
+            return CustomerMessageResult.builder()
+                    .customerId(customerId)
+                    .success(false)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import com.ai_marketing_msg_be.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "대량_생성_항목",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bulk_generation_item_custom_id", columnNames = "custom_id"),
+        indexes = @Index(name = "idx_bulk_generation_item_job_status", columnList = "job_id, status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkGenerationItem extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "job_id", nullable = false, length = 40)
+    private String jobId;
+
+    /**
+     * 배치 입력/결과 줄을 연결하는 키 (jobId-순번)
+     */
+    @Column(name = "custom_id", nullable = false, length = 64)
+    private String customId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BulkGenerationItemStatus status;
+
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "tone_id", length = 20)
+    private String toneId;
+
+    @Column(name = "target_customer_count")
+    private Integer targetCustomerCount;
+
+    @Column(name = "message_group_id", length = 50)
+    private String messageGroupId;
+
+    /**
+     * 성공 시 GenerateMessageResponse JSON
+     */
+    @Column(name = "result_payload", columnDefinition = "TEXT")
+    private String resultPayload;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Builder
+    public BulkGenerationItem(String jobId, String customId, Long campaignId, Long productId, Long customerId,
+                              String toneId, Integer targetCustomerCount) {
+        this.jobId = jobId;
+        this.customId = customId;
+        this.campaignId = campaignId;
+        this.productId = productId;
+        this.customerId = customerId;
+        this.toneId = toneId;
+        this.targetCustomerCount = targetCustomerCount;
+        this.status = BulkGenerationItemStatus.PENDING;
+    }
+
+    // 비즈니스 로직
+    public boolean isPending() {
+        return this.status == BulkGenerationItemStatus.PENDING;
+    }
+
+    public void succeed(String messageGroupId, String resultPayload) {
+        this.status = BulkGenerationItemStatus.SUCCEEDED;
+        this.messageGroupId = messageGroupId;
+        this.resultPayload = resultPayload;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = BulkGenerationItemStatus.FAILED;
+        this.errorMessage = errorMessage == null || errorMessage.length() <= MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage : errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
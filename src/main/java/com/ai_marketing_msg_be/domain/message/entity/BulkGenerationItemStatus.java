@@ -0,0 +1,14 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BulkGenerationItemStatus {
+    PENDING("결과 대기"),
+    SUCCEEDED("성공"),
+    FAILED("실패");
+
+    private final String description;
+}
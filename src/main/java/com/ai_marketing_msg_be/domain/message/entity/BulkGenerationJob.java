@@ -0,0 +1,148 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import com.ai_marketing_msg_be.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "대량_생성_작업", indexes = {
+        @Index(name = "idx_bulk_generation_job_status", columnList = "status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkGenerationJob extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @Column(name = "job_id", length = 40)
+    private String jobId;
+
+    @Column(name = "requested_by", nullable = false, length = 50)
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BulkGenerationJobStatus status;
+
+    @Column(name = "batch_id", length = 100)
+    private String batchId;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private Integer succeededCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount;
+
+    /**
+     * 결과 파일에서 반영을 마친 줄 수, 재시작 시 이 줄 다음부터 이어서 반영
+     */
+    @Column(name = "checkpoint_line", nullable = false)
+    private Long checkpointLine;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 작업을 폴링/반영 중인 인스턴스, leaseUntil이 지나면 다른 인스턴스가 이어받을 수 있음
+     */
+    @Column(name = "worker_id", length = 100)
+    private String workerId;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Builder
+    public BulkGenerationJob(String jobId, String requestedBy, Integer itemCount) {
+        this.jobId = jobId;
+        this.requestedBy = requestedBy;
+        this.itemCount = itemCount;
+        this.status = BulkGenerationJobStatus.PREPARING;
+        this.succeededCount = 0;
+        this.failedCount = 0;
+        this.checkpointLine = 0L;
+    }
+
+    // 비즈니스 로직
+    public boolean isOwnedBy(String username) {
+        return this.requestedBy.equals(username);
+    }
+
+    public boolean isClaimableBy(String workerId, LocalDateTime now) {
+        return this.leaseUntil == null || !this.leaseUntil.isAfter(now) || workerId.equals(this.workerId);
+    }
+
+    public boolean isClaimedBy(String workerId) {
+        return workerId.equals(this.workerId) && this.leaseUntil != null;
+    }
+
+    public void claim(String workerId, LocalDateTime leaseUntil) {
+        this.workerId = workerId;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void release() {
+        this.workerId = null;
+        this.leaseUntil = null;
+    }
+
+    public void submit(String batchId, LocalDateTime now) {
+        this.status = BulkGenerationJobStatus.SUBMITTED;
+        this.batchId = batchId;
+        this.submittedAt = now;
+    }
+
+    public void startIngesting() {
+        this.status = BulkGenerationJobStatus.INGESTING;
+    }
+
+    public void advanceCheckpoint(long line) {
+        this.checkpointLine = line;
+    }
+
+    public void complete(int succeededCount, int failedCount, LocalDateTime now) {
+        this.status = BulkGenerationJobStatus.COMPLETED;
+        this.succeededCount = succeededCount;
+        this.failedCount = failedCount;
+        this.completedAt = now;
+    }
+
+    public void fail(String errorMessage, int succeededCount, int failedCount, LocalDateTime now) {
+        this.status = BulkGenerationJobStatus.FAILED;
+        this.errorMessage = truncate(errorMessage);
+        this.succeededCount = succeededCount;
+        this.failedCount = failedCount;
+        this.completedAt = now;
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BulkGenerationJobStatus {
+    PREPARING("입력 파일 작성 중", false),
+    SUBMITTED("배치 처리 대기", false),
+    INGESTING("결과 반영 중", false),
+    COMPLETED("완료", true),
+    FAILED("실패", true);
+
+    private final String description;
+    private final boolean terminal;
+}
@@ -0,0 +1,192 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import com.ai_marketing_msg_be.common.entity.BaseEntity;
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "메시지_생성_작업", indexes = {
+        @Index(name = "idx_generation_job_status", columnList = "status, heartbeat_at"),
+        @Index(name = "idx_generation_job_expires", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GenerationJob extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @Column(name = "job_id", length = 40)
+    private String jobId;
+
+    @Column(name = "requested_by", nullable = false, length = 50)
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 10)
+    private GenerationJobPriority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private GenerationJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", length = 30)
+    private GenerationStage stage;
+
+    @Column(name = "progress", nullable = false)
+    private Integer progress;
+
+    @Column(name = "request_payload", columnDefinition = "TEXT", nullable = false)
+    private String requestPayload;
+
+    @Column(name = "result_payload", columnDefinition = "MEDIUMTEXT")
+    private String resultPayload;
+
+    /**
+     * 실행 중 먼저 파싱된 메시지 (검증/재생성 전), 완료되면 result_payload로 대체
+     */
+    @Column(name = "partial_payload", columnDefinition = "MEDIUMTEXT")
+    private String partialPayload;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "worker_id", length = 100)
+    private String workerId;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Builder
+    public GenerationJob(String jobId, String requestedBy, GenerationJobPriority priority, String requestPayload) {
+        this.jobId = jobId;
+        this.requestedBy = requestedBy;
+        this.priority = priority != null ? priority : GenerationJobPriority.NORMAL;
+        this.requestPayload = requestPayload;
+        this.status = GenerationJobStatus.QUEUED;
+        this.stage = GenerationStage.QUEUED;
+        this.progress = GenerationStage.QUEUED.getProgress();
+        this.attemptCount = 0;
+    }
+
+    // 비즈니스 로직
+    public boolean isQueued() {
+        return this.status == GenerationJobStatus.QUEUED;
+    }
+
+    public boolean isRunning() {
+        return this.status == GenerationJobStatus.RUNNING;
+    }
+
+    /**
+     * 회수 후 다른 실행(다른 인스턴스 또는 같은 인스턴스의 재실행)이 가져간 작업인지 확인
+     */
+    public boolean isRunBy(String workerId, int attempt) {
+        return isRunning() && workerId.equals(this.workerId) && this.attemptCount == attempt;
+    }
+
+    public boolean isOwnedBy(String username) {
+        return this.requestedBy.equals(username);
+    }
+
+    public void start(String workerId, LocalDateTime now) {
+        this.status = GenerationJobStatus.RUNNING;
+        this.workerId = workerId;
+        this.attemptCount++;
+        this.startedAt = now;
+        this.heartbeatAt = now;
+    }
+
+    public void updateStage(GenerationStage stage, LocalDateTime now) {
+        this.stage = stage;
+        this.progress = stage.getProgress();
+        this.heartbeatAt = now;
+    }
+
+    public void updatePartialResult(String partialPayload, LocalDateTime now) {
+        this.partialPayload = partialPayload;
+        this.heartbeatAt = now;
+    }
+
+    /**
+     * 단계 변경 없이 오래 걸리는 AI 호출 중에도 회수 대상이 되지 않도록 주기적으로 갱신
+     */
+    public void heartbeat(LocalDateTime now) {
+        this.heartbeatAt = now;
+    }
+
+    public void succeed(String resultPayload, LocalDateTime now, LocalDateTime expiresAt) {
+        this.status = GenerationJobStatus.SUCCEEDED;
+        this.stage = GenerationStage.COMPLETED;
+        this.progress = GenerationStage.COMPLETED.getProgress();
+        this.resultPayload = resultPayload;
+        this.partialPayload = null;
+        this.completedAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    public void fail(String errorMessage, LocalDateTime now, LocalDateTime expiresAt) {
+        this.status = GenerationJobStatus.FAILED;
+        this.errorMessage = truncate(errorMessage);
+        this.completedAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    public void cancel(LocalDateTime now, LocalDateTime expiresAt) {
+        if (this.status.isTerminal()) {
+            throw new BusinessException(ErrorCode.GENERATION_JOB_NOT_CANCELLABLE);
+        }
+        this.status = GenerationJobStatus.CANCELLED;
+        this.completedAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 워커 종료 또는 장애로 중단된 작업을 다시 대기 상태로 되돌림
+     */
+    public void release() {
+        this.status = GenerationJobStatus.QUEUED;
+        this.stage = GenerationStage.QUEUED;
+        this.progress = GenerationStage.QUEUED.getProgress();
+        this.workerId = null;
+        this.heartbeatAt = null;
+        this.partialPayload = null;
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
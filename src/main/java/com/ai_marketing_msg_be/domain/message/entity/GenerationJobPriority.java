@@ -0,0 +1,15 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GenerationJobPriority {
+    HIGH("높음", 3),
+    NORMAL("보통", 2),
+    LOW("낮음", 1);
+
+    private final String description;
+    private final int weight;
+}
@@ -0,0 +1,17 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GenerationJobStatus {
+    QUEUED("대기", false),
+    RUNNING("진행 중", false),
+    SUCCEEDED("완료", true),
+    FAILED("실패", true),
+    CANCELLED("취소", true);
+
+    private final String description;
+    private final boolean terminal;
+}
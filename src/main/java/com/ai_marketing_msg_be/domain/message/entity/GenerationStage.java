@@ -0,0 +1,18 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GenerationStage {
+    QUEUED("대기 중", 0),
+    COUNTING_TARGETS("타겟 고객 집계", 10),
+    BUILDING_PROMPT("프롬프트 생성", 30),
+    CALLING_LLM("AI 메시지 생성", 40),
+    PARSING_RESPONSE("응답 파싱", 90),
+    COMPLETED("완료", 100);
+
+    private final String description;
+    private final int progress;
+}
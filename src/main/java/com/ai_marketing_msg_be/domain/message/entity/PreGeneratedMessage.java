@@ -0,0 +1,88 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import com.ai_marketing_msg_be.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "사전생성메시지", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pre_generated_message",
+                columnNames = {"campaign_id", "product_id", "tone_id", "segment_key"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PreGeneratedMessage extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pre_generated_message_id")
+    private Long preGeneratedMessageId;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "tone_id", nullable = false, length = 20)
+    private String toneId;
+
+    @Column(name = "segment_key", nullable = false)
+    private String segmentKey;
+
+    /**
+     * 생성 당시 캠페인/상품 내용의 SHA-256, 현재 내용과 다르면 사용하지 않음
+     */
+    @Column(name = "catalog_hash", length = 64)
+    private String catalogHash;
+
+    @Column(name = "response_payload", columnDefinition = "TEXT", nullable = false)
+    private String responsePayload;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public PreGeneratedMessage(Long campaignId, Long productId, String toneId, String segmentKey,
+                               String catalogHash, String responsePayload, LocalDateTime generatedAt,
+                               LocalDateTime expiresAt) {
+        this.campaignId = campaignId;
+        this.productId = productId;
+        this.toneId = toneId;
+        this.segmentKey = segmentKey;
+        this.catalogHash = catalogHash;
+        this.responsePayload = responsePayload;
+        this.generatedAt = generatedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // 비즈니스 로직
+    public void refresh(String catalogHash, String responsePayload, LocalDateTime generatedAt,
+                        LocalDateTime expiresAt) {
+        this.catalogHash = catalogHash;
+        this.responsePayload = responsePayload;
+        this.generatedAt = generatedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isValidAt(LocalDateTime time) {
+        return this.expiresAt.isAfter(time);
+    }
+
+    public boolean isGeneratedFrom(String catalogHash) {
+        return this.catalogHash != null && this.catalogHash.equals(catalogHash);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ai_marketing_msg_be.domain.message.repository;
+
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItem;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItemStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BulkGenerationItemRepository extends JpaRepository<BulkGenerationItem, Long> {
+
+    List<BulkGenerationItem> findByCustomIdIn(Collection<String> customIds);
+
+    Page<BulkGenerationItem> findByJobId(String jobId, Pageable pageable);
+
+    Page<BulkGenerationItem> findByJobIdAndStatus(String jobId, BulkGenerationItemStatus status, Pageable pageable);
+
+    int countByJobIdAndStatus(String jobId, BulkGenerationItemStatus status);
+
+    /**
+     * 결과 파일에 없는 항목을 일괄 실패 처리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BulkGenerationItem i SET i.status = :failed, i.errorMessage = :errorMessage "
+            + "WHERE i.jobId = :jobId AND i.status = :pending")
+    int failPending(@Param("jobId") String jobId,
+                    @Param("errorMessage") String errorMessage,
+                    @Param("pending") BulkGenerationItemStatus pending,
+                    @Param("failed") BulkGenerationItemStatus failed);
+}
@@ -0,0 +1,12 @@
+package com.ai_marketing_msg_be.domain.message.repository;
+
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJob;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJobStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BulkGenerationJobRepository extends JpaRepository<BulkGenerationJob, String> {
+
+    List<BulkGenerationJob> findByStatusInOrderByCreatedAtAsc(Collection<BulkGenerationJobStatus> statuses);
+}
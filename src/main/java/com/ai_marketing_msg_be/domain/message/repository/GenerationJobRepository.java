@@ -0,0 +1,25 @@
+package com.ai_marketing_msg_be.domain.message.repository;
+
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJob;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface GenerationJobRepository extends JpaRepository<GenerationJob, String> {
+
+    List<GenerationJob> findByStatusOrderByCreatedAtAsc(GenerationJobStatus status);
+
+    List<GenerationJob> findByStatusAndHeartbeatAtBefore(GenerationJobStatus status, LocalDateTime heartbeatAt);
+
+    List<GenerationJob> findByStatusAndCreatedAtBefore(GenerationJobStatus status, LocalDateTime createdAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GenerationJob j WHERE j.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
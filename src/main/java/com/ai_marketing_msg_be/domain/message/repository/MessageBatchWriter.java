@@ -0,0 +1,95 @@
+package com.ai_marketing_msg_be.domain.message.repository;
+
+import com.ai_marketing_msg_be.domain.message.entity.MessageType;
+import com.ai_marketing_msg_be.domain.message.vo.FanOutTarget;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 팬아웃 결과를 JDBC 배치 INSERT로 저장
+ * 건당 엔티티 생성/영속성 컨텍스트 관리 비용 없이 대량의 개별 메시지를 기록한다.
+ * 트랜잭션은 호출하는 쪽(페이지 단위)에서 연다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageBatchWriter {
+
+    public static final String FAN_OUT_MODEL = "TEMPLATE_FAN_OUT";
+
+    private static final String INSERT_INDIVIDUAL_MESSAGE = """
+            INSERT INTO `AI생성메시지`
+                (user_id, campaign_id, product_id, message_type, customer_id, message_content,
+                 message_version, character_count, tone_id, ai_model_used, fan_out_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 한 번에 지우는 행 수를 제한해 긴 잠금과 큰 undo 로그를 피함
+    private static final String DELETE_FAN_OUT_CHUNK = """
+            DELETE FROM `AI생성메시지` WHERE fan_out_id = ? LIMIT ?
+            """;
+    private static final int DELETE_CHUNK_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int writeIndividualMessages(FanOutTarget target, long[] customerIds, String[] contents, int size) {
+        if (size == 0) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_INDIVIDUAL_MESSAGE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, target.getUserId());
+                setNullableLong(ps, 2, target.getCampaignId());
+                setNullableLong(ps, 3, target.getProductId());
+                ps.setString(4, MessageType.INDIVIDUAL.name());
+                ps.setLong(5, customerIds[i]);
+                ps.setString(6, contents[i]);
+                ps.setInt(7, target.getMessageVersion());
+                ps.setInt(8, contents[i].length());
+                ps.setString(9, target.getToneId());
+                ps.setString(10, FAN_OUT_MODEL);
+                ps.setString(11, target.getFanOutId());
+                ps.setTimestamp(12, now);
+                ps.setTimestamp(13, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+
+        return size;
+    }
+
+    /**
+     * 실패한 팬아웃이 저장한 메시지를 모두 삭제하고 삭제 건수를 반환 (청크마다 자동 커밋)
+     */
+    public long deleteFanOut(String fanOutId) {
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = jdbcTemplate.update(DELETE_FAN_OUT_CHUNK, fanOutId, DELETE_CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk == DELETE_CHUNK_SIZE);
+        return deleted;
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ai_marketing_msg_be.domain.message.repository;
+
+import com.ai_marketing_msg_be.domain.message.entity.PreGeneratedMessage;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PreGeneratedMessageRepository extends JpaRepository<PreGeneratedMessage, Long> {
+
+    Optional<PreGeneratedMessage> findByCampaignIdAndProductIdAndToneIdAndSegmentKey(
+            Long campaignId, Long productId, String toneId, String segmentKey);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PreGeneratedMessage p WHERE p.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
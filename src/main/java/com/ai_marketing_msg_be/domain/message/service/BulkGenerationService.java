@@ -0,0 +1,503 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.common.dto.PageResponse;
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
+import com.ai_marketing_msg_be.domain.message.config.BulkGenerationProperties;
+import com.ai_marketing_msg_be.domain.message.dto.BulkGenerationItemResponse;
+import com.ai_marketing_msg_be.domain.message.dto.BulkGenerationJobResponse;
+import com.ai_marketing_msg_be.domain.message.dto.BulkIndividualGenerationRequest;
+import com.ai_marketing_msg_be.domain.message.dto.GPTMessage;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItem;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItemStatus;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJob;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJobStatus;
+import com.ai_marketing_msg_be.domain.message.entity.ToneManner;
+import com.ai_marketing_msg_be.domain.message.repository.BulkGenerationItemRepository;
+import com.ai_marketing_msg_be.domain.message.repository.BulkGenerationJobRepository;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchRequestLine;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchResponseLine;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus.State;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.service.BatchCompletionClient;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIJsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 다수의 프롬프트를 배치 입력 파일로 제출하고 완료된 결과를 항목별 메시지 그룹으로 반영
+ * <p>
+ * 결과 파일은 청크 단위 트랜잭션으로 반영하면서 작업에 체크포인트(반영을 마친 줄 수)를 남기므로
+ * 반영 도중 재기동하거나 다른 인스턴스가 이어받아도 체크포인트 다음 줄부터 다시 처리한다.
+ * 항목은 결과 대기 상태일 때만 갱신되어 같은 줄을 두 번 반영해도 결과가 바뀌지 않는다.
+ * <p>
+ * 폴링할 때는 작업을 먼저 점유(worker_id, lease_until, @Version 충돌 시 포기)하여 여러 인스턴스가 같은 작업을
+ * 동시에 반영하지 않게 하고, 점유는 청크마다 연장한다. 점유한 인스턴스가 죽으면 만료 후 다른 인스턴스가 이어받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkGenerationService {
+
+    private static final String SYSTEM_MESSAGE = "당신은 KT의 전문 마케팅 메시지 작성자입니다.";
+    private static final String MISSING_RESULT_MESSAGE = "배치 결과 없음";
+    private static final int CUSTOMER_FETCH_SIZE = 1000;
+    private static final Set<BulkGenerationJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(BulkGenerationJobStatus.SUBMITTED, BulkGenerationJobStatus.INGESTING);
+
+    private final BulkGenerationJobRepository bulkGenerationJobRepository;
+    private final BulkGenerationItemRepository bulkGenerationItemRepository;
+    private final BatchCompletionClient batchCompletionClient;
+    private final PromptTemplateEngine promptTemplateEngine;
+    private final OpenAIJsonParser openAIJsonParser;
+    private final OpenAIProperties openAIProperties;
+    private final BulkGenerationProperties bulkGenerationProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final CampaignRepository campaignRepository;
+    private final ProductRepository productRepository;
+    private final CustomerRepository customerRepository;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(Paths.get(bulkGenerationProperties.getWorkDirectory()));
+    }
+
+    public BulkGenerationJobResponse submitIndividual(BulkIndividualGenerationRequest request) {
+        List<Long> customerIds = request.getCustomerIds().stream().distinct().toList();
+        checkItemCount(customerIds.size());
+
+        Campaign campaign = campaignRepository.findById(request.getCampaignId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CAMPAIGN_NOT_FOUND));
+        Product product = productRepository.findById(request.getProductId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        ToneManner tone = request.getToneId() != null ? ToneManner.fromToneId(request.getToneId()) : null;
+        ToneManner toneManner = tone != null ? tone : ToneManner.FRIENDLY;
+
+        List<Customer> customers = new ArrayList<>(customerIds.size());
+        for (int from = 0; from < customerIds.size(); from += CUSTOMER_FETCH_SIZE) {
+            customers.addAll(customerRepository.findAllById(
+                    customerIds.subList(from, Math.min(from + CUSTOMER_FETCH_SIZE, customerIds.size()))));
+        }
+        if (customers.size() != customerIds.size()) {
+            throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND);
+        }
+
+        List<PromptContext> contexts = customers.stream()
+                .map(customer -> PromptContext.builder()
+                        .customer(customer)
+                        .campaign(campaign)
+                        .product(product)
+                        .toneManner(toneManner)
+                        .additionalContext(request.getAdditionalContext())
+                        .build())
+                .toList();
+
+        return submit(contexts);
+    }
+
+    /**
+     * 프롬프트마다 항목을 저장하고 배치 입력 파일을 작성해 제출
+     */
+    public BulkGenerationJobResponse submit(List<PromptContext> contexts) {
+        checkItemCount(contexts.size());
+
+        String jobId = generateJobId();
+        Path inputFile = inputFile(jobId);
+        String requestedBy = getCurrentUsername();
+
+        transactionTemplate.executeWithoutResult(tx -> prepare(jobId, requestedBy, contexts, inputFile));
+
+        String batchId;
+        try {
+            batchId = batchCompletionClient.submit(inputFile);
+        } catch (BusinessException e) {
+            log.error("대량 생성 배치 제출 실패 - jobId: {}", jobId, e);
+            updateJob(jobId, job -> job.fail(e.getMessage(), 0, 0, LocalDateTime.now()));
+            deleteQuietly(inputFile);
+            throw new BusinessException(ErrorCode.BULK_GENERATION_SUBMIT_FAILED);
+        }
+
+        BulkGenerationJob submitted = updateJob(jobId, job -> job.submit(batchId, LocalDateTime.now()));
+
+        log.info("대량 생성 작업 제출 - jobId: {}, batchId: {}, 항목 수: {}, requestedBy: {}",
+                jobId, batchId, contexts.size(), requestedBy);
+
+        return BulkGenerationJobResponse.from(submitted);
+    }
+
+    public BulkGenerationJobResponse getJob(String jobId) {
+        return BulkGenerationJobResponse.from(findOwnedJob(jobId));
+    }
+
+    public PageResponse<BulkGenerationItemResponse> getItems(String jobId, BulkGenerationItemStatus status,
+                                                             Pageable pageable) {
+        findOwnedJob(jobId);
+
+        Page<BulkGenerationItem> items = status != null
+                ? bulkGenerationItemRepository.findByJobIdAndStatus(jobId, status, pageable)
+                : bulkGenerationItemRepository.findByJobId(jobId, pageable);
+
+        return PageResponse.from(items.map(item -> BulkGenerationItemResponse.of(item, readResult(item))));
+    }
+
+    /**
+     * 제출된 작업의 배치 상태를 확인하고 종료된 배치의 결과를 반영
+     */
+    @Scheduled(fixedDelayString = "${generation.bulk.poll-interval}")
+    public void pollJobs() {
+        for (BulkGenerationJob candidate : bulkGenerationJobRepository.findByStatusInOrderByCreatedAtAsc(ACTIVE_STATUSES)) {
+            Optional<BulkGenerationJob> claimed = claim(candidate.getJobId());
+            if (claimed.isEmpty()) {
+                log.debug("다른 인스턴스가 처리 중인 작업 - jobId: {}", candidate.getJobId());
+                continue;
+            }
+
+            BulkGenerationJob job = claimed.get();
+            try {
+                poll(job);
+            } catch (Exception e) {
+                // 체크포인트까지는 반영되었으므로 다음 주기에 이어서 처리
+                log.error("대량 생성 작업 처리 실패 - jobId: {}, checkpoint: {}",
+                        job.getJobId(), job.getCheckpointLine(), e);
+            } finally {
+                release(job.getJobId());
+            }
+        }
+    }
+
+    /**
+     * 진행 중이고 점유가 없거나 만료된 작업만 점유, 동시에 점유하면 @Version 충돌로 한쪽만 성공
+     */
+    private Optional<BulkGenerationJob> claim(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return Optional.ofNullable(transactionTemplate.execute(tx -> {
+                BulkGenerationJob job = bulkGenerationJobRepository.findById(jobId).orElse(null);
+                if (job == null || !ACTIVE_STATUSES.contains(job.getStatus()) || !job.isClaimableBy(workerId, now)) {
+                    return null;
+                }
+                job.claim(workerId, now.plus(bulkGenerationProperties.getLeaseDuration()));
+                return job;
+            }));
+        } catch (OptimisticLockingFailureException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void release(String jobId) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> bulkGenerationJobRepository.findById(jobId)
+                    .filter(job -> job.isClaimedBy(workerId))
+                    .ifPresent(BulkGenerationJob::release));
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("작업 점유 해제 충돌 - jobId: {}", jobId);
+        }
+    }
+
+    private void poll(BulkGenerationJob job) throws IOException {
+        BatchStatus status = batchCompletionClient.getStatus(job.getBatchId());
+        if (!status.getState().isTerminal()) {
+            return;
+        }
+
+        String jobId = job.getJobId();
+        Path resultFile = resultFile(jobId);
+        if (job.getStatus() == BulkGenerationJobStatus.SUBMITTED || Files.notExists(resultFile)) {
+            batchCompletionClient.downloadResults(status, resultFile);
+            if (job.getStatus() == BulkGenerationJobStatus.SUBMITTED) {
+                updateJob(jobId, BulkGenerationJob::startIngesting);
+            }
+            log.info("대량 생성 배치 결과 수신 - jobId: {}, batchId: {}, state: {}",
+                    jobId, job.getBatchId(), status.getState());
+        }
+
+        if (Files.exists(resultFile)) {
+            ingest(jobId, resultFile, job.getCheckpointLine());
+        } else {
+            // 결과 파일 없이 실패/만료된 배치는 모든 항목이 결과 없음으로 정리됨
+            log.warn("대량 생성 배치 결과 파일 없음 - jobId: {}, state: {}", jobId, status.getState());
+        }
+        finish(jobId, status.getState());
+    }
+
+    private void prepare(String jobId, String requestedBy, List<PromptContext> contexts, Path inputFile) {
+        bulkGenerationJobRepository.save(BulkGenerationJob.builder()
+                .jobId(jobId)
+                .requestedBy(requestedBy)
+                .itemCount(contexts.size())
+                .build());
+
+        List<BulkGenerationItem> items = new ArrayList<>(contexts.size());
+        try (BufferedWriter writer = Files.newBufferedWriter(inputFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < contexts.size(); i++) {
+                PromptContext context = contexts.get(i);
+                String customId = String.format("%s-%06d", jobId, i + 1);
+
+                items.add(toItem(jobId, customId, context));
+                writer.write(objectMapper.writeValueAsString(BatchRequestLine.builder()
+                        .customId(customId)
+                        .body(toRequest(context))
+                        .build()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            deleteQuietly(inputFile);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "배치 입력 파일 작성 실패: " + e.getMessage());
+        }
+
+        bulkGenerationItemRepository.saveAll(items);
+    }
+
+    /**
+     * 체크포인트 다음 줄부터 청크 단위로 반영
+     */
+    private void ingest(String jobId, Path resultFile, long checkpointLine) throws IOException {
+        int chunkSize = bulkGenerationProperties.getIngestChunkSize();
+
+        try (BufferedReader reader = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+            long lineNumber = 0;
+            while (lineNumber < checkpointLine && reader.readLine() != null) {
+                lineNumber++;
+            }
+
+            List<String> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    applyChunk(jobId, chunk, lineNumber);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                applyChunk(jobId, chunk, lineNumber);
+            }
+        }
+    }
+
+    private void applyChunk(String jobId, List<String> lines, long lastLine) {
+        Map<String, BatchResponseLine> responses = new LinkedHashMap<>();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                BatchResponseLine response = objectMapper.readValue(line, BatchResponseLine.class);
+                if (response.getCustomId() != null) {
+                    responses.put(response.getCustomId(), response);
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("배치 결과 줄 파싱 실패, 건너뜀 - jobId: {}, error: {}", jobId, e.getOriginalMessage());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            BulkGenerationJob job = bulkGenerationJobRepository.findById(jobId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.BULK_GENERATION_JOB_NOT_FOUND));
+            if (!job.isClaimedBy(workerId)) {
+                throw new IllegalStateException("작업 점유가 만료되어 다른 인스턴스가 이어받음 - jobId: " + jobId);
+            }
+
+            for (BulkGenerationItem item : bulkGenerationItemRepository.findByCustomIdIn(responses.keySet())) {
+                if (item.isPending() && item.getJobId().equals(jobId)) {
+                    apply(item, responses.get(item.getCustomId()));
+                }
+            }
+            job.advanceCheckpoint(lastLine);
+            job.claim(workerId, LocalDateTime.now().plus(bulkGenerationProperties.getLeaseDuration()));
+        });
+    }
+
+    private void apply(BulkGenerationItem item, BatchResponseLine response) {
+        if (!response.isSuccess()) {
+            item.fail(response.describeError());
+            return;
+        }
+
+        try {
+            String content = response.getResponse().getBody().getChoices().get(0).getMessage().getContent();
+            List<GeneratedMessage> messages = openAIJsonParser.parseList(content, GPTMessage.class).stream()
+                    .map(gpt -> GeneratedMessage.of(gpt.getVersion(), gpt.getContent()))
+                    .toList();
+            if (messages.isEmpty()) {
+                item.fail("생성된 메시지 없음");
+                return;
+            }
+
+            GenerateMessageResponse result = GenerateMessageResponse.of(
+                    generateMessageGroupId(), messages, item.getTargetCustomerCount());
+            item.succeed(result.getMessageGroupId(), objectMapper.writeValueAsString(result));
+        } catch (JsonProcessingException | RuntimeException e) {
+            item.fail("응답 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 결과 파일에 없는 항목을 실패로 정리하고 작업을 종료
+     */
+    private void finish(String jobId, State state) {
+        BulkGenerationJob finished = transactionTemplate.execute(tx -> {
+            bulkGenerationItemRepository.failPending(jobId, MISSING_RESULT_MESSAGE,
+                    BulkGenerationItemStatus.PENDING, BulkGenerationItemStatus.FAILED);
+
+            BulkGenerationJob job = bulkGenerationJobRepository.findById(jobId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.BULK_GENERATION_JOB_NOT_FOUND));
+            int succeeded = bulkGenerationItemRepository.countByJobIdAndStatus(jobId, BulkGenerationItemStatus.SUCCEEDED);
+            int failed = bulkGenerationItemRepository.countByJobIdAndStatus(jobId, BulkGenerationItemStatus.FAILED);
+
+            if (state == State.COMPLETED) {
+                job.complete(succeeded, failed, LocalDateTime.now());
+            } else {
+                job.fail("배치 종료 상태: " + state, succeeded, failed, LocalDateTime.now());
+            }
+            return job;
+        });
+
+        deleteQuietly(inputFile(jobId));
+        deleteQuietly(resultFile(jobId));
+
+        log.info("대량 생성 작업 종료 - jobId: {}, status: {}, 성공: {}, 실패: {}",
+                jobId, finished.getStatus(), finished.getSucceededCount(), finished.getFailedCount());
+    }
+
+    private BulkGenerationJob updateJob(String jobId, Consumer<BulkGenerationJob> mutation) {
+        return transactionTemplate.execute(tx -> {
+            BulkGenerationJob job = bulkGenerationJobRepository.findById(jobId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.BULK_GENERATION_JOB_NOT_FOUND));
+            mutation.accept(job);
+            return job;
+        });
+    }
+
+    private BulkGenerationItem toItem(String jobId, String customId, PromptContext context) {
+        return BulkGenerationItem.builder()
+                .jobId(jobId)
+                .customId(customId)
+                .campaignId(context.getCampaign() != null ? context.getCampaign().getCampaignId() : null)
+                .productId(context.getProduct() != null ? context.getProduct().getProductId() : null)
+                .customerId(context.isIndividualContext() ? context.getCustomer().getCustomerId() : null)
+                .toneId(context.getToneManner() != null ? context.getToneManner().getToneId() : null)
+                .targetCustomerCount(context.isIndividualContext() ? 1 : context.getTargetCustomerCount())
+                .build();
+    }
+
+    private OpenAIRequest toRequest(PromptContext context) {
+        return OpenAIRequest.builder()
+                .model(openAIProperties.getModel())
+                .messages(List.of(
+                        OpenAIMessage.builder()
+                                .role("system")
+                                .content(SYSTEM_MESSAGE)
+                                .build(),
+                        OpenAIMessage.builder()
+                                .role("user")
+                                .content(promptTemplateEngine.buildPrompt(context))
+                                .build()
+                ))
+                .temperature(openAIProperties.getTemperature())
+                .maxTokens(openAIProperties.getMaxTokens())
+                .build();
+    }
+
+    private GenerateMessageResponse readResult(BulkGenerationItem item) {
+        if (item.getResultPayload() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(item.getResultPayload(), GenerateMessageResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error("대량 생성 결과 역직렬화 실패 - customId: {}", item.getCustomId(), e);
+            throw new BusinessException(ErrorCode.INVALID_JSON_RESPONSE);
+        }
+    }
+
+    private BulkGenerationJob findOwnedJob(String jobId) {
+        BulkGenerationJob job = bulkGenerationJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BULK_GENERATION_JOB_NOT_FOUND));
+
+        if (!job.isOwnedBy(getCurrentUsername())) {
+            throw new BusinessException(ErrorCode.BULK_GENERATION_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void checkItemCount(int itemCount) {
+        if (itemCount > bulkGenerationProperties.getMaxItems()) {
+            throw new BusinessException(ErrorCode.BULK_GENERATION_TOO_MANY_ITEMS,
+                    "최대 " + bulkGenerationProperties.getMaxItems() + "건까지 요청할 수 있습니다.");
+        }
+    }
+
+    private Path inputFile(String jobId) {
+        return Paths.get(bulkGenerationProperties.getWorkDirectory(), jobId + ".input.jsonl");
+    }
+
+    private Path resultFile(String jobId) {
+        return Paths.get(bulkGenerationProperties.getWorkDirectory(), jobId + ".result.jsonl");
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("대량 생성 작업 파일 삭제 실패 - {}", file, e);
+        }
+    }
+
+    private String getCurrentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    private String generateJobId() {
+        return "BULK_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+
+    private String generateMessageGroupId() {
+        return "MSG_GROUP_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+}
@@ -0,0 +1,162 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.domain.customer.entity.MembershipLevel;
+import com.ai_marketing_msg_be.domain.message.config.GenerationValidationProperties;
+import com.ai_marketing_msg_be.domain.message.vo.MessageViolation;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 생성된 메시지가 프롬프트의 생성 요구사항을 지키는지 LLM 호출 없이 검사
+ * <p>
+ * 글자 수, 이모지 코드 포인트, 금지 표현, 상품 혜택 언급, 타겟 멤버십 호칭을 확인한다.
+ * 혜택 언급은 혜택 문구의 2글자 이상 단어 중 하나라도 메시지에 있으면 언급한 것으로 본다.
+ * 멤버십 호칭은 상품명을 뺀 본문에서 "골드 회원", "VIP 고객님"처럼 등급 뒤에 호칭이 붙은 경우만 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeneratedMessageValidator {
+
+    // ©, ®, ™ 같은 기호는 상품명에 쓰여 이모지로 보지 않음
+    private static final int LAST_ALLOWED_SYMBOL = 0x2122;
+    private static final int EMOJI_VARIATION_SELECTOR = 0xFE0F;
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final Pattern BENEFIT_SEPARATOR = Pattern.compile("/");
+    private static final Pattern KEYWORD_SEPARATOR = Pattern.compile("[\\s,·()\\[\\]]+");
+
+    // BASIC(일반)은 일반 단어와 구분할 수 없어 제외, 앞에 영문자가 붙으면(VVIP 안의 VIP) 다른 등급으로 봄
+    private static final Map<MembershipLevel, Pattern> MEMBERSHIP_TITLES = membershipTitles(
+            MembershipLevel.VVIP, MembershipLevel.VIP, MembershipLevel.GOLD,
+            MembershipLevel.SILVER, MembershipLevel.WHITE);
+
+    private final GenerationValidationProperties validationProperties;
+
+    public Set<MessageViolation> validate(String content, PromptContext context) {
+        Set<MessageViolation> violations = EnumSet.noneOf(MessageViolation.class);
+        if (content == null || content.isBlank()) {
+            violations.add(MessageViolation.EMPTY);
+            return violations;
+        }
+
+        String text = content.strip();
+        if (text.length() < validationProperties.getMinLength()) {
+            violations.add(MessageViolation.TOO_SHORT);
+        }
+        if (text.length() > validationProperties.getMaxLength()) {
+            violations.add(MessageViolation.TOO_LONG);
+        }
+        if (containsEmoji(text)) {
+            violations.add(MessageViolation.EMOJI);
+        }
+        if (containsBannedPhrase(text)) {
+            violations.add(MessageViolation.BANNED_PHRASE);
+        }
+        if (!mentionsBenefits(text, context.getProduct())) {
+            violations.add(MessageViolation.MISSING_BENEFIT);
+        }
+        if (!usesTargetMembership(withoutProductName(text, context.getProduct()), targetMembership(context))) {
+            violations.add(MessageViolation.WRONG_MEMBERSHIP);
+        }
+        return violations;
+    }
+
+    private boolean containsEmoji(String text) {
+        return text.codePoints().anyMatch(codePoint -> codePoint == EMOJI_VARIATION_SELECTOR
+                || codePoint > LAST_ALLOWED_SYMBOL
+                && (Character.isExtendedPictographic(codePoint) || Character.isEmojiPresentation(codePoint)));
+    }
+
+    private boolean containsBannedPhrase(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String phrase : validationProperties.getBannedPhrases()) {
+            if (!phrase.isBlank() && lower.contains(phrase.toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mentionsBenefits(String text, Product product) {
+        if (product == null || product.getBenefits() == null || product.getBenefits().isBlank()) {
+            return true;
+        }
+
+        String[] benefits = BENEFIT_SEPARATOR.split(product.getBenefits());
+        int mentioned = 0;
+        int candidates = 0;
+        for (String benefit : benefits) {
+            if (benefit.isBlank()) {
+                continue;
+            }
+            candidates++;
+            if (mentionsBenefit(text, benefit)) {
+                mentioned++;
+            }
+        }
+        return mentioned >= Math.min(validationProperties.getMinBenefitMentions(), candidates);
+    }
+
+    private boolean mentionsBenefit(String text, String benefit) {
+        for (String keyword : KEYWORD_SEPARATOR.split(benefit.strip())) {
+            if (keyword.length() >= MIN_KEYWORD_LENGTH && text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메시지에서 등급 호칭으로 쓰인 멤버십이 모두 타겟 등급인지 확인, 타겟 등급이 없으면 어떤 등급 호칭도 허용하지 않음
+     */
+    private boolean usesTargetMembership(String text, MembershipLevel target) {
+        for (Map.Entry<MembershipLevel, Pattern> entry : MEMBERSHIP_TITLES.entrySet()) {
+            if (entry.getKey() != target && entry.getValue().matcher(text).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * "골드 요금제"처럼 상품명에 들어간 등급 이름을 호칭으로 오인하지 않도록 상품명을 제거
+     */
+    private String withoutProductName(String text, Product product) {
+        if (product == null || product.getName() == null || product.getName().isBlank()) {
+            return text;
+        }
+        return Pattern.compile(Pattern.quote(product.getName().strip()), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                .matcher(text)
+                .replaceAll(" ");
+    }
+
+    private MembershipLevel targetMembership(PromptContext context) {
+        if (context.isIndividualContext()) {
+            return context.getCustomer().getMembershipLevel();
+        }
+        if (context.isSegmentContext() && context.getSegmentFilter().getMembershipLevel() != null) {
+            try {
+                return MembershipLevel.valueOf(context.getSegmentFilter().getMembershipLevel().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Map<MembershipLevel, Pattern> membershipTitles(MembershipLevel... levels) {
+        Map<MembershipLevel, Pattern> titles = new EnumMap<>(MembershipLevel.class);
+        for (MembershipLevel level : levels) {
+            titles.put(level, Pattern.compile("(?<![A-Za-z])" + Pattern.quote(level.getDescription())
+                    + "(?![A-Za-z])\\s*(회원|고객|등급|멤버십|멤버|님)", Pattern.CASE_INSENSITIVE));
+        }
+        return titles;
+    }
+}
@@ -0,0 +1,499 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.message.config.GenerationJobProperties;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateSegmentMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.GenerationJobResponse;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJob;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJobPriority;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJobStatus;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationStage;
+import com.ai_marketing_msg_be.domain.message.repository.GenerationJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 세그먼트 메시지 생성을 비동기 작업으로 처리
+ * <p>
+ * 작업 상태는 DB에 저장되어 인스턴스 재시작 후에도 대기/중단 작업을 이어서 처리하며,
+ * 워커 풀은 우선순위 큐를 사용해 HIGH 작업을 먼저 처리한다.
+ * 상태 변경은 작업을 시작한 실행(workerId, attemptCount)만 할 수 있어, 회수된 뒤 늦게 끝난 실행은 결과를 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenerationJobService {
+
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    private final GenerationJobRepository generationJobRepository;
+    private final MessageGenerationService messageGenerationService;
+    private final GenerationJobProperties generationJobProperties;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<String> locallyQueued = ConcurrentHashMap.newKeySet();
+    /**
+     * 이 인스턴스가 실행 중인 작업 ID -> 실행 차수(attemptCount), 회수 후 다시 가져간 실행과 구분
+     */
+    private final Map<String, Integer> locallyRunning = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor workerPool;
+    private TransactionTemplate mutationTransaction;
+
+    @PostConstruct
+    public void init() {
+        // 진행 콜백은 MessageGenerationService의 readOnly 트랜잭션 안에서 호출되므로 합류하지 않고 별도 쓰기 트랜잭션으로 처리
+        this.mutationTransaction = new TransactionTemplate(transactionManager);
+        this.mutationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int workerCount = generationJobProperties.getWorkerCount();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workerPool = new ThreadPoolExecutor(
+                workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "generation-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("메시지 생성 작업 워커 초기화 - workerId: {}, workerCount: {}, queueCapacity: {}",
+                workerId, workerCount, generationJobProperties.getQueueCapacity());
+    }
+
+    public GenerationJobResponse submitSegmentJob(GenerateSegmentMessageRequest request,
+                                                  GenerationJobPriority priority) {
+        if (locallyQueued.size() >= generationJobProperties.getQueueCapacity()) {
+            log.warn("메시지 생성 작업 큐 포화 - queued: {}", locallyQueued.size());
+            throw new BusinessException(ErrorCode.GENERATION_JOB_QUEUE_FULL);
+        }
+
+        GenerationJob job = GenerationJob.builder()
+                .jobId(generateJobId())
+                .requestedBy(getCurrentUsername())
+                .priority(priority)
+                .requestPayload(writeJson(request))
+                .build();
+        generationJobRepository.save(job);
+
+        enqueue(job);
+
+        log.info("메시지 생성 작업 등록 - jobId: {}, priority: {}, requestedBy: {}",
+                job.getJobId(), job.getPriority(), job.getRequestedBy());
+
+        return GenerationJobResponse.of(job, null);
+    }
+
+    public GenerationJobResponse getJob(String jobId) {
+        return toResponse(findOwnedJob(jobId));
+    }
+
+    public GenerationJobResponse cancelJob(String jobId) {
+        findOwnedJob(jobId);
+
+        GenerationJob cancelled = mutate(jobId, job -> {
+            job.cancel(LocalDateTime.now(), resultExpiresAt());
+            return true;
+        }).orElseThrow(() -> new BusinessException(ErrorCode.GENERATION_JOB_NOT_CANCELLABLE));
+
+        locallyQueued.remove(jobId);
+        log.info("메시지 생성 작업 취소 - jobId: {}", jobId);
+
+        GenerationJobResponse response = toResponse(cancelled);
+        publish(jobId, response);
+        return response;
+    }
+
+    public SseEmitter subscribe(String jobId) {
+        GenerationJob job = findOwnedJob(jobId);
+        GenerationJobResponse response = toResponse(job);
+
+        SseEmitter emitter = new SseEmitter(generationJobProperties.getSubscriptionTimeout().toMillis());
+        if (job.getStatus().isTerminal()) {
+            send(emitter, response);
+            emitter.complete();
+            return emitter;
+        }
+
+        subscribers.computeIfAbsent(jobId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> removeSubscriber(jobId, emitter));
+        emitter.onTimeout(() -> removeSubscriber(jobId, emitter));
+        emitter.onError(e -> removeSubscriber(jobId, emitter));
+
+        send(emitter, response);
+        return emitter;
+    }
+
+    /**
+     * 기동 시 대기 작업과 하트비트가 끊긴 작업을 다시 큐에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        List<GenerationJob> queuedJobs = generationJobRepository.findByStatusOrderByCreatedAtAsc(GenerationJobStatus.QUEUED);
+        queuedJobs.forEach(this::enqueue);
+
+        int released = releaseStaleRunningJobs();
+
+        log.info("메시지 생성 작업 복구 완료 - 대기 작업: {}, 중단 작업: {}", queuedJobs.size(), released);
+    }
+
+    /**
+     * 다른 인스턴스가 처리하다 중단된 작업이나 오래 대기 중인 작업을 주기적으로 회수
+     */
+    @Scheduled(fixedDelayString = "${generation.job.recovery-interval}")
+    public void recoverStaleJobs() {
+        int released = releaseStaleRunningJobs();
+
+        LocalDateTime threshold = LocalDateTime.now().minus(generationJobProperties.getStaleAfter());
+        List<GenerationJob> orphaned = generationJobRepository
+                .findByStatusAndCreatedAtBefore(GenerationJobStatus.QUEUED, threshold).stream()
+                .filter(job -> !locallyQueued.contains(job.getJobId()))
+                .toList();
+        orphaned.forEach(this::enqueue);
+
+        if (released > 0 || !orphaned.isEmpty()) {
+            log.info("메시지 생성 작업 회수 - 중단 작업: {}, 대기 작업: {}", released, orphaned.size());
+        }
+    }
+
+    /**
+     * 이 인스턴스가 실행 중인 작업의 하트비트 갱신
+     * 단계 변경은 AI 호출 전후에만 일어나므로, 갱신하지 않으면 긴 호출 중에 다른 인스턴스가 작업을 회수해 중복 실행함
+     */
+    @Scheduled(fixedDelayString = "${generation.job.heartbeat-interval}")
+    public void refreshHeartbeats() {
+        locallyRunning.forEach((jobId, attempt) -> mutate(jobId, job -> {
+            if (!job.isRunBy(workerId, attempt)) {
+                return false;
+            }
+            job.heartbeat(LocalDateTime.now());
+            return true;
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${generation.job.cleanup-interval}")
+    public void deleteExpiredJobs() {
+        int deleted = generationJobRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 메시지 생성 작업 삭제 - {}건", deleted);
+        }
+    }
+
+    /**
+     * 종료 시 실행 중인 작업을 대기 상태로 돌려 다른 인스턴스나 재기동 후 이어서 처리되도록 함
+     */
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+
+        locallyRunning.forEach((jobId, attempt) -> mutate(jobId, job -> {
+            if (!job.isRunBy(workerId, attempt)) {
+                return false;
+            }
+            job.release();
+            return true;
+        }));
+
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+
+        log.info("메시지 생성 작업 워커 종료 - 반환된 작업: {}", locallyRunning.size());
+    }
+
+    private int releaseStaleRunningJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(generationJobProperties.getStaleAfter());
+        List<GenerationJob> staleJobs = generationJobRepository
+                .findByStatusAndHeartbeatAtBefore(GenerationJobStatus.RUNNING, threshold);
+
+        int released = 0;
+        for (GenerationJob stale : staleJobs) {
+            Optional<GenerationJob> requeued = mutate(stale.getJobId(), job -> {
+                if (!job.isRunning() || !job.getHeartbeatAt().isBefore(threshold)) {
+                    return false;
+                }
+                job.release();
+                return true;
+            });
+            if (requeued.isPresent()) {
+                enqueue(requeued.get());
+                released++;
+            }
+        }
+        return released;
+    }
+
+    private void enqueue(GenerationJob job) {
+        if (locallyQueued.add(job.getJobId())) {
+            workerPool.execute(new JobTask(job.getJobId(), job.getPriority(), sequence.incrementAndGet()));
+        }
+    }
+
+    private void runJob(String jobId) {
+        locallyQueued.remove(jobId);
+
+        Optional<GenerationJob> claimed = mutate(jobId, job -> {
+            if (!job.isQueued()) {
+                return false;
+            }
+            job.start(workerId, LocalDateTime.now());
+            return true;
+        });
+        if (claimed.isEmpty()) {
+            log.debug("이미 처리 중이거나 종료된 작업 - jobId: {}", jobId);
+            return;
+        }
+
+        int attempt = claimed.get().getAttemptCount();
+        locallyRunning.put(jobId, attempt);
+        publish(jobId, toResponse(claimed.get()));
+
+        try {
+            GenerateSegmentMessageRequest request = objectMapper.readValue(
+                    claimed.get().getRequestPayload(), GenerateSegmentMessageRequest.class);
+
+            GenerateMessageResponse result = messageGenerationService.generateSegmentMessage(request,
+                    new JobProgressListener(jobId, attempt));
+
+            String resultPayload = writeJson(result);
+            mutate(jobId, job -> {
+                if (!job.isRunBy(workerId, attempt)) {
+                    return false;
+                }
+                job.succeed(resultPayload, LocalDateTime.now(), resultExpiresAt());
+                return true;
+            }).ifPresentOrElse(
+                    job -> {
+                        publish(jobId, GenerationJobResponse.of(job, result));
+                        log.info("메시지 생성 작업 완료 - jobId: {}, messageGroupId: {}",
+                                jobId, result.getMessageGroupId());
+                    },
+                    () -> log.info("취소되었거나 회수된 작업의 결과 폐기 - jobId: {}", jobId));
+
+        } catch (Exception e) {
+            Optional<GenerationJob> failed = mutate(jobId, job -> {
+                if (!job.isRunBy(workerId, attempt)) {
+                    return false;
+                }
+                job.fail(e.getMessage(), LocalDateTime.now(), resultExpiresAt());
+                return true;
+            });
+
+            if (failed.isPresent()) {
+                log.error("메시지 생성 작업 실패 - jobId: {}", jobId, e);
+                publish(jobId, toResponse(failed.get()));
+            } else {
+                log.info("취소되었거나 회수된 작업 중단 - jobId: {}", jobId);
+            }
+        } finally {
+            locallyRunning.remove(jobId, attempt);
+        }
+    }
+
+    /**
+     * 조회와 저장을 하나의 쓰기 트랜잭션(primary)에서 처리하고, 낙관적 락 충돌 시 최신 상태를 다시 읽어 재시도
+     * mutation이 false를 반환하면 상태 변경이 불가능한 것으로 보고 중단
+     */
+    private Optional<GenerationJob> mutate(String jobId, Predicate<GenerationJob> mutation) {
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            try {
+                return mutationTransaction.execute(status -> {
+                    Optional<GenerationJob> found = generationJobRepository.findById(jobId);
+                    if (found.isEmpty() || !mutation.test(found.get())) {
+                        return Optional.<GenerationJob>empty();
+                    }
+                    return Optional.of(generationJobRepository.save(found.get()));
+                });
+            } catch (OptimisticLockingFailureException e) {
+                log.debug("작업 상태 변경 충돌 - jobId: {}, attempt: {}", jobId, attempt);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void publish(String jobId, GenerationJobResponse response) {
+        List<SseEmitter> emitters = subscribers.get(jobId);
+        if (emitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, response)) {
+                removeSubscriber(jobId, emitter);
+            } else if (response.getStatus().isTerminal()) {
+                emitter.complete();
+            }
+        }
+
+        if (response.getStatus().isTerminal()) {
+            subscribers.remove(jobId);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, GenerationJobResponse response) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("progress")
+                    .id(response.getJobId() + ":" + response.getProgress())
+                    .data(response));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("작업 진행 이벤트 전송 실패 - jobId: {}", response.getJobId());
+            return false;
+        }
+    }
+
+    private void removeSubscriber(String jobId, SseEmitter emitter) {
+        List<SseEmitter> emitters = subscribers.get(jobId);
+        if (emitters != null) {
+            emitters.remove(emitter);
+        }
+    }
+
+    private GenerationJobResponse toResponse(GenerationJob job) {
+        try {
+            if (job.isRunning() && job.getPartialPayload() != null) {
+                return GenerationJobResponse.of(job, null,
+                        objectMapper.readValue(job.getPartialPayload(), new TypeReference<List<GeneratedMessage>>() {
+                        }));
+            }
+            if (job.getStatus() != GenerationJobStatus.SUCCEEDED || job.getResultPayload() == null) {
+                return GenerationJobResponse.of(job, null);
+            }
+            return GenerationJobResponse.of(job,
+                    objectMapper.readValue(job.getResultPayload(), GenerateMessageResponse.class));
+        } catch (JsonProcessingException e) {
+            log.error("작업 결과 역직렬화 실패 - jobId: {}", job.getJobId(), e);
+            throw new BusinessException(ErrorCode.INVALID_JSON_RESPONSE);
+        }
+    }
+
+    private GenerationJob findOwnedJob(String jobId) {
+        GenerationJob job = generationJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GENERATION_JOB_NOT_FOUND));
+
+        if (!job.isOwnedBy(getCurrentUsername())) {
+            throw new BusinessException(ErrorCode.GENERATION_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private LocalDateTime resultExpiresAt() {
+        return LocalDateTime.now().plus(generationJobProperties.getResultTtl());
+    }
+
+    private String getCurrentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    private String generateJobId() {
+        return "JOB_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+
+    /**
+     * 실행 중인 작업의 단계와 중간 결과를 저장하고 구독자에게 전달
+     * 취소되었거나 회수되어 다른 실행이 가져간 작업이면 생성을 중단시킴
+     */
+    private final class JobProgressListener implements GenerationProgressListener {
+
+        private final String jobId;
+        private final int attempt;
+
+        private JobProgressListener(String jobId, int attempt) {
+            this.jobId = jobId;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public void onStage(GenerationStage stage) {
+            update(job -> job.updateStage(stage, LocalDateTime.now()));
+        }
+
+        @Override
+        public void onPartialResult(List<GeneratedMessage> messages) {
+            String partialPayload = writeJson(messages);
+            update(job -> job.updatePartialResult(partialPayload, LocalDateTime.now()));
+        }
+
+        private void update(Consumer<GenerationJob> change) {
+            GenerationJob updated = mutate(jobId, job -> {
+                if (!job.isRunBy(workerId, attempt)) {
+                    return false;
+                }
+                change.accept(job);
+                return true;
+            }).orElseThrow(() -> new CancellationException(jobId));
+            publish(jobId, toResponse(updated));
+        }
+    }
+
+    private final class JobTask implements Runnable, Comparable<JobTask> {
+
+        private final String jobId;
+        private final GenerationJobPriority priority;
+        private final long sequence;
+
+        private JobTask(String jobId, GenerationJobPriority priority, long sequence) {
+            this.jobId = jobId;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            runJob(jobId);
+        }
+
+        @Override
+        public int compareTo(JobTask other) {
+            int byPriority = Integer.compare(other.priority.getWeight(), this.priority.getWeight());
+            return byPriority != 0 ? byPriority : Long.compare(this.sequence, other.sequence);
+        }
+    }
+}
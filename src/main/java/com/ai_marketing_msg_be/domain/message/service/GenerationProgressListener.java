@@ -0,0 +1,23 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.domain.message.dto.GeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationStage;
+import java.util.List;
+
+/**
+ * 메시지 생성 단계 진행 알림 (비동기 작업 진행률 갱신용)
+ */
+@FunctionalInterface
+public interface GenerationProgressListener {
+
+    GenerationProgressListener NONE = stage -> {
+    };
+
+    void onStage(GenerationStage stage);
+
+    /**
+     * 응답을 파싱한 직후의 메시지, 이후 검증 실패 버전은 재생성으로 바뀔 수 있음
+     */
+    default void onPartialResult(List<GeneratedMessage> messages) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.domain.message.dto.GenerationUsageStatsResponse;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIUsage;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 개별 메시지 생성 방식(단건/묶음)별 토큰 사용량과 처리량 집계
+ * 묶음 생성의 고객당 출력 토큰 관측값은 다음 호출의 묶음 크기 산정에 사용된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GenerationUsageStats {
+
+    private static final double SMOOTHING = 0.2;
+
+    private final OpenAIProperties openAIProperties;
+
+    private final Map<GenerationMode, ModeCounter> counters = new EnumMap<>(GenerationMode.class);
+    private volatile double observedCompletionTokensPerCustomer;
+
+    {
+        for (GenerationMode mode : GenerationMode.values()) {
+            counters.put(mode, new ModeCounter());
+        }
+    }
+
+    /**
+     * @param requestedCount 호출에 포함된 고객 수
+     * @param succeededCount 검증을 통과해 생성 완료된 고객 수
+     */
+    public void record(GenerationMode mode, int requestedCount, int succeededCount,
+                       OpenAIUsage usage, long elapsedMillis) {
+        ModeCounter counter = counters.get(mode);
+        counter.llmCalls.increment();
+        counter.customers.add(succeededCount);
+        counter.elapsedMillis.add(elapsedMillis);
+
+        if (usage == null) {
+            return;
+        }
+        counter.promptTokens.add(usage.getPromptTokens() != null ? usage.getPromptTokens() : 0);
+        counter.completionTokens.add(usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0);
+
+        if (mode == GenerationMode.PACKED && requestedCount > 0 && usage.getCompletionTokens() != null) {
+            updateObservedTokensPerCustomer((double) usage.getCompletionTokens() / requestedCount);
+        }
+    }
+
+    public double getObservedCompletionTokensPerCustomer() {
+        return observedCompletionTokensPerCustomer;
+    }
+
+    public GenerationUsageStatsResponse snapshot() {
+        return GenerationUsageStatsResponse.builder()
+                .modes(Arrays.stream(GenerationMode.values())
+                        .map(mode -> counters.get(mode).toStats(mode))
+                        .toList())
+                .build();
+    }
+
+    private synchronized void updateObservedTokensPerCustomer(double sample) {
+        double current = observedCompletionTokensPerCustomer;
+        observedCompletionTokensPerCustomer = current == 0 ? sample : current + SMOOTHING * (sample - current);
+    }
+
+    public enum GenerationMode {
+        SINGLE,
+        PACKED
+    }
+
+    private final class ModeCounter {
+        private final LongAdder customers = new LongAdder();
+        private final LongAdder llmCalls = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+        private final LongAdder elapsedMillis = new LongAdder();
+
+        private GenerationUsageStatsResponse.ModeStats toStats(GenerationMode mode) {
+            long customerCount = customers.sum();
+            long prompt = promptTokens.sum();
+            long completion = completionTokens.sum();
+            long elapsed = elapsedMillis.sum();
+
+            double cost = prompt / 1_000_000.0 * openAIProperties.getInputCostPerMillion()
+                    + completion / 1_000_000.0 * openAIProperties.getOutputCostPerMillion();
+
+            return GenerationUsageStatsResponse.ModeStats.builder()
+                    .mode(mode.name())
+                    .customerCount(customerCount)
+                    .llmCallCount(llmCalls.sum())
+                    .promptTokens(prompt)
+                    .completionTokens(completion)
+                    .tokensPerCustomer(customerCount > 0 ? (double) (prompt + completion) / customerCount : 0.0)
+                    .costPerCustomer(customerCount > 0 ? cost / customerCount : 0.0)
+                    .customersPerSecond(elapsed > 0 ? customerCount * 1000.0 / elapsed : 0.0)
+                    .build();
+        }
+    }
+}
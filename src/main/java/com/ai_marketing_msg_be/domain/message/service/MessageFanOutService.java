@@ -0,0 +1,259 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
+import com.ai_marketing_msg_be.domain.customer.repository.CustomerSpecification;
+import com.ai_marketing_msg_be.domain.message.config.FanOutProperties;
+import com.ai_marketing_msg_be.domain.message.dto.FanOutMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.FanOutMessageResponse;
+import com.ai_marketing_msg_be.domain.message.entity.ToneManner;
+import com.ai_marketing_msg_be.domain.message.repository.MessageBatchWriter;
+import com.ai_marketing_msg_be.domain.message.vo.CompiledMessageTemplate;
+import com.ai_marketing_msg_be.domain.message.vo.FanOutTarget;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.ai_marketing_msg_be.domain.user.entity.User;
+import com.ai_marketing_msg_be.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 세그먼트 템플릿 메시지를 세그먼트 고객 전원에게 개인화해 저장 (LLM 호출 없음)
+ * <p>
+ * 고객은 customerId 키셋 페이지로 배치 단위 조회하고 페이지마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지하며,
+ * 배치 렌더링/저장은 고정 크기 워커 풀에서 병렬 처리한다.
+ * 워커 큐가 가득 차면 조회 스레드가 직접 배치를 처리(CallerRunsPolicy)하여 조회 속도가 자연스럽게 조절된다.
+ * 배치는 각자 한 트랜잭션으로 저장되며, 중간에 실패하면 fanOutId로 이미 저장된 배치를 삭제해 일부만 남지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageFanOutService {
+
+    private final CustomerRepository customerRepository;
+    private final CampaignRepository campaignRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final MessageBatchWriter messageBatchWriter;
+    private final FanOutProperties fanOutProperties;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    private ThreadPoolExecutor fanOutExecutor;
+    private TransactionTemplate batchTransaction;
+
+    @PostConstruct
+    public void init() {
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+
+        int workerCount = fanOutProperties.getWorkerCount() > 0
+                ? fanOutProperties.getWorkerCount()
+                : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanOutExecutor = new ThreadPoolExecutor(
+                workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutProperties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "message-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdown();
+    }
+
+    public FanOutMessageResponse fanOut(FanOutMessageRequest request) {
+        log.info("세그먼트 메시지 팬아웃 요청 - campaignId: {}, productId: {}",
+                request.getCampaignId(), request.getProductId());
+
+        long startedAt = System.nanoTime();
+
+        CompiledMessageTemplate template = CompiledMessageTemplate.compile(request.getTemplateContent());
+        if (template.getLiteralLength() > fanOutProperties.getMaxLength()) {
+            throw new BusinessException(ErrorCode.INVALID_MESSAGE_TEMPLATE,
+                    "템플릿 길이가 최대 길이(" + fanOutProperties.getMaxLength() + "자)를 초과합니다.");
+        }
+
+        FanOutTarget target = FanOutTarget.builder()
+                .fanOutId(generateFanOutId())
+                .userId(getCurrentUser().getId())
+                .campaignId(validateCampaign(request.getCampaignId()))
+                .productId(validateProduct(request.getProductId()))
+                .toneId(resolveToneId(request.getToneId()))
+                .messageVersion(request.getMessageVersion())
+                .build();
+
+        Specification<Customer> segmentSpec = CustomerSpecification.withFilters(request.getSegmentFilter());
+        int batchSize = fanOutProperties.getBatchSize();
+
+        AtomicLong processed = new AtomicLong();
+        AtomicLong written = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        long lastCustomerId = 0L;
+        while (failure.get() == null) {
+            List<Customer> batch = fetchBatch(segmentSpec, lastCustomerId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastCustomerId = batch.get(batch.size() - 1).getCustomerId();
+
+            pending.removeIf(CompletableFuture::isDone);
+            pending.add(CompletableFuture.runAsync(() -> {
+                try {
+                    renderAndWrite(batch, template, target, processed, written, rejected);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                    throw e;
+                }
+            }, fanOutExecutor));
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            failure.compareAndSet(null, e.getCause());
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        if (failure.get() != null) {
+            log.error("세그먼트 메시지 팬아웃 실패 - fanOutId: {}, 처리: {}, 저장: {}",
+                    target.getFanOutId(), processed.get(), written.get(), failure.get());
+            throw new BusinessException(ErrorCode.MESSAGE_FAN_OUT_FAILED, cleanUp(target.getFanOutId()));
+        }
+
+        FanOutMessageResponse response = FanOutMessageResponse.of(
+                target.getFanOutId(), processed.get(), written.get(), rejected.get(), elapsedMillis);
+
+        log.info("세그먼트 메시지 팬아웃 완료 - fanOutId: {}, 처리: {}, 저장: {}, 제외: {}, 소요: {}ms, 분당 {}명",
+                response.getFanOutId(), response.getProcessedCount(), response.getWrittenCount(), response.getRejectedCount(),
+                elapsedMillis, response.getCustomersPerMinute());
+
+        return response;
+    }
+
+    private List<Customer> fetchBatch(Specification<Customer> segmentSpec, long lastCustomerId, int batchSize) {
+        Specification<Customer> afterLastId = (root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThan(root.get("customerId"), lastCustomerId);
+
+        List<Customer> batch = customerRepository.findBy(segmentSpec.and(afterLastId),
+                query -> query.sortBy(Sort.by("customerId").ascending())
+                        .limit(batchSize)
+                        .all());
+
+        // 요청 단위 영속성 컨텍스트(OSIV 등)가 열려 있으면 조회한 고객이 요청이 끝날 때까지 쌓이므로 페이지마다 분리
+        // 렌더링은 지연 로딩 없는 기본 컬럼만 읽어 분리된 엔티티로도 처리 가능
+        entityManager.clear();
+        return batch;
+    }
+
+    private void renderAndWrite(List<Customer> batch, CompiledMessageTemplate template, FanOutTarget target,
+                                AtomicLong processed, AtomicLong written, AtomicLong rejected) {
+        int maxLength = fanOutProperties.getMaxLength();
+        long[] customerIds = new long[batch.size()];
+        String[] contents = new String[batch.size()];
+        StringBuilder buffer = new StringBuilder(maxLength * 2);
+
+        int size = 0;
+        int rejectedInBatch = 0;
+        for (Customer customer : batch) {
+            int length = template.render(customer, buffer);
+            if (length > maxLength) {
+                rejectedInBatch++;
+                continue;
+            }
+            customerIds[size] = customer.getCustomerId();
+            contents[size] = buffer.toString();
+            size++;
+        }
+
+        int count = size;
+        batchTransaction.executeWithoutResult(
+                status -> messageBatchWriter.writeIndividualMessages(target, customerIds, contents, count));
+
+        processed.addAndGet(batch.size());
+        written.addAndGet(size);
+        rejected.addAndGet(rejectedInBatch);
+    }
+
+    /**
+     * 실패한 팬아웃이 이미 커밋한 배치를 삭제하고 응답 메시지를 반환
+     * 삭제도 실패하면 fanOutId로 수동 정리할 수 있도록 메시지에 남김
+     */
+    private String cleanUp(String fanOutId) {
+        try {
+            long deleted = messageBatchWriter.deleteFanOut(fanOutId);
+            log.info("실패한 팬아웃 메시지 삭제 - fanOutId: {}, 삭제: {}건", fanOutId, deleted);
+            return "팬아웃 중 오류가 발생해 저장된 메시지를 삭제했습니다. (fanOutId: " + fanOutId + ")";
+        } catch (RuntimeException e) {
+            log.error("실패한 팬아웃 메시지 삭제 실패 - fanOutId: {}", fanOutId, e);
+            return "팬아웃 중 오류가 발생했고 저장된 메시지를 삭제하지 못했습니다. (fanOutId: " + fanOutId + ")";
+        }
+    }
+
+    private String generateFanOutId() {
+        return "FAN_OUT_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+
+    private Long validateCampaign(Long campaignId) {
+        if (!campaignRepository.existsById(campaignId)) {
+            throw new BusinessException(ErrorCode.CAMPAIGN_NOT_FOUND);
+        }
+        return campaignId;
+    }
+
+    private Long validateProduct(Long productId) {
+        if (!productRepository.existsById(productId)) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return productId;
+    }
+
+    private String resolveToneId(String toneId) {
+        if (toneId == null || toneId.isBlank() || ToneManner.fromToneId(toneId) == null) {
+            return ToneManner.FRIENDLY.getToneId();
+        }
+        return toneId;
+    }
+
+    private User getCurrentUser() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+}
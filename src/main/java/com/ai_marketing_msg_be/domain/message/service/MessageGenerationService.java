@@ -1,18 +1,25 @@
 package com.ai_marketing_msg_be.domain.message.service;
 
+import com.ai_marketing_msg_be.common.deadline.RequestDeadline;
 import com.ai_marketing_msg_be.common.exception.BusinessException;
 import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.common.logging.LogCategory;
+import com.ai_marketing_msg_be.common.logging.PayloadLogger;
 import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
 import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
 import com.ai_marketing_msg_be.domain.customer.entity.Customer;
 import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
 import com.ai_marketing_msg_be.domain.customer.service.CustomerService;
+import com.ai_marketing_msg_be.domain.message.config.GenerationValidationProperties;
 import com.ai_marketing_msg_be.domain.message.dto.GPTMessage;
 import com.ai_marketing_msg_be.domain.message.dto.GenerateIndividualMessageRequest;
 import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
 import com.ai_marketing_msg_be.domain.message.dto.GenerateSegmentMessageRequest;
 import com.ai_marketing_msg_be.domain.message.dto.GeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationStage;
 import com.ai_marketing_msg_be.domain.message.entity.ToneManner;
+import com.ai_marketing_msg_be.domain.message.service.GenerationUsageStats.GenerationMode;
+import com.ai_marketing_msg_be.domain.message.vo.MessageViolation;
 import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
 import com.ai_marketing_msg_be.domain.product.entity.Product;
 import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
@@ -20,11 +27,21 @@ import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAICallType;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIJsonParser;
 import com.ai_marketing_msg_be.infra.openai.service.OpenAIService;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,14 +57,57 @@ public class MessageGenerationService {
     private final OpenAIService openAIService;
     private final PromptTemplateEngine promptTemplateEngine;
     private final OpenAIProperties openAIProperties;
-    private final ObjectMapper objectMapper;
+    private final OpenAIJsonParser openAIJsonParser;
+    private final GenerationUsageStats generationUsageStats;
+    private final WarmMessageCache warmMessageCache;
+    private final SimilarMessageCache similarMessageCache;
+    private final PayloadLogger payloadLogger;
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final GeneratedMessageValidator generatedMessageValidator;
+    private final GenerationValidationProperties validationProperties;
 
     private final CampaignRepository campaignRepository;
     private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
     private final CustomerService customerService;
 
+    @Timed(value = "message.generation.segment", histogram = true)
     public GenerateMessageResponse generateSegmentMessage(GenerateSegmentMessageRequest request) {
+        return generateSegmentMessage(request, GenerationProgressListener.NONE);
+    }
+
+    @Timed(value = "message.generation.segment", histogram = true)
+    public GenerateMessageResponse generateSegmentMessage(GenerateSegmentMessageRequest request,
+                                                          GenerationProgressListener progressListener) {
+        Optional<GenerateMessageResponse> warm = request.isRegenerateRequested()
+                ? Optional.empty()
+                : warmMessageCache.find(request);
+        if (warm.isPresent()) {
+            log.info("사전 생성 메시지 사용 - campaignId: {}, productId: {}",
+                    request.getCampaignId(), request.getProductId());
+
+            List<GeneratedMessage> messages = warm.get().getMessages().stream()
+                    .map(message -> GeneratedMessage.of(message.getVersion(), message.getContent()))
+                    .collect(Collectors.toList());
+            // 저장된 대상 수는 사전 생성 시점 값이라 고객 변동을 반영하도록 다시 센다
+            return GenerateMessageResponse.of(generateMessageGroupId(), messages, countTargets(request));
+        }
+
+        return generateSegmentMessage(request, progressListener, !request.isRegenerateRequested());
+    }
+
+    /**
+     * 사전 생성 메시지와 유사 요청 메시지를 거치지 않고 항상 새로 생성
+     */
+    public GenerateMessageResponse generateFreshSegmentMessage(GenerateSegmentMessageRequest request,
+                                                               GenerationProgressListener progressListener) {
+        return generateSegmentMessage(request, progressListener, false);
+    }
+
+    private GenerateMessageResponse generateSegmentMessage(GenerateSegmentMessageRequest request,
+                                                           GenerationProgressListener progressListener,
+                                                           boolean reuseSimilar) {
         log.info("세그먼트 메시지 생성 요청 - campaignId: {}, productId: {}",
                 request.getCampaignId(), request.getProductId());
 
@@ -55,7 +115,8 @@ public class MessageGenerationService {
         Product product = findProductById(request.getProductId());
         ToneManner toneManner = findToneMannerById(request.getToneId());
 
-        int targetCustomerCount = customerService.countBySegmentFilter(request.getSegmentFilter());
+        progressListener.onStage(GenerationStage.COUNTING_TARGETS);
+        int targetCustomerCount = countTargets(request);
         log.info("타겟 고객 수: {}", targetCustomerCount);
 
         PromptContext context = PromptContext.builder()
@@ -67,16 +128,45 @@ public class MessageGenerationService {
                 .additionalContext(request.getAdditionalContext())
                 .build();
 
-        List<GeneratedMessage> messages = generateMessages(context);
+        if (reuseSimilar) {
+            Optional<SimilarMessageCache.Match> similar = similarMessageCache.find(context);
+            meterRegistry.counter("message.similarity.cache", "result", similar.isPresent() ? "hit" : "miss")
+                    .increment();
+            if (similar.isPresent()) {
+                return reuseSimilarMessages(similar.get(), targetCustomerCount);
+            }
+        }
+
+        List<GeneratedMessage> messages = generateMessages(context, progressListener);
 
         String messageGroupId = generateMessageGroupId();
 
         log.info("세그먼트 메시지 생성 완료 - messageGroupId: {}, 생성된 메시지 수: {}",
                 messageGroupId, messages.size());
 
-        return GenerateMessageResponse.of(messageGroupId, messages, targetCustomerCount);
+        GenerateMessageResponse response = GenerateMessageResponse.of(messageGroupId, messages, targetCustomerCount);
+        similarMessageCache.put(context, response);
+        return response;
     }
 
+    /**
+     * 메시지 ID와 그룹 ID는 새로 발급하고, 타겟 고객 수는 이번 요청 조건으로 센 값을 사용
+     */
+    private GenerateMessageResponse reuseSimilarMessages(SimilarMessageCache.Match match, int targetCustomerCount) {
+        GenerateMessageResponse source = match.getResponse();
+        String messageGroupId = generateMessageGroupId();
+
+        log.info("유사 요청 메시지 재사용 - messageGroupId: {}, 원본: {}, 유사도: {}",
+                messageGroupId, source.getMessageGroupId(), String.format("%.2f", match.getSimilarity()));
+
+        List<GeneratedMessage> messages = source.getMessages().stream()
+                .map(message -> GeneratedMessage.of(message.getVersion(), message.getContent()))
+                .collect(Collectors.toList());
+        return GenerateMessageResponse.reused(messageGroupId, messages, targetCustomerCount,
+                source.getMessageGroupId(), match.getSimilarity());
+    }
+
+    @Timed(value = "message.generation.individual", histogram = true)
     public GenerateMessageResponse generateIndividualMessage(GenerateIndividualMessageRequest request) {
         log.info("개별 고객 메시지 생성 요청 - customerId: {}, campaignId: {}, productId: {}",
                 request.getCustomerId(), request.getCampaignId(), request.getProductId());
@@ -94,7 +184,7 @@ public class MessageGenerationService {
                 .additionalContext(request.getAdditionalContext())
                 .build();
 
-        List<GeneratedMessage> messages = generateMessages(context);
+        List<GeneratedMessage> messages = generateMessages(context, GenerationProgressListener.NONE);
 
         String messageGroupId = generateMessageGroupId();
 
@@ -104,10 +194,12 @@ public class MessageGenerationService {
         return GenerateMessageResponse.of(messageGroupId, messages, 1);
     }
 
-    private List<GeneratedMessage> generateMessages(PromptContext context) {
+    private List<GeneratedMessage> generateMessages(PromptContext context,
+                                                    GenerationProgressListener progressListener) {
         try {
+            progressListener.onStage(GenerationStage.BUILDING_PROMPT);
             String prompt = promptTemplateEngine.buildPrompt(context);
-            log.debug("Generated prompt: {}", prompt);
+            payloadLogger.debug(log, LogCategory.PROMPT, "Generated prompt", () -> prompt);
 
             OpenAIRequest openAIRequest = OpenAIRequest.builder()
                     .model(openAIProperties.getModel())
@@ -125,40 +217,143 @@ public class MessageGenerationService {
                     .maxTokens(openAIProperties.getMaxTokens())
                     .build();
 
-            OpenAIResponse response = openAIService.callChatCompletion(openAIRequest);
+            progressListener.onStage(GenerationStage.CALLING_LLM);
+            long startedAt = System.nanoTime();
+            OpenAICallType callType = context.isIndividualContext()
+                    ? OpenAICallType.INDIVIDUAL_MESSAGE : OpenAICallType.SEGMENT_MESSAGE;
+            OpenAIResponse response = openAIService.callChatCompletion(callType, openAIRequest);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
 
             String content = response.getChoices().get(0).getMessage().getContent();
-            log.debug("GPT response content: {}", content);
+            payloadLogger.debug(log, LogCategory.LLM_RESPONSE, "GPT response content", () -> content);
+
+            progressListener.onStage(GenerationStage.PARSING_RESPONSE);
+            List<GPTMessage> gptMessages = Observation.createNotStarted("message.response.parse", observationRegistry)
+                    .observe(() -> openAIJsonParser.parseList(content, GPTMessage.class));
 
-            List<GPTMessage> gptMessages = parseGPTResponse(content);
+            if (context.isIndividualContext()) {
+                generationUsageStats.record(GenerationMode.SINGLE, 1, 1, response.getUsage(), elapsedMillis);
+            }
+            progressListener.onPartialResult(gptMessages.stream()
+                    .map(gpt -> GeneratedMessage.of(gpt.getVersion(), gpt.getContent()))
+                    .collect(Collectors.toList()));
 
-            return gptMessages.stream()
+            return validateAndRegenerate(context, prompt, gptMessages).stream()
                     .map(gpt -> GeneratedMessage.of(gpt.getVersion(), gpt.getContent()))
                     .collect(Collectors.toList());
 
         } catch (Exception e) {
+            RequestDeadline.propagateIfExceeded(e);
+            OpenAIService.propagateIfRejected(e);
             log.error("메시지 생성 실패", e);
             throw new BusinessException(ErrorCode.MESSAGE_GENERATION_FAILED);
         }
     }
 
 
-    private List<GPTMessage> parseGPTResponse(String content) {
-        try {
-            String cleanedContent = content
-                    .replaceAll("```json\\s*", "")
-                    .replaceAll("```\\s*", "")
-                    .trim();
+    /**
+     * 버전별로 생성 요구사항을 검사하고, 실패한 버전이 적으면 그 버전만 다시 생성해 교체
+     * 다시 생성한 메시지도 검증에 실패하거나 호출이 실패하면 원래 메시지를 그대로 둔다.
+     */
+    private List<GPTMessage> validateAndRegenerate(PromptContext context, String prompt, List<GPTMessage> messages) {
+        if (!validationProperties.isEnabled()) {
+            return messages;
+        }
 
-            return objectMapper.readValue(
-                    cleanedContent,
-                    new TypeReference<List<GPTMessage>>() {
-                    }
-            );
+        Map<Integer, Set<MessageViolation>> failures = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            Set<MessageViolation> violations = generatedMessageValidator.validate(messages.get(i).getContent(), context);
+            if (!violations.isEmpty()) {
+                failures.put(i, violations);
+                violations.forEach(violation -> meterRegistry.counter("message.validation.violation",
+                        "violation", violation.name().toLowerCase()).increment());
+            }
+        }
 
-        } catch (Exception e) {
-            log.error("GPT 응답 파싱 실패 - content: {}", content, e);
-            throw new BusinessException(ErrorCode.INVALID_JSON_RESPONSE);
+        if (failures.isEmpty()) {
+            meterRegistry.counter("message.validation", "result", "valid").increment();
+            return messages;
+        }
+        if (failures.size() > validationProperties.getMaxRegeneratedVersions()) {
+            log.warn("검증 실패 버전이 많아 재생성 생략 - 실패: {}/{}, 사유: {}",
+                    failures.size(), messages.size(), failures.values());
+            meterRegistry.counter("message.validation", "result", "invalid").increment();
+            return messages;
+        }
+
+        List<GPTMessage> merged = new ArrayList<>(messages);
+        boolean allRegenerated = true;
+        for (Map.Entry<Integer, Set<MessageViolation>> failure : failures.entrySet()) {
+            Optional<GPTMessage> regenerated = regenerateVersion(context, prompt, messages, failure.getKey(),
+                    failure.getValue());
+            if (regenerated.isPresent()) {
+                merged.set(failure.getKey(), regenerated.get());
+            } else {
+                allRegenerated = false;
+            }
+        }
+
+        meterRegistry.counter("message.validation", "result", allRegenerated ? "regenerated" : "invalid").increment();
+        return merged;
+    }
+
+    private Optional<GPTMessage> regenerateVersion(PromptContext context, String prompt, List<GPTMessage> messages,
+                                                   int index, Set<MessageViolation> violations) {
+        GPTMessage rejected = messages.get(index);
+        int version = rejected.getVersion() != null ? rejected.getVersion() : index + 1;
+        String rejectedContent = rejected.getContent() != null ? rejected.getContent().strip() : "";
+
+        List<String> reasons = new ArrayList<>();
+        for (MessageViolation violation : violations) {
+            reasons.add(violation.getDescription());
+        }
+        reasons.add(String.format("글자 수 기준 %d-%d자, 기존 메시지 %d자",
+                validationProperties.getMinLength(), validationProperties.getMaxLength(), rejectedContent.length()));
+
+        List<String> otherVersions = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (i != index && messages.get(i).getContent() != null) {
+                otherVersions.add(messages.get(i).getContent());
+            }
+        }
+
+        String regenerationPrompt = promptTemplateEngine.buildVersionRegenerationPrompt(
+                prompt, version, rejectedContent, reasons, otherVersions);
+
+        OpenAIRequest request = OpenAIRequest.builder()
+                .model(openAIProperties.getModel())
+                .messages(List.of(
+                        OpenAIMessage.builder()
+                                .role("system")
+                                .content("당신은 KT의 전문 마케팅 메시지 작성자입니다.")
+                                .build(),
+                        OpenAIMessage.builder()
+                                .role("user")
+                                .content(regenerationPrompt)
+                                .build()
+                ))
+                .temperature(openAIProperties.getTemperature())
+                .maxTokens(validationProperties.getRegenerationMaxTokens())
+                .build();
+
+        try {
+            OpenAIResponse response = openAIService.callChatCompletion(OpenAICallType.MESSAGE_REGENERATION, request);
+            GPTMessage regenerated = openAIJsonParser.parseObject(
+                    response.getChoices().get(0).getMessage().getContent(), GPTMessage.class);
+
+            Set<MessageViolation> remaining = generatedMessageValidator.validate(regenerated.getContent(), context);
+            if (!remaining.isEmpty()) {
+                log.warn("재생성 메시지도 검증 실패 - version: {}, 사유: {}", version, remaining);
+                return Optional.empty();
+            }
+
+            log.info("검증 실패 버전 재생성 완료 - version: {}, 사유: {}", version, violations);
+            return Optional.of(new GPTMessage(version, regenerated.getContent().strip()));
+
+        } catch (BusinessException e) {
+            // 기한 초과를 포함한 재생성 실패는 원래 메시지로 응답
+            log.warn("검증 실패 버전 재생성 호출 실패 - version: {}, error: {}", version, e.getMessage());
+            return Optional.empty();
         }
     }
 
@@ -166,6 +361,11 @@ public class MessageGenerationService {
         return "MSG_GROUP_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
     }
 
+    private int countTargets(GenerateSegmentMessageRequest request) {
+        return Observation.createNotStarted("message.segment.count", observationRegistry)
+                .observe(() -> customerService.countBySegmentFilter(request.getSegmentFilter()));
+    }
+
     private Campaign findCampaignById(Long campaignId) {
         return campaignRepository.findById(campaignId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CAMPAIGN_NOT_FOUND));
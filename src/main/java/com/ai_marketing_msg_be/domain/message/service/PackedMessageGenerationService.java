@@ -0,0 +1,287 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.common.deadline.RequestDeadline;
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
+import com.ai_marketing_msg_be.domain.customer.service.PromptBudgetFitter;
+import com.ai_marketing_msg_be.domain.customer.service.PromptBudgetFitter.FittedPrompt;
+import com.ai_marketing_msg_be.domain.message.config.PackingProperties;
+import com.ai_marketing_msg_be.domain.message.dto.GPTMessage;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GeneratePackedIndividualMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.GeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.dto.PackedIndividualMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.PackedIndividualMessageResponse.CustomerMessageResult;
+import com.ai_marketing_msg_be.domain.message.entity.ToneManner;
+import com.ai_marketing_msg_be.domain.message.service.GenerationUsageStats.GenerationMode;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIChoice;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAICallType;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIJsonParser;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIService;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 고객의 개별 메시지를 하나의 LLM 호출로 묶어 생성
+ * <p>
+ * 호출당 고객 수는 maxTokens 예산과 관측된 고객당 출력 토큰으로 정하고, 묶음 프롬프트가 입력 토큰 예산을 넘으면
+ * 뒤쪽 고객을 다음 호출로 넘긴다. 응답은 고객별로 검증하여 실패한 고객만 다시 묶어 재시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PackedMessageGenerationService {
+
+    private static final String SYSTEM_MESSAGE = "당신은 KT의 1:1 개인화 마케팅 전문가입니다.";
+    private static final int VERSIONS_PER_CUSTOMER = 3;
+    private static final String FINISH_REASON_LENGTH = "length";
+
+    private final OpenAIService openAIService;
+    private final PromptTemplateEngine promptTemplateEngine;
+    private final OpenAIProperties openAIProperties;
+    private final PackingProperties packingProperties;
+    private final GenerationUsageStats generationUsageStats;
+    private final OpenAIJsonParser openAIJsonParser;
+    private final PromptBudgetFitter promptBudgetFitter;
+
+    private final CampaignRepository campaignRepository;
+    private final ProductRepository productRepository;
+    private final CustomerRepository customerRepository;
+
+    @Timed(value = "message.generation.packed", histogram = true)
+    public PackedIndividualMessageResponse generatePackedIndividualMessages(
+            GeneratePackedIndividualMessageRequest request) {
+
+        List<Long> customerIds = request.getCustomerIds().stream().distinct().toList();
+        log.info("묶음 개별 메시지 생성 요청 - 고객 수: {}, campaignId: {}, productId: {}",
+                customerIds.size(), request.getCampaignId(), request.getProductId());
+
+        Map<Long, Customer> customers = customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getCustomerId, Function.identity()));
+        if (customers.size() != customerIds.size()) {
+            throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND);
+        }
+
+        PromptContext context = PromptContext.builder()
+                .campaign(findCampaignById(request.getCampaignId()))
+                .product(findProductById(request.getProductId()))
+                .toneManner(findToneMannerById(request.getToneId()))
+                .additionalContext(request.getAdditionalContext())
+                .build();
+
+        int packSize = resolvePackSize();
+        int currentPackSize = packSize;
+        int llmCallCount = 0;
+        long totalTokens = 0;
+
+        Map<Long, GenerateMessageResponse> succeeded = new HashMap<>();
+        List<Customer> pending = customerIds.stream().map(customers::get).toList();
+
+        for (int attempt = 0; attempt <= packingProperties.getMaxRetries() && !pending.isEmpty(); attempt++) {
+            List<Customer> failed = new ArrayList<>();
+
+            for (int from = 0; from < pending.size(); ) {
+                List<Customer> candidates = pending.subList(from, Math.min(from + currentPackSize, pending.size()));
+                FittedPrompt<Customer> fitted = promptBudgetFitter.fit("packed", packingProperties.getMaxPromptTokens(),
+                        candidates, customersInPack -> promptTemplateEngine.buildPackedIndividualPrompt(context, customersInPack),
+                        this::buildRequest);
+                List<Customer> pack = fitted.getCandidates();
+                from += pack.size();
+                if (pack.size() < candidates.size()) {
+                    // 프로필 길이는 고객마다 비슷하므로 이후 묶음도 같은 크기부터 시도
+                    currentPackSize = pack.size();
+                }
+
+                PackCallResult result = callPack(fitted.getRequest(), pack);
+                llmCallCount++;
+                totalTokens += result.totalTokens;
+                succeeded.putAll(result.succeeded);
+
+                for (Customer customer : pack) {
+                    if (!result.succeeded.containsKey(customer.getCustomerId())) {
+                        failed.add(customer);
+                    }
+                }
+
+                if (result.truncated && currentPackSize > 1) {
+                    currentPackSize = Math.max(1, currentPackSize / 2);
+                    log.info("응답이 토큰 한도로 잘려 묶음 크기 축소 - {}", currentPackSize);
+                }
+            }
+
+            if (!failed.isEmpty()) {
+                log.warn("묶음 생성 검증 실패 고객 - attempt: {}, 실패: {}명", attempt + 1, failed.size());
+            }
+            pending = failed;
+        }
+
+        List<CustomerMessageResult> results = customerIds.stream()
+                .map(id -> succeeded.containsKey(id)
+                        ? CustomerMessageResult.success(id, succeeded.get(id))
+                        : CustomerMessageResult.failure(id))
+                .toList();
+
+        log.info("묶음 개별 메시지 생성 완료 - 요청: {}, 실패: {}, 묶음 크기: {}, 호출 수: {}, 토큰: {}",
+                customerIds.size(), pending.size(), packSize, llmCallCount, totalTokens);
+
+        return PackedIndividualMessageResponse.builder()
+                .results(results)
+                .requestedCount(customerIds.size())
+                .failedCount(pending.size())
+                .packSize(packSize)
+                .llmCallCount(llmCallCount)
+                .totalTokens(totalTokens)
+                .build();
+    }
+
+    /**
+     * maxTokens 중 사용 가능한 출력 예산을 고객당 출력 토큰으로 나눠 호출당 고객 수 결정
+     * 관측값이 없으면 설정된 추정치를 사용한다.
+     */
+    private int resolvePackSize() {
+        double tokensPerCustomer = generationUsageStats.getObservedCompletionTokensPerCustomer();
+        if (tokensPerCustomer <= 0) {
+            tokensPerCustomer = packingProperties.getEstimatedTokensPerCustomer();
+        }
+
+        double budget = openAIProperties.getMaxTokens() * packingProperties.getBudgetUtilization();
+        int packSize = (int) (budget / tokensPerCustomer);
+
+        return Math.max(1, Math.min(packSize, packingProperties.getMaxCustomersPerCall()));
+    }
+
+    private OpenAIRequest buildRequest(String prompt) {
+        return OpenAIRequest.builder()
+                .model(openAIProperties.getModel())
+                .messages(List.of(
+                        OpenAIMessage.builder()
+                                .role("system")
+                                .content(SYSTEM_MESSAGE)
+                                .build(),
+                        OpenAIMessage.builder()
+                                .role("user")
+                                .content(prompt)
+                                .build()
+                ))
+                .temperature(openAIProperties.getTemperature())
+                .maxTokens(openAIProperties.getMaxTokens())
+                .build();
+    }
+
+    private PackCallResult callPack(OpenAIRequest openAIRequest, List<Customer> pack) {
+        long startedAt = System.nanoTime();
+        OpenAIResponse response;
+        try {
+            response = openAIService.callChatCompletion(OpenAICallType.PACKED_MESSAGE, openAIRequest);
+        } catch (BusinessException e) {
+            RequestDeadline.propagateIfExceeded(e);
+            OpenAIService.propagateIfRejected(e);
+            log.warn("묶음 생성 호출 실패 - 고객 수: {}, error: {}", pack.size(), e.getMessage());
+            return new PackCallResult(Map.of(), 0, false);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        OpenAIChoice choice = response.getChoices().get(0);
+        Map<Long, GenerateMessageResponse> succeeded = parseAndValidate(choice.getMessage().getContent(), pack);
+
+        generationUsageStats.record(GenerationMode.PACKED, pack.size(), succeeded.size(),
+                response.getUsage(), elapsedMillis);
+
+        long tokens = response.getUsage() != null && response.getUsage().getTotalTokens() != null
+                ? response.getUsage().getTotalTokens() : 0;
+
+        return new PackCallResult(succeeded, tokens, FINISH_REASON_LENGTH.equals(choice.getFinishReason()));
+    }
+
+    private Map<Long, GenerateMessageResponse> parseAndValidate(String content, List<Customer> pack) {
+        Map<String, List<GPTMessage>> parsed;
+        try {
+            parsed = openAIJsonParser.parseKeyedLists(content, GPTMessage.class);
+        } catch (BusinessException e) {
+            log.warn("묶음 생성 응답 파싱 실패 - 고객 수: {}", pack.size());
+            return Map.of();
+        }
+
+        Map<Long, GenerateMessageResponse> succeeded = new HashMap<>();
+        for (Customer customer : pack) {
+            List<GPTMessage> messages = parsed.get(String.valueOf(customer.getCustomerId()));
+            if (!isValid(messages)) {
+                continue;
+            }
+
+            List<GeneratedMessage> generated = messages.stream()
+                    .map(gpt -> GeneratedMessage.of(gpt.getVersion(), gpt.getContent()))
+                    .toList();
+            succeeded.put(customer.getCustomerId(), GenerateMessageResponse.of(generateMessageGroupId(), generated, 1));
+        }
+        return succeeded;
+    }
+
+    private boolean isValid(List<GPTMessage> messages) {
+        if (messages == null || messages.size() != VERSIONS_PER_CUSTOMER) {
+            return false;
+        }
+        for (GPTMessage message : messages) {
+            if (message == null || message.getVersion() == null
+                    || message.getContent() == null || message.getContent().isBlank()
+                    || message.getContent().length() > packingProperties.getMaxMessageLength()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String generateMessageGroupId() {
+        return "MSG_GROUP_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+
+    private Campaign findCampaignById(Long campaignId) {
+        return campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CAMPAIGN_NOT_FOUND));
+    }
+
+    private Product findProductById(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    private ToneManner findToneMannerById(String toneId) {
+        ToneManner tone = toneId != null ? ToneManner.fromToneId(toneId) : null;
+        return tone != null ? tone : ToneManner.FRIENDLY;
+    }
+
+    private static final class PackCallResult {
+        private final Map<Long, GenerateMessageResponse> succeeded;
+        private final long totalTokens;
+        private final boolean truncated;
+
+        private PackCallResult(Map<Long, GenerateMessageResponse> succeeded, long totalTokens, boolean truncated) {
+            this.succeeded = succeeded;
+            this.totalTokens = totalTokens;
+            this.truncated = truncated;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.campaign_product.entity.CampaignProduct;
+import com.ai_marketing_msg_be.domain.campaign_product.repository.CampaignProductRepository;
+import com.ai_marketing_msg_be.domain.message.config.PreGenerationProperties;
+import com.ai_marketing_msg_be.domain.message.config.PreGenerationProperties.SegmentPreset;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateSegmentMessageRequest;
+import com.ai_marketing_msg_be.domain.product.entity.StockStatus;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIRateLimiter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비사용 시간대에 진행 중인 캠페인/상품 조합의 세그먼트 메시지를 미리 생성
+ * <p>
+ * 설정된 톤 × 세그먼트 조합별로 생성하며, 종료 시각을 넘기거나
+ * OpenAI 호출 예산의 여유분(rate-reserve-ratio)이 부족하면 다음 실행으로 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreGenerationScheduler {
+
+    private final CampaignRepository campaignRepository;
+    private final CampaignProductRepository campaignProductRepository;
+    private final MessageGenerationService messageGenerationService;
+    private final WarmMessageCache warmMessageCache;
+    private final OpenAIRateLimiter openAIRateLimiter;
+    private final PreGenerationProperties preGenerationProperties;
+
+    @Scheduled(cron = "${generation.pre-generation.cron}")
+    public void pregenerate() {
+        if (!Boolean.TRUE.equals(preGenerationProperties.getEnabled())) {
+            return;
+        }
+
+        LocalDateTime deadline = resolveDeadline(LocalDateTime.now());
+        List<Campaign> campaigns = campaignRepository.findActiveCampaigns(LocalDate.now());
+        log.info("메시지 사전 생성 시작 - 활성 캠페인: {}개, 종료 예정: {}", campaigns.size(), deadline);
+
+        RunStats stats = new RunStats();
+        for (Campaign campaign : campaigns) {
+            for (CampaignProduct campaignProduct : campaignProductRepository.findByCampaignId(campaign.getCampaignId())) {
+                if (campaignProduct.getProduct().getStockStatus() == StockStatus.OUT_OF_STOCK) {
+                    continue;
+                }
+                if (!pregenerateForPair(campaign.getCampaignId(),
+                        campaignProduct.getProduct().getProductId(), deadline, stats)) {
+                    log.info("메시지 사전 생성 중단 - 생성: {}, 유지: {}, 실패: {}, 사유: {}",
+                            stats.generated, stats.skipped, stats.failed, stats.stopReason);
+                    return;
+                }
+            }
+        }
+
+        log.info("메시지 사전 생성 완료 - 생성: {}, 유지: {}, 실패: {}", stats.generated, stats.skipped, stats.failed);
+    }
+
+    /**
+     * @return 이번 실행을 계속해도 되면 true
+     */
+    private boolean pregenerateForPair(Long campaignId, Long productId, LocalDateTime deadline, RunStats stats) {
+        for (String toneId : preGenerationProperties.getToneIds()) {
+            for (SegmentPreset preset : preGenerationProperties.getSegments()) {
+                GenerateSegmentMessageRequest request = GenerateSegmentMessageRequest.builder()
+                        .segmentFilter(preset.toFilter())
+                        .campaignId(campaignId)
+                        .productId(productId)
+                        .toneId(toneId)
+                        .build();
+
+                LocalDateTime now = LocalDateTime.now();
+                if (warmMessageCache.isValidUntil(request, now.plus(preGenerationProperties.getRefreshBefore()))) {
+                    stats.skipped++;
+                    continue;
+                }
+
+                if (now.isAfter(deadline)) {
+                    stats.stopReason = "비사용 시간대 종료";
+                    return false;
+                }
+                if (!openAIRateLimiter.hasHeadroom(preGenerationProperties.getEstimatedTokensPerCall(),
+                        preGenerationProperties.getRateReserveRatio())) {
+                    stats.stopReason = "OpenAI 호출 예산 부족";
+                    return false;
+                }
+
+                try {
+                    GenerateMessageResponse response = messageGenerationService.generateFreshSegmentMessage(
+                            request, GenerationProgressListener.NONE);
+                    warmMessageCache.store(request, response);
+                    stats.generated++;
+                } catch (BusinessException e) {
+                    stats.failed++;
+                    log.warn("메시지 사전 생성 실패 - campaignId: {}, productId: {}, tone: {}, segment: {}, error: {}",
+                            campaignId, productId, toneId, preset.getName(), e.getMessage());
+                }
+            }
+        }
+        return true;
+    }
+
+    private LocalDateTime resolveDeadline(LocalDateTime startedAt) {
+        LocalDateTime deadline = startedAt.toLocalDate().atTime(preGenerationProperties.getOffPeakEnd());
+        return deadline.isAfter(startedAt) ? deadline : deadline.plusDays(1);
+    }
+
+    private static final class RunStats {
+        private int generated;
+        private int skipped;
+        private int failed;
+        private String stopReason;
+    }
+}
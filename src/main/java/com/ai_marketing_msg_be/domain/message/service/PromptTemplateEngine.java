@@ -1,20 +1,34 @@
 package com.ai_marketing_msg_be.domain.message.service;
 
+import com.ai_marketing_msg_be.config.PromptProperties;
 import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
 import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
 import com.ai_marketing_msg_be.domain.customer.entity.Customer;
 import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
 import com.ai_marketing_msg_be.domain.product.entity.Product;
 import java.math.BigDecimal;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class PromptTemplateEngine {
 
+    private final ObservationRegistry observationRegistry;
+    private final PromptProperties promptProperties;
 
     public String buildPrompt(PromptContext context) {
+        return Observation.createNotStarted("prompt.build", observationRegistry)
+                .lowCardinalityKeyValue("prompt_type", context.isSegmentContext() ? "segment" : "individual")
+                .observe(() -> composePrompt(context));
+    }
+
+    private String composePrompt(PromptContext context) {
         if (context.isSegmentContext()) {
             return buildSegmentPrompt(context);
         } else if (context.isIndividualContext()) {
@@ -25,6 +39,9 @@ public class PromptTemplateEngine {
     }
 
     private String buildSegmentPrompt(PromptContext context) {
+        if (promptProperties.isPrefixStable()) {
+            return buildPrefixStableSegmentPrompt(context);
+        }
         StringBuilder prompt = new StringBuilder();
 
         prompt.append("당신은 KT의 전문 마케팅 메시지 작성자입니다.\n");
@@ -38,18 +55,42 @@ public class PromptTemplateEngine {
         prompt.append(buildCampaignInfo(context));
         prompt.append(buildToneInfo(context));
 
-        if (context.getAdditionalContext() != null && !context.getAdditionalContext().isEmpty()) {
-            prompt.append("[추가 컨텍스트]\n");
-            prompt.append(context.getAdditionalContext()).append("\n\n");
-        }
+        appendAdditionalContext(context, prompt);
 
-        prompt.append(buildGenerationRequirements());
+        prompt.append(buildGenerationRequirements("위"));
 
         log.debug("Generated segment prompt: {}", prompt);
         return prompt.toString();
     }
 
+    /**
+     * 고정 지시문 → 상품/캠페인/톤 → 세그먼트 순서
+     * 같은 캠페인·상품으로 여러 세그먼트를 생성할 때 세그먼트 앞까지가 동일한 접두사가 된다.
+     */
+    private String buildPrefixStableSegmentPrompt(PromptContext context) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 KT의 전문 마케팅 메시지 작성자입니다.\n");
+        prompt.append("고객 세그먼트 데이터를 분석하여 개인화된 SMS/알림톡 메시지를 생성합니다.\n\n");
+        prompt.append(buildGenerationRequirements("아래"));
+
+        prompt.append(buildProductInfo(context));
+        prompt.append(buildCampaignInfo(context));
+        prompt.append(buildToneInfo(context));
+        appendAdditionalContext(context, prompt);
+
+        prompt.append("[타겟 세그먼트]\n");
+        prompt.append(buildSegmentInfo(context.getSegmentFilter()));
+        prompt.append(String.format("- 타겟 고객 수: %,d명\n", context.getTargetCustomerCount()));
+
+        log.debug("Generated prefix-stable segment prompt: {}", prompt);
+        return prompt.toString();
+    }
+
     private String buildIndividualPrompt(PromptContext context) {
+        if (promptProperties.isPrefixStable()) {
+            return buildPrefixStableIndividualPrompt(context);
+        }
         StringBuilder prompt = new StringBuilder();
 
         prompt.append("당신은 KT의 1:1 개인화 마케팅 전문가입니다.\n");
@@ -59,31 +100,196 @@ public class PromptTemplateEngine {
         prompt.append(buildCustomerInfo(context.getCustomer()));
         prompt.append("\n");
 
-        prompt.append("[캠페인 정보]\n");
-        prompt.append(String.format("- 캠페인명: %s\n", context.getCampaign().getName()));
-        prompt.append(String.format("- 캠페인 유형: %s\n", context.getCampaign().getType().getDisplayName()));
-        if (context.getCampaign().getDescription() != null) {
-            prompt.append(String.format("- 캠페인 목적: %s\n", context.getCampaign().getDescription()));
+        appendCampaignSummary(context.getCampaign(), prompt);
+
+        prompt.append(buildProductInfo(context));
+
+        prompt.append(buildToneInfo(context));
+
+        appendAdditionalContext(context, prompt);
+
+        prompt.append("**중요**: 고객의 이름과 프로필 정보를 자연스럽게 활용하여 개인화된 메시지를 작성하세요.\n\n");
+
+        prompt.append(buildGenerationRequirements("위"));
+
+        log.debug("Generated individual prompt: {}", prompt);
+        return prompt.toString();
+    }
+
+    /**
+     * 고정 지시문 → 캠페인/상품/톤 → 고객 프로필 순서
+     */
+    private String buildPrefixStableIndividualPrompt(PromptContext context) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 KT의 1:1 개인화 마케팅 전문가입니다.\n");
+        prompt.append("고객의 프로필과 구매 이력을 분석하여 맞춤형 메시지를 생성합니다.\n\n");
+        prompt.append("**중요**: 고객의 이름과 프로필 정보를 자연스럽게 활용하여 개인화된 메시지를 작성하세요.\n\n");
+        prompt.append(buildGenerationRequirements("아래"));
+
+        appendCampaignSummary(context.getCampaign(), prompt);
+        prompt.append(buildProductInfo(context));
+        prompt.append(buildToneInfo(context));
+        appendAdditionalContext(context, prompt);
+
+        prompt.append("[고객 프로필]\n");
+        prompt.append(buildCustomerInfo(context.getCustomer()));
+
+        log.debug("Generated prefix-stable individual prompt: {}", prompt);
+        return prompt.toString();
+    }
+
+    /**
+     * 검증에 실패한 한 버전만 다시 생성하는 프롬프트
+     * 원래 프롬프트를 그대로 앞에 두어 프롬프트 캐시를 재사용하고, 실패 사유와 다른 버전을 덧붙인다.
+     */
+    public String buildVersionRegenerationPrompt(String originalPrompt, int version, String rejectedContent,
+                                                 List<String> reasons, List<String> otherVersions) {
+        StringBuilder prompt = new StringBuilder(originalPrompt);
+
+        prompt.append("\n[재작성 요청]\n");
+        prompt.append(String.format("버전 %d 메시지가 다음 기준을 충족하지 못했습니다:\n", version));
+        for (String reason : reasons) {
+            prompt.append(String.format("- %s\n", reason));
         }
-        prompt.append("\n");
+        prompt.append(String.format("\n기존 버전 %d: %s\n", version, rejectedContent));
+
+        if (!otherVersions.isEmpty()) {
+            prompt.append("\n다른 버전 (내용이 겹치지 않게 작성):\n");
+            for (String other : otherVersions) {
+                prompt.append(String.format("- %s\n", other));
+            }
+        }
+
+        prompt.append(String.format("\n위 생성 요구사항을 모두 지켜 버전 %d 하나만 다시 작성해주세요.\n", version));
+        prompt.append("JSON 형식으로만 응답해주세요:\n");
+        prompt.append(String.format("{\"version\": %d, \"content\": \"메시지 내용\"}\n", version));
+
+        return prompt.toString();
+    }
+
+    /**
+     * 여러 고객의 프로필을 하나의 프롬프트에 담아 고객 ID를 키로 하는 JSON 객체로 응답받음
+     * 캠페인/상품/톤 정보는 한 번만 포함되므로 고객 수가 늘어도 공통 부분 토큰은 늘지 않는다.
+     */
+    public String buildPackedIndividualPrompt(PromptContext context, List<Customer> customers) {
+        return Observation.createNotStarted("prompt.build", observationRegistry)
+                .lowCardinalityKeyValue("prompt_type", "packed")
+                .highCardinalityKeyValue("customer_count", String.valueOf(customers.size()))
+                .observe(() -> composePackedIndividualPrompt(context, customers));
+    }
+
+    private String composePackedIndividualPrompt(PromptContext context, List<Customer> customers) {
+        if (promptProperties.isPrefixStable()) {
+            return composePrefixStablePackedIndividualPrompt(context, customers);
+        }
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 KT의 1:1 개인화 마케팅 전문가입니다.\n");
+        prompt.append("아래 고객 각각의 프로필과 구매 이력을 분석하여 고객별 맞춤형 메시지를 생성합니다.\n\n");
+
+        appendCampaignSummary(context.getCampaign(), prompt);
 
         prompt.append(buildProductInfo(context));
 
         prompt.append(buildToneInfo(context));
 
+        appendAdditionalContext(context, prompt);
+
+        prompt.append(String.format("[고객 프로필 목록] (총 %d명)\n", customers.size()));
+        for (Customer customer : customers) {
+            prompt.append(String.format("<고객 ID: %d>\n", customer.getCustomerId()));
+            prompt.append(buildCustomerInfo(customer));
+            prompt.append("\n");
+        }
+
+        prompt.append("**중요**: 각 고객의 이름과 프로필 정보를 자연스럽게 활용하여 고객마다 다른 메시지를 작성하세요.\n");
+        prompt.append("다른 고객의 정보를 섞어 쓰지 마세요.\n\n");
+
+        prompt.append(buildPackedGenerationRequirements("위", String.valueOf(customers.get(0).getCustomerId()),
+                customers.size() > 1));
+
+        log.debug("Generated packed individual prompt - customers: {}", customers.size());
+        return prompt.toString();
+    }
+
+    /**
+     * 고정 지시문 → 캠페인/상품/톤 → 고객 프로필 목록 순서
+     * 응답 예시의 키도 고객 ID 대신 고정 문자열을 써서 묶음마다 접두사가 달라지지 않게 한다.
+     */
+    private String composePrefixStablePackedIndividualPrompt(PromptContext context, List<Customer> customers) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 KT의 1:1 개인화 마케팅 전문가입니다.\n");
+        prompt.append("아래 고객 각각의 프로필과 구매 이력을 분석하여 고객별 맞춤형 메시지를 생성합니다.\n\n");
+        prompt.append("**중요**: 각 고객의 이름과 프로필 정보를 자연스럽게 활용하여 고객마다 다른 메시지를 작성하세요.\n");
+        prompt.append("다른 고객의 정보를 섞어 쓰지 마세요.\n\n");
+        prompt.append(buildPackedGenerationRequirements("아래", "고객 ID", true));
+
+        appendCampaignSummary(context.getCampaign(), prompt);
+        prompt.append(buildProductInfo(context));
+        prompt.append(buildToneInfo(context));
+        appendAdditionalContext(context, prompt);
+
+        prompt.append(String.format("[고객 프로필 목록] (총 %d명)\n", customers.size()));
+        for (Customer customer : customers) {
+            prompt.append(String.format("<고객 ID: %d>\n", customer.getCustomerId()));
+            prompt.append(buildCustomerInfo(customer));
+            prompt.append("\n");
+        }
+
+        log.debug("Generated prefix-stable packed individual prompt - customers: {}", customers.size());
+        return prompt.toString();
+    }
+
+    private void appendCampaignSummary(Campaign campaign, StringBuilder prompt) {
+        prompt.append("[캠페인 정보]\n");
+        prompt.append(String.format("- 캠페인명: %s\n", campaign.getName()));
+        prompt.append(String.format("- 캠페인 유형: %s\n", campaign.getType().getDisplayName()));
+        if (campaign.getDescription() != null) {
+            prompt.append(String.format("- 캠페인 목적: %s\n", campaign.getDescription()));
+        }
+        prompt.append("\n");
+    }
+
+    private void appendAdditionalContext(PromptContext context, StringBuilder prompt) {
         if (context.getAdditionalContext() != null && !context.getAdditionalContext().isEmpty()) {
             prompt.append("[추가 컨텍스트]\n");
             prompt.append(context.getAdditionalContext()).append("\n\n");
         }
+    }
 
-        prompt.append("**중요**: 고객의 이름과 프로필 정보를 자연스럽게 활용하여 개인화된 메시지를 작성하세요.\n\n");
+    /**
+     * @param position 고객 정보가 요구사항의 "위"/"아래" 중 어디에 오는지
+     */
+    private String buildPackedGenerationRequirements(String position, String exampleKey, boolean multiple) {
+        StringBuilder req = new StringBuilder();
 
-        prompt.append(buildGenerationRequirements());
+        req.append("📝 **메시지 생성 요구사항**:\n\n");
+        req.append(String.format("%s 고객 각각에 대해 SMS/알림톡용 마케팅 메시지 3가지 버전을 생성해주세요.\n\n", position));
+        req.append("각 메시지는 다음을 반드시 포함해야 합니다:\n");
+        req.append("1. **고객 이름을 활용한 호칭**\n");
+        req.append("2. **상품의 핵심 혜택** 1~2가지\n");
+        req.append("3. **가격/할인 정보** (있는 경우)\n");
+        req.append("4. **명확한 행동 유도(CTA)**\n");
+        req.append("5. 이모지는 절대 사용하지 마세요. 텍스트로만 작성해주세요.\n\n");
 
-        log.debug("Generated individual prompt: {}", prompt);
-        return prompt.toString();
-    }
+        req.append("**글자 수**: 90-120자 이내\n\n");
+
+        req.append("JSON 형식으로만 응답해주세요. 키는 고객 ID 문자열이며 모든 고객을 빠짐없이 포함해야 합니다:\n");
+        req.append("{\n");
+        req.append(String.format("  \"%s\": [\n", exampleKey));
+        req.append("    {\"version\": 1, \"content\": \"메시지 내용\"},\n");
+        req.append("    {\"version\": 2, \"content\": \"메시지 내용\"},\n");
+        req.append("    {\"version\": 3, \"content\": \"메시지 내용\"}\n");
+        req.append("  ]");
+        if (multiple) {
+            req.append(",\n  ...");
+        }
+        req.append("\n}\n");
 
+        return req.toString();
+    }
 
     private String buildSegmentInfo(SegmentFilterRequest filter) {
         StringBuilder info = new StringBuilder();
@@ -242,14 +448,17 @@ public class PromptTemplateEngine {
         return info.toString();
     }
 
-    private String buildGenerationRequirements() {
+    /**
+     * @param position 캠페인/상품 정보가 요구사항의 "위"/"아래" 중 어디에 오는지
+     */
+    private String buildGenerationRequirements(String position) {
         StringBuilder req = new StringBuilder();
 
         req.append("📝 **메시지 생성 요구사항**:\n\n");
-        req.append("위 정보를 바탕으로 SMS/알림톡용 마케팅 메시지 3가지 버전을 생성해주세요.\n\n");
+        req.append(String.format("%s 정보를 바탕으로 SMS/알림톡용 마케팅 메시지 3가지 버전을 생성해주세요.\n\n", position));
         req.append("각 메시지는 다음을 반드시 포함해야 합니다:\n");
-        req.append("1. **캠페인의 특별 혜택** 1~2가지 (위 '캠페인 특별 혜택'에서 선택)\n");
-        req.append("2. **상품의 핵심 혜택** 1~2가지 (위 '상품 핵심 혜택'에서 선택)\n");
+        req.append(String.format("1. **캠페인의 특별 혜택** 1~2가지 (%s '캠페인 특별 혜택'에서 선택)\n", position));
+        req.append(String.format("2. **상품의 핵심 혜택** 1~2가지 (%s '상품 핵심 혜택'에서 선택)\n", position));
         req.append("3. **가격/할인 정보** (있는 경우)\n");
         req.append("4. **타겟 고객에 대한 호칭** (예: VIP 고객님, 20대 여성 고객님)\n");
         req.append("5. **명확한 행동 유도(CTA)**\n");
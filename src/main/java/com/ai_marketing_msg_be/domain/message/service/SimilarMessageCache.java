@@ -0,0 +1,337 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.domain.catalog.service.CatalogSnapshot;
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import com.ai_marketing_msg_be.domain.message.config.SimilarityCacheProperties;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 세그먼트 생성 결과를 비슷한 요청에 재사용하기 위한 인메모리 저장소 (인스턴스별)
+ * <p>
+ * 캠페인/상품/톤/성별/멤버십/지역/최근 구매일 조건과 카탈로그 버전(내용이 바뀔 때만 증가)은 정확히 같아야 하고,
+ * 연령 범위(연령 단위)와 추가 컨텍스트(글자 3-gram)는 항목별 MinHash 서명으로 유사도를 추정한다.
+ * 서명을 밴드로 나눈 LSH 색인에서 후보만 꺼내 비교한다. 연령이 같거나 추가 컨텍스트가 없는 요청처럼
+ * 한 밴드에 항목이 몰릴 수 있어 밴드마다 최근 항목만 maxEntriesPerBand개까지 남기며,
+ * 조회 비용은 (밴드 수 * maxEntriesPerBand)로 제한된다.
+ * 개인화 메시지는 고객별 정보가 들어가므로 대상이 아니다.
+ */
+@Component
+public class SimilarMessageCache {
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final int MAX_AGE = 120;
+    private static final int SECTION_COUNT = 2;
+    private static final int AGE_SECTION = 0;
+    private static final int CONTEXT_SECTION = 1;
+    private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final SimilarityCacheProperties properties;
+    private final CatalogSnapshot catalogSnapshot;
+    private final long[] hashSeeds;
+    private final Cache<Long, Entry> entries;
+    /**
+     * 밴드 키 -> 항목 ID 목록(오래된 순), 최대 maxEntriesPerBand개라 복사 후 교체로 갱신
+     */
+    private final ConcurrentHashMap<Long, long[]> bands = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SimilarMessageCache(SimilarityCacheProperties properties, CatalogSnapshot catalogSnapshot) {
+        if (properties.getBandsPerSection() * properties.getRowsPerBand() > properties.getHashesPerSection()) {
+            throw new IllegalStateException("generation.similarity-cache 밴드 수 * 밴드당 해시 수가 해시 수보다 큽니다");
+        }
+        if (properties.getMaxEntriesPerBand() < 1) {
+            throw new IllegalStateException("generation.similarity-cache.max-entries-per-band는 1 이상이어야 합니다");
+        }
+        this.properties = properties;
+        this.catalogSnapshot = catalogSnapshot;
+        this.hashSeeds = new SplittableRandom(HASH_SEED).longs(properties.getHashesPerSection()).toArray();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .evictionListener((Long id, Entry entry, RemovalCause cause) -> {
+                    if (id != null && entry != null) {
+                        unindex(id, entry);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 유사도가 기준 이상인 항목 중 가장 비슷한 것(같으면 최근 것)을 반환
+     */
+    public Optional<Match> find(PromptContext context) {
+        if (!isCacheable(context)) {
+            return Optional.empty();
+        }
+
+        String groupKey = groupKey(context);
+        int[] signature = signature(context);
+
+        Entry best = null;
+        long bestId = -1;
+        double bestSimilarity = 0;
+        for (long bandKey : bandKeys(groupKey, signature)) {
+            long[] ids = bands.get(bandKey);
+            if (ids == null) {
+                continue;
+            }
+            for (long id : ids) {
+                if (id == bestId) {
+                    continue;
+                }
+                Entry entry = entries.getIfPresent(id);
+                if (entry == null || !entry.groupKey.equals(groupKey)) {
+                    continue;
+                }
+                double similarity = similarity(signature, entry.signature);
+                if (similarity < properties.getThreshold()) {
+                    continue;
+                }
+                if (best == null || similarity > bestSimilarity || (similarity == bestSimilarity && id > bestId)) {
+                    best = entry;
+                    bestId = id;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+
+        return best == null ? Optional.empty() : Optional.of(new Match(best.response, bestSimilarity));
+    }
+
+    public void put(PromptContext context, GenerateMessageResponse response) {
+        if (!isCacheable(context)) {
+            return;
+        }
+
+        String groupKey = groupKey(context);
+        int[] signature = signature(context);
+        long[] bandKeys = bandKeys(groupKey, signature);
+        long id = sequence.incrementAndGet();
+
+        // 색인을 먼저 넣어야 저장 직후 축출되어도 색인 정리가 빠지지 않음 (색인만 있는 ID는 조회 시 건너뜀)
+        for (long bandKey : bandKeys) {
+            bands.merge(bandKey, new long[]{id}, this::append);
+        }
+        entries.put(id, new Entry(groupKey, signature, bandKeys, response));
+    }
+
+    private boolean isCacheable(PromptContext context) {
+        return properties.isEnabled()
+                && context.isSegmentContext()
+                && context.getCampaign() != null
+                && context.getProduct() != null;
+    }
+
+    private void unindex(long id, Entry entry) {
+        for (long bandKey : entry.bandKeys) {
+            bands.computeIfPresent(bandKey, (key, ids) -> remove(ids, id));
+        }
+    }
+
+    /**
+     * 정확히 일치해야 하는 조건, 메시지 문구(호칭, 지역, 혜택)에 직접 반영되는 값들
+     */
+    private String groupKey(PromptContext context) {
+        SegmentFilterRequest filter = context.getSegmentFilter();
+        String regions = filter.getRegions() == null ? "" : filter.getRegions().stream()
+                .map(region -> region.trim().toUpperCase(Locale.ROOT))
+                .sorted()
+                .collect(Collectors.joining(","));
+
+        return context.getCampaign().getCampaignId()
+                + ":" + context.getProduct().getProductId()
+                + ":" + (context.getToneManner() != null ? context.getToneManner().getToneId() : "-")
+                + ":" + normalize(filter.getGender())
+                + ":" + normalize(filter.getMembershipLevel())
+                + ":" + regions
+                + ":" + (filter.getRecencyMaxDays() != null ? filter.getRecencyMaxDays() : "-")
+                + ":" + catalogSnapshot.getVersion();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * [연령 MinHash | 추가 컨텍스트 MinHash], 비어 있는 항목은 최댓값 그대로 두어 비어 있는 항목끼리만 같게 됨
+     */
+    private int[] signature(PromptContext context) {
+        int[] signature = new int[properties.getHashesPerSection() * SECTION_COUNT];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        SegmentFilterRequest.AgeRange ageRange = context.getSegmentFilter().getAgeRange();
+        Integer minAge = ageRange != null ? ageRange.getMin() : null;
+        Integer maxAge = ageRange != null ? ageRange.getMax() : null;
+        if (minAge == null && maxAge == null) {
+            addShingle(signature, AGE_SECTION, mix(-1L));
+        } else {
+            int from = Math.max(minAge != null ? minAge : 0, 0);
+            int to = Math.min(maxAge != null ? maxAge : MAX_AGE, MAX_AGE);
+            for (int age = from; age <= to; age++) {
+                addShingle(signature, AGE_SECTION, mix(age));
+            }
+        }
+
+        String text = normalizeText(context.getAdditionalContext());
+        if (!text.isEmpty()) {
+            if (text.length() < SHINGLE_SIZE) {
+                addShingle(signature, CONTEXT_SECTION, hash(text, 0, text.length()));
+            } else {
+                for (int start = 0; start + SHINGLE_SIZE <= text.length(); start++) {
+                    addShingle(signature, CONTEXT_SECTION, hash(text, start, start + SHINGLE_SIZE));
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 대소문자, 문장부호, 공백 차이는 같은 문구로 본다
+     */
+    private static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return builder.toString();
+    }
+
+    private void addShingle(int[] signature, int section, long shingleHash) {
+        int offset = section * hashSeeds.length;
+        for (int i = 0; i < hashSeeds.length; i++) {
+            int value = (int) (mix(shingleHash ^ hashSeeds[i]) >>> 32);
+            if (value < signature[offset + i]) {
+                signature[offset + i] = value;
+            }
+        }
+    }
+
+    private long[] bandKeys(String groupKey, int[] signature) {
+        int hashes = properties.getHashesPerSection();
+        int bandsPerSection = properties.getBandsPerSection();
+        int rows = properties.getRowsPerBand();
+        long groupHash = hash(groupKey, 0, groupKey.length());
+
+        long[] keys = new long[bandsPerSection * SECTION_COUNT];
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            for (int band = 0; band < bandsPerSection; band++) {
+                int index = section * bandsPerSection + band;
+                long key = mix(groupHash + index);
+                int offset = section * hashes + band * rows;
+                for (int row = 0; row < rows; row++) {
+                    key = mix(key * 31 + signature[offset + row]);
+                }
+                keys[index] = key;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 항목별 추정 Jaccard 유사도 중 작은 값 (연령이 같아도 컨텍스트가 다르면 재사용하지 않음)
+     */
+    private double similarity(int[] left, int[] right) {
+        int hashes = properties.getHashesPerSection();
+        double min = 1.0;
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            int equal = 0;
+            int offset = section * hashes;
+            for (int i = offset; i < offset + hashes; i++) {
+                if (left[i] == right[i]) {
+                    equal++;
+                }
+            }
+            min = Math.min(min, (double) equal / hashes);
+        }
+        return min;
+    }
+
+    /**
+     * FNV-1a 64비트
+     */
+    private static long hash(String text, int start, int end) {
+        long hash = FNV_OFFSET;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * splitmix64 마무리 단계
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 개수 제한을 넘으면 오래된 ID부터 색인에서 뺀다 (항목은 다른 밴드나 축출 전까지 캐시에 남음)
+     */
+    private long[] append(long[] ids, long[] added) {
+        int size = Math.min(ids.length + added.length, properties.getMaxEntriesPerBand());
+        int kept = size - added.length;
+        long[] merged = new long[size];
+        System.arraycopy(ids, ids.length - kept, merged, 0, kept);
+        System.arraycopy(added, 0, merged, kept, added.length);
+        return merged;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        long[] remaining = Arrays.stream(ids).filter(existing -> existing != id).toArray();
+        return remaining.length == 0 ? null : remaining;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Match {
+        private final GenerateMessageResponse response;
+        private final double similarity;
+    }
+
+    private static final class Entry {
+        private final String groupKey;
+        private final int[] signature;
+        private final long[] bandKeys;
+        private final GenerateMessageResponse response;
+
+        private Entry(String groupKey, int[] signature, long[] bandKeys, GenerateMessageResponse response) {
+            this.groupKey = groupKey;
+            this.signature = signature;
+            this.bandKeys = bandKeys;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import com.ai_marketing_msg_be.domain.message.config.PreGenerationProperties;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateSegmentMessageRequest;
+import com.ai_marketing_msg_be.domain.message.entity.PreGeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.entity.ToneManner;
+import com.ai_marketing_msg_be.domain.message.repository.PreGeneratedMessageRepository;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 캠페인/상품/톤/세그먼트 조합별 사전 생성 메시지 저장소
+ * 추가 컨텍스트가 없는 요청만 대상으로 하며, DB에 저장되어 여러 인스턴스가 공유한다.
+ * <p>
+ * 항목마다 생성 당시 캠페인/상품 내용의 해시를 함께 저장하고, 조회 시 DB의 현재 내용과 해시가 다르면 없는 것으로 본다.
+ * 인스턴스마다 갱신 시점이 다른 카탈로그 스냅샷 대신 DB를 기준으로 해야 인스턴스 간에 판단이 어긋나지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmMessageCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final PreGeneratedMessageRepository preGeneratedMessageRepository;
+    private final PreGenerationProperties preGenerationProperties;
+    private final ObjectMapper objectMapper;
+    private final CampaignRepository campaignRepository;
+    private final ProductRepository productRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<GenerateMessageResponse> find(GenerateSegmentMessageRequest request) {
+        if (!isCacheable(request)) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return findCurrentEntry(request)
+                .filter(entry -> entry.isValidAt(now))
+                .flatMap(this::readResponse);
+    }
+
+    /**
+     * 현재 캠페인/상품 내용으로 만든 항목이 기준 시각 이후까지 유효하면 true (사전 생성 스케줄러의 갱신 판단용)
+     */
+    @Transactional(readOnly = true)
+    public boolean isValidUntil(GenerateSegmentMessageRequest request, LocalDateTime time) {
+        return findCurrentEntry(request)
+                .map(entry -> entry.isValidAt(time))
+                .orElse(false);
+    }
+
+    /**
+     * 동시에 같은 조합을 저장하면 유니크 제약 위반이 발생하므로 트랜잭션을 묶지 않고 저장 단위로 처리
+     */
+    public void store(GenerateSegmentMessageRequest request, GenerateMessageResponse response) {
+        if (!isCacheable(request)) {
+            return;
+        }
+
+        // 생성 중 캠페인/상품이 수정되었으면 이전 내용 기준 메시지가 새 해시로 저장될 수 있으나, TTL 안에서만 유지된다
+        String catalogHash = catalogHash(request);
+        if (catalogHash == null) {
+            return;
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            log.warn("사전 생성 메시지 직렬화 실패 - campaignId: {}, productId: {}",
+                    request.getCampaignId(), request.getProductId());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(preGenerationProperties.getTtl());
+
+        Optional<PreGeneratedMessage> existing = findEntry(request);
+        if (existing.isPresent()) {
+            existing.get().refresh(catalogHash, payload, now, expiresAt);
+            preGeneratedMessageRepository.save(existing.get());
+            return;
+        }
+
+        try {
+            preGeneratedMessageRepository.save(PreGeneratedMessage.builder()
+                    .campaignId(request.getCampaignId())
+                    .productId(request.getProductId())
+                    .toneId(resolveToneId(request.getToneId()))
+                    .segmentKey(segmentKey(request.getSegmentFilter()))
+                    .catalogHash(catalogHash)
+                    .responsePayload(payload)
+                    .generatedAt(now)
+                    .expiresAt(expiresAt)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 인스턴스가 이미 사전 생성한 조합 - campaignId: {}, productId: {}",
+                    request.getCampaignId(), request.getProductId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${generation.job.cleanup-interval}")
+    public void deleteExpired() {
+        int deleted = preGeneratedMessageRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 사전 생성 메시지 삭제 - {}건", deleted);
+        }
+    }
+
+    private Optional<PreGeneratedMessage> findEntry(GenerateSegmentMessageRequest request) {
+        return preGeneratedMessageRepository.findByCampaignIdAndProductIdAndToneIdAndSegmentKey(
+                request.getCampaignId(),
+                request.getProductId(),
+                resolveToneId(request.getToneId()),
+                segmentKey(request.getSegmentFilter()));
+    }
+
+    private Optional<PreGeneratedMessage> findCurrentEntry(GenerateSegmentMessageRequest request) {
+        Optional<PreGeneratedMessage> entry = findEntry(request);
+        if (entry.isEmpty()) {
+            return entry;
+        }
+        String catalogHash = catalogHash(request);
+        return entry.filter(found -> found.isGeneratedFrom(catalogHash));
+    }
+
+    /**
+     * 프롬프트에 들어가는 캠페인/상품 항목만 해시, 둘 중 하나라도 없으면 null
+     */
+    private String catalogHash(GenerateSegmentMessageRequest request) {
+        Optional<Campaign> campaign = campaignRepository.findById(request.getCampaignId());
+        Optional<Product> product = productRepository.findById(request.getProductId());
+        if (campaign.isEmpty() || product.isEmpty()) {
+            return null;
+        }
+        return catalogHash(campaign.get(), product.get());
+    }
+
+    static String catalogHash(Campaign campaign, Product product) {
+        String content = String.join("\0",
+                campaign.getName(),
+                Objects.toString(campaign.getType(), ""),
+                Objects.toString(campaign.getDescription(), ""),
+                Objects.toString(campaign.getStartDate(), ""),
+                Objects.toString(campaign.getEndDate(), ""),
+                product.getName(),
+                Objects.toString(product.getCategory(), ""),
+                plain(product.getPrice()),
+                plain(product.getDiscountRate()),
+                Objects.toString(product.getBenefits(), ""));
+
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * DB 컬럼 스케일에 따라 100과 100.00처럼 표현이 달라지지 않도록 정규화
+     */
+    private static String plain(BigDecimal value) {
+        return value == null ? "" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private Optional<GenerateMessageResponse> readResponse(PreGeneratedMessage entry) {
+        try {
+            return Optional.of(objectMapper.readValue(entry.getResponsePayload(), GenerateMessageResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("사전 생성 메시지 역직렬화 실패 - id: {}", entry.getPreGeneratedMessageId());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isCacheable(GenerateSegmentMessageRequest request) {
+        return request.getSegmentFilter() != null
+                && (request.getAdditionalContext() == null || request.getAdditionalContext().isBlank());
+    }
+
+    private String resolveToneId(String toneId) {
+        ToneManner tone = toneId != null ? ToneManner.fromToneId(toneId) : null;
+        return tone != null ? tone.getToneId() : ToneManner.FRIENDLY.getToneId();
+    }
+
+    /**
+     * 동일 조건이 같은 키가 되도록 값 대소문자와 지역 순서를 정규화
+     */
+    private static String segmentKey(SegmentFilterRequest filter) {
+        SegmentFilterRequest.AgeRange ageRange = filter.getAgeRange();
+        List<String> regions = filter.getRegions() == null ? List.of() : filter.getRegions().stream()
+                .map(region -> region.toUpperCase(Locale.ROOT))
+                .sorted()
+                .distinct()
+                .toList();
+
+        return String.join("|",
+                "age=" + (ageRange != null ? ageRange.getMin() + "-" + ageRange.getMax() : ""),
+                "gender=" + upper(filter.getGender()),
+                "regions=" + String.join(",", regions),
+                "membership=" + upper(filter.getMembershipLevel()),
+                "recency=" + (filter.getRecencyMaxDays() != null ? filter.getRecencyMaxDays() : ""));
+    }
+
+    private static String upper(String value) {
+        return value == null || value.isBlank() ? "" : value.trim().toUpperCase(Locale.ROOT);
+    }
+}
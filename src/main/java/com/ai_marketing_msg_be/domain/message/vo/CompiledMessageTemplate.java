@@ -0,0 +1,140 @@
+package com.ai_marketing_msg_be.domain.message.vo;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세그먼트 템플릿 메시지를 리터럴/슬롯 조각으로 미리 분해해 두고
+ * 고객별 렌더링 시에는 재사용 StringBuilder에 이어 붙이기만 하도록 함
+ * <p>
+ * 지원 슬롯: {name}, {plan}, {device}, {recency}
+ * 중괄호 문자 자체는 {{, }}로 쓰고, 닫히지 않은 '{'는 그대로 둔다. 고객 값이 비어 있으면 슬롯별 기본 문구를 넣는다.
+ */
+public final class CompiledMessageTemplate {
+
+    private static final String DEFAULT_NAME = "고객";
+    private static final String DEFAULT_PLAN = "현재 요금제";
+    private static final String DEFAULT_DEVICE = "현재 단말";
+
+    private final String[] literals;
+    private final Slot[] slots;
+    private final int literalLength;
+
+    private CompiledMessageTemplate(String[] literals, Slot[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledMessageTemplate compile(String template) {
+        if (template == null || template.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_MESSAGE_TEMPLATE);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(template.length());
+
+        int index = 0;
+        while (index < template.length()) {
+            char c = template.charAt(index);
+            if ((c == '{' || c == '}') && index + 1 < template.length() && template.charAt(index + 1) == c) {
+                literal.append(c);
+                index += 2;
+                continue;
+            }
+
+            int close = c == '{' ? template.indexOf('}', index + 1) : -1;
+            if (close < 0) {
+                literal.append(c);
+                index++;
+                continue;
+            }
+
+            Slot slot = Slot.fromToken(template, index + 1, close);
+            if (slot == null) {
+                throw new BusinessException(ErrorCode.INVALID_MESSAGE_TEMPLATE,
+                        "지원하지 않는 슬롯입니다: " + template.substring(index, close + 1));
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(slot);
+            index = close + 1;
+        }
+        literals.add(literal.toString());
+
+        return new CompiledMessageTemplate(literals.toArray(new String[0]), slots.toArray(new Slot[0]));
+    }
+
+    public boolean hasSlots() {
+        return slots.length > 0;
+    }
+
+    /**
+     * 슬롯이 모두 비어 있을 때의 최소 길이 (리터럴 길이 합)
+     */
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    /**
+     * out을 비우고 고객 정보로 슬롯을 채운 메시지를 기록한 뒤 길이를 반환
+     */
+    public int render(Customer customer, StringBuilder out) {
+        out.setLength(0);
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            appendSlot(slots[i], customer, out);
+            out.append(literals[i + 1]);
+        }
+        return out.length();
+    }
+
+    private void appendSlot(Slot slot, Customer customer, StringBuilder out) {
+        switch (slot) {
+            case NAME -> out.append(customer.getName() != null ? customer.getName() : DEFAULT_NAME);
+            case PLAN -> out.append(customer.getCurrentPlan() != null ? customer.getCurrentPlan() : DEFAULT_PLAN);
+            case DEVICE -> out.append(customer.getCurrentDevice() != null ? customer.getCurrentDevice() : DEFAULT_DEVICE);
+            case RECENCY -> {
+                Integer recencyDays = customer.getRecencyDays();
+                if (recencyDays != null) {
+                    out.append(recencyDays);
+                } else {
+                    out.append('-');
+                }
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Slot {
+        NAME("name"),
+        PLAN("plan"),
+        DEVICE("device"),
+        RECENCY("recency");
+
+        private final String token;
+
+        private static Slot fromToken(String template, int start, int end) {
+            int length = end - start;
+            for (Slot slot : values()) {
+                if (slot.token.length() == length && template.startsWith(slot.token, start)) {
+                    return slot;
+                }
+            }
+            return null;
+        }
+    }
+}
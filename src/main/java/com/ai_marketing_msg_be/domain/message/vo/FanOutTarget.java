@@ -0,0 +1,26 @@
+package com.ai_marketing_msg_be.domain.message.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팬아웃으로 생성되는 개별 메시지에 공통으로 기록되는 값
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FanOutTarget {
+
+    /**
+     * 한 번의 팬아웃으로 저장된 메시지를 묶는 ID, 실패 시 정리 기준
+     */
+    private String fanOutId;
+    private Long userId;
+    private Long campaignId;
+    private Long productId;
+    private String toneId;
+    private Integer messageVersion;
+}
@@ -0,0 +1,18 @@
+package com.ai_marketing_msg_be.domain.message.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MessageViolation {
+    EMPTY("메시지 내용이 비어 있음"),
+    TOO_SHORT("글자 수가 최소 기준보다 적음"),
+    TOO_LONG("글자 수가 최대 기준을 넘음"),
+    EMOJI("이모지가 포함됨"),
+    BANNED_PHRASE("사용할 수 없는 표현이 포함됨"),
+    MISSING_BENEFIT("상품 핵심 혜택이 언급되지 않음"),
+    WRONG_MEMBERSHIP("타겟과 다른 멤버십 등급으로 호칭함");
+
+    private final String description;
+}
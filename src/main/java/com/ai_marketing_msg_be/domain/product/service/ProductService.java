@@ -3,6 +3,7 @@ package com.ai_marketing_msg_be.domain.product.service;
 import com.ai_marketing_msg_be.common.dto.PageResponse;
 import com.ai_marketing_msg_be.common.exception.BusinessException;
 import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.catalog.event.CatalogChangedEvent;
 import com.ai_marketing_msg_be.domain.message.repository.MessageRepository;
 import com.ai_marketing_msg_be.domain.product.dto.CreateProductRequest;
 import com.ai_marketing_msg_be.domain.product.dto.CreateProductResponse;
@@ -15,6 +16,7 @@ import com.ai_marketing_msg_be.domain.product.entity.Product;
 import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,7 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final MessageRepository messageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품 목록 조회 (페이징)
@@ -73,6 +76,7 @@ public class ProductService {
         // 저장
         Product savedProduct = productRepository.save(product);
         log.info("Product created successfully with productId: {}", savedProduct.getProductId());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.PRODUCT));
 
         return CreateProductResponse.from(savedProduct);
     }
@@ -109,6 +113,7 @@ public class ProductService {
         product.validatePrice();
 
         log.info("Product updated successfully with productId: {}", productId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.PRODUCT));
         return UpdateProductResponse.from(product);
     }
 
@@ -130,6 +135,7 @@ public class ProductService {
 
         productRepository.delete(product);
         log.info("Product deleted successfully with productId: {}", productId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Target.PRODUCT));
 
         return DeleteProductResponse.of(productId);
     }
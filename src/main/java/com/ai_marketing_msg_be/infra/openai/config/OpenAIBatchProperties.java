@@ -0,0 +1,26 @@
+package com.ai_marketing_msg_be.infra.openai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "openai.batch")
+public class OpenAIBatchProperties {
+    /**
+     * openai: OpenAI Batch API, local: 입력 파일을 chat completion으로 순차 처리하는 로컬 대체 구현
+     */
+    private String client;
+    /**
+     * Files/Batches API 기준 URL
+     */
+    private String baseUrl;
+    private String completionWindow;
+    /**
+     * local 클라이언트의 결과 파일 저장 위치
+     */
+    private String localDirectory;
+}
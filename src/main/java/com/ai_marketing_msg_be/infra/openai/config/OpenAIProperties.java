@@ -13,7 +13,13 @@ public class OpenAIProperties {
     private String key;
     private String url;
     private String model;
+    private Integer connectTimeout;
+    /**
+     * 응답 읽기 타임아웃(ms), 요청 기한이 더 짧으면 남은 시간을 사용
+     */
     private Integer timeout;
     private Integer maxTokens;
     private Double temperature;
+    private Double inputCostPerMillion;
+    private Double outputCostPerMillion;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.ai_marketing_msg_be.infra.openai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "openai.rate-limit")
+public class OpenAIRateLimitProperties {
+    private Integer requestsPerMinute;
+    private Integer tokensPerMinute;
+}
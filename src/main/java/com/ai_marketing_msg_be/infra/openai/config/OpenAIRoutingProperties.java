@@ -0,0 +1,72 @@
+package com.ai_marketing_msg_be.infra.openai.config;
+
+import com.ai_marketing_msg_be.infra.openai.service.OpenAICallType;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "openai.routing")
+public class OpenAIRoutingProperties {
+
+    /**
+     * false면 호출 지점이 지정한 모델/maxTokens를 그대로 사용하고 대체 모델 재시도도 하지 않음
+     */
+    private boolean enabled;
+
+    /**
+     * 모델별 단가 (키: 모델 이름), 없는 모델은 openai.api 단가 적용
+     */
+    private Map<String, ModelPrice> models = new LinkedHashMap<>();
+
+    /**
+     * 호출 지점별 라우팅 규칙, 없는 호출 지점은 요청 값을 그대로 사용
+     */
+    private Map<OpenAICallType, Route> routes = new EnumMap<>(OpenAICallType.class);
+
+    /**
+     * 지연 SLO 초과로 대체 모델로 전환한 뒤 기본 모델을 다시 시도하기까지의 시간
+     */
+    private Duration sloCooldown = Duration.ofMinutes(5);
+
+    @Getter
+    @Setter
+    public static class ModelPrice {
+        private double inputCostPerMillion;
+        /**
+         * 프롬프트 캐시 적중 입력 토큰 단가
+         */
+        private double cachedInputCostPerMillion;
+        private double outputCostPerMillion;
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String model;
+        /**
+         * 비어 있으면 호출 지점이 지정한 값 사용
+         */
+        private Integer maxTokens;
+        /**
+         * 추정 프롬프트 토큰이 이 값 이상이면 largePromptModel 사용, 0이면 미사용
+         */
+        private int largePromptTokens;
+        private String largePromptModel;
+        /**
+         * 실패 시 재시도하고, 지연 SLO 초과 시 일정 시간 전환할 모델
+         */
+        private String fallbackModel;
+        /**
+         * 기본 모델 평균 지연 목표, 비어 있으면 지연 기반 전환 없음
+         */
+        private Duration latencySlo;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ai_marketing_msg_be.infra.openai.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "openai.tokenizer")
+public class OpenAITokenizerProperties {
+
+    /**
+     * 모델 이름 접두사별 BPE 인코딩 (o200k_base, cl100k_base 등), 가장 긴 접두사 우선
+     */
+    private Map<String, String> encodings = new LinkedHashMap<>();
+
+    /**
+     * 접두사가 맞지 않는 모델의 인코딩
+     */
+    private String defaultEncoding;
+
+    /**
+     * 모델 컨텍스트 윈도우 (프롬프트 + 출력 토큰)
+     */
+    private Integer contextWindow;
+}
@@ -1,5 +1,8 @@
 package com.ai_marketing_msg_be.infra.openai.config;
 
+import com.ai_marketing_msg_be.common.deadline.RequestDeadline;
+import java.io.IOException;
+import java.net.HttpURLConnection;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,10 +21,17 @@ public class RestTemplateConfig {
                 .build();
     }
 
+    /**
+     * 연결마다 연결/읽기 타임아웃을 설정값과 요청의 남은 시간 중 작은 값으로 지정
+     */
     private ClientHttpRequestFactory clientHttpRequestFactory(OpenAIProperties openAIProperties) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(openAIProperties.getTimeout());
-        factory.setReadTimeout(openAIProperties.getTimeout());
-        return factory;
+        return new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                connection.setConnectTimeout((int) RequestDeadline.timeoutMillis(openAIProperties.getConnectTimeout()));
+                connection.setReadTimeout((int) RequestDeadline.timeoutMillis(openAIProperties.getTimeout()));
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.ai_marketing_msg_be.infra.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 입력 JSONL 한 줄 (요청 하나)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestLine {
+
+    public static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+
+    @JsonProperty("custom_id")
+    private String customId;
+
+    @Builder.Default
+    private String method = "POST";
+
+    @Builder.Default
+    private String url = CHAT_COMPLETIONS_ENDPOINT;
+
+    private OpenAIRequest body;
+}
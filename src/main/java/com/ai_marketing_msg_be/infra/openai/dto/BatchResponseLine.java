@@ -0,0 +1,59 @@
+package com.ai_marketing_msg_be.infra.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 결과/오류 JSONL 한 줄, response와 error 중 하나만 채워진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseLine {
+
+    @JsonProperty("custom_id")
+    private String customId;
+
+    private Response response;
+
+    private Error error;
+
+    public boolean isSuccess() {
+        return error == null && response != null && response.getStatusCode() != null
+                && response.getStatusCode() == 200 && response.getBody() != null;
+    }
+
+    public String describeError() {
+        if (error != null) {
+            return error.getCode() + ": " + error.getMessage();
+        }
+        if (response == null) {
+            return "응답 없음";
+        }
+        return "HTTP " + response.getStatusCode();
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        @JsonProperty("status_code")
+        private Integer statusCode;
+
+        private OpenAIResponse body;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Error {
+        private String code;
+        private String message;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ai_marketing_msg_be.infra.openai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BatchStatus {
+
+    private final State state;
+    private final String outputFileId;
+    private final String errorFileId;
+
+    public static BatchStatus of(State state) {
+        return new BatchStatus(state, null, null);
+    }
+
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED,
+        EXPIRED,
+        CANCELLED;
+
+        public boolean isTerminal() {
+            return this != IN_PROGRESS;
+        }
+    }
+}
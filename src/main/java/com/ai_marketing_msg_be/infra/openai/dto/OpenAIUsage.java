@@ -17,4 +17,25 @@ public class OpenAIUsage {
 
     @JsonProperty("total_tokens")
     private Integer totalTokens;
-}
\ No newline at end of file
+
+    @JsonProperty("prompt_tokens_details")
+    private PromptTokensDetails promptTokensDetails;
+
+    /**
+     * 프롬프트 캐시에서 읽은 입력 토큰 수, 응답에 없으면 0
+     */
+    public int getCachedTokens() {
+        if (promptTokensDetails == null || promptTokensDetails.getCachedTokens() == null) {
+            return 0;
+        }
+        return promptTokensDetails.getCachedTokens();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PromptTokensDetails {
+        @JsonProperty("cached_tokens")
+        private Integer cachedTokens;
+    }
+}
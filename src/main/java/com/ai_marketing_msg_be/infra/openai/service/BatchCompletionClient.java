@@ -0,0 +1,25 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus;
+import java.nio.file.Path;
+
+/**
+ * JSONL 배치 파일 단위의 chat completion 처리
+ * <p>
+ * openai.batch.client 값으로 구현을 고르며, 로컬/테스트에서는 OpenAI Batch API 대신
+ * LocalBatchCompletionClient로 같은 흐름을 실행할 수 있다.
+ */
+public interface BatchCompletionClient {
+
+    /**
+     * BatchRequestLine JSONL 파일을 제출하고 배치 ID 반환
+     */
+    String submit(Path inputFile);
+
+    BatchStatus getStatus(String batchId);
+
+    /**
+     * 결과 줄과 오류 줄(BatchResponseLine JSONL)을 target 파일 하나로 내려받음
+     */
+    void downloadResults(BatchStatus status, Path target);
+}
@@ -0,0 +1,176 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIBatchProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchRequestLine;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchResponseLine;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus.State;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch API 대신 입력 파일의 요청을 chat completion으로 하나씩 처리하는 로컬 대체 구현
+ * <p>
+ * 로컬 개발, 부하 테스트(OpenAI 스텁 서버), 테스트에서 제출 → 폴링 → 결과 반영 흐름을 그대로 실행하기 위한 용도이며
+ * 처리 중인 배치 상태는 메모리에만 있으므로 재기동하면 완료된 결과 파일이 없는 배치는 실패로 보고된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "openai.batch.client", havingValue = "local")
+public class LocalBatchCompletionClient implements BatchCompletionClient {
+
+    private final OpenAIService openAIService;
+    private final OpenAIBatchProperties batchProperties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    private ExecutorService worker;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(Paths.get(batchProperties.getLocalDirectory()));
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "local-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdownNow();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public String submit(Path inputFile) {
+        String batchId = "local_batch_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        states.put(batchId, State.IN_PROGRESS);
+        worker.execute(() -> process(batchId, inputFile));
+
+        log.info("로컬 배치 제출 - batchId: {}, inputFile: {}", batchId, inputFile.getFileName());
+        return batchId;
+    }
+
+    @Override
+    public BatchStatus getStatus(String batchId) {
+        State state = states.get(batchId);
+        if (state == null) {
+            state = Files.exists(outputFile(batchId)) ? State.COMPLETED : State.FAILED;
+        }
+        return state == State.COMPLETED
+                ? new BatchStatus(State.COMPLETED, batchId, null)
+                : BatchStatus.of(state);
+    }
+
+    @Override
+    public void downloadResults(BatchStatus status, Path target) {
+        if (status.getOutputFileId() == null) {
+            return;
+        }
+        try {
+            Files.copy(outputFile(status.getOutputFileId()), target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "로컬 배치 결과 복사 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 요청별 실패는 error 줄로 기록하고 다음 요청을 계속 처리, 끝까지 쓴 뒤에만 결과 파일 이름으로 옮김
+     * 중간에 중단(종료 시 인터럽트)되거나 파일 오류가 나면 배치를 실패로 보고하고 작성 중이던 파일은 지운다.
+     */
+    private void process(String batchId, Path inputFile) {
+        Path partial = outputFile(batchId).resolveSibling(batchId + ".partial");
+        int processed = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(inputFile, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+
+            String line;
+            while ((line = reader.readLine()) != null && !Thread.currentThread().isInterrupted()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                BatchRequestLine request = objectMapper.readValue(line, BatchRequestLine.class);
+                writer.write(objectMapper.writeValueAsString(execute(request)));
+                writer.newLine();
+                processed++;
+            }
+        } catch (IOException e) {
+            log.error("로컬 배치 처리 실패 - batchId: {}", batchId, e);
+            fail(batchId, partial);
+            return;
+        }
+
+        if (Thread.currentThread().isInterrupted()) {
+            log.warn("로컬 배치 중단 - batchId: {}, 처리: {}건", batchId, processed);
+            fail(batchId, partial);
+            return;
+        }
+
+        try {
+            Files.move(partial, outputFile(batchId), StandardCopyOption.REPLACE_EXISTING);
+            states.put(batchId, State.COMPLETED);
+            log.info("로컬 배치 완료 - batchId: {}, 처리: {}건", batchId, processed);
+        } catch (IOException e) {
+            log.error("로컬 배치 결과 저장 실패 - batchId: {}", batchId, e);
+            fail(batchId, partial);
+        }
+    }
+
+    private void fail(String batchId, Path partial) {
+        states.put(batchId, State.FAILED);
+        try {
+            Files.deleteIfExists(partial);
+            Files.deleteIfExists(outputFile(batchId));
+        } catch (IOException e) {
+            log.warn("로컬 배치 파일 삭제 실패 - batchId: {}", batchId, e);
+        }
+    }
+
+    private BatchResponseLine execute(BatchRequestLine request) {
+        try {
+            OpenAIResponse response = openAIService.callChatCompletion(OpenAICallType.BULK_MESSAGE, request.getBody());
+            return BatchResponseLine.builder()
+                    .customId(request.getCustomId())
+                    .response(BatchResponseLine.Response.builder().statusCode(200).body(response).build())
+                    .build();
+        } catch (BusinessException e) {
+            return BatchResponseLine.builder()
+                    .customId(request.getCustomId())
+                    .error(BatchResponseLine.Error.builder()
+                            .code(e.getErrorCode().name())
+                            .message(e.getMessage())
+                            .build())
+                    .build();
+        }
+    }
+
+    private Path outputFile(String batchId) {
+        return Paths.get(batchProperties.getLocalDirectory(), batchId + ".jsonl");
+    }
+}
@@ -0,0 +1,42 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ModelRouter가 호출 한 건에 대해 고른 모델과 maxTokens, 실패 시 대체 모델
+ */
+@Getter
+@RequiredArgsConstructor
+public class ModelRoute {
+
+    public static final String DEFAULT = "default";
+    public static final String PRIMARY = "primary";
+    public static final String LARGE_PROMPT = "large_prompt";
+    public static final String SLO_FALLBACK = "slo_fallback";
+    public static final String FALLBACK = "fallback";
+
+    /**
+     * 메트릭 route 태그
+     */
+    private final String name;
+    private final String model;
+    private final Integer maxTokens;
+    private final String fallbackModel;
+
+    public boolean hasFallback() {
+        return fallbackModel != null && !fallbackModel.equals(model);
+    }
+
+    public ModelRoute toFallback() {
+        return new ModelRoute(FALLBACK, fallbackModel, maxTokens, null);
+    }
+
+    public OpenAIRequest apply(OpenAIRequest request) {
+        return request.toBuilder()
+                .model(model)
+                .maxTokens(maxTokens)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIRoutingProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIRoutingProperties.Route;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호출 지점, 프롬프트 크기, 지연 SLO로 OpenAI 호출별 모델과 maxTokens 결정
+ * <p>
+ * 프롬프트 토큰이 largePromptTokens 이상이면 largePromptModel을 쓰고,
+ * 기본 모델의 평균 지연이 latencySlo를 넘으면 sloCooldown 동안 대체 모델로 보낸 뒤 기본 모델을 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModelRouter {
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final int MIN_LATENCY_SAMPLES = 5;
+
+    private final OpenAIRoutingProperties routingProperties;
+    private final OpenAIRateLimiter openAIRateLimiter;
+
+    private final Map<OpenAICallType, LatencyState> latencyStates = new ConcurrentHashMap<>();
+
+    public ModelRoute route(OpenAICallType callType, OpenAIRequest request) {
+        Route rule = findRule(callType);
+        if (rule == null) {
+            return new ModelRoute(ModelRoute.DEFAULT, request.getModel(), request.getMaxTokens(), null);
+        }
+
+        String model = rule.getModel() != null ? rule.getModel() : request.getModel();
+        Integer maxTokens = rule.getMaxTokens() != null ? rule.getMaxTokens() : request.getMaxTokens();
+
+        if (rule.getLargePromptModel() != null && rule.getLargePromptTokens() > 0
+                && openAIRateLimiter.countPromptTokens(request) >= rule.getLargePromptTokens()) {
+            return new ModelRoute(ModelRoute.LARGE_PROMPT, rule.getLargePromptModel(), maxTokens,
+                    rule.getFallbackModel());
+        }
+
+        if (rule.getFallbackModel() != null && latencyState(callType).isDemoted()) {
+            return new ModelRoute(ModelRoute.SLO_FALLBACK, rule.getFallbackModel(), maxTokens, model);
+        }
+
+        return new ModelRoute(ModelRoute.PRIMARY, model, maxTokens, rule.getFallbackModel());
+    }
+
+    /**
+     * 기본 모델 호출 지연을 반영하고 평균이 SLO를 넘으면 대체 모델로 전환
+     */
+    public void recordLatency(OpenAICallType callType, ModelRoute route, long elapsedNanos) {
+        if (!ModelRoute.PRIMARY.equals(route.getName())) {
+            return;
+        }
+        Route rule = findRule(callType);
+        if (rule == null || rule.getLatencySlo() == null || rule.getFallbackModel() == null) {
+            return;
+        }
+
+        long sloNanos = rule.getLatencySlo().toNanos();
+        long cooldownNanos = routingProperties.getSloCooldown().toNanos();
+        if (latencyState(callType).record(elapsedNanos, sloNanos, cooldownNanos)) {
+            log.warn("OpenAI 평균 지연이 SLO 초과 - callType: {}, model: {} -> {}, SLO: {}, 전환 기간: {}",
+                    callType, route.getModel(), rule.getFallbackModel(), rule.getLatencySlo(),
+                    routingProperties.getSloCooldown());
+        }
+    }
+
+    private Route findRule(OpenAICallType callType) {
+        return routingProperties.isEnabled() ? routingProperties.getRoutes().get(callType) : null;
+    }
+
+    private LatencyState latencyState(OpenAICallType callType) {
+        return latencyStates.computeIfAbsent(callType, key -> new LatencyState());
+    }
+
+    private static final class LatencyState {
+        private double averageNanos;
+        private int samples;
+        private boolean demoted;
+        private long demotedUntilNanos;
+
+        private synchronized boolean isDemoted() {
+            if (demoted && System.nanoTime() - demotedUntilNanos >= 0) {
+                demoted = false;
+            }
+            return demoted;
+        }
+
+        /**
+         * @return 이번 기록으로 대체 모델 전환이 시작되면 true
+         */
+        private synchronized boolean record(long elapsedNanos, long sloNanos, long cooldownNanos) {
+            averageNanos = samples == 0 ? elapsedNanos : averageNanos + LATENCY_SMOOTHING * (elapsedNanos - averageNanos);
+            samples++;
+
+            if (demoted || samples < MIN_LATENCY_SAMPLES || averageNanos <= sloNanos) {
+                return false;
+            }
+
+            // 전환 후에는 기본 모델 지연을 새로 측정
+            demoted = true;
+            demotedUntilNanos = System.nanoTime() + cooldownNanos;
+            averageNanos = 0;
+            samples = 0;
+            return true;
+        }
+    }
+}
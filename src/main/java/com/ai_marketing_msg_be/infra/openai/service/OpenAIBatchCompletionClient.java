@@ -0,0 +1,152 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIBatchProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchRequestLine;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus.State;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * OpenAI Files/Batches API 클라이언트
+ * 입력 파일 업로드 → 배치 생성, 상태 조회, 결과/오류 파일 다운로드
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "openai.batch.client", havingValue = "openai", matchIfMissing = true)
+public class OpenAIBatchCompletionClient implements BatchCompletionClient {
+
+    private final OpenAIProperties openAIProperties;
+    private final OpenAIBatchProperties batchProperties;
+    private final RestTemplate restTemplate;
+
+    @Override
+    public String submit(Path inputFile) {
+        try {
+            MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+            form.add("purpose", "batch");
+            form.add("file", new FileSystemResource(inputFile));
+
+            JsonNode file = restTemplate.postForObject(batchProperties.getBaseUrl() + "/files",
+                    new HttpEntity<>(form, createHeaders(MediaType.MULTIPART_FORM_DATA)), JsonNode.class);
+
+            Map<String, String> batchRequest = Map.of(
+                    "input_file_id", requireText(file, "id"),
+                    "endpoint", BatchRequestLine.CHAT_COMPLETIONS_ENDPOINT,
+                    "completion_window", batchProperties.getCompletionWindow());
+
+            JsonNode batch = restTemplate.postForObject(batchProperties.getBaseUrl() + "/batches",
+                    new HttpEntity<>(batchRequest, createHeaders(MediaType.APPLICATION_JSON)), JsonNode.class);
+
+            String batchId = requireText(batch, "id");
+            log.info("OpenAI 배치 제출 - batchId: {}, inputFile: {}", batchId, inputFile.getFileName());
+            return batchId;
+
+        } catch (RestClientException e) {
+            log.error("OpenAI 배치 제출 실패: {}", e.getMessage(), e);
+            throw new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED);
+        }
+    }
+
+    @Override
+    public BatchStatus getStatus(String batchId) {
+        try {
+            JsonNode batch = restTemplate.exchange(batchProperties.getBaseUrl() + "/batches/" + batchId,
+                    HttpMethod.GET, new HttpEntity<>(createHeaders(MediaType.APPLICATION_JSON)), JsonNode.class)
+                    .getBody();
+
+            return new BatchStatus(toState(requireText(batch, "status")),
+                    textOrNull(batch, "output_file_id"), textOrNull(batch, "error_file_id"));
+
+        } catch (RestClientException e) {
+            log.error("OpenAI 배치 상태 조회 실패 - batchId: {}", batchId, e);
+            throw new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED);
+        }
+    }
+
+    @Override
+    public void downloadResults(BatchStatus status, Path target) {
+        try {
+            Files.deleteIfExists(target);
+            Files.createFile(target);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "배치 결과 파일 생성 실패: " + target);
+        }
+
+        appendFileContent(status.getOutputFileId(), target);
+        appendFileContent(status.getErrorFileId(), target);
+    }
+
+    private void appendFileContent(String fileId, Path target) {
+        if (fileId == null) {
+            return;
+        }
+        try {
+            restTemplate.execute(batchProperties.getBaseUrl() + "/files/" + fileId + "/content", HttpMethod.GET,
+                    request -> request.getHeaders().setBearerAuth(openAIProperties.getKey()),
+                    response -> {
+                        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.APPEND)) {
+                            response.getBody().transferTo(out);
+                        }
+                        return null;
+                    });
+        } catch (RestClientException e) {
+            log.error("OpenAI 배치 결과 다운로드 실패 - fileId: {}", fileId, e);
+            throw new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED);
+        }
+    }
+
+    private State toState(String status) {
+        return switch (status) {
+            case "completed" -> State.COMPLETED;
+            case "failed" -> State.FAILED;
+            case "expired" -> State.EXPIRED;
+            case "cancelled" -> State.CANCELLED;
+            default -> State.IN_PROGRESS;  // validating, in_progress, finalizing, cancelling
+        };
+    }
+
+    private String requireText(JsonNode node, String field) {
+        String value = textOrNull(node, field);
+        if (value == null) {
+            throw new BusinessException(ErrorCode.INVALID_JSON_RESPONSE, "OpenAI 배치 응답에 " + field + " 없음");
+        }
+        return value;
+    }
+
+    private String textOrNull(JsonNode node, String field) {
+        if (node == null || !node.hasNonNull(field)) {
+            return null;
+        }
+        return node.get(field).asText();
+    }
+
+    private HttpHeaders createHeaders(MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        headers.setBearerAuth(openAIProperties.getKey());
+        return headers;
+    }
+}
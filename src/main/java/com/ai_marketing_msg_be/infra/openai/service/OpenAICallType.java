@@ -0,0 +1,22 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OpenAI 호출 지점 구분 (메트릭 태그)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OpenAICallType {
+
+    SEGMENT_MESSAGE("segment_message"),
+    INDIVIDUAL_MESSAGE("individual_message"),
+    PACKED_MESSAGE("packed_message"),
+    BULK_MESSAGE("bulk_message"),
+    MESSAGE_REGENERATION("message_regeneration"),
+    CAMPAIGN_RECOMMENDATION("campaign_recommendation"),
+    PRODUCT_RECOMMENDATION("product_recommendation");
+
+    private final String tag;
+}
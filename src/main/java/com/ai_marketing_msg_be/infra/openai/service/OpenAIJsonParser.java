@@ -0,0 +1,175 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 응답 본문에서 JSON을 찾아 바로 DTO로 바인딩하는 공용 파서
+ * <p>
+ * 코드 펜스(```json)나 앞뒤 설명 문장은 정규식 없이 JSON 시작 위치를 찾아 건너뛰고,
+ * 스트리밍 JsonParser로 배열 원소를 하나씩 바인딩하므로 토큰 한도로 응답이 잘려도
+ * 완성된 원소까지는 복구한다. 타입별 ObjectReader는 재사용한다.
+ */
+@Slf4j
+@Component
+public class OpenAIJsonParser {
+
+    private final JsonFactory jsonFactory;
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public OpenAIJsonParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = JsonFactory.builder()
+                .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+                .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+                .build();
+    }
+
+    /**
+     * 객체 배열 응답 파싱. 배열 없이 단일 객체만 온 경우 원소 1개짜리 목록으로 반환
+     */
+    public <T> List<T> parseList(String content, Class<T> elementType) {
+        int arrayStart = findArrayStart(content);
+        if (arrayStart < 0) {
+            return List.of(parseObject(content, elementType));
+        }
+
+        ObjectReader reader = readerFor(elementType);
+        List<T> results = new ArrayList<>();
+
+        try (JsonParser parser = createParser(content, arrayStart)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                results.add(reader.readValue(parser));
+            }
+        } catch (IOException e) {
+            if (results.isEmpty()) {
+                throw invalidResponse(content, e);
+            }
+            log.warn("잘린 AI 응답에서 {}개 항목 복구 - type: {}", results.size(), elementType.getSimpleName());
+        }
+
+        return results;
+    }
+
+    /**
+     * {"키": [객체, ...], ...} 형태 응답 파싱
+     * 응답이 잘린 경우 배열이 끝까지 완성된 키만 반환한다.
+     */
+    public <T> Map<String, List<T>> parseKeyedLists(String content, Class<T> elementType) {
+        int objectStart = findObjectStart(content);
+        if (objectStart < 0) {
+            throw invalidResponse(content, null);
+        }
+
+        ObjectReader reader = readerFor(elementType);
+        Map<String, List<T>> results = new LinkedHashMap<>();
+
+        try (JsonParser parser = createParser(content, objectStart)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                List<T> items = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    items.add(reader.readValue(parser));
+                }
+                results.put(key, items);
+            }
+        } catch (IOException e) {
+            if (results.isEmpty()) {
+                throw invalidResponse(content, e);
+            }
+            log.warn("잘린 AI 응답에서 {}개 키 복구 - type: {}", results.size(), elementType.getSimpleName());
+        }
+
+        return results;
+    }
+
+    public <T> T parseObject(String content, Class<T> type) {
+        int start = findJsonStart(content);
+        if (start < 0) {
+            throw invalidResponse(content, null);
+        }
+
+        try (JsonParser parser = createParser(content, start)) {
+            return readerFor(type).readValue(parser);
+        } catch (IOException e) {
+            throw invalidResponse(content, e);
+        }
+    }
+
+    private JsonParser createParser(String content, int start) throws IOException {
+        char[] chars = content.toCharArray();
+        return jsonFactory.createParser(chars, start, chars.length - start);
+    }
+
+    private ObjectReader readerFor(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * '[' 다음 공백이 아닌 첫 문자가 '{' 또는 ']'인 위치 (설명 문장 속 대괄호는 건너뜀)
+     */
+    private int findArrayStart(String content) {
+        return findStart(content, '[', '{', ']');
+    }
+
+    /**
+     * '{' 다음 공백이 아닌 첫 문자가 '"' 또는 '}'인 위치
+     */
+    private int findObjectStart(String content) {
+        return findStart(content, '{', '"', '}');
+    }
+
+    private int findJsonStart(String content) {
+        int arrayStart = findArrayStart(content);
+        int objectStart = findObjectStart(content);
+        if (arrayStart < 0 || objectStart < 0) {
+            return Math.max(arrayStart, objectStart);
+        }
+        return Math.min(arrayStart, objectStart);
+    }
+
+    private int findStart(String content, char open, char firstInside, char close) {
+        if (content == null) {
+            return -1;
+        }
+
+        int length = content.length();
+        for (int i = content.indexOf(open); i >= 0; i = content.indexOf(open, i + 1)) {
+            int next = i + 1;
+            while (next < length && Character.isWhitespace(content.charAt(next))) {
+                next++;
+            }
+            if (next == length || content.charAt(next) == firstInside || content.charAt(next) == close) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private BusinessException invalidResponse(String content, Exception cause) {
+        log.error("AI 응답 파싱 실패 - content: {}", content, cause);
+        return new BusinessException(ErrorCode.INVALID_JSON_RESPONSE);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIRoutingProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIRoutingProperties.ModelPrice;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenAI 호출 지연/토큰/비용/오류와 프롬프트 크기를 호출 지점·모델·라우트별로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenAIMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_EMPTY_RESPONSE = "empty_response";
+
+    private final MeterRegistry meterRegistry;
+    private final OpenAIProperties openAIProperties;
+    private final OpenAIRoutingProperties routingProperties;
+
+    public void recordPrompt(OpenAICallType callType, String model, int promptChars, int promptTokens) {
+        DistributionSummary.builder("openai.prompt.chars")
+                .description("OpenAI 요청 프롬프트 문자 수")
+                .baseUnit("chars")
+                .tag("call_type", callType.getTag())
+                .tag("model", model)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(promptChars);
+
+        DistributionSummary.builder("openai.prompt.estimated.tokens")
+                .description("OpenAI 요청 프롬프트 토큰 수 (로컬 토크나이저 계산)")
+                .baseUnit("tokens")
+                .tag("call_type", callType.getTag())
+                .tag("model", model)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(promptTokens);
+    }
+
+    public void recordCall(OpenAICallType callType, String model, String route, long elapsedNanos,
+                           String outcome, OpenAIUsage usage) {
+        Timer.builder("openai.call")
+                .description("OpenAI chat completion 호출 지연")
+                .tag("call_type", callType.getTag())
+                .tag("model", model)
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (usage == null) {
+            return;
+        }
+        countTokens(callType, model, "prompt", usage.getPromptTokens());
+        countTokens(callType, model, "completion", usage.getCompletionTokens());
+        countTokens(callType, model, "cached", usage.getCachedTokens());
+
+        if (usage.getPromptTokens() != null && usage.getPromptTokens() > 0) {
+            DistributionSummary.builder("openai.prompt.cache.hit.ratio")
+                    .description("OpenAI 프롬프트 토큰 중 프롬프트 캐시에서 읽은 비율")
+                    .tag("call_type", callType.getTag())
+                    .tag("model", model)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record((double) usage.getCachedTokens() / usage.getPromptTokens());
+        }
+
+        Counter.builder("openai.cost")
+                .description("OpenAI 응답 usage와 모델 단가로 계산한 비용")
+                .baseUnit("usd")
+                .tag("call_type", callType.getTag())
+                .tag("model", model)
+                .tag("route", route)
+                .register(meterRegistry)
+                .increment(costUsd(model, usage));
+    }
+
+    private double costUsd(String model, OpenAIUsage usage) {
+        ModelPrice price = routingProperties.getModels().get(model);
+        double inputCost = price != null ? price.getInputCostPerMillion() : openAIProperties.getInputCostPerMillion();
+        double cachedInputCost = price != null ? price.getCachedInputCostPerMillion() : inputCost;
+        double outputCost = price != null ? price.getOutputCostPerMillion() : openAIProperties.getOutputCostPerMillion();
+
+        long promptTokens = usage.getPromptTokens() != null ? usage.getPromptTokens() : 0;
+        long cachedTokens = Math.min(usage.getCachedTokens(), promptTokens);
+        long completionTokens = usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0;
+        return (promptTokens - cachedTokens) / 1_000_000.0 * inputCost
+                + cachedTokens / 1_000_000.0 * cachedInputCost
+                + completionTokens / 1_000_000.0 * outputCost;
+    }
+
+    private void countTokens(OpenAICallType callType, String model, String tokenType, Integer tokens) {
+        if (tokens == null) {
+            return;
+        }
+        Counter.builder("openai.tokens")
+                .description("OpenAI 응답 usage 기준 사용 토큰")
+                .baseUnit("tokens")
+                .tag("call_type", callType.getTag())
+                .tag("model", model)
+                .tag("token_type", tokenType)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIRateLimitProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenAI 분당 요청 수/토큰 수 예산을 토큰 버킷으로 추적
+ * <p>
+ * 사용자 요청은 예산과 무관하게 호출하되 사용량만 차감하고(버킷이 음수가 될 수 있음),
+ * 사전 생성 같은 백그라운드 작업은 hasHeadroom으로 여유분을 확인한 뒤 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenAIRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final OpenAIRateLimitProperties rateLimitProperties;
+    private final PromptTokenizer promptTokenizer;
+
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    @PostConstruct
+    public void init() {
+        this.availableRequests = rateLimitProperties.getRequestsPerMinute();
+        this.availableTokens = rateLimitProperties.getTokensPerMinute();
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public synchronized void consume(int estimatedTokens) {
+        refill();
+        availableRequests -= 1;
+        availableTokens -= estimatedTokens;
+    }
+
+    /**
+     * 응답의 실제 사용량으로 추정치와의 차이를 보정
+     */
+    public synchronized void reconcile(int estimatedTokens, int actualTokens) {
+        availableTokens = Math.min(rateLimitProperties.getTokensPerMinute(),
+                availableTokens + estimatedTokens - actualTokens);
+    }
+
+    /**
+     * 응답을 받지 못한 호출의 토큰 예약을 반환 (요청 수는 그대로 차감)
+     */
+    public void release(int estimatedTokens) {
+        reconcile(estimatedTokens, 0);
+    }
+
+    /**
+     * 호출 후에도 예산의 reserveRatio 이상이 남는지 확인
+     */
+    public synchronized boolean hasHeadroom(int estimatedTokens, double reserveRatio) {
+        refill();
+        return availableRequests - 1 >= rateLimitProperties.getRequestsPerMinute() * reserveRatio
+                && availableTokens - estimatedTokens >= rateLimitProperties.getTokensPerMinute() * reserveRatio;
+    }
+
+    /**
+     * 프롬프트 토큰(토크나이저로 계산) + 최대 출력 토큰
+     */
+    public int estimateTokens(OpenAIRequest request) {
+        return estimateTokens(request, countPromptTokens(request));
+    }
+
+    public int estimateTokens(OpenAIRequest request, int promptTokens) {
+        int maxTokens = request.getMaxTokens() != null ? request.getMaxTokens() : 0;
+        return promptTokens + maxTokens;
+    }
+
+    public int countPromptTokens(OpenAIRequest request) {
+        return promptTokenizer.countPromptTokens(request);
+    }
+
+    public int countPromptChars(OpenAIRequest request) {
+        int promptChars = 0;
+        for (OpenAIMessage message : request.getMessages()) {
+            if (message.getContent() != null) {
+                promptChars += message.getContent().length();
+            }
+        }
+        return promptChars;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedMinutes = (double) (now - lastRefillNanos) / NANOS_PER_MINUTE;
+        lastRefillNanos = now;
+
+        availableRequests = Math.min(rateLimitProperties.getRequestsPerMinute(),
+                availableRequests + elapsedMinutes * rateLimitProperties.getRequestsPerMinute());
+        availableTokens = Math.min(rateLimitProperties.getTokensPerMinute(),
+                availableTokens + elapsedMinutes * rateLimitProperties.getTokensPerMinute());
+    }
+}
@@ -1,11 +1,16 @@
 package com.ai_marketing_msg_be.infra.openai.service;
 
+import com.ai_marketing_msg_be.common.deadline.RequestDeadline;
 import com.ai_marketing_msg_be.common.exception.BusinessException;
 import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.common.logging.LogCategory;
+import com.ai_marketing_msg_be.common.logging.PayloadLogger;
 import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
 import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.net.SocketTimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -14,7 +19,9 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
@@ -24,12 +31,69 @@ public class OpenAIService {
 
     private final OpenAIProperties openAIProperties;
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final OpenAIJsonParser openAIJsonParser;
+    private final OpenAIRateLimiter openAIRateLimiter;
+    private final PayloadLogger payloadLogger;
+    private final OpenAIMetrics openAIMetrics;
+    private final ObservationRegistry observationRegistry;
+    private final ModelRouter modelRouter;
 
-    public OpenAIResponse callChatCompletion(OpenAIRequest request) {
+    /**
+     * 일시적 오류(타임아웃, 5xx, 연결 실패, 빈 응답)일 때만 대체 모델로 한 번 재시도
+     * 4xx(잘못된 요청, 인증 실패, 429)는 대체 모델에서도 같은 결과이므로 그대로 전파한다.
+     * 지연 SLO 초과는 ModelRouter가 처음부터 대체 모델로 보낸다.
+     */
+    public OpenAIResponse callChatCompletion(OpenAICallType callType, OpenAIRequest request) {
+        ModelRoute route = modelRouter.route(callType, request);
         try {
-            log.info("OpenAI API 호출 시작 - model: {}", request.getModel());
-            log.debug("Request messages: {}", request.getMessages());
+            return observe(callType, route, route.apply(request));
+        } catch (BusinessException e) {
+            if (!route.hasFallback() || !isTransient(e)) {
+                throw e;
+            }
+            log.warn("OpenAI 호출 실패로 대체 모델 재시도 - callType: {}, model: {} -> {}, error: {}",
+                    callType, route.getModel(), route.getFallbackModel(), e.getMessage());
+            ModelRoute fallback = route.toFallback();
+            return observe(callType, fallback, fallback.apply(request));
+        }
+    }
+
+    private OpenAIResponse observe(OpenAICallType callType, ModelRoute route, OpenAIRequest request) {
+        Observation observation = Observation.createNotStarted("openai.chat.completion", observationRegistry)
+                .contextualName("openai " + callType.getTag())
+                .lowCardinalityKeyValue("call_type", callType.getTag())
+                .lowCardinalityKeyValue("model", String.valueOf(request.getModel()))
+                .lowCardinalityKeyValue("route", route.getName());
+
+        return observation.observe(() -> {
+            OpenAIResponse response = execute(callType, route, request);
+            if (response.getUsage() != null) {
+                observation.highCardinalityKeyValue("tokens.prompt", String.valueOf(response.getUsage().getPromptTokens()));
+                observation.highCardinalityKeyValue("tokens.completion",
+                        String.valueOf(response.getUsage().getCompletionTokens()));
+                observation.highCardinalityKeyValue("tokens.cached", String.valueOf(response.getUsage().getCachedTokens()));
+            }
+            return response;
+        });
+    }
+
+    private OpenAIResponse execute(OpenAICallType callType, ModelRoute route, OpenAIRequest request) {
+        // 큐 대기 등으로 이미 기한이 지난 요청은 호출하지 않음
+        RequestDeadline.check("OpenAI " + callType.getTag());
+
+        String model = String.valueOf(request.getModel());
+        int promptChars = openAIRateLimiter.countPromptChars(request);
+        int promptTokens = openAIRateLimiter.countPromptTokens(request);
+        openAIMetrics.recordPrompt(callType, model, promptChars, promptTokens);
+
+        int estimatedTokens = openAIRateLimiter.estimateTokens(request, promptTokens);
+        openAIRateLimiter.consume(estimatedTokens);
+
+        long startedAt = System.nanoTime();
+        try {
+            log.info("OpenAI API 호출 시작 - callType: {}, model: {}, route: {}", callType, model, route.getName());
+            payloadLogger.debug(log, LogCategory.LLM_REQUEST, "Request messages",
+                    () -> String.valueOf(request.getMessages()));
 
             HttpHeaders headers = createHeaders();
             HttpEntity<OpenAIRequest> entity = new HttpEntity<>(request, headers);
@@ -42,37 +106,91 @@ public class OpenAIService {
             );
 
             OpenAIResponse responseBody = response.getBody();
-            if (responseBody == null || responseBody.getChoices().isEmpty()) {
+            if (responseBody == null || responseBody.getChoices() == null || responseBody.getChoices().isEmpty()) {
+                openAIMetrics.recordCall(callType, model, route.getName(), System.nanoTime() - startedAt,
+                        OpenAIMetrics.OUTCOME_EMPTY_RESPONSE, null);
                 throw new BusinessException(ErrorCode.MESSAGE_GENERATION_FAILED);
             }
 
-            log.info("OpenAI API 호출 성공 - tokens: {}",
-                    responseBody.getUsage().getTotalTokens());
-            log.debug("Response: {}", responseBody.getChoices().get(0).getMessage().getContent());
+            long elapsedNanos = System.nanoTime() - startedAt;
+            openAIMetrics.recordCall(callType, model, route.getName(), elapsedNanos,
+                    OpenAIMetrics.OUTCOME_SUCCESS, responseBody.getUsage());
+            modelRouter.recordLatency(callType, route, elapsedNanos);
+
+            // usage가 없는 응답(일부 호환 게이트웨이)은 추정치를 실제 사용량으로 간주
+            int actualTokens = responseBody.getUsage() != null && responseBody.getUsage().getTotalTokens() != null
+                    ? responseBody.getUsage().getTotalTokens() : estimatedTokens;
+            log.info("OpenAI API 호출 성공 - tokens: {}", actualTokens);
+            openAIRateLimiter.reconcile(estimatedTokens, actualTokens);
+            payloadLogger.debug(log, LogCategory.LLM_RESPONSE, "Response",
+                    () -> responseBody.getChoices().get(0).getMessage().getContent());
 
             return responseBody;
 
         } catch (RestClientException e) {
-            log.error("OpenAI API 호출 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED);
+            openAIRateLimiter.release(estimatedTokens);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            openAIMetrics.recordCall(callType, model, route.getName(), elapsedNanos,
+                    OpenAIMetrics.OUTCOME_ERROR, null);
+            if (RequestDeadline.isExpired()) {
+                log.warn("OpenAI API 응답 대기 중 요청 기한 초과 - callType: {}", callType);
+                throw new BusinessException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+            }
+
+            BusinessException failure = toBusinessException(e);
+            if (isTransient(failure)) {
+                // 읽기 타임아웃도 지연 SLO 판단에 반영 (즉시 돌아오는 4xx는 지연 평균을 왜곡하므로 제외)
+                modelRouter.recordLatency(callType, route, elapsedNanos);
+            }
+            log.error("OpenAI API 호출 실패 - callType: {}, {}", callType, e.getMessage(), e);
+            throw failure;
         }
     }
 
-    public <T> T parseJsonResponse(String content, Class<T> clazz) {
-        try {
-            String cleanedContent = content
-                    .replaceAll("```json\\s*", "")
-                    .replaceAll("```\\s*", "")
-                    .trim();
-
-            return objectMapper.readValue(cleanedContent, clazz);
+    /**
+     * 응답 상태 코드를 보존해 오류 코드로 변환
+     */
+    private static BusinessException toBusinessException(RestClientException e) {
+        if (e instanceof RestClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            String message = "OpenAI API 응답 상태: " + status;
+            if (status == 429) {
+                return new BusinessException(ErrorCode.OPENAI_API_RATE_LIMITED, message);
+            }
+            if (responseException.getStatusCode().is4xxClientError()) {
+                return new BusinessException(ErrorCode.OPENAI_API_REJECTED, message);
+            }
+            return new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED, message);
+        }
+        if (e instanceof ResourceAccessException && e.getCause() instanceof SocketTimeoutException) {
+            return new BusinessException(ErrorCode.OPENAI_API_TIMEOUT);
+        }
+        return new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED);
+    }
 
-        } catch (Exception e) {
-            log.error("JSON 파싱 실패 - content: {}", content, e);
-            throw new BusinessException(ErrorCode.INVALID_JSON_RESPONSE);
+    /**
+     * 호출부가 예외를 다른 오류 코드로 감싸는 catch 블록에서 OpenAI가 거절한 요청(4xx, 429)은 상태를 유지하도록 그대로 전파
+     * 재시도해도 같은 결과이므로 묶음 재시도 등도 하지 않는다.
+     */
+    public static void propagateIfRejected(Throwable e) {
+        if (e instanceof BusinessException businessException
+                && (businessException.getErrorCode() == ErrorCode.OPENAI_API_REJECTED
+                || businessException.getErrorCode() == ErrorCode.OPENAI_API_RATE_LIMITED)) {
+            throw businessException;
         }
     }
 
+    private static boolean isTransient(BusinessException e) {
+        return switch (e.getErrorCode()) {
+            case OPENAI_API_CALL_FAILED, OPENAI_API_TIMEOUT, MESSAGE_GENERATION_FAILED -> true;
+            default -> false;
+        };
+    }
+
+    public <T> T parseJsonResponse(String content, Class<T> clazz) {
+        return openAIJsonParser.parseObject(content, clazz);
+    }
+
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,98 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAITokenizerProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모델 인코딩(BPE)으로 프롬프트 토큰 수를 호출 전에 계산
+ * <p>
+ * 어휘 파일은 인코딩별로 처음 사용할 때 한 번만 읽고, 모델 → 인코딩 매핑도 캐시한다.
+ * 기본 모델 인코딩은 기동 시 미리 읽어 첫 요청이 어휘 로딩 시간을 부담하지 않도록 한다.
+ * 토큰 목록을 만들지 않는 countTokensOrdinary를 사용하며, 프롬프트 안의 특수 토큰 문자열은 일반 텍스트로 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptTokenizer {
+
+    // chat 형식에서 메시지마다 붙는 role/구분자 토큰, 응답 시작 토큰 (OpenAI 가이드 기준)
+    private static final int TOKENS_PER_MESSAGE = 3;
+    private static final int TOKENS_PER_REPLY = 3;
+
+    private final OpenAITokenizerProperties tokenizerProperties;
+    private final OpenAIProperties openAIProperties;
+
+    private final EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
+    private final Map<String, Encoding> encodingsByModel = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        long startedAt = System.nanoTime();
+        Encoding encoding = encodingFor(openAIProperties.getModel());
+        log.info("프롬프트 토크나이저 초기화 - model: {}, encoding: {}, {}ms", openAIProperties.getModel(),
+                encoding.getName(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public int countTokens(String model, String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return encodingFor(model).countTokensOrdinary(text);
+    }
+
+    /**
+     * 요청 메시지 전체의 프롬프트 토큰 수 (메시지 구분 토큰 포함)
+     */
+    public int countPromptTokens(OpenAIRequest request) {
+        Encoding encoding = encodingFor(request.getModel());
+        int tokens = TOKENS_PER_REPLY;
+        for (OpenAIMessage message : request.getMessages()) {
+            tokens += TOKENS_PER_MESSAGE;
+            if (message.getContent() != null) {
+                tokens += encoding.countTokensOrdinary(message.getContent());
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 컨텍스트 윈도우에서 출력 토큰(maxTokens)을 뺀 프롬프트 예산
+     */
+    public int promptBudget(OpenAIRequest request) {
+        int maxTokens = request.getMaxTokens() != null ? request.getMaxTokens() : 0;
+        return tokenizerProperties.getContextWindow() - maxTokens;
+    }
+
+    private Encoding encodingFor(String model) {
+        String key = model != null ? model : "";
+        return encodingsByModel.computeIfAbsent(key, this::resolveEncoding);
+    }
+
+    private Encoding resolveEncoding(String model) {
+        String encodingName = tokenizerProperties.getDefaultEncoding();
+        int matchedLength = -1;
+        for (Map.Entry<String, String> entry : tokenizerProperties.getEncodings().entrySet()) {
+            if (model.startsWith(entry.getKey()) && entry.getKey().length() > matchedLength) {
+                encodingName = entry.getValue();
+                matchedLength = entry.getKey().length();
+            }
+        }
+
+        String resolved = encodingName;
+        EncodingType type = EncodingType.fromName(resolved)
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 토크나이저 인코딩: " + resolved));
+        return registry.getEncoding(type);
+    }
+}
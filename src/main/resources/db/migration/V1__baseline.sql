@@ -0,0 +1,114 @@
+-- 기준 스키마: ddl-auto: update 로 만들어진 기존 스키마와 같은 구조
+-- 이미 테이블이 있는 DB는 baseline-on-migrate 로 V1을 적용된 것으로 표시하고 V2부터 실행한다
+
+CREATE TABLE IF NOT EXISTS `사용자` (
+    user_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    username   VARCHAR(50)  NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    name       VARCHAR(50)  NOT NULL,
+    phone      VARCHAR(30),
+    department VARCHAR(100),
+    role       ENUM ('ADMIN','EXECUTOR') NOT NULL,
+    status     ENUM ('PENDING','APPROVED','REJECTED') NOT NULL,
+    deleted_at DATETIME(6),
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `고객` (
+    customer_id        BIGINT        NOT NULL AUTO_INCREMENT,
+    name               VARCHAR(50)   NOT NULL,
+    phone              VARCHAR(30)   NOT NULL,
+    age                INT,
+    gender             VARCHAR(10),
+    region             VARCHAR(20),
+    membership_level   VARCHAR(20),
+    current_plan       VARCHAR(100),
+    current_device     VARCHAR(100),
+    contract_end_date  DATE,
+    avg_data_usage_gb  DECIMAL(10, 2),
+    join_date          DATETIME(6),
+    last_purchase_date DATETIME(6),
+    created_at         DATETIME(6)   NOT NULL,
+    updated_at         DATETIME(6),
+    PRIMARY KEY (customer_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `상품` (
+    product_id    BIGINT         NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(100)   NOT NULL,
+    category      VARCHAR(50),
+    price         DECIMAL(12, 2),
+    discount_rate DECIMAL(5, 2),
+    benefits      TEXT,
+    stock_status  ENUM ('IN_STOCK','OUT_OF_STOCK','LIMITED'),
+    created_at    DATETIME(6)    NOT NULL,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (product_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `캠페인` (
+    campaign_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT       NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    type        ENUM ('NEW_CUSTOMER','RETENTION','UPSELLING','CROSS_SELLING','CHURN_PREVENTION'),
+    description TEXT,
+    start_date  DATE,
+    end_date    DATE,
+    status      ENUM ('DRAFT','ACTIVE','COMPLETED','CANCELLED') NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (campaign_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `캠페인_상품_매핑` (
+    campaign_id BIGINT      NOT NULL,
+    product_id  BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (campaign_id, product_id),
+    CONSTRAINT fk_campaign_product_campaign FOREIGN KEY (campaign_id) REFERENCES `캠페인` (campaign_id),
+    CONSTRAINT fk_campaign_product_product FOREIGN KEY (product_id) REFERENCES `상품` (product_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `고객세그먼트` (
+    segment_id            BIGINT       NOT NULL AUTO_INCREMENT,
+    segment_name          VARCHAR(100),
+    age_min               INT,
+    age_max               INT,
+    gender                VARCHAR(10),
+    regions               JSON,
+    membership_level      VARCHAR(20),
+    recency_max_days      INT,
+    target_customer_count INT,
+    created_at            DATETIME(6)  NOT NULL,
+    PRIMARY KEY (segment_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `AI생성메시지` (
+    message_id        BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT      NOT NULL,
+    campaign_id       BIGINT,
+    product_id        BIGINT,
+    message_type      VARCHAR(20) NOT NULL,
+    segment_id        BIGINT,
+    customer_id       BIGINT,
+    message_content   TEXT        NOT NULL,
+    message_version   INT         NOT NULL,
+    character_count   INT,
+    tone_id           VARCHAR(20),
+    ai_model_used     VARCHAR(50),
+    generation_prompt TEXT,
+    created_at        DATETIME(6) NOT NULL,
+    updated_at        DATETIME(6),
+    PRIMARY KEY (message_id),
+    CONSTRAINT fk_message_user FOREIGN KEY (user_id) REFERENCES `사용자` (user_id),
+    CONSTRAINT fk_message_campaign FOREIGN KEY (campaign_id) REFERENCES `캠페인` (campaign_id),
+    CONSTRAINT fk_message_product FOREIGN KEY (product_id) REFERENCES `상품` (product_id),
+    CONSTRAINT fk_message_segment FOREIGN KEY (segment_id) REFERENCES `고객세그먼트` (segment_id),
+    CONSTRAINT fk_message_customer FOREIGN KEY (customer_id) REFERENCES `고객` (customer_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,36 @@
+-- 조회 경로별 보조 인덱스
+-- InnoDB 보조 인덱스는 PK를 포함하므로 customer_id/message_id 키셋 페이지네이션과 COUNT를 인덱스만으로 처리할 수 있다
+-- 온라인 DDL(ALGORITHM=INPLACE, LOCK=NONE)로 운영 중에도 쓰기를 막지 않는다
+
+-- 고객: 전화번호 단건 조회(findByPhone)
+-- 세그먼트 필터(CustomerSpecification): 등호 조건(멤버십/성별) → IN(지역) → 범위(나이) 순서, 최근 구매일까지 포함해 COUNT를 커버
+-- 지역+나이만 지정하는 필터가 가장 흔해 지역 선두 인덱스를 따로 두고, 최근 구매일 단독 필터용 인덱스를 추가
+ALTER TABLE `고객`
+    ADD INDEX idx_customer_phone (phone),
+    ADD INDEX idx_customer_segment_filter (membership_level, gender, region, age, last_purchase_date),
+    ADD INDEX idx_customer_region_age (region, age, gender, membership_level, last_purchase_date),
+    ADD INDEX idx_customer_last_purchase (last_purchase_date),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- AI생성메시지: 목록은 모두 created_at DESC 페이지네이션이라 필터 컬럼 뒤에 created_at을 둬 filesort를 없앤다
+-- user_id/campaign_id/product_id 외래키는 아래 인덱스의 선두 컬럼으로 함께 충족된다
+ALTER TABLE `AI생성메시지`
+    ADD INDEX idx_message_created (created_at),
+    ADD INDEX idx_message_user_created (user_id, created_at),
+    ADD INDEX idx_message_campaign_created (campaign_id, created_at),
+    ADD INDEX idx_message_type_created (message_type, created_at),
+    ADD INDEX idx_message_product (product_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 캠페인: 상태별 목록(created_at DESC), 진행 중 캠페인(status + 기간), 기간 조회, 사용자별 목록/중복 이름 확인
+ALTER TABLE `캠페인`
+    ADD INDEX idx_campaign_status_created (status, created_at),
+    ADD INDEX idx_campaign_status_period (status, start_date, end_date),
+    ADD INDEX idx_campaign_period (start_date, end_date),
+    ADD INDEX idx_campaign_user_name (user_id, name),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 캠페인_상품_매핑: PK(campaign_id, product_id)는 상품 기준 조회에 쓸 수 없어 역방향 커버링 인덱스 추가
+ALTER TABLE `캠페인_상품_매핑`
+    ADD INDEX idx_campaign_product_product (product_id, campaign_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
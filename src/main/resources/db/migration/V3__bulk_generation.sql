@@ -0,0 +1,42 @@
+-- 배치 기반 대량 메시지 생성
+-- 작업은 결과 파일에서 반영을 마친 줄 수(checkpoint_line)를 남겨 재기동 후 이어서 반영하고,
+-- 항목은 custom_id로 배치 결과 줄과 연결된다
+
+CREATE TABLE IF NOT EXISTS `대량_생성_작업` (
+    job_id          VARCHAR(40)  NOT NULL,
+    requested_by    VARCHAR(50)  NOT NULL,
+    status          ENUM ('PREPARING','SUBMITTED','INGESTING','COMPLETED','FAILED') NOT NULL,
+    batch_id        VARCHAR(100),
+    item_count      INT          NOT NULL,
+    succeeded_count INT          NOT NULL,
+    failed_count    INT          NOT NULL,
+    checkpoint_line BIGINT       NOT NULL,
+    error_message   VARCHAR(500),
+    submitted_at    DATETIME(6),
+    completed_at    DATETIME(6),
+    version         BIGINT,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6),
+    PRIMARY KEY (job_id),
+    INDEX idx_bulk_generation_job_status (status)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `대량_생성_항목` (
+    item_id               BIGINT       NOT NULL AUTO_INCREMENT,
+    job_id                VARCHAR(40)  NOT NULL,
+    custom_id             VARCHAR(64)  NOT NULL,
+    status                ENUM ('PENDING','SUCCEEDED','FAILED') NOT NULL,
+    campaign_id           BIGINT,
+    product_id            BIGINT,
+    customer_id           BIGINT,
+    tone_id               VARCHAR(20),
+    target_customer_count INT,
+    message_group_id      VARCHAR(50),
+    result_payload        TEXT,
+    error_message         VARCHAR(500),
+    created_at            DATETIME(6)  NOT NULL,
+    updated_at            DATETIME(6),
+    PRIMARY KEY (item_id),
+    CONSTRAINT uk_bulk_generation_item_custom_id UNIQUE (custom_id),
+    INDEX idx_bulk_generation_item_job_status (job_id, status)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,41 @@
+-- 비동기 세그먼트 메시지 생성 작업과 사전 생성 메시지
+-- 기준 스키마(V1) 이후에 추가된 테이블이라, baseline-on-migrate로 V1이 적용된 것으로 표시된 기존 DB에도 생성되도록 분리
+
+CREATE TABLE IF NOT EXISTS `메시지_생성_작업` (
+    job_id          VARCHAR(40)  NOT NULL,
+    requested_by    VARCHAR(50)  NOT NULL,
+    priority        ENUM ('HIGH','NORMAL','LOW') NOT NULL,
+    status          ENUM ('QUEUED','RUNNING','SUCCEEDED','FAILED','CANCELLED') NOT NULL,
+    stage           ENUM ('QUEUED','COUNTING_TARGETS','BUILDING_PROMPT','CALLING_LLM','PARSING_RESPONSE','COMPLETED'),
+    progress        INT          NOT NULL,
+    request_payload TEXT         NOT NULL,
+    result_payload  MEDIUMTEXT,
+    error_message   VARCHAR(500),
+    worker_id       VARCHAR(100),
+    attempt_count   INT          NOT NULL,
+    started_at      DATETIME(6),
+    heartbeat_at    DATETIME(6),
+    completed_at    DATETIME(6),
+    expires_at      DATETIME(6),
+    version         BIGINT,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6),
+    PRIMARY KEY (job_id),
+    INDEX idx_generation_job_status (status, heartbeat_at),
+    INDEX idx_generation_job_expires (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS `사전생성메시지` (
+    pre_generated_message_id BIGINT       NOT NULL AUTO_INCREMENT,
+    campaign_id              BIGINT       NOT NULL,
+    product_id               BIGINT       NOT NULL,
+    tone_id                  VARCHAR(20)  NOT NULL,
+    segment_key              VARCHAR(255) NOT NULL,
+    response_payload         TEXT         NOT NULL,
+    generated_at             DATETIME(6)  NOT NULL,
+    expires_at               DATETIME(6)  NOT NULL,
+    created_at               DATETIME(6)  NOT NULL,
+    updated_at               DATETIME(6),
+    PRIMARY KEY (pre_generated_message_id),
+    CONSTRAINT uk_pre_generated_message UNIQUE (campaign_id, product_id, tone_id, segment_key)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,8 @@
+-- 대량 생성 작업 점유
+-- 여러 인스턴스가 같은 작업을 동시에 폴링/반영하지 않도록 작업을 점유한 인스턴스와 점유 만료 시각을 남긴다
+-- 점유한 인스턴스가 죽으면 lease_until이 지난 뒤 다른 인스턴스가 체크포인트부터 이어받는다
+
+ALTER TABLE `대량_생성_작업`
+    ADD COLUMN worker_id   VARCHAR(100),
+    ADD COLUMN lease_until DATETIME(6),
+    ALGORITHM = INPLACE, LOCK = NONE;
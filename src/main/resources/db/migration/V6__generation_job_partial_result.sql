@@ -0,0 +1,6 @@
+-- 메시지 생성 작업 중간 결과
+-- 응답 파싱 직후(검증/재생성 전) 메시지를 남겨 작업이 끝나기 전에도 조회/구독으로 먼저 볼 수 있게 한다
+
+ALTER TABLE `메시지_생성_작업`
+    ADD COLUMN partial_payload MEDIUMTEXT,
+    ALGORITHM = INPLACE, LOCK = NONE;
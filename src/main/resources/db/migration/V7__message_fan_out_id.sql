@@ -0,0 +1,7 @@
+-- 팬아웃 실행 ID
+-- 팬아웃은 페이지 단위로 커밋하므로 중간에 실패하면 그때까지 저장된 메시지를 이 값으로 찾아 삭제한다
+
+ALTER TABLE `AI생성메시지`
+    ADD COLUMN fan_out_id VARCHAR(40),
+    ADD INDEX idx_message_fan_out (fan_out_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
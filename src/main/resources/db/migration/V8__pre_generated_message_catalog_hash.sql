@@ -0,0 +1,6 @@
+-- 사전 생성 메시지를 만든 시점의 캠페인/상품 내용 해시
+-- 캠페인이나 상품이 수정되면 해시가 달라져 기존 메시지를 쓰지 않는다. 기존 행은 NULL이라 다음 사전 생성 때 갱신된다
+
+ALTER TABLE `사전생성메시지`
+    ADD COLUMN catalog_hash CHAR(64),
+    ALGORITHM = INPLACE, LOCK = NONE;
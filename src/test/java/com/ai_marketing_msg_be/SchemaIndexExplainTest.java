@@ -0,0 +1,223 @@
+package com.ai_marketing_msg_be;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * V2 인덱스가 주요 조회 경로에서 실제로 선택되는지 EXPLAIN으로 확인
+ * <p>
+ * 빈 테이블에서는 옵티마이저가 풀 스캔을 고르므로 MySQL 컨테이너에 마이그레이션을 적용하고
+ * 운영과 비슷한 분포(진행 중 캠페인은 일부, 메시지는 사용자/캠페인별로 분산)의 데이터를 넣은 뒤 통계를 갱신한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaIndexExplainTest {
+
+    private static final int CUSTOMERS = 200_000;
+    private static final int CAMPAIGNS = 20_000;
+    private static final int PRODUCTS = 100;
+    private static final int USERS = 10;
+    private static final int MESSAGES = 200_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            seed(statement);
+            statement.execute("ANALYZE TABLE `고객`, `AI생성메시지`, `캠페인`, `캠페인_상품_매핑`");
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * 캠페인 2%만 ACTIVE, 최근 구매일은 1년에 고르게 분포, 메시지는 사용자 10명/캠페인 전체에 나눠 배정
+     */
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute("SET SESSION cte_max_recursion_depth = " + Math.max(CUSTOMERS, MESSAGES));
+
+        statement.execute("""
+                INSERT INTO `사용자` (username, password, email, name, role, status, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                SELECT CONCAT('user', n), 'password', CONCAT('user', n, '@example.com'), CONCAT('사용자', n),
+                       'EXECUTOR', 'APPROVED', NOW()
+                FROM seq
+                """.formatted(USERS));
+
+        statement.execute("""
+                INSERT INTO `상품` (name, category, price, stock_status, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                SELECT CONCAT('상품', n), 'PLAN', 10000 + n, 'IN_STOCK', NOW()
+                FROM seq
+                """.formatted(PRODUCTS));
+
+        statement.execute("""
+                INSERT INTO `고객` (name, phone, age, gender, region, membership_level, last_purchase_date, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                SELECT CONCAT('고객', n), CONCAT('010-', LPAD(n DIV 10000, 4, '0'), '-', LPAD(n MOD 10000, 4, '0')),
+                       10 + n MOD 70,
+                       ELT(1 + n MOD 2, 'MALE', 'FEMALE'),
+                       ELT(1 + n MOD 17, 'SEOUL', 'GYEONGGI', 'INCHEON', 'BUSAN', 'DAEGU', 'GWANGJU', 'DAEJEON',
+                           'ULSAN', 'SEJONG', 'GANGWON', 'CHUNGBUK', 'CHUNGNAM', 'JEONBUK', 'JEONNAM',
+                           'GYEONGBUK', 'GYEONGNAM', 'JEJU'),
+                       ELT(1 + n MOD 6, 'BASIC', 'WHITE', 'SILVER', 'GOLD', 'VIP', 'VVIP'),
+                       NOW() - INTERVAL (n MOD 365) DAY,
+                       NOW()
+                FROM seq
+                """.formatted(CUSTOMERS));
+
+        statement.execute("""
+                INSERT INTO `캠페인` (user_id, name, type, start_date, end_date, status, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                SELECT 1 + n MOD %d, CONCAT('캠페인', n), 'RETENTION',
+                       CURDATE() - INTERVAL (n MOD 400) DAY, CURDATE() - INTERVAL (n MOD 400) DAY + INTERVAL 30 DAY,
+                       IF(n MOD 50 = 0, 'ACTIVE', ELT(1 + n MOD 3, 'COMPLETED', 'CANCELLED', 'DRAFT')),
+                       NOW() - INTERVAL n MINUTE
+                FROM seq
+                """.formatted(CAMPAIGNS, USERS));
+
+        statement.execute("""
+                INSERT INTO `캠페인_상품_매핑` (campaign_id, product_id, created_at)
+                SELECT campaign_id, 1 + campaign_id MOD %d, NOW() FROM `캠페인`
+                """.formatted(PRODUCTS));
+
+        statement.execute("""
+                INSERT INTO `AI생성메시지` (user_id, campaign_id, product_id, message_type, message_content,
+                                          message_version, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                SELECT 1 + n MOD %d, 1 + n MOD %d, 1 + n MOD %d, ELT(1 + n MOD 2, 'SEGMENT', 'INDIVIDUAL'),
+                       '메시지 본문', 1, NOW() - INTERVAL n SECOND
+                FROM seq
+                """.formatted(MESSAGES, USERS, CAMPAIGNS, PRODUCTS));
+    }
+
+    @Test
+    void findByPhoneUsesPhoneIndex() throws SQLException {
+        Plan plan = explain("SELECT * FROM `고객` WHERE phone = '010-0001-0001'");
+
+        assertThat(plan.key).isEqualTo("idx_customer_phone");
+    }
+
+    @Test
+    void segmentCountWithAllFiltersIsCoveredByIndex() throws SQLException {
+        Plan plan = explain("""
+                SELECT COUNT(*) FROM `고객`
+                WHERE membership_level = 'VIP' AND gender = 'FEMALE' AND region IN ('SEOUL', 'BUSAN')
+                  AND age BETWEEN 30 AND 39 AND last_purchase_date >= NOW() - INTERVAL 90 DAY
+                """);
+
+        assertThat(plan.key).isIn("idx_customer_segment_filter", "idx_customer_region_age");
+        assertThat(plan.extra).contains("Using index");
+    }
+
+    @Test
+    void segmentCountByRegionAndAgeUsesRegionIndex() throws SQLException {
+        Plan plan = explain("""
+                SELECT COUNT(*) FROM `고객`
+                WHERE region IN ('JEJU', 'SEJONG') AND age BETWEEN 20 AND 29
+                """);
+
+        assertThat(plan.key).isEqualTo("idx_customer_region_age");
+        assertThat(plan.type).isEqualTo("range");
+    }
+
+    @Test
+    void segmentKeysetBatchAvoidsFullScan() throws SQLException {
+        Plan plan = explain("""
+                SELECT * FROM `고객`
+                WHERE region IN ('JEJU') AND age BETWEEN 60 AND 69 AND customer_id > 0
+                ORDER BY customer_id LIMIT 1000
+                """);
+
+        assertThat(plan.type).isNotEqualTo("ALL");
+    }
+
+    @Test
+    void recentPurchaseFilterUsesIndex() throws SQLException {
+        Plan plan = explain("SELECT COUNT(*) FROM `고객` WHERE last_purchase_date >= NOW() - INTERVAL 3 DAY");
+
+        assertThat(plan.key).isEqualTo("idx_customer_last_purchase");
+    }
+
+    @Test
+    void messageListIsReadInCreatedAtOrder() throws SQLException {
+        Plan plan = explain("SELECT * FROM `AI생성메시지` ORDER BY created_at DESC LIMIT 20");
+
+        assertThat(plan.key).isEqualTo("idx_message_created");
+        assertThat(plan.extra).doesNotContain("Using filesort");
+    }
+
+    @Test
+    void messagesByUserAreReadInCreatedAtOrder() throws SQLException {
+        Plan plan = explain("SELECT * FROM `AI생성메시지` WHERE user_id = 1 ORDER BY created_at DESC LIMIT 20");
+
+        assertThat(plan.key).isEqualTo("idx_message_user_created");
+        assertThat(plan.extra).doesNotContain("Using filesort");
+    }
+
+    @Test
+    void messagesByCampaignAreReadInCreatedAtOrder() throws SQLException {
+        Plan plan = explain("SELECT * FROM `AI생성메시지` WHERE campaign_id = 1 ORDER BY created_at DESC LIMIT 20");
+
+        assertThat(plan.key).isEqualTo("idx_message_campaign_created");
+        assertThat(plan.extra).doesNotContain("Using filesort");
+    }
+
+    @Test
+    void activeCampaignsUseStatusPeriodIndex() throws SQLException {
+        Plan plan = explain("""
+                SELECT * FROM `캠페인`
+                WHERE status = 'ACTIVE' AND start_date <= CURDATE() AND end_date >= CURDATE()
+                """);
+
+        assertThat(plan.key).isEqualTo("idx_campaign_status_period");
+    }
+
+    @Test
+    void campaignsByProductAreCoveredByReverseIndex() throws SQLException {
+        Plan plan = explain("SELECT campaign_id FROM `캠페인_상품_매핑` WHERE product_id = 1");
+
+        assertThat(plan.key).isEqualTo("idx_campaign_product_product");
+        assertThat(plan.extra).contains("Using index");
+    }
+
+    private Plan explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            assertThat(resultSet.next()).isTrue();
+            return new Plan(resultSet.getString("type"), resultSet.getString("key"),
+                    String.valueOf(resultSet.getString("Extra")));
+        }
+    }
+
+    private record Plan(String type, String key, String extra) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.ai_marketing_msg_be.auth.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ai_marketing_msg_be.auth.details.CustomUserDetails;
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-0123456789";
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100);
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider(verifiedTokenCache);
+        ReflectionTestUtils.setField(provider, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(provider, "ACCESS_TOKEN_EXPIRATION", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(provider, "REFRESH_TOKEN_EXPIRATION", TimeUnit.DAYS.toMillis(14));
+        provider.init();
+    }
+
+    @Test
+    void cachedTokenBuildsNewAuthenticationPerRequest() {
+        String token = provider.generateAccessToken("admin", 1L, "ADMIN");
+
+        Authentication first = provider.authenticate(token);
+        Authentication second = provider.authenticate(token);
+
+        assertThat(verifiedTokenCache.size()).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPrincipal()).isNotSameAs(first.getPrincipal());
+        assertThat(second.getName()).isEqualTo("admin");
+        assertThat(((CustomUserDetails) second.getPrincipal()).getUserId()).isEqualTo(1L);
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void changesToOneRequestAuthenticationDoNotLeakIntoNext() {
+        String token = provider.generateAccessToken("admin", 1L, "ADMIN");
+
+        Authentication first = provider.authenticate(token);
+        first.setAuthenticated(false);
+
+        assertThat(provider.authenticate(token).isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void evictedUserIsVerifiedAgain() {
+        String token = provider.generateAccessToken("admin", 1L, "ADMIN");
+        provider.authenticate(token);
+
+        verifiedTokenCache.evictUser(1L);
+
+        assertThat(verifiedTokenCache.size()).isZero();
+        assertThat(provider.authenticate(token).getName()).isEqualTo("admin");
+        assertThat(verifiedTokenCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tamperedTokenIsRejectedAndNotCached() {
+        String token = provider.generateAccessToken("admin", 1L, "ADMIN");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> provider.authenticate(tampered))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ai_marketing_msg_be.auth.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ai_marketing_msg_be.auth.provider.VerifiedTokenCache.VerifiedClaims;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private static final VerifiedClaims ADMIN = new VerifiedClaims(1L, "admin", "ADMIN");
+    private static final VerifiedClaims EXECUTOR = new VerifiedClaims(2L, "executor", "EXECUTOR");
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    void returnsClaimsForCachedTokenOnly() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, now::get);
+
+        cache.put("token-a", ADMIN, expiresIn(60_000));
+
+        assertThat(cache.get("token-a")).contains(ADMIN);
+        assertThat(cache.get("token-b")).isEmpty();
+    }
+
+    @Test
+    void entryExpiresAtTokenExpiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, now::get);
+        cache.put("token-a", ADMIN, expiresIn(60_000));
+
+        now.addAndGet(59_999);
+        assertThat(cache.get("token-a")).isPresent();
+
+        now.addAndGet(1);
+        assertThat(cache.get("token-a")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, now::get);
+
+        cache.put("token-a", ADMIN, expiresIn(0));
+        cache.put("token-b", ADMIN, null);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void fullCacheEvictsExpiredEntriesBeforeSkipping() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, now::get);
+        cache.put("short", ADMIN, expiresIn(1_000));
+        cache.put("long", ADMIN, expiresIn(60_000));
+
+        cache.put("skipped", EXECUTOR, expiresIn(60_000));
+        assertThat(cache.get("skipped")).isEmpty();
+        assertThat(cache.size()).isEqualTo(2);
+
+        now.addAndGet(1_000);
+        cache.put("stored", EXECUTOR, expiresIn(60_000));
+        assertThat(cache.get("stored")).contains(EXECUTOR);
+        assertThat(cache.get("long")).contains(ADMIN);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictUserRemovesEveryTokenOfThatUser() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, now::get);
+        cache.put("admin-1", ADMIN, expiresIn(60_000));
+        cache.put("admin-2", ADMIN, expiresIn(60_000));
+        cache.put("executor", EXECUTOR, expiresIn(60_000));
+
+        cache.evictUser(1L);
+
+        assertThat(cache.get("admin-1")).isEmpty();
+        assertThat(cache.get("admin-2")).isEmpty();
+        assertThat(cache.get("executor")).contains(EXECUTOR);
+    }
+
+    @Test
+    void zeroMaxSizeDisablesCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, now::get);
+
+        cache.put("token-a", ADMIN, expiresIn(60_000));
+
+        assertThat(cache.get("token-a")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private Date expiresIn(long millis) {
+        return new Date(now.get() + millis);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ai_marketing_msg_be.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ai_marketing_msg_be.config.DataSourceRoutingConfig;
+import com.ai_marketing_msg_be.config.HibernateCacheConfig;
+import com.ai_marketing_msg_be.config.HibernateCacheProperties;
+import com.ai_marketing_msg_be.config.JpaConfig;
+import com.ai_marketing_msg_be.domain.message.entity.GenerationJob;
+import com.ai_marketing_msg_be.domain.message.repository.GenerationJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * OSIV처럼 요청 내내 열린 세션에서 readOnly 조회(복제본) 뒤의 쓰기가 primary로 가는지 확인
+ * <p>
+ * 복제본 풀은 readOnly 커넥션이라, 조회 때 잡은 커넥션을 쓰기에 그대로 쓰면 MySQL이 READ ONLY 트랜잭션 오류를 낸다.
+ * 두 풀 모두 같은 MySQL 컨테이너를 가리키며, Docker가 없으면 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({DataSourceRoutingConfig.class, ReplicaDataSourceProperties.class, JpaConfig.class,
+        HibernateCacheConfig.class, HibernateCacheProperties.class,
+        ReplicationRoutingDataSourceTest.MetricsConfiguration.class})
+class ReplicationRoutingDataSourceTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.url", MYSQL::getJdbcUrl);
+        registry.add("datasource.replica.username", MYSQL::getUsername);
+        registry.add("datasource.replica.password", MYSQL::getPassword);
+        registry.add("datasource.replica.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GenerationJobRepository generationJobRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void writeAfterReadOnlyReadInOpenSessionGoesToPrimary() {
+        GenerationJob saved = generationJobRepository.save(GenerationJob.builder()
+                .jobId("JOB_ROUTING_TEST")
+                .requestedBy("tester")
+                .requestPayload("{}")
+                .build());
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            double replicaBefore = routes("replica");
+            double primaryBefore = routes("primary");
+
+            GenerationJob found = generationJobRepository.findById(saved.getJobId()).orElseThrow();
+            assertThat(routes("replica")).isGreaterThan(replicaBefore);
+
+            found.heartbeat(LocalDateTime.now());
+            generationJobRepository.save(found);
+            assertThat(routes("primary")).isGreaterThan(primaryBefore);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        assertThat(generationJobRepository.findById(saved.getJobId()).orElseThrow().getHeartbeatAt()).isNotNull();
+    }
+
+    private double routes(String target) {
+        return meterRegistry.get("datasource.routing").tag("target", target).counter().count();
+    }
+
+    @TestConfiguration
+    static class MetricsConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ai_marketing_msg_be.common.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+class DeadlineAwareJpaTransactionManagerTest {
+
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final DeadlineAwareJpaTransactionManager transactionManager =
+            new DeadlineAwareJpaTransactionManager(entityManagerFactory);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void expiredDeadlinePropagatesDeadlineExceededWithoutOpeningEntityManager() {
+        RequestDeadline.start(Duration.ZERO);
+
+        assertThatThrownBy(() -> transactionManager.getTransaction(new DefaultTransactionDefinition()))
+                .isInstanceOfSatisfying(BusinessException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.REQUEST_DEADLINE_EXCEEDED));
+        verify(entityManagerFactory, never()).createEntityManager();
+    }
+
+    @Test
+    void timeoutIsLimitedToRemainingTime() {
+        RequestDeadline.start(Duration.ofMillis(2500));
+
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition())).isEqualTo(3);
+
+        DefaultTransactionDefinition shorter = new DefaultTransactionDefinition();
+        shorter.setTimeout(1);
+        assertThat(transactionManager.determineTimeout(shorter)).isEqualTo(1);
+    }
+
+    @Test
+    void timeoutIsUnchangedWithoutDeadline() {
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+}
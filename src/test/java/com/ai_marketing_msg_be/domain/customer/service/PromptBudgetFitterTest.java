@@ -0,0 +1,134 @@
+package com.ai_marketing_msg_be.domain.customer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.domain.customer.config.RecommendationProperties;
+import com.ai_marketing_msg_be.domain.customer.service.PromptBudgetFitter.FittedPrompt;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.service.PromptTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 후보 하나당 프롬프트 10토큰(프롬프트 글자 수 = 토큰 수)으로 두고 예산 안의 가장 긴 앞부분을 고르는지 확인
+ */
+class PromptBudgetFitterTest {
+
+    private static final int TOKENS_PER_CANDIDATE = 10;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger builds = new AtomicInteger();
+    private final Function<List<Integer>, String> promptBuilder = candidates -> {
+        builds.incrementAndGet();
+        return "x".repeat(candidates.size() * TOKENS_PER_CANDIDATE);
+    };
+    private final Function<String, OpenAIRequest> requestBuilder = prompt -> OpenAIRequest.builder()
+            .model("gpt-4o-mini")
+            .messages(List.of(OpenAIMessage.builder().role("user").content(prompt).build()))
+            .build();
+
+    private PromptTokenizer promptTokenizer;
+    private RecommendationProperties recommendationProperties;
+    private PromptBudgetFitter fitter;
+
+    @BeforeEach
+    void setUp() {
+        promptTokenizer = mock(PromptTokenizer.class);
+        when(promptTokenizer.countPromptTokens(any())).thenAnswer(invocation ->
+                invocation.<OpenAIRequest>getArgument(0).getMessages().get(0).getContent().length());
+        when(promptTokenizer.promptBudget(any())).thenReturn(100_000);
+
+        recommendationProperties = new RecommendationProperties();
+        recommendationProperties.setMaxPromptTokens(1_000);
+        fitter = new PromptBudgetFitter(promptTokenizer, recommendationProperties, meterRegistry);
+    }
+
+    @Test
+    void candidatesWithinBudgetAreBuiltOnce() {
+        FittedPrompt<Integer> fitted = fitter.fit("product", candidates(20), promptBuilder, requestBuilder);
+
+        assertThat(fitted.getCandidates()).hasSize(20);
+        assertThat(fitted.getPromptTokens()).isEqualTo(200);
+        assertThat(builds).hasValue(1);
+        assertThat(meterRegistry.find("prompt.truncated").counter()).isNull();
+    }
+
+    @Test
+    void keepsLongestPrefixWithinBudget() {
+        recommendationProperties.setMaxPromptTokens(55);
+
+        FittedPrompt<Integer> fitted = fitter.fit("product", candidates(20), promptBuilder, requestBuilder);
+
+        assertThat(fitted.getCandidates()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(fitted.getPromptTokens()).isEqualTo(50);
+        assertThat(fitted.prompt()).hasSize(50);
+        assertThat(meterRegistry.counter("prompt.truncated", "type", "product").count()).isEqualTo(1);
+    }
+
+    @Test
+    void exactBudgetIsAllowed() {
+        recommendationProperties.setMaxPromptTokens(70);
+
+        assertThat(fitter.fit("campaign", candidates(20), promptBuilder, requestBuilder).getCandidates()).hasSize(7);
+    }
+
+    @Test
+    void searchBuildsLogarithmicNumberOfPrompts() {
+        recommendationProperties.setMaxPromptTokens(3_333);
+
+        FittedPrompt<Integer> fitted = fitter.fit("product", candidates(1_000), promptBuilder, requestBuilder);
+
+        assertThat(fitted.getCandidates()).hasSize(333);
+        // 전체 1회 + 이진 탐색 최대 ceil(log2(1000)) = 10회
+        assertThat(builds.get()).isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    void explicitBudgetOverridesRecommendationBudget() {
+        FittedPrompt<Integer> fitted = fitter.fit("packed", 45, candidates(20), promptBuilder, requestBuilder);
+
+        assertThat(fitted.getCandidates()).containsExactly(1, 2, 3, 4);
+        assertThat(meterRegistry.counter("prompt.truncated", "type", "packed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void smallerContextWindowBudgetWins() {
+        when(promptTokenizer.promptBudget(any())).thenReturn(35);
+
+        assertThat(fitter.fit("product", candidates(20), promptBuilder, requestBuilder).getCandidates())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void keepsFirstCandidateWhenEvenOneExceedsBudget() {
+        recommendationProperties.setMaxPromptTokens(5);
+
+        FittedPrompt<Integer> fitted = fitter.fit("product", candidates(20), promptBuilder, requestBuilder);
+
+        assertThat(fitted.getCandidates()).containsExactly(1);
+        assertThat(fitted.getPromptTokens()).isEqualTo(TOKENS_PER_CANDIDATE);
+    }
+
+    @Test
+    void singleCandidateIsReturnedAsIs() {
+        recommendationProperties.setMaxPromptTokens(5);
+
+        FittedPrompt<Integer> fitted = fitter.fit("product", candidates(1), promptBuilder, requestBuilder);
+
+        assertThat(fitted.getCandidates()).containsExactly(1);
+        assertThat(builds).hasValue(1);
+    }
+
+    private static List<Integer> candidates(int count) {
+        return IntStream.rangeClosed(1, count).boxed().toList();
+    }
+}
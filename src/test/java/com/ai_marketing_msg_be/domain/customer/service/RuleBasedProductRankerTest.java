@@ -0,0 +1,134 @@
+package com.ai_marketing_msg_be.domain.customer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.domain.catalog.service.CatalogSnapshot;
+import com.ai_marketing_msg_be.domain.catalog.vo.ProductView;
+import com.ai_marketing_msg_be.domain.customer.dto.RecommendedProduct;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.entity.MembershipLevel;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RuleBasedProductRankerTest {
+
+    private static final String CURRENT_PLAN = "5G 슬림 10GB";
+
+    private final ProductView currentPlan = product(1L, CURRENT_PLAN, 55000, null);
+    private final ProductView lteUnlimited = product(2L, "LTE 베이직 무제한", 55000, null);
+    private final ProductView standardUnlimited = product(3L, "5G 스탠다드 무제한", 60000, null);
+    private final ProductView premiumUnlimited = product(4L, "5G 프리미엄 무제한", 100000, null);
+    private final ProductView discounted = product(5L, "5G 심플 30GB", 58000, "10");
+
+    private CatalogSnapshot catalogSnapshot;
+    private RuleBasedProductRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        catalogSnapshot = mock(CatalogSnapshot.class);
+        when(catalogSnapshot.getAvailableProducts()).thenReturn(
+                List.of(currentPlan, lteUnlimited, standardUnlimited, premiumUnlimited, discounted));
+        ranker = new RuleBasedProductRanker(catalogSnapshot);
+    }
+
+    @Test
+    void excludesLowerGenerationPlans() {
+        List<RecommendedProduct> ranked = ranker.rank(customer(MembershipLevel.VIP, "5"),
+                List.of(lteUnlimited, standardUnlimited), null);
+
+        assertThat(ranked).extracting(RecommendedProduct::getProductId).containsExactly(3L);
+    }
+
+    @Test
+    void excludesPlansWithLessDataThanUsage() {
+        List<RecommendedProduct> ranked = ranker.rank(customer(MembershipLevel.VIP, "20"),
+                List.of(currentPlan, standardUnlimited, discounted), null);
+
+        assertThat(ranked).extracting(RecommendedProduct::getProductId).containsExactlyInAnyOrder(3L, 5L);
+    }
+
+    @Test
+    void strictMembershipExcludesPlansOutsidePriceBand() {
+        List<RecommendedProduct> ranked = ranker.rank(customer(MembershipLevel.WHITE, "5"),
+                List.of(standardUnlimited, premiumUnlimited), null);
+
+        assertThat(ranked).extracting(RecommendedProduct::getProductId).containsExactly(3L);
+    }
+
+    @Test
+    void vipHasNoPriceBand() {
+        List<RecommendedProduct> ranked = ranker.rank(customer(MembershipLevel.VIP, "5"),
+                List.of(standardUnlimited, premiumUnlimited), null);
+
+        assertThat(ranked).extracting(RecommendedProduct::getProductId).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void returnsTopThreeInScoreOrderWithConsecutiveRanks() {
+        List<RecommendedProduct> ranked = ranker.rank(customer(MembershipLevel.VIP, "5"),
+                List.of(currentPlan, lteUnlimited, standardUnlimited, premiumUnlimited, discounted), null);
+
+        assertThat(ranked).hasSize(3);
+        assertThat(ranked).extracting(RecommendedProduct::getRank).containsExactly(1, 2, 3);
+        assertThat(ranked).extracting(RecommendedProduct::getRelevanceScore)
+                .isSortedAccordingTo((left, right) -> Integer.compare(right, left));
+        assertThat(ranked).extracting(RecommendedProduct::getProductId).doesNotContain(2L);
+    }
+
+    @Test
+    void returnsSameRankingForSameInput() {
+        Customer customer = customer(MembershipLevel.GOLD, "8");
+        List<ProductView> products = List.of(currentPlan, standardUnlimited, premiumUnlimited, discounted);
+
+        assertThat(ranker.rank(customer, products, null))
+                .extracting(RecommendedProduct::getProductId)
+                .containsExactlyElementsOf(ranker.rank(customer, products, null).stream()
+                        .map(RecommendedProduct::getProductId)
+                        .toList());
+    }
+
+    @Test
+    void skipsPriceRulesWhenCurrentPlanIsUnknown() {
+        Customer customer = Customer.builder()
+                .customerId(1L)
+                .name("홍길동")
+                .age(35)
+                .membershipLevel(MembershipLevel.WHITE)
+                .currentPlan("5G 알 수 없는 요금제")
+                .avgDataUsageGb(new BigDecimal("5"))
+                .build();
+
+        List<RecommendedProduct> ranked = ranker.rank(customer, List.of(standardUnlimited, premiumUnlimited), null);
+
+        assertThat(ranked).extracting(RecommendedProduct::getProductId).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    private static Customer customer(MembershipLevel membershipLevel, String avgDataUsageGb) {
+        return Customer.builder()
+                .customerId(1L)
+                .name("홍길동")
+                .age(35)
+                .membershipLevel(membershipLevel)
+                .currentPlan(CURRENT_PLAN)
+                .avgDataUsageGb(new BigDecimal(avgDataUsageGb))
+                .build();
+    }
+
+    private static ProductView product(Long productId, String name, int price, String discountRate) {
+        Product product = Product.builder()
+                .name(name)
+                .category("요금제")
+                .price(BigDecimal.valueOf(price))
+                .discountRate(discountRate != null ? new BigDecimal(discountRate) : null)
+                .benefits("데이터 쉐어링, 멤버십 할인")
+                .build();
+        ReflectionTestUtils.setField(product, "productId", productId);
+        return ProductView.from(product);
+    }
+}
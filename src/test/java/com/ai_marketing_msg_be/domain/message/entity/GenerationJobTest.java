@@ -0,0 +1,65 @@
+package com.ai_marketing_msg_be.domain.message.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class GenerationJobTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    void onlyCurrentRunOwnsJob() {
+        GenerationJob job = job();
+        job.start("worker-a", now);
+
+        assertThat(job.isRunBy("worker-a", 1)).isTrue();
+        assertThat(job.isRunBy("worker-b", 1)).isFalse();
+    }
+
+    @Test
+    void reclaimedJobIsNotOwnedByPreviousRunOnSameWorker() {
+        GenerationJob job = job();
+        job.start("worker-a", now);
+        job.release();
+        job.start("worker-a", now.plusMinutes(5));
+
+        assertThat(job.isRunBy("worker-a", 1)).isFalse();
+        assertThat(job.isRunBy("worker-a", 2)).isTrue();
+    }
+
+    @Test
+    void terminalJobIsNotOwned() {
+        GenerationJob job = job();
+        job.start("worker-a", now);
+        job.cancel(now, now.plusHours(1));
+
+        assertThat(job.isRunBy("worker-a", 1)).isFalse();
+    }
+
+    @Test
+    void partialResultIsClearedOnSuccessAndRelease() {
+        GenerationJob job = job();
+        job.start("worker-a", now);
+        job.updatePartialResult("[]", now);
+        assertThat(job.getPartialPayload()).isEqualTo("[]");
+
+        job.release();
+        assertThat(job.getPartialPayload()).isNull();
+
+        job.start("worker-b", now);
+        job.updatePartialResult("[]", now);
+        job.succeed("{}", now, now.plusHours(1));
+        assertThat(job.getPartialPayload()).isNull();
+        assertThat(job.getResultPayload()).isEqualTo("{}");
+    }
+
+    private static GenerationJob job() {
+        return GenerationJob.builder()
+                .jobId("JOB_TEST")
+                .requestedBy("tester")
+                .requestPayload("{}")
+                .build();
+    }
+}
@@ -0,0 +1,296 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.config.HibernateCacheConfig;
+import com.ai_marketing_msg_be.config.HibernateCacheProperties;
+import com.ai_marketing_msg_be.config.JpaConfig;
+import com.ai_marketing_msg_be.domain.message.config.BulkGenerationProperties;
+import com.ai_marketing_msg_be.domain.message.dto.BulkGenerationJobResponse;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItem;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationItemStatus;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJob;
+import com.ai_marketing_msg_be.domain.message.entity.BulkGenerationJobStatus;
+import com.ai_marketing_msg_be.domain.message.repository.BulkGenerationItemRepository;
+import com.ai_marketing_msg_be.domain.message.repository.BulkGenerationJobRepository;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIBatchProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus.State;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIChoice;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.ai_marketing_msg_be.infra.openai.service.LocalBatchCompletionClient;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIJsonParser;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * LocalBatchCompletionClient로 제출 → 폴링 → 결과 반영 흐름을 실제 스키마(MySQL 컨테이너)에서 확인
+ * <p>
+ * 반영 도중 실패 후 체크포인트부터 이어서 반영하는지, 오류 줄과 결과 파일에 없는 항목이 실패로 정리되는지 본다.
+ * Docker가 없으면 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaConfig.class, HibernateCacheConfig.class, HibernateCacheProperties.class})
+class BulkGenerationPipelineTest {
+
+    private static final int ITEM_COUNT = 7;
+    private static final int CHUNK_SIZE = 2;
+    private static final int ERROR_ITEM = 3;
+    private static final int MISSING_ITEM = 7;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @Autowired
+    private BulkGenerationJobRepository bulkGenerationJobRepository;
+
+    @Autowired
+    private BulkGenerationItemRepository bulkGenerationItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path workDirectory;
+
+    @TempDir
+    private Path batchDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Collection<String>> ingestedCustomIds = new ArrayList<>();
+    private int failOnIngestCall;
+
+    private LocalBatchCompletionClient batchClient;
+    private BulkGenerationService bulkGenerationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("tester", null));
+
+        OpenAIService openAIService = mock(OpenAIService.class);
+        when(openAIService.callChatCompletion(any(), any())).thenAnswer(invocation -> {
+            OpenAIRequest request = invocation.getArgument(1);
+            String prompt = request.getMessages().get(1).getContent();
+            if (prompt.endsWith("-" + ERROR_ITEM)) {
+                throw new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED);
+            }
+            return response("[{\"version\": 1, \"content\": \"" + prompt + " 메시지\"}]");
+        });
+
+        OpenAIBatchProperties batchProperties = new OpenAIBatchProperties();
+        batchProperties.setLocalDirectory(batchDirectory.toString());
+        batchClient = new LocalBatchCompletionClient(openAIService, batchProperties, objectMapper);
+        batchClient.init();
+
+        PromptTemplateEngine promptTemplateEngine = mock(PromptTemplateEngine.class);
+        when(promptTemplateEngine.buildPrompt(any())).thenAnswer(invocation ->
+                invocation.<PromptContext>getArgument(0).getAdditionalContext());
+
+        OpenAIProperties openAIProperties = new OpenAIProperties();
+        openAIProperties.setModel("gpt-4o-mini");
+
+        BulkGenerationProperties bulkProperties = new BulkGenerationProperties();
+        bulkProperties.setWorkDirectory(workDirectory.toString());
+        bulkProperties.setLeaseDuration(Duration.ofMinutes(10));
+        bulkProperties.setIngestChunkSize(CHUNK_SIZE);
+        bulkProperties.setMaxItems(100);
+
+        bulkGenerationService = new BulkGenerationService(bulkGenerationJobRepository, failingItemRepository(),
+                batchClient, promptTemplateEngine, new OpenAIJsonParser(objectMapper), openAIProperties,
+                bulkProperties, objectMapper, new TransactionTemplate(transactionManager), null, null, null);
+        bulkGenerationService.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batchClient.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void resumesFromCheckpointAndFailsErrorAndMissingItems() throws Exception {
+        List<PromptContext> contexts = IntStream.rangeClosed(1, ITEM_COUNT)
+                .mapToObj(i -> PromptContext.builder()
+                        .targetCustomerCount(100)
+                        .additionalContext("요청-" + i)
+                        .build())
+                .toList();
+
+        BulkGenerationJobResponse submitted = bulkGenerationService.submit(contexts);
+        String jobId = submitted.getJobId();
+        String batchId = bulkGenerationJobRepository.findById(jobId).orElseThrow().getBatchId();
+        awaitBatch(batchId);
+        dropResultLine(batchId, customId(jobId, MISSING_ITEM));
+
+        // 두 번째 청크 반영 중 실패: 첫 청크까지만 체크포인트가 남음
+        failOnIngestCall = 2;
+        bulkGenerationService.pollJobs();
+
+        BulkGenerationJob interrupted = bulkGenerationJobRepository.findById(jobId).orElseThrow();
+        assertThat(interrupted.getStatus()).isEqualTo(BulkGenerationJobStatus.INGESTING);
+        assertThat(interrupted.getCheckpointLine()).isEqualTo(CHUNK_SIZE);
+        assertThat(interrupted.getWorkerId()).isNull();
+        assertThat(statuses(jobId)).containsEntry(customId(jobId, 1), BulkGenerationItemStatus.SUCCEEDED)
+                .containsEntry(customId(jobId, 2), BulkGenerationItemStatus.SUCCEEDED)
+                .containsEntry(customId(jobId, 4), BulkGenerationItemStatus.PENDING);
+
+        failOnIngestCall = 0;
+        ingestedCustomIds.clear();
+        bulkGenerationService.pollJobs();
+
+        // 체크포인트 다음 줄(3번 항목)부터 반영
+        assertThat(ingestedCustomIds.get(0)).containsExactlyInAnyOrder(customId(jobId, 3), customId(jobId, 4));
+        assertThat(ingestedCustomIds.stream().flatMap(Collection::stream))
+                .doesNotContain(customId(jobId, 1), customId(jobId, 2));
+
+        BulkGenerationJob finished = bulkGenerationJobRepository.findById(jobId).orElseThrow();
+        assertThat(finished.getStatus()).isEqualTo(BulkGenerationJobStatus.COMPLETED);
+        assertThat(finished.getSucceededCount()).isEqualTo(ITEM_COUNT - 2);
+        assertThat(finished.getFailedCount()).isEqualTo(2);
+        assertThat(finished.getWorkerId()).isNull();
+
+        Map<String, BulkGenerationItem> items = items(jobId);
+        assertThat(items.get(customId(jobId, ERROR_ITEM)).getErrorMessage())
+                .startsWith(ErrorCode.OPENAI_API_CALL_FAILED.name());
+        assertThat(items.get(customId(jobId, MISSING_ITEM)).getErrorMessage()).isEqualTo("배치 결과 없음");
+        assertThat(items.get(customId(jobId, 1)).getResultPayload()).contains("요청-1 메시지");
+
+        try (Stream<Path> files = Files.list(workDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void jobClaimedByAnotherInstanceIsSkipped() throws Exception {
+        BulkGenerationJobResponse submitted = bulkGenerationService.submit(List.of(PromptContext.builder()
+                .targetCustomerCount(10)
+                .additionalContext("요청-1")
+                .build()));
+        String jobId = submitted.getJobId();
+        awaitBatch(bulkGenerationJobRepository.findById(jobId).orElseThrow().getBatchId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> bulkGenerationJobRepository
+                .findById(jobId).orElseThrow()
+                .claim("other-instance", LocalDateTime.now().plusMinutes(5)));
+
+        bulkGenerationService.pollJobs();
+
+        BulkGenerationJob job = bulkGenerationJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(BulkGenerationJobStatus.SUBMITTED);
+        assertThat(job.getWorkerId()).isEqualTo("other-instance");
+        assertThat(ingestedCustomIds).isEmpty();
+    }
+
+    /**
+     * 결과 반영 조회를 기록하고 failOnIngestCall 번째 호출에서 실패시키는 항목 저장소
+     */
+    private BulkGenerationItemRepository failingItemRepository() {
+        BulkGenerationItemRepository repository = mock(BulkGenerationItemRepository.class,
+                delegatesTo(bulkGenerationItemRepository));
+        doAnswer(invocation -> {
+            Collection<String> customIds = invocation.getArgument(0);
+            ingestedCustomIds.add(List.copyOf(customIds));
+            if (ingestedCustomIds.size() == failOnIngestCall) {
+                throw new IllegalStateException("반영 중 장애");
+            }
+            return bulkGenerationItemRepository.findByCustomIdIn(customIds);
+        }).when(repository).findByCustomIdIn(any());
+        return repository;
+    }
+
+    private void awaitBatch(String batchId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!batchClient.getStatus(batchId).getState().isTerminal()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        assertThat(batchClient.getStatus(batchId).getState()).isEqualTo(State.COMPLETED);
+    }
+
+    /**
+     * 만료된 배치처럼 일부 요청의 결과 줄이 없는 결과 파일을 만든다
+     */
+    private void dropResultLine(String batchId, String customId) throws IOException {
+        Path output = batchDirectory.resolve(batchId + ".jsonl");
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.contains("\"" + customId + "\""))
+                .toList();
+        assertThat(lines).hasSize(ITEM_COUNT - 1);
+        Files.write(output, lines, StandardCharsets.UTF_8);
+    }
+
+    private Map<String, BulkGenerationItem> items(String jobId) {
+        return bulkGenerationItemRepository.findAll().stream()
+                .filter(item -> item.getJobId().equals(jobId))
+                .collect(Collectors.toMap(BulkGenerationItem::getCustomId, Function.identity()));
+    }
+
+    private Map<String, BulkGenerationItemStatus> statuses(String jobId) {
+        return items(jobId).values().stream()
+                .collect(Collectors.toMap(BulkGenerationItem::getCustomId, BulkGenerationItem::getStatus));
+    }
+
+    private static String customId(String jobId, int index) {
+        return String.format("%s-%06d", jobId, index);
+    }
+
+    private static OpenAIResponse response(String content) {
+        OpenAIMessage message = OpenAIMessage.builder().role("assistant").content(content).build();
+        return new OpenAIResponse("chatcmpl-test", "chat.completion", 0L, "gpt-4o-mini",
+                List.of(new OpenAIChoice(0, message, "stop")), null);
+    }
+}
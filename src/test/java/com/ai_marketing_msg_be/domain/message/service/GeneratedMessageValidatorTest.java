@@ -0,0 +1,136 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.entity.MembershipLevel;
+import com.ai_marketing_msg_be.domain.message.config.GenerationValidationProperties;
+import com.ai_marketing_msg_be.domain.message.vo.MessageViolation;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GeneratedMessageValidatorTest {
+
+    private static final String BODY = " 이번 달 한정으로 데이터 무제한 혜택을 드립니다. 지금 확인해 보세요.";
+
+    private final Product product = Product.builder()
+            .name("VIP 멤버십 요금제")
+            .benefits("데이터 무제한/OTT 구독 무료")
+            .build();
+
+    private GeneratedMessageValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        GenerationValidationProperties properties = new GenerationValidationProperties();
+        properties.setMinLength(10);
+        properties.setMaxLength(200);
+        properties.setBannedPhrases(List.of("무조건", "100% 보장"));
+        properties.setMinBenefitMentions(1);
+        validator = new GeneratedMessageValidator(properties);
+    }
+
+    @Test
+    void validMessageHasNoViolations() {
+        assertThat(validator.validate("골드 회원님," + BODY, individual(MembershipLevel.GOLD))).isEmpty();
+    }
+
+    @Test
+    void blankMessageIsOnlyEmpty() {
+        assertThat(validator.validate("  ", individual(MembershipLevel.GOLD))).containsExactly(MessageViolation.EMPTY);
+    }
+
+    @Test
+    void lengthIsCheckedOnStrippedText() {
+        assertThat(validator.validate("   짧음   ", individual(MembershipLevel.GOLD)))
+                .contains(MessageViolation.TOO_SHORT);
+        assertThat(validator.validate("가".repeat(201), individual(MembershipLevel.GOLD)))
+                .contains(MessageViolation.TOO_LONG);
+    }
+
+    @Test
+    void pictographicEmojiIsViolation() {
+        assertThat(validator.validate("골드 회원님 🎉" + BODY, individual(MembershipLevel.GOLD)))
+                .containsExactly(MessageViolation.EMOJI);
+        // 텍스트 기호 + 이모지 표현 선택자
+        assertThat(validator.validate("골드 회원님 ☀️" + BODY, individual(MembershipLevel.GOLD)))
+                .containsExactly(MessageViolation.EMOJI);
+    }
+
+    @Test
+    void trademarkSymbolsAndKoreanTextAreNotEmoji() {
+        assertThat(validator.validate("골드 회원님, KT™ 멤버십© 안내입니다." + BODY, individual(MembershipLevel.GOLD)))
+                .isEmpty();
+    }
+
+    @Test
+    void bannedPhraseIsViolation() {
+        assertThat(validator.validate("골드 회원님," + BODY + " 무조건 이득입니다.", individual(MembershipLevel.GOLD)))
+                .containsExactly(MessageViolation.BANNED_PHRASE);
+    }
+
+    @Test
+    void missingBenefitIsViolation() {
+        assertThat(validator.validate("골드 회원님, 이번 달 새로운 요금제 소식을 전해 드립니다.", individual(MembershipLevel.GOLD)))
+                .containsExactly(MessageViolation.MISSING_BENEFIT);
+    }
+
+    @Test
+    void otherMembershipTitleIsViolation() {
+        assertThat(validator.validate("실버 고객님," + BODY, individual(MembershipLevel.GOLD)))
+                .containsExactly(MessageViolation.WRONG_MEMBERSHIP);
+    }
+
+    @Test
+    void productNameContainingMembershipIsNotTitle() {
+        String content = "골드 회원님, VIP 멤버십 요금제로" + BODY;
+
+        assertThat(validator.validate(content, individual(MembershipLevel.GOLD))).isEmpty();
+    }
+
+    @Test
+    void membershipWordWithoutTitleIsNotTitle() {
+        String content = "골드 회원님, 실버 색상 단말 구매 시" + BODY;
+
+        assertThat(validator.validate(content, individual(MembershipLevel.GOLD))).isEmpty();
+    }
+
+    @Test
+    void vipAndVvipAreDistinguished() {
+        assertThat(validator.validate("VIP 고객님," + BODY, individual(MembershipLevel.VIP))).isEmpty();
+        assertThat(validator.validate("VVIP 고객님," + BODY, individual(MembershipLevel.VIP)))
+                .containsExactly(MessageViolation.WRONG_MEMBERSHIP);
+        assertThat(validator.validate("vip 회원님," + BODY, individual(MembershipLevel.VVIP)))
+                .containsExactly(MessageViolation.WRONG_MEMBERSHIP);
+    }
+
+    @Test
+    void segmentTargetMembershipIsParsedCaseInsensitively() {
+        assertThat(validator.validate("골드 회원님," + BODY, segment(" gold "))).isEmpty();
+    }
+
+    @Test
+    void anyMembershipTitleIsViolationWithoutTarget() {
+        assertThat(validator.validate("골드 회원님," + BODY, segment(null)))
+                .containsExactly(MessageViolation.WRONG_MEMBERSHIP);
+        assertThat(validator.validate("고객님," + BODY, segment(null))).isEmpty();
+    }
+
+    private PromptContext individual(MembershipLevel level) {
+        return PromptContext.builder()
+                .customer(Customer.builder().name("홍길동").membershipLevel(level).build())
+                .product(product)
+                .build();
+    }
+
+    private PromptContext segment(String membershipLevel) {
+        return PromptContext.builder()
+                .segmentFilter(SegmentFilterRequest.builder().membershipLevel(membershipLevel).build())
+                .product(product)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
+import com.ai_marketing_msg_be.domain.message.config.FanOutProperties;
+import com.ai_marketing_msg_be.domain.message.dto.FanOutMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.FanOutMessageResponse;
+import com.ai_marketing_msg_be.domain.message.repository.MessageBatchWriter;
+import com.ai_marketing_msg_be.domain.message.vo.FanOutTarget;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.ai_marketing_msg_be.domain.user.entity.User;
+import com.ai_marketing_msg_be.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * 배치 크기 2로 고객 3명(2명 + 1명 페이지)을 팬아웃
+ */
+class MessageFanOutServiceTest {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CampaignRepository campaignRepository = mock(CampaignRepository.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final MessageBatchWriter messageBatchWriter = mock(MessageBatchWriter.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private MessageFanOutService service;
+
+    @BeforeEach
+    void setUp() {
+        FanOutProperties properties = new FanOutProperties();
+        properties.setBatchSize(2);
+        properties.setWorkerCount(2);
+        properties.setQueueCapacity(4);
+        properties.setMaxLength(20);
+
+        service = new MessageFanOutService(customerRepository, campaignRepository, productRepository,
+                userRepository, messageBatchWriter, properties, mock(EntityManager.class), transactionManager);
+        service.init();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("tester", null, List.of()));
+        when(userRepository.findByUsername("tester"))
+                .thenReturn(Optional.of(User.builder().id(7L).username("tester").build()));
+        when(campaignRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.existsById(10L)).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        doReturn(List.of(customer(1L, "김철수"), customer(2L, "가".repeat(20))))
+                .doReturn(List.of(customer(3L, "이영희")))
+                .when(customerRepository).findBy(any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writesEachPageInItsOwnTransaction() {
+        when(messageBatchWriter.writeIndividualMessages(any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(3));
+
+        FanOutMessageResponse response = service.fanOut(request());
+
+        assertThat(response.getProcessedCount()).isEqualTo(3);
+        assertThat(response.getWrittenCount()).isEqualTo(2);
+        assertThat(response.getRejectedCount()).isEqualTo(1);
+        assertThat(response.getFanOutId()).startsWith("FAN_OUT_");
+
+        ArgumentCaptor<FanOutTarget> targets = ArgumentCaptor.forClass(FanOutTarget.class);
+        verify(messageBatchWriter, times(2)).writeIndividualMessages(targets.capture(), any(), any(), eq(1));
+        assertThat(targets.getAllValues()).extracting(FanOutTarget::getFanOutId)
+                .containsOnly(response.getFanOutId());
+        verify(transactionManager, times(2)).commit(any());
+        verify(messageBatchWriter, never()).deleteFanOut(anyString());
+    }
+
+    @Test
+    void failedPageRollsBackAndCommittedPagesAreDeleted() {
+        ArgumentCaptor<FanOutTarget> target = ArgumentCaptor.forClass(FanOutTarget.class);
+        when(messageBatchWriter.writeIndividualMessages(target.capture(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    long[] customerIds = invocation.getArgument(1);
+                    if (customerIds[0] == 3L) {
+                        throw new DataIntegrityViolationException("duplicate");
+                    }
+                    return invocation.getArgument(3);
+                });
+        when(messageBatchWriter.deleteFanOut(anyString())).thenReturn(1L);
+
+        assertThatThrownBy(() -> service.fanOut(request()))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MESSAGE_FAN_OUT_FAILED);
+                    assertThat(e.getMessage()).contains(target.getValue().getFanOutId()).contains("삭제했습니다");
+                });
+        verify(transactionManager).rollback(any());
+        verify(messageBatchWriter).deleteFanOut(target.getValue().getFanOutId());
+    }
+
+    @Test
+    void failedCleanUpKeepsFanOutIdInError() {
+        when(messageBatchWriter.writeIndividualMessages(any(), any(), any(), anyInt()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(messageBatchWriter.deleteFanOut(anyString())).thenThrow(new DataIntegrityViolationException("lock"));
+
+        assertThatThrownBy(() -> service.fanOut(request()))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MESSAGE_FAN_OUT_FAILED);
+                    assertThat(e.getMessage()).contains("FAN_OUT_").contains("삭제하지 못했습니다");
+                });
+    }
+
+    private static FanOutMessageRequest request() {
+        return FanOutMessageRequest.builder()
+                .segmentFilter(SegmentFilterRequest.builder().build())
+                .campaignId(1L)
+                .productId(10L)
+                .messageVersion(1)
+                .templateContent("{name}님 혜택 안내")
+                .build();
+    }
+
+    private static Customer customer(Long customerId, String name) {
+        return Customer.builder().customerId(customerId).name(name).build();
+    }
+}
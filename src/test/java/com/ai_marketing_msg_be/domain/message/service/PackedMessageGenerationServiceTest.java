@@ -0,0 +1,247 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.customer.config.RecommendationProperties;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.customer.repository.CustomerRepository;
+import com.ai_marketing_msg_be.domain.customer.service.PromptBudgetFitter;
+import com.ai_marketing_msg_be.domain.message.config.PackingProperties;
+import com.ai_marketing_msg_be.domain.message.dto.GeneratePackedIndividualMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.PackedIndividualMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.PackedIndividualMessageResponse.CustomerMessageResult;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIChoice;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIUsage;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAICallType;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIJsonParser;
+import com.ai_marketing_msg_be.infra.openai.service.OpenAIService;
+import com.ai_marketing_msg_be.infra.openai.service.PromptTokenizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 프롬프트는 "ids=1,2,3" 형태로 두고 고객 한 명당 입력 100토큰으로 계산
+ * 출력 예산 4000 × 0.9 / 고객당 400토큰 = 9명이지만 maxCustomersPerCall 4로 제한되어 기본 묶음 크기는 4
+ */
+class PackedMessageGenerationServiceTest {
+
+    private static final int TOKENS_PER_CUSTOMER = 100;
+
+    private final OpenAIService openAIService = mock(OpenAIService.class);
+    private final PromptTemplateEngine promptTemplateEngine = mock(PromptTemplateEngine.class);
+    private final GenerationUsageStats generationUsageStats = mock(GenerationUsageStats.class);
+    private final PromptTokenizer promptTokenizer = mock(PromptTokenizer.class);
+    private final CampaignRepository campaignRepository = mock(CampaignRepository.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** 호출마다 프롬프트에 담긴 고객 ID */
+    private final List<List<Long>> calls = new ArrayList<>();
+
+    private PackingProperties packingProperties;
+    private PackedMessageGenerationService service;
+
+    @BeforeEach
+    void setUp() {
+        OpenAIProperties openAIProperties = new OpenAIProperties();
+        openAIProperties.setModel("gpt-4o-mini");
+        openAIProperties.setMaxTokens(4000);
+        openAIProperties.setTemperature(0.7);
+
+        packingProperties = new PackingProperties();
+        packingProperties.setMaxCustomersPerCall(4);
+        packingProperties.setEstimatedTokensPerCustomer(400);
+        packingProperties.setBudgetUtilization(0.9);
+        packingProperties.setMaxRetries(2);
+        packingProperties.setMaxMessageLength(20);
+        packingProperties.setMaxPromptTokens(100_000);
+
+        when(promptTemplateEngine.buildPackedIndividualPrompt(any(), anyList())).thenAnswer(invocation ->
+                "ids=" + invocation.<List<Customer>>getArgument(1).stream()
+                        .map(customer -> String.valueOf(customer.getCustomerId()))
+                        .collect(Collectors.joining(",")));
+        when(promptTokenizer.countPromptTokens(any())).thenAnswer(invocation ->
+                idsOf(invocation.getArgument(0)).size() * TOKENS_PER_CUSTOMER);
+        when(promptTokenizer.promptBudget(any())).thenReturn(100_000);
+
+        when(campaignRepository.findById(1L)).thenReturn(Optional.of(mock(Campaign.class)));
+        when(productRepository.findById(10L)).thenReturn(Optional.of(mock(Product.class)));
+
+        PromptBudgetFitter promptBudgetFitter =
+                new PromptBudgetFitter(promptTokenizer, new RecommendationProperties(), meterRegistry);
+        service = new PackedMessageGenerationService(openAIService, promptTemplateEngine, openAIProperties,
+                packingProperties, generationUsageStats, new OpenAIJsonParser(new ObjectMapper()),
+                promptBudgetFitter, campaignRepository, productRepository, customerRepository);
+    }
+
+    @Test
+    void parsesKeyedResponseForEveryCustomerInOneCall() {
+        respondWith(ids -> reply("```json\n" + keyedJson(ids, id -> validMessages()) + "\n```", "stop"));
+
+        PackedIndividualMessageResponse response = service.generatePackedIndividualMessages(request(3));
+
+        assertThat(calls).containsExactly(List.of(1L, 2L, 3L));
+        assertThat(response.getFailedCount()).isZero();
+        assertThat(response.getPackSize()).isEqualTo(4);
+        assertThat(response.getLlmCallCount()).isEqualTo(1);
+        assertThat(response.getTotalTokens()).isEqualTo(100);
+        assertThat(response.getResults()).extracting(CustomerMessageResult::getCustomerId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(response.getResults()).allSatisfy(result -> {
+            assertThat(result.getSuccess()).isTrue();
+            assertThat(result.getGenerated().getMessages()).hasSize(3);
+        });
+    }
+
+    @Test
+    void retriesOnlyCustomersMissingOrInvalidInResponse() {
+        respondWith(ids -> calls.size() == 1
+                // 2번 누락, 3번은 2개 버전만 반환
+                ? reply(keyedJson(List.of(1L, 3L), id -> id == 1L ? validMessages()
+                        : message(1, "안녕하세요") + "," + message(2, "반가워요")), "stop")
+                : reply(keyedJson(ids, id -> validMessages()), "stop"));
+
+        PackedIndividualMessageResponse response = service.generatePackedIndividualMessages(request(3));
+
+        assertThat(calls).containsExactly(List.of(1L, 2L, 3L), List.of(2L, 3L));
+        assertThat(response.getFailedCount()).isZero();
+        assertThat(response.getLlmCallCount()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(CustomerMessageResult::getSuccess)
+                .containsOnly(true);
+    }
+
+    @Test
+    void truncatedResponseHalvesPackSizeForRemainingPacks() {
+        respondWith(ids -> calls.size() == 1
+                // 토큰 한도로 잘려 앞의 두 명만 완성
+                ? reply(keyedJson(ids.subList(0, 2), id -> validMessages()), "length")
+                : reply(keyedJson(ids, id -> validMessages()), "stop"));
+
+        PackedIndividualMessageResponse response = service.generatePackedIndividualMessages(request(8));
+
+        assertThat(calls).containsExactly(
+                List.of(1L, 2L, 3L, 4L),
+                List.of(5L, 6L),
+                List.of(7L, 8L),
+                List.of(3L, 4L));
+        assertThat(response.getFailedCount()).isZero();
+        assertThat(response.getPackSize()).isEqualTo(4);
+    }
+
+    @Test
+    void splitsPackWhenPromptExceedsInputTokenBudget() {
+        packingProperties.setMaxPromptTokens(250);
+        respondWith(ids -> reply(keyedJson(ids, id -> validMessages()), "stop"));
+
+        PackedIndividualMessageResponse response = service.generatePackedIndividualMessages(request(5));
+
+        assertThat(calls).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(response.getFailedCount()).isZero();
+        assertThat(meterRegistry.counter("prompt.truncated", "type", "packed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void customerFailingEveryAttemptIsReportedAsFailure() {
+        respondWith(ids -> reply(keyedJson(ids, id -> id == 2L ? tooLongMessages() : validMessages()), "stop"));
+
+        PackedIndividualMessageResponse response = service.generatePackedIndividualMessages(request(2));
+
+        assertThat(calls).containsExactly(List.of(1L, 2L), List.of(2L), List.of(2L));
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(CustomerMessageResult::getSuccess)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void failedCallIsRetriedWithSameCustomers() {
+        respondWith(ids -> {
+            if (calls.size() == 1) {
+                throw new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED);
+            }
+            return reply(keyedJson(ids, id -> validMessages()), "stop");
+        });
+
+        PackedIndividualMessageResponse response = service.generatePackedIndividualMessages(request(2));
+
+        assertThat(calls).containsExactly(List.of(1L, 2L), List.of(1L, 2L));
+        assertThat(response.getFailedCount()).isZero();
+        assertThat(response.getTotalTokens()).isEqualTo(100);
+    }
+
+    private void respondWith(Function<List<Long>, OpenAIResponse> responder) {
+        when(openAIService.callChatCompletion(eq(OpenAICallType.PACKED_MESSAGE), any())).thenAnswer(invocation -> {
+            List<Long> ids = idsOf(invocation.getArgument(1));
+            calls.add(ids);
+            return responder.apply(ids);
+        });
+    }
+
+    private GeneratePackedIndividualMessageRequest request(int customerCount) {
+        List<Long> customerIds = LongStream.rangeClosed(1, customerCount).boxed().toList();
+        when(customerRepository.findAllById(customerIds)).thenReturn(customerIds.stream()
+                .map(id -> Customer.builder().customerId(id).name("고객" + id).build())
+                .toList());
+        return GeneratePackedIndividualMessageRequest.builder()
+                .customerIds(customerIds)
+                .campaignId(1L)
+                .productId(10L)
+                .build();
+    }
+
+    private static List<Long> idsOf(OpenAIRequest request) {
+        String prompt = request.getMessages().get(request.getMessages().size() - 1).getContent();
+        return Arrays.stream(prompt.substring("ids=".length()).split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private static OpenAIResponse reply(String content, String finishReason) {
+        OpenAIChoice choice = new OpenAIChoice(0,
+                OpenAIMessage.builder().role("assistant").content(content).build(), finishReason);
+        return new OpenAIResponse("chatcmpl-test", "chat.completion", 0L, "gpt-4o-mini", List.of(choice),
+                new OpenAIUsage(50, 50, 100, null));
+    }
+
+    private static String keyedJson(List<Long> ids, Function<Long, String> messages) {
+        return ids.stream()
+                .map(id -> "\"" + id + "\":[" + messages.apply(id) + "]")
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private static String validMessages() {
+        return message(1, "안녕하세요") + "," + message(2, "반가워요") + "," + message(3, "혜택 안내");
+    }
+
+    private static String tooLongMessages() {
+        return message(1, "가".repeat(21)) + "," + message(2, "반가워요") + "," + message(3, "혜택 안내");
+    }
+
+    private static String message(int version, String content) {
+        return "{\"version\":" + version + ",\"content\":\"" + content + "\"}";
+    }
+}
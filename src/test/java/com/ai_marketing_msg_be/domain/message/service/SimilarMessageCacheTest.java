@@ -0,0 +1,166 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.catalog.service.CatalogSnapshot;
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest.AgeRange;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import com.ai_marketing_msg_be.domain.message.config.SimilarityCacheProperties;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.service.SimilarMessageCache.Match;
+import com.ai_marketing_msg_be.domain.message.vo.PromptContext;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SimilarMessageCacheTest {
+
+    private static final String CONTEXT = "20대 직장인 대상 데이터 무제한 요금제 홍보";
+
+    private final Campaign campaign = mock(Campaign.class);
+    private final Product product = Product.builder().name("5G 프리미엄").benefits("데이터 무제한").build();
+
+    private SimilarityCacheProperties properties;
+    private CatalogSnapshot catalogSnapshot;
+    private SimilarMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(campaign.getCampaignId()).thenReturn(1L);
+        ReflectionTestUtils.setField(product, "productId", 10L);
+
+        properties = new SimilarityCacheProperties();
+        properties.setEnabled(true);
+        properties.setThreshold(0.8);
+        properties.setMaxEntries(1_000);
+        properties.setTtl(Duration.ofHours(1));
+        properties.setHashesPerSection(64);
+        properties.setBandsPerSection(8);
+        properties.setRowsPerBand(6);
+        properties.setMaxEntriesPerBand(16);
+
+        catalogSnapshot = mock(CatalogSnapshot.class);
+        when(catalogSnapshot.getVersion()).thenReturn(1L);
+        cache = new SimilarMessageCache(properties, catalogSnapshot);
+    }
+
+    @Test
+    void identicalRequestIsReusedWithFullSimilarity() {
+        cache.put(segment(20, 39, "F", CONTEXT), response("A"));
+
+        Optional<Match> match = cache.find(segment(20, 39, "F", CONTEXT));
+
+        assertThat(match).isPresent();
+        assertThat(match.get().getResponse().getMessageGroupId()).isEqualTo("A");
+        assertThat(match.get().getSimilarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void punctuationAndCaseDifferencesAreIgnored() {
+        cache.put(segment(20, 39, "F", CONTEXT), response("A"));
+
+        assertThat(cache.find(segment(20, 39, "F", "  20대 직장인 대상, 데이터 무제한 요금제 홍보!  ")))
+                .map(Match::getSimilarity)
+                .hasValue(1.0);
+    }
+
+    @Test
+    void adjacentAgeRangeIsWithinThreshold() {
+        cache.put(segment(20, 39, "F", CONTEXT), response("A"));
+
+        Optional<Match> match = cache.find(segment(20, 40, "F", CONTEXT));
+
+        assertThat(match).isPresent();
+        assertThat(match.get().getSimilarity()).isGreaterThanOrEqualTo(0.8).isLessThan(1.0);
+    }
+
+    @Test
+    void distantAgeRangeOrDifferentContextIsNotReused() {
+        cache.put(segment(20, 29, "F", CONTEXT), response("A"));
+
+        assertThat(cache.find(segment(40, 49, "F", CONTEXT))).isEmpty();
+        assertThat(cache.find(segment(20, 29, "F", "60대 이상 부모님 대상 효도폰 할인 안내"))).isEmpty();
+        assertThat(cache.find(segment(20, 29, "F", null))).isEmpty();
+    }
+
+    @Test
+    void exactConditionsMustMatch() {
+        cache.put(segment(20, 39, "F", CONTEXT), response("A"));
+
+        assertThat(cache.find(segment(20, 39, "M", CONTEXT))).isEmpty();
+    }
+
+    @Test
+    void catalogContentChangeInvalidatesEntries() {
+        cache.put(segment(20, 39, "F", CONTEXT), response("A"));
+
+        when(catalogSnapshot.getVersion()).thenReturn(2L);
+
+        assertThat(cache.find(segment(20, 39, "F", CONTEXT))).isEmpty();
+    }
+
+    @Test
+    void disabledCacheAndIndividualRequestsAreNotCached() {
+        PromptContext individual = PromptContext.builder()
+                .customer(Customer.builder().name("홍길동").build())
+                .campaign(campaign)
+                .product(product)
+                .build();
+        cache.put(individual, response("I"));
+        assertThat(cache.find(individual)).isEmpty();
+
+        cache.put(segment(20, 39, "F", CONTEXT), response("A"));
+        properties.setEnabled(false);
+        assertThat(cache.find(segment(20, 39, "F", CONTEXT))).isEmpty();
+    }
+
+    @Test
+    void mostRecentEntryWinsAmongIdenticalRequests() {
+        for (int i = 1; i <= 40; i++) {
+            cache.put(segment(null, null, "F", null), response("G" + i));
+        }
+
+        assertThat(cache.find(segment(null, null, "F", null)))
+                .map(match -> match.getResponse().getMessageGroupId())
+                .hasValue("G40");
+    }
+
+    @Test
+    void entryStaysReachableWhenSharedBandsAreCapped() {
+        cache.put(segment(20, 39, "F", CONTEXT), response("A"));
+        // 같은 연령 밴드에 상한보다 많은 항목이 몰려 A가 연령 밴드에서는 밀려남
+        for (int i = 0; i < 50; i++) {
+            cache.put(segment(20, 39, "F", "다른 캠페인 문구 " + i + "번 안내"), response("B" + i));
+        }
+
+        assertThat(cache.find(segment(20, 39, "F", CONTEXT)))
+                .map(match -> match.getResponse().getMessageGroupId())
+                .hasValue("A");
+    }
+
+    private PromptContext segment(Integer minAge, Integer maxAge, String gender, String additionalContext) {
+        SegmentFilterRequest filter = SegmentFilterRequest.builder()
+                .ageRange(minAge == null && maxAge == null ? null : AgeRange.builder().min(minAge).max(maxAge).build())
+                .gender(gender)
+                .regions(List.of("서울"))
+                .build();
+        return PromptContext.builder()
+                .segmentFilter(filter)
+                .campaign(campaign)
+                .product(product)
+                .additionalContext(additionalContext)
+                .build();
+    }
+
+    private static GenerateMessageResponse response(String messageGroupId) {
+        return GenerateMessageResponse.builder().messageGroupId(messageGroupId).messages(List.of()).build();
+    }
+}
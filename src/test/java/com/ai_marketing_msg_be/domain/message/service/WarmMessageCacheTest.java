@@ -0,0 +1,156 @@
+package com.ai_marketing_msg_be.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.domain.campaign.entity.Campaign;
+import com.ai_marketing_msg_be.domain.campaign.entity.CampaignType;
+import com.ai_marketing_msg_be.domain.campaign.repository.CampaignRepository;
+import com.ai_marketing_msg_be.domain.customer.dto.SegmentFilterRequest;
+import com.ai_marketing_msg_be.domain.message.config.PreGenerationProperties;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateMessageResponse;
+import com.ai_marketing_msg_be.domain.message.dto.GenerateSegmentMessageRequest;
+import com.ai_marketing_msg_be.domain.message.dto.GeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.entity.PreGeneratedMessage;
+import com.ai_marketing_msg_be.domain.message.repository.PreGeneratedMessageRepository;
+import com.ai_marketing_msg_be.domain.product.entity.Product;
+import com.ai_marketing_msg_be.domain.product.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class WarmMessageCacheTest {
+
+    private final PreGeneratedMessageRepository preGeneratedMessageRepository =
+            mock(PreGeneratedMessageRepository.class);
+    private final CampaignRepository campaignRepository = mock(CampaignRepository.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final GenerateSegmentMessageRequest request = GenerateSegmentMessageRequest.builder()
+            .campaignId(1L)
+            .productId(10L)
+            .segmentFilter(SegmentFilterRequest.builder().gender("female").build())
+            .build();
+
+    private WarmMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        PreGenerationProperties properties = new PreGenerationProperties();
+        properties.setTtl(Duration.ofHours(12));
+        cache = new WarmMessageCache(preGeneratedMessageRepository, properties, objectMapper,
+                campaignRepository, productRepository);
+
+        when(campaignRepository.findById(1L)).thenReturn(Optional.of(campaign("봄맞이 이벤트")));
+        when(productRepository.findById(10L)).thenReturn(Optional.of(product(new BigDecimal("55000"))));
+    }
+
+    @Test
+    void entryGeneratedFromCurrentCatalogIsReturned() throws Exception {
+        stored(WarmMessageCache.catalogHash(campaign("봄맞이 이벤트"), product(new BigDecimal("55000"))));
+
+        assertThat(cache.find(request)).get()
+                .extracting(GenerateMessageResponse::getMessageGroupId)
+                .isEqualTo("MSG_GROUP_STORED");
+    }
+
+    @Test
+    void entryGeneratedBeforeCampaignChangeIsIgnored() throws Exception {
+        stored(WarmMessageCache.catalogHash(campaign("겨울 이벤트"), product(new BigDecimal("55000"))));
+
+        assertThat(cache.find(request)).isEmpty();
+        assertThat(cache.isValidUntil(request, LocalDateTime.now())).isFalse();
+    }
+
+    @Test
+    void entryWithoutCatalogHashIsIgnored() throws Exception {
+        stored(null);
+
+        assertThat(cache.find(request)).isEmpty();
+    }
+
+    @Test
+    void priceScaleDoesNotChangeHash() {
+        assertThat(WarmMessageCache.catalogHash(campaign("봄맞이 이벤트"), product(new BigDecimal("55000.00"))))
+                .isEqualTo(WarmMessageCache.catalogHash(campaign("봄맞이 이벤트"), product(new BigDecimal("55000"))));
+        assertThat(WarmMessageCache.catalogHash(campaign("봄맞이 이벤트"), product(new BigDecimal("49000"))))
+                .isNotEqualTo(WarmMessageCache.catalogHash(campaign("봄맞이 이벤트"), product(new BigDecimal("55000"))));
+    }
+
+    @Test
+    void storeRecordsCurrentCatalogHash() {
+        when(preGeneratedMessageRepository.findByCampaignIdAndProductIdAndToneIdAndSegmentKey(
+                eq(1L), eq(10L), anyString(), anyString())).thenReturn(Optional.empty());
+
+        cache.store(request, response("MSG_GROUP_NEW"));
+
+        ArgumentCaptor<PreGeneratedMessage> saved = ArgumentCaptor.forClass(PreGeneratedMessage.class);
+        verify(preGeneratedMessageRepository).save(saved.capture());
+        assertThat(saved.getValue().getCatalogHash())
+                .isEqualTo(WarmMessageCache.catalogHash(campaign("봄맞이 이벤트"), product(new BigDecimal("55000"))))
+                .hasSize(64);
+    }
+
+    @Test
+    void storeIsSkippedWhenProductIsMissing() {
+        when(productRepository.findById(10L)).thenReturn(Optional.empty());
+
+        cache.store(request, response("MSG_GROUP_NEW"));
+
+        verify(preGeneratedMessageRepository, never()).save(any());
+    }
+
+    private void stored(String catalogHash) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        PreGeneratedMessage entry = PreGeneratedMessage.builder()
+                .campaignId(1L)
+                .productId(10L)
+                .toneId("TONE001")
+                .segmentKey("key")
+                .catalogHash(catalogHash)
+                .responsePayload(objectMapper.writeValueAsString(response("MSG_GROUP_STORED")))
+                .generatedAt(now)
+                .expiresAt(now.plusHours(12))
+                .build();
+        when(preGeneratedMessageRepository.findByCampaignIdAndProductIdAndToneIdAndSegmentKey(
+                eq(1L), eq(10L), anyString(), anyString())).thenReturn(Optional.of(entry));
+    }
+
+    private static GenerateMessageResponse response(String messageGroupId) {
+        return GenerateMessageResponse.of(messageGroupId, List.of(GeneratedMessage.of(1, "안녕하세요")), 120);
+    }
+
+    private static Campaign campaign(String name) {
+        return Campaign.builder()
+                .name(name)
+                .type(CampaignType.RETENTION)
+                .description("봄 시즌 혜택")
+                .startDate(LocalDate.of(2026, 3, 1))
+                .endDate(LocalDate.of(2026, 3, 31))
+                .build();
+    }
+
+    private static Product product(BigDecimal price) {
+        return Product.builder()
+                .name("5G 프리미엄")
+                .category("요금제")
+                .price(price)
+                .discountRate(new BigDecimal("10"))
+                .benefits("데이터 무제한, OTT 구독")
+                .build();
+    }
+}
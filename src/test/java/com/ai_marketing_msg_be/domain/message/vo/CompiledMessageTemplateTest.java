@@ -0,0 +1,104 @@
+package com.ai_marketing_msg_be.domain.message.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.domain.customer.entity.Customer;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class CompiledMessageTemplateTest {
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private final Customer customer = Customer.builder()
+            .customerId(1L)
+            .name("홍길동")
+            .currentPlan("5G 프리미엄")
+            .currentDevice("갤럭시 S24")
+            .lastPurchaseDate(LocalDateTime.now().minusDays(3))
+            .build();
+
+    @Test
+    void rendersAllSlots() {
+        CompiledMessageTemplate template = CompiledMessageTemplate.compile(
+                "{name}님, {plan} 이용 중인 {device} 고객께 {recency}일 만의 혜택!");
+
+        int length = template.render(customer, buffer);
+
+        assertThat(buffer.toString()).isEqualTo("홍길동님, 5G 프리미엄 이용 중인 갤럭시 S24 고객께 3일 만의 혜택!");
+        assertThat(length).isEqualTo(buffer.length());
+        assertThat(template.hasSlots()).isTrue();
+    }
+
+    @Test
+    void missingCustomerValuesUseDefaults() {
+        CompiledMessageTemplate template = CompiledMessageTemplate.compile("{name}/{plan}/{device}/{recency}");
+
+        template.render(Customer.builder().customerId(2L).build(), buffer);
+
+        assertThat(buffer.toString()).isEqualTo("고객/현재 요금제/현재 단말/-");
+    }
+
+    @Test
+    void literalLengthExcludesSlots() {
+        assertThat(CompiledMessageTemplate.compile("{name}님 안녕하세요").getLiteralLength()).isEqualTo(7);
+    }
+
+    @Test
+    void templateWithoutSlotsIsRenderedAsIs() {
+        CompiledMessageTemplate template = CompiledMessageTemplate.compile("이번 달 요금제 혜택을 확인하세요.");
+
+        template.render(customer, buffer);
+
+        assertThat(template.hasSlots()).isFalse();
+        assertThat(buffer.toString()).isEqualTo("이번 달 요금제 혜택을 확인하세요.");
+    }
+
+    @Test
+    void doubledBracesAreLiteralBraces() {
+        CompiledMessageTemplate template = CompiledMessageTemplate.compile("{{name}}은 {name}님으로 바뀝니다 }} {{");
+
+        template.render(customer, buffer);
+
+        assertThat(buffer.toString()).isEqualTo("{name}은 홍길동님으로 바뀝니다 } {");
+        assertThat(template.getLiteralLength()).isEqualTo(buffer.length() - "홍길동".length());
+    }
+
+    @Test
+    void unclosedAndStrayBracesStayLiteral() {
+        CompiledMessageTemplate template = CompiledMessageTemplate.compile("} 혜택 {name 안내");
+
+        template.render(customer, buffer);
+
+        assertThat(template.hasSlots()).isFalse();
+        assertThat(buffer.toString()).isEqualTo("} 혜택 {name 안내");
+    }
+
+    @Test
+    void unknownSlotIsRejected() {
+        assertThatThrownBy(() -> CompiledMessageTemplate.compile("{name}님 {coupon} 쿠폰 도착"))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_MESSAGE_TEMPLATE);
+                    assertThat(e.getMessage()).contains("{coupon}");
+                });
+    }
+
+    @Test
+    void blankTemplateIsRejected() {
+        assertThatThrownBy(() -> CompiledMessageTemplate.compile("  "))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void renderReplacesPreviousBufferContent() {
+        CompiledMessageTemplate template = CompiledMessageTemplate.compile("{name}님");
+        buffer.append("이전 고객 메시지");
+
+        template.render(customer, buffer);
+
+        assertThat(buffer.toString()).isEqualTo("홍길동님");
+    }
+}
@@ -0,0 +1,121 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIBatchProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchRequestLine;
+import com.ai_marketing_msg_be.infra.openai.dto.BatchStatus.State;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIChoice;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalBatchCompletionClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OpenAIService openAIService = mock(OpenAIService.class);
+
+    @TempDir
+    private Path batchDirectory;
+
+    @TempDir
+    private Path inputDirectory;
+
+    private LocalBatchCompletionClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        OpenAIBatchProperties batchProperties = new OpenAIBatchProperties();
+        batchProperties.setLocalDirectory(batchDirectory.toString());
+        client = new LocalBatchCompletionClient(openAIService, batchProperties, objectMapper);
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        client.shutdown();
+    }
+
+    @Test
+    void completedBatchWritesOneResultLinePerRequest() throws Exception {
+        when(openAIService.callChatCompletion(any(), any())).thenReturn(response("[]"));
+
+        String batchId = client.submit(inputFile(3));
+        State state = await(batchId);
+
+        assertThat(state).isEqualTo(State.COMPLETED);
+        Path target = inputDirectory.resolve("result.jsonl");
+        client.downloadResults(client.getStatus(batchId), target);
+        assertThat(Files.readAllLines(target, StandardCharsets.UTF_8)).hasSize(3);
+    }
+
+    @Test
+    void interruptedBatchIsReportedFailedAndLeavesNoFiles() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(openAIService.callChatCompletion(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            // 종료 인터럽트가 올 때까지 응답이 늦는 호출
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.onSpinWait();
+            }
+            return response("[]");
+        });
+
+        String batchId = client.submit(inputFile(3));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        client.shutdown();
+
+        assertThat(await(batchId)).isEqualTo(State.FAILED);
+        assertThat(client.getStatus(batchId).getOutputFileId()).isNull();
+        try (Stream<Path> files = Files.list(batchDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private State await(String batchId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        State state;
+        while (!(state = client.getStatus(batchId).getState()).isTerminal()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        return state;
+    }
+
+    private Path inputFile(int requests) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= requests; i++) {
+            lines.add(objectMapper.writeValueAsString(BatchRequestLine.builder()
+                    .customId("item-" + i)
+                    .body(OpenAIRequest.builder().model("gpt-4o-mini").build())
+                    .build()));
+        }
+        Path input = inputDirectory.resolve("input.jsonl");
+        Files.write(input, lines, StandardCharsets.UTF_8);
+        return input;
+    }
+
+    private static OpenAIResponse response(String content) {
+        OpenAIMessage message = OpenAIMessage.builder().role("assistant").content(content).build();
+        return new OpenAIResponse("chatcmpl-test", "chat.completion", 0L, "gpt-4o-mini",
+                List.of(new OpenAIChoice(0, message, "stop")), null);
+    }
+}
@@ -0,0 +1,164 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIRoutingProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIRoutingProperties.Route;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ModelRouterTest {
+
+    private static final long OVER_SLO_NANOS = Duration.ofSeconds(10).toNanos();
+    private static final long UNDER_SLO_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final OpenAIRequest request = OpenAIRequest.builder()
+            .model("gpt-4o")
+            .maxTokens(2000)
+            .build();
+
+    private OpenAIRoutingProperties properties;
+    private OpenAIRateLimiter rateLimiter;
+    private ModelRouter router;
+    private Route route;
+
+    @BeforeEach
+    void setUp() {
+        route = new Route();
+        route.setModel("gpt-4o-mini");
+        route.setMaxTokens(1000);
+        route.setFallbackModel("gpt-4.1-mini");
+        route.setLatencySlo(Duration.ofSeconds(8));
+
+        properties = new OpenAIRoutingProperties();
+        properties.setEnabled(true);
+        properties.getRoutes().put(OpenAICallType.SEGMENT_MESSAGE, route);
+
+        rateLimiter = mock(OpenAIRateLimiter.class);
+        when(rateLimiter.countPromptTokens(any())).thenReturn(500);
+        router = new ModelRouter(properties, rateLimiter);
+    }
+
+    @Test
+    void disabledRoutingKeepsRequestedModel() {
+        properties.setEnabled(false);
+
+        ModelRoute selected = router.route(OpenAICallType.SEGMENT_MESSAGE, request);
+
+        assertThat(selected.getName()).isEqualTo(ModelRoute.DEFAULT);
+        assertThat(selected.getModel()).isEqualTo("gpt-4o");
+        assertThat(selected.getMaxTokens()).isEqualTo(2000);
+        assertThat(selected.hasFallback()).isFalse();
+    }
+
+    @Test
+    void callTypeWithoutRuleKeepsRequestedModel() {
+        ModelRoute selected = router.route(OpenAICallType.CAMPAIGN_RECOMMENDATION, request);
+
+        assertThat(selected.getName()).isEqualTo(ModelRoute.DEFAULT);
+        assertThat(selected.getModel()).isEqualTo("gpt-4o");
+    }
+
+    @Test
+    void ruleSelectsPrimaryModelWithFallback() {
+        ModelRoute selected = router.route(OpenAICallType.SEGMENT_MESSAGE, request);
+
+        assertThat(selected.getName()).isEqualTo(ModelRoute.PRIMARY);
+        assertThat(selected.getModel()).isEqualTo("gpt-4o-mini");
+        assertThat(selected.getMaxTokens()).isEqualTo(1000);
+        assertThat(selected.toFallback().getModel()).isEqualTo("gpt-4.1-mini");
+    }
+
+    @Test
+    void ruleWithoutMaxTokensKeepsRequestedMaxTokens() {
+        route.setMaxTokens(null);
+
+        assertThat(router.route(OpenAICallType.SEGMENT_MESSAGE, request).getMaxTokens()).isEqualTo(2000);
+    }
+
+    @Test
+    void largePromptUsesLargePromptModel() {
+        route.setLargePromptTokens(4000);
+        route.setLargePromptModel("gpt-4.1-mini");
+        when(rateLimiter.countPromptTokens(any())).thenReturn(4000);
+
+        ModelRoute selected = router.route(OpenAICallType.SEGMENT_MESSAGE, request);
+
+        assertThat(selected.getName()).isEqualTo(ModelRoute.LARGE_PROMPT);
+        assertThat(selected.getModel()).isEqualTo("gpt-4.1-mini");
+    }
+
+    @Test
+    void averageLatencyOverSloSwitchesToFallbackModel() {
+        recordPrimaryLatency(5, OVER_SLO_NANOS);
+
+        ModelRoute selected = router.route(OpenAICallType.SEGMENT_MESSAGE, request);
+
+        assertThat(selected.getName()).isEqualTo(ModelRoute.SLO_FALLBACK);
+        assertThat(selected.getModel()).isEqualTo("gpt-4.1-mini");
+        assertThat(selected.toFallback().getModel()).isEqualTo("gpt-4o-mini");
+    }
+
+    @Test
+    void fewSamplesOrLatencyWithinSloKeepPrimaryModel() {
+        recordPrimaryLatency(4, OVER_SLO_NANOS);
+        assertThat(router.route(OpenAICallType.SEGMENT_MESSAGE, request).getName()).isEqualTo(ModelRoute.PRIMARY);
+
+        ModelRouter fresh = new ModelRouter(properties, rateLimiter);
+        for (int i = 0; i < 10; i++) {
+            fresh.recordLatency(OpenAICallType.SEGMENT_MESSAGE,
+                    fresh.route(OpenAICallType.SEGMENT_MESSAGE, request), UNDER_SLO_NANOS);
+        }
+        assertThat(fresh.route(OpenAICallType.SEGMENT_MESSAGE, request).getName()).isEqualTo(ModelRoute.PRIMARY);
+    }
+
+    @Test
+    void primaryModelIsRetriedAfterCooldown() {
+        properties.setSloCooldown(Duration.ZERO);
+
+        recordPrimaryLatency(5, OVER_SLO_NANOS);
+
+        assertThat(router.route(OpenAICallType.SEGMENT_MESSAGE, request).getName()).isEqualTo(ModelRoute.PRIMARY);
+    }
+
+    @Test
+    void cooldownHasDefaultWhenNotConfigured() {
+        OpenAIRoutingProperties unset = new OpenAIRoutingProperties();
+        unset.setEnabled(true);
+        unset.getRoutes().put(OpenAICallType.SEGMENT_MESSAGE, route);
+        ModelRouter defaultRouter = new ModelRouter(unset, rateLimiter);
+
+        for (int i = 0; i < 5; i++) {
+            defaultRouter.recordLatency(OpenAICallType.SEGMENT_MESSAGE,
+                    defaultRouter.route(OpenAICallType.SEGMENT_MESSAGE, request), OVER_SLO_NANOS);
+        }
+
+        assertThat(unset.getSloCooldown()).isPositive();
+        assertThat(defaultRouter.route(OpenAICallType.SEGMENT_MESSAGE, request).getName())
+                .isEqualTo(ModelRoute.SLO_FALLBACK);
+    }
+
+    @Test
+    void fallbackLatencyIsNotRecorded() {
+        recordPrimaryLatency(5, OVER_SLO_NANOS);
+        ModelRoute fallback = router.route(OpenAICallType.SEGMENT_MESSAGE, request);
+
+        router.recordLatency(OpenAICallType.SEGMENT_MESSAGE, fallback, OVER_SLO_NANOS);
+
+        assertThat(router.route(OpenAICallType.SEGMENT_MESSAGE, request).getName())
+                .isEqualTo(ModelRoute.SLO_FALLBACK);
+    }
+
+    private void recordPrimaryLatency(int samples, long elapsedNanos) {
+        for (int i = 0; i < samples; i++) {
+            ModelRoute selected = router.route(OpenAICallType.SEGMENT_MESSAGE, request);
+            assertThat(selected.getName()).isEqualTo(ModelRoute.PRIMARY);
+            router.recordLatency(OpenAICallType.SEGMENT_MESSAGE, selected, elapsedNanos);
+        }
+    }
+}
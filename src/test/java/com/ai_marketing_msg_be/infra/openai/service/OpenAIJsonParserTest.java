@@ -0,0 +1,73 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OpenAIJsonParserTest {
+
+    private final OpenAIJsonParser parser = new OpenAIJsonParser(new ObjectMapper());
+
+    @Test
+    void parseListSkipsProseCodeFenceAndBracketsInText() {
+        String content = """
+                요청하신 메시지입니다 [참고용]
+                ```json
+                [{"version": 1, "content": "첫 번째"}, {"version": 2, "content": "두 번째"}]
+                ```
+                """;
+
+        List<Item> items = parser.parseList(content, Item.class);
+
+        assertThat(items).extracting(Item::content).containsExactly("첫 번째", "두 번째");
+    }
+
+    @Test
+    void parseListRecoversCompletedElementsFromTruncatedResponse() {
+        String content = "[{\"version\": 1, \"content\": \"완성\"}, {\"version\": 2, \"content\": \"잘린";
+
+        List<Item> items = parser.parseList(content, Item.class);
+
+        assertThat(items).extracting(Item::version).containsExactly(1);
+    }
+
+    @Test
+    void parseListAllowsTrailingComma() {
+        List<Item> items = parser.parseList("[{\"version\": 1, \"content\": \"a\"},]", Item.class);
+
+        assertThat(items).hasSize(1);
+    }
+
+    @Test
+    void parseListWrapsSingleObject() {
+        List<Item> items = parser.parseList("결과: {\"version\": 3, \"content\": \"단일\"}", Item.class);
+
+        assertThat(items).extracting(Item::version).containsExactly(3);
+    }
+
+    @Test
+    void parseListRejectsResponseWithoutJson() {
+        assertThatThrownBy(() -> parser.parseList("죄송합니다. 생성할 수 없습니다.", Item.class))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void parseKeyedListsKeepsOnlyCompletedKeysWhenTruncated() {
+        String content = """
+                {"101": [{"version": 1, "content": "a"}, {"version": 2, "content": "b"}],
+                 "102": [{"version": 1, "content": "c"}, {"version": 2, "con""";
+
+        Map<String, List<Item>> results = parser.parseKeyedLists(content, Item.class);
+
+        assertThat(results).containsOnlyKeys("101");
+        assertThat(results.get("101")).hasSize(2);
+    }
+
+    record Item(Integer version, String content) {
+    }
+}
@@ -0,0 +1,195 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ai_marketing_msg_be.common.exception.BusinessException;
+import com.ai_marketing_msg_be.common.exception.ErrorCode;
+import com.ai_marketing_msg_be.common.logging.PayloadLogger;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIChoice;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIResponse;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIUsage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 기본 모델 gpt-4o, 대체 모델 gpt-4o-mini 경로에서 오류 종류별 대체 여부 확인
+ */
+class OpenAIServiceTest {
+
+    private static final int ESTIMATED_TOKENS = 500;
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final OpenAIRateLimiter openAIRateLimiter = mock(OpenAIRateLimiter.class);
+    private final ModelRouter modelRouter = mock(ModelRouter.class);
+
+    /** 호출마다 요청한 모델 */
+    private final List<String> models = new ArrayList<>();
+
+    private OpenAIService service;
+
+    @BeforeEach
+    void setUp() {
+        OpenAIProperties properties = new OpenAIProperties();
+        properties.setKey("test-key");
+        properties.setUrl("https://api.openai.com/v1/chat/completions");
+
+        service = new OpenAIService(properties, restTemplate, new OpenAIJsonParser(new ObjectMapper()),
+                openAIRateLimiter, mock(PayloadLogger.class), mock(OpenAIMetrics.class), ObservationRegistry.NOOP,
+                modelRouter);
+
+        when(modelRouter.route(any(), any())).thenReturn(new ModelRoute(ModelRoute.PRIMARY, "gpt-4o", 1500, "gpt-4o-mini"));
+        when(openAIRateLimiter.estimateTokens(any(), anyInt())).thenReturn(ESTIMATED_TOKENS);
+    }
+
+    @Test
+    void serverErrorFallsBackToSecondaryModel() {
+        respond(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), success(new OpenAIUsage(100, 50, 150, null)));
+
+        OpenAIResponse response = service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request());
+
+        assertThat(response.getChoices()).hasSize(1);
+        assertThat(models).containsExactly("gpt-4o", "gpt-4o-mini");
+    }
+
+    @Test
+    void readTimeoutFallsBackToSecondaryModel() {
+        respond(new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out")),
+                success(new OpenAIUsage(100, 50, 150, null)));
+
+        service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request());
+
+        assertThat(models).containsExactly("gpt-4o", "gpt-4o-mini");
+    }
+
+    @Test
+    void emptyResponseFallsBackToSecondaryModel() {
+        respond(new OpenAIResponse("chatcmpl-empty", "chat.completion", 0L, "gpt-4o", List.of(), null),
+                success(new OpenAIUsage(100, 50, 150, null)));
+
+        service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request());
+
+        assertThat(models).containsExactly("gpt-4o", "gpt-4o-mini");
+    }
+
+    @Test
+    void badRequestIsNotRetriedAndKeepsStatus() {
+        respond(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("400")
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.OPENAI_API_REJECTED);
+        assertThat(models).containsExactly("gpt-4o");
+        verify(modelRouter, never()).recordLatency(any(), any(), anyLong());
+    }
+
+    @Test
+    void authenticationFailureIsNotRetried() {
+        respond(new HttpClientErrorException(HttpStatus.UNAUTHORIZED));
+
+        assertThatThrownBy(() -> service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request()))
+                .hasMessageContaining("401")
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.OPENAI_API_REJECTED);
+        assertThat(models).containsExactly("gpt-4o");
+    }
+
+    @Test
+    void rateLimitIsNotRetried() {
+        respond(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertThatThrownBy(() -> service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request()))
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.OPENAI_API_RATE_LIMITED);
+        assertThat(models).containsExactly("gpt-4o");
+    }
+
+    @Test
+    void failedCallReleasesTokenReservation() {
+        respond(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR),
+                new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        assertThatThrownBy(() -> service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request()))
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.OPENAI_API_CALL_FAILED);
+        verify(openAIRateLimiter, times(2)).consume(ESTIMATED_TOKENS);
+        verify(openAIRateLimiter, times(2)).release(ESTIMATED_TOKENS);
+    }
+
+    @Test
+    void responseWithoutUsageIsReconciledWithEstimate() {
+        respond(success(null));
+
+        service.callChatCompletion(OpenAICallType.SEGMENT_MESSAGE, request());
+
+        verify(openAIRateLimiter).reconcile(ESTIMATED_TOKENS, ESTIMATED_TOKENS);
+    }
+
+    @Test
+    void onlyRejectedErrorsArePropagatedThroughWrappers() {
+        BusinessException rejected = new BusinessException(ErrorCode.OPENAI_API_REJECTED);
+        BusinessException rateLimited = new BusinessException(ErrorCode.OPENAI_API_RATE_LIMITED);
+
+        assertThatThrownBy(() -> OpenAIService.propagateIfRejected(rejected)).isSameAs(rejected);
+        assertThatThrownBy(() -> OpenAIService.propagateIfRejected(rateLimited)).isSameAs(rateLimited);
+        OpenAIService.propagateIfRejected(new BusinessException(ErrorCode.OPENAI_API_CALL_FAILED));
+        OpenAIService.propagateIfRejected(new IllegalStateException());
+    }
+
+    /**
+     * 호출 순서대로 응답(OpenAIResponse) 또는 예외(RuntimeException)를 돌려줌
+     */
+    private void respond(Object... outcomes) {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(OpenAIResponse.class)))
+                .thenAnswer(invocation -> {
+                    HttpEntity<OpenAIRequest> entity = invocation.getArgument(2);
+                    models.add(entity.getBody().getModel());
+                    Object outcome = outcomes[Math.min(models.size(), outcomes.length) - 1];
+                    if (outcome instanceof RuntimeException exception) {
+                        throw exception;
+                    }
+                    return ResponseEntity.ok((OpenAIResponse) outcome);
+                });
+    }
+
+    private static OpenAIRequest request() {
+        return OpenAIRequest.builder()
+                .model("gpt-4o")
+                .messages(List.of(OpenAIMessage.builder().role("user").content("안녕하세요").build()))
+                .build();
+    }
+
+    private static OpenAIResponse success(OpenAIUsage usage) {
+        OpenAIChoice choice = new OpenAIChoice(0,
+                OpenAIMessage.builder().role("assistant").content("[]").build(), "stop");
+        return new OpenAIResponse("chatcmpl-test", "chat.completion", 0L, "gpt-4o", List.of(choice), usage);
+    }
+}
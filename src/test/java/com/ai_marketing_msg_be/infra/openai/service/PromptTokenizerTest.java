@@ -0,0 +1,97 @@
+package com.ai_marketing_msg_be.infra.openai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ai_marketing_msg_be.infra.openai.config.OpenAIProperties;
+import com.ai_marketing_msg_be.infra.openai.config.OpenAITokenizerProperties;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIMessage;
+import com.ai_marketing_msg_be.infra.openai.dto.OpenAIRequest;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PromptTokenizerTest {
+
+    private static final String TEXT = "안녕하세요 고객님, 이번 달 5G 프리미엄 요금제 혜택을 확인해 보세요!";
+
+    private final EncodingRegistry registry = Encodings.newDefaultEncodingRegistry();
+    private final Encoding o200k = registry.getEncoding(EncodingType.O200K_BASE);
+    private final Encoding cl100k = registry.getEncoding(EncodingType.CL100K_BASE);
+
+    private OpenAITokenizerProperties tokenizerProperties;
+    private PromptTokenizer tokenizer;
+
+    @BeforeEach
+    void setUp() {
+        tokenizerProperties = new OpenAITokenizerProperties();
+        tokenizerProperties.setDefaultEncoding("o200k_base");
+        tokenizerProperties.getEncodings().put("gpt-4o", "o200k_base");
+        tokenizerProperties.getEncodings().put("gpt-4", "cl100k_base");
+        tokenizerProperties.setContextWindow(128_000);
+
+        OpenAIProperties openAIProperties = new OpenAIProperties();
+        openAIProperties.setModel("gpt-4o-mini");
+        tokenizer = new PromptTokenizer(tokenizerProperties, openAIProperties);
+    }
+
+    @Test
+    void emptyTextHasNoTokens() {
+        assertThat(tokenizer.countTokens("gpt-4o-mini", null)).isZero();
+        assertThat(tokenizer.countTokens("gpt-4o-mini", "")).isZero();
+    }
+
+    @Test
+    void longestModelPrefixSelectsEncoding() {
+        assertThat(tokenizer.countTokens("gpt-4o-mini", TEXT)).isEqualTo(o200k.countTokensOrdinary(TEXT));
+        assertThat(tokenizer.countTokens("gpt-4-turbo", TEXT)).isEqualTo(cl100k.countTokensOrdinary(TEXT));
+    }
+
+    @Test
+    void unknownModelUsesDefaultEncoding() {
+        assertThat(tokenizer.countTokens("o3-mini", TEXT)).isEqualTo(o200k.countTokensOrdinary(TEXT));
+        assertThat(tokenizer.countTokens(null, TEXT)).isEqualTo(o200k.countTokensOrdinary(TEXT));
+    }
+
+    @Test
+    void promptTokensIncludeMessageAndReplyOverhead() {
+        OpenAIRequest request = OpenAIRequest.builder()
+                .model("gpt-4o-mini")
+                .messages(List.of(
+                        OpenAIMessage.builder().role("system").content("JSON 형식으로만 응답합니다.").build(),
+                        OpenAIMessage.builder().role("user").content(TEXT).build(),
+                        OpenAIMessage.builder().role("assistant").content(null).build()))
+                .build();
+
+        int expected = 3
+                + 3 + o200k.countTokensOrdinary("JSON 형식으로만 응답합니다.")
+                + 3 + o200k.countTokensOrdinary(TEXT)
+                + 3;
+        assertThat(tokenizer.countPromptTokens(request)).isEqualTo(expected);
+    }
+
+    @Test
+    void specialTokenTextIsCountedAsOrdinaryText() {
+        String text = "<|endoftext|> 이후 문장";
+
+        assertThat(tokenizer.countTokens("gpt-4o-mini", text)).isEqualTo(o200k.countTokensOrdinary(text));
+    }
+
+    @Test
+    void promptBudgetLeavesRoomForOutputTokens() {
+        assertThat(tokenizer.promptBudget(OpenAIRequest.builder().maxTokens(1_500).build())).isEqualTo(126_500);
+        assertThat(tokenizer.promptBudget(OpenAIRequest.builder().maxTokens(null).build())).isEqualTo(128_000);
+    }
+
+    @Test
+    void unsupportedEncodingFailsFast() {
+        tokenizerProperties.getEncodings().put("legacy", "p50k_unknown");
+
+        assertThatThrownBy(() -> tokenizer.countTokens("legacy-model", TEXT))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}